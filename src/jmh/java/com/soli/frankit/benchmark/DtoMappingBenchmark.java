@@ -0,0 +1,68 @@
+package com.soli.frankit.benchmark;
+
+import com.soli.frankit.dto.OptionDetailResponse;
+import com.soli.frankit.dto.ProductOptionResponse;
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName  : com.soli.frankit.benchmark
+ * fileName     : DtoMappingBenchmark
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 엔티티 → 응답 DTO 변환 비용 측정 (ProductResponse, ProductOptionResponse, OptionDetailResponse)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private Product product;
+    private ProductOption productOption;
+    private OptionDetail optionDetail;
+
+    @Setup
+    public void setUp() {
+        product = Product.builder()
+                         .name("아이폰 15 pro")
+                         .description("최신형 애플 스마트폰입니다.".repeat(20))
+                         .price(BigDecimal.valueOf(1_000_000))
+                         .shippingFee(BigDecimal.valueOf(3000))
+                         .build();
+
+        productOption = ProductOption.builder()
+                                     .product(product)
+                                     .optionName("색상 선택")
+                                     .optionType(OptionType.SELECT)
+                                     .build();
+
+        optionDetail = OptionDetail.builder()
+                                   .productOption(productOption)
+                                   .detailName("사이즈 추가")
+                                   .detailPrice(BigDecimal.valueOf(5000))
+                                   .build();
+    }
+
+    @Benchmark
+    public ProductResponse productResponse() {
+        return ProductResponse.from(product);
+    }
+
+    @Benchmark
+    public ProductOptionResponse productOptionResponse() {
+        return ProductOptionResponse.from(productOption);
+    }
+
+    @Benchmark
+    public OptionDetailResponse optionDetailResponse() {
+        return OptionDetailResponse.from(optionDetail);
+    }
+
+}
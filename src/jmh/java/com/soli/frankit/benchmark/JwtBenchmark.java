@@ -0,0 +1,54 @@
+package com.soli.frankit.benchmark;
+
+import com.soli.frankit.entity.Role;
+import com.soli.frankit.util.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName  : com.soli.frankit.benchmark
+ * fileName     : JwtBenchmark
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : JWT 생성/검증/이메일 추출 비용 측정 (요청마다 실행되는 인증 필터 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "c29saS1mcmFua2l0LWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1obWFjLXNoYTI1Ng==";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 86_400_000L);
+        token = jwtTokenProvider.createToken("soli@test.com", Role.ADMIN);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken("soli@test.com", Role.ADMIN);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtTokenProvider.extractEmail(token);
+    }
+
+    @Benchmark
+    public Role parseClaimsAndExtractRole() {
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        return jwtTokenProvider.extractRole(claims);
+    }
+
+}
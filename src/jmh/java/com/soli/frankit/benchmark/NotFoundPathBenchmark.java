@@ -0,0 +1,94 @@
+package com.soli.frankit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import com.soli.frankit.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName  : com.soli.frankit.benchmark
+ * fileName     : NotFoundPathBenchmark
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 존재하지 않는 상품 조회(404) 오류 경로 비용 측정 (예외 생성 + 오류 응답 생성 + JSON 직렬화)
+ *                - legacy: 스택 트레이스를 채우는 예외 + 요청마다 HashMap 응답 (변경 전 구현)
+ *                - current: 스택 트레이스 없는 CustomException + 미리 만든 응답
+ *                - stackDepth: 컨트롤러까지의 호출 깊이 (Tomcat + 필터 체인 + 프록시를 거치면 100프레임 이상)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NotFoundPathBenchmark {
+
+    @Param({"20", "150"})
+    private int stackDepth;
+
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        handler = new GlobalExceptionHandler();
+    }
+
+    @Benchmark
+    public byte[] legacy() throws JsonProcessingException {
+        try {
+            throwAt(stackDepth, true);
+            return null;
+        } catch (LegacyCustomException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            ResponseEntity<Map<String, Object>> response =
+                    ResponseEntity.status(e.errorCode.getHttpStatus()).body(errorResponse);
+            return objectMapper.writeValueAsBytes(response.getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] current() throws JsonProcessingException {
+        try {
+            throwAt(stackDepth, false);
+            return null;
+        } catch (CustomException e) {
+            return objectMapper.writeValueAsBytes(handler.handleCustomException(e).getBody());
+        }
+    }
+
+    /**
+     * 주어진 깊이까지 호출을 쌓은 뒤 상품 없음 예외 발생
+     */
+    private static int throwAt(int depth, boolean legacy) {
+        if (depth > 0) {
+            return throwAt(depth - 1, legacy) + 1;
+        }
+        if (legacy) {
+            throw new LegacyCustomException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+    }
+
+    /**
+     * 변경 전 CustomException (생성 시 항상 스택 트레이스를 채움)
+     */
+    private static class LegacyCustomException extends RuntimeException {
+
+        private final ErrorCode errorCode;
+
+        LegacyCustomException(ErrorCode errorCode) {
+            super(errorCode.getMessage());
+            this.errorCode = errorCode;
+        }
+
+    }
+
+}
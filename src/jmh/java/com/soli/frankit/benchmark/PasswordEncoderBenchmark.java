@@ -0,0 +1,50 @@
+package com.soli.frankit.benchmark;
+
+import com.soli.frankit.util.CalibratedBCryptPasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName  : com.soli.frankit.benchmark
+ * fileName     : PasswordEncoderBenchmark
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : cost별 비밀번호 암호화/검증 비용 측정 (SecurityConfig와 같은 {bcrypt} 위임 인코더 구성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "solitest1216";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        PasswordEncoder bcrypt = new CalibratedBCryptPasswordEncoder(strength);
+        passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.soli.frankit.benchmark;
+
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName  : com.soli.frankit.benchmark
+ * fileName     : ProductOptionDeactivateBenchmark
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상세 옵션이 많은 선택형 옵션의 비활성화 비용 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductOptionDeactivateBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int detailCount;
+
+    private ProductOption productOption;
+
+    @Setup
+    public void setUp() {
+        Product product = Product.builder()
+                                 .name("상품명")
+                                 .description("상품 설명")
+                                 .price(BigDecimal.valueOf(20000))
+                                 .shippingFee(BigDecimal.valueOf(3000))
+                                 .build();
+
+        productOption = ProductOption.builder()
+                                     .product(product)
+                                     .optionName("색상 선택")
+                                     .optionType(OptionType.SELECT)
+                                     .build();
+
+        for (int i = 0; i < detailCount; i++) {
+            productOption.getOptionDetails().add(OptionDetail.builder()
+                                                             .productOption(productOption)
+                                                             .detailName("상세 옵션 " + i)
+                                                             .detailPrice(BigDecimal.valueOf(i * 100L))
+                                                             .build());
+        }
+    }
+
+    @Benchmark
+    public ProductOption deactivate() {
+        productOption.deactivate();
+        return productOption;
+    }
+
+}
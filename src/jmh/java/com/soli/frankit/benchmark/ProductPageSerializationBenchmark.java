@@ -0,0 +1,61 @@
+package com.soli.frankit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soli.frankit.dto.ProductResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName  : com.soli.frankit.benchmark
+ * fileName     : ProductPageSerializationBenchmark
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 목록 1페이지(100건) JSON 직렬화 비용 측정 (Spring MVC와 같은 ObjectMapper 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductPageSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ObjectMapper objectMapper;
+    private Page<ProductResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.of(2025, 2, 24, 12, 34, 56);
+        List<ProductResponse> content = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            content.add(ProductResponse.builder()
+                                       .id(id)
+                                       .name("상품명 " + id)
+                                       .description("상품 설명 " + id + " - 최신형 애플 스마트폰입니다.")
+                                       .price(BigDecimal.valueOf(10_000 + id * 100, 2))
+                                       .shippingFee(BigDecimal.valueOf(300_000, 2))
+                                       .isActive(true)
+                                       .createdAt(now)
+                                       .updatedAt(now)
+                                       .build());
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+}
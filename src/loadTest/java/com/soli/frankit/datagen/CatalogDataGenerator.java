@@ -0,0 +1,286 @@
+package com.soli.frankit.datagen;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+/**
+ * packageName  : com.soli.frankit.datagen
+ * fileName     : CatalogDataGenerator
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 운영 데이터와 비슷한 모양의 대용량 카탈로그 생성기 (./gradlew generateCatalog)
+ *                - JPA를 거치지 않고 products / product_options / option_details에 여러 행 INSERT로 직접 저장
+ *                - ID를 직접 부여하므로 자식 행 저장에 생성 키 조회가 필요 없고, 같은 시드면 항상 같은 데이터 생성
+ */
+@Slf4j
+public class CatalogDataGenerator {
+
+    private static final String[] PRODUCT_COLUMNS = {
+            "product_seq", "name", "description", "price", "shipping_fee", "is_active", "created_at", "updated_at"};
+    private static final String[] OPTION_COLUMNS = {
+            "option_seq", "product_seq", "option_name", "option_type", "option_price", "is_active", "created_at", "updated_at"};
+    private static final String[] DETAIL_COLUMNS = {
+            "detail_seq", "option_seq", "detail_name", "detail_price", "is_active", "created_at", "updated_at"};
+
+    private static final String[] CATEGORIES = {"스마트폰", "노트북", "태블릿", "이어폰", "모니터", "키보드", "마우스", "충전기", "케이스", "스피커"};
+    private static final String[] ADJECTIVES = {"프리미엄", "초경량", "고성능", "무선", "방수", "슬림", "대용량", "친환경", "한정판", "베이직"};
+    private static final String[] OPTION_NAMES = {"색상", "사이즈", "용량", "각인 문구", "포장", "보증 기간"};
+    private static final String[] COLORS = {"블랙", "화이트", "실버", "골드", "블루", "레드", "그린", "퍼플", "핑크", "그레이"};
+    private static final BigDecimal[] SHIPPING_FEES = {
+            BigDecimal.ZERO.setScale(2), BigDecimal.valueOf(250_000, 2), BigDecimal.valueOf(300_000, 2), BigDecimal.valueOf(500_000, 2)};
+
+    private final DataSource dataSource;
+    private final CatalogGeneratorSettings settings;
+    private final LocalDateTime baseTime;
+
+    /**
+     * 생성 결과
+     *
+     * @param products 저장한 상품 수
+     * @param options 저장한 옵션 수
+     * @param details 저장한 상세 옵션 수
+     * @param elapsedMillis 소요 시간 (밀리초)
+     */
+    public record Result(long products, long options, long details, long elapsedMillis) {
+
+        public long totalRows() {
+            return products + options + details;
+        }
+
+        public long rowsPerSecond() {
+            return elapsedMillis == 0 ? totalRows() : totalRows() * 1000 / elapsedMillis;
+        }
+    }
+
+    /**
+     * CatalogDataGenerator 생성자
+     *
+     * @param dataSource 대상 DB
+     * @param settings 생성 설정
+     * @param baseDate 생성일 분포의 기준 날짜 (재현성을 위해 고정)
+     */
+    public CatalogDataGenerator(DataSource dataSource, CatalogGeneratorSettings settings, LocalDate baseDate) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.baseTime = baseDate.atStartOfDay();
+    }
+
+    /**
+     * 카탈로그 생성
+     * - 기존 데이터 뒤에 이어서 저장 (각 테이블의 최대 ID 다음 번호부터 사용)
+     *
+     * @return 생성 결과
+     */
+    public Result generate() throws SQLException {
+        long start = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try (MultiRowInserter products = new MultiRowInserter(connection, "products", PRODUCT_COLUMNS,
+                         settings.rowsPerStatement(), null);
+                 MultiRowInserter options = new MultiRowInserter(connection, "product_options", OPTION_COLUMNS,
+                         settings.rowsPerStatement(), products);
+                 MultiRowInserter details = new MultiRowInserter(connection, "option_details", DETAIL_COLUMNS,
+                         settings.rowsPerStatement(), options)) {
+
+                IdSequence ids = new IdSequence(
+                        maxId(connection, "products", "product_seq"),
+                        maxId(connection, "product_options", "option_seq"),
+                        maxId(connection, "option_details", "detail_seq"));
+
+                for (int i = 0; i < settings.products(); i++) {
+                    writeProduct(i, ids, products, options, details);
+
+                    if ((i + 1) % settings.productsPerCommit() == 0) {
+                        details.flush();
+                        connection.commit();
+                        log.info("카탈로그 생성 중 - products: {}/{}, options: {}, details: {}",
+                                i + 1, settings.products(), options.getTotalRows(), details.getTotalRows());
+                    }
+                }
+                details.flush();
+                connection.commit();
+
+                restartIdentities(connection, ids);
+
+                long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                Result result = new Result(products.getTotalRows(), options.getTotalRows(), details.getTotalRows(), elapsedMillis);
+                log.info("카탈로그 생성 완료 - {} / {} rows, {}ms, {} rows/s",
+                        settings, result.totalRows(), elapsedMillis, result.rowsPerSecond());
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * 상품 1개와 옵션/상세 옵션 저장
+     * - 상품마다 (시드, 상품 순번)으로 난수를 만들어, 커밋 단위나 기존 데이터 유무와 관계없이 같은 데이터 생성
+     */
+    private void writeProduct(int index, IdSequence ids, MultiRowInserter products, MultiRowInserter options,
+                              MultiRowInserter details) throws SQLException {
+        long productId = ++ids.product;
+        SplittableRandom random = new SplittableRandom(settings.seed() * 0x9E3779B97F4A7C15L + index);
+
+        LocalDateTime createdAt = baseTime.minusSeconds(random.nextLong(settings.createdWithinDays() * 86_400L + 1));
+        LocalDateTime updatedAt = createdAt.plusSeconds(random.nextLong(Math.max(Duration.between(createdAt, baseTime).getSeconds(), 1)));
+        boolean productActive = random.nextDouble() >= settings.inactiveProductRatio();
+
+        String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        products.add(productId,
+                ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + category + " " + productId,
+                description(random, category),
+                BigDecimal.valueOf(random.nextLong(1_000, 300_000) * 100, 2),
+                SHIPPING_FEES[random.nextInt(SHIPPING_FEES.length)],
+                productActive, Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt));
+
+        int activeOptions = pickWeighted(random, settings.activeOptionWeights());
+        for (int i = 0; i < activeOptions; i++) {
+            String optionName = OPTION_NAMES[(i + random.nextInt(OPTION_NAMES.length)) % OPTION_NAMES.length];
+            boolean select = random.nextDouble() < settings.selectOptionRatio();
+
+            // 타입 변경 이력: 이전 타입의 옵션은 비활성으로 남고 (상세 옵션도 함께 비활성), 마지막 타입이 활성
+            int typeChanges = random.nextDouble() < settings.typeChangedOptionRatio()
+                    ? 1 + random.nextInt(settings.maxTypeChangesPerOption())
+                    : 0;
+            boolean previousSelect = typeChanges % 2 == 1 ? !select : select;
+            for (int change = 0; change < typeChanges; change++) {
+                writeOption(ids, random, options, details, productId, optionName, previousSelect, false, createdAt);
+                previousSelect = !previousSelect;
+            }
+
+            // 비활성 상품은 옵션도 비활성 (상품 비활성화 시 하위 옵션 비활성화와 동일)
+            writeOption(ids, random, options, details, productId, optionName, select, productActive, createdAt);
+        }
+    }
+
+    private void writeOption(IdSequence ids, SplittableRandom random, MultiRowInserter options, MultiRowInserter details,
+                             long productId, String optionName, boolean select, boolean active,
+                             LocalDateTime productCreatedAt) throws SQLException {
+        long optionId = ++ids.option;
+        Timestamp createdAt = Timestamp.valueOf(productCreatedAt.plusMinutes(random.nextInt(60 * 24 * 30)));
+
+        options.add(optionId, productId,
+                optionName + " 선택",
+                select ? "SELECT" : "INPUT",
+                select ? null : BigDecimal.valueOf(random.nextInt(0, 101) * 10_000L, 2),
+                active, createdAt, createdAt);
+
+        if (!select) {
+            return;
+        }
+
+        int detailCount = random.nextInt(settings.minDetailsPerSelect(), settings.maxDetailsPerSelect() + 1);
+        for (int i = 0; i < detailCount; i++) {
+            boolean detailActive = active && random.nextDouble() >= settings.inactiveDetailRatio();
+            details.add(++ids.detail, optionId,
+                    COLORS[i % COLORS.length] + (i < COLORS.length ? "" : " " + (i / COLORS.length + 1)),
+                    BigDecimal.valueOf(random.nextInt(0, 21) * 50_000L, 2),
+                    detailActive, createdAt, createdAt);
+        }
+    }
+
+    private static String description(SplittableRandom random, String category) {
+        int sentences = 1 + random.nextInt(4);
+        StringBuilder description = new StringBuilder(64 * sentences);
+        for (int i = 0; i < sentences; i++) {
+            description.append(ADJECTIVES[random.nextInt(ADJECTIVES.length)]).append(' ')
+                       .append(category).append(" 상품입니다. ");
+        }
+        return description.toString().trim();
+    }
+
+    private static int pickWeighted(SplittableRandom random, double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double roll = random.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static long maxId(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select coalesce(max(" + column + "), 0) from " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * ID를 직접 넣으면 H2는 자동 증가 값을 올리지 않으므로, 이후 애플리케이션 INSERT와 충돌하지 않도록 재설정
+     * (MySQL은 AUTO_INCREMENT가 자동으로 갱신됨)
+     */
+    private static void restartIdentities(Connection connection, IdSequence ids) throws SQLException {
+        if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("alter table products alter column product_seq restart with " + (ids.product + 1));
+            statement.execute("alter table product_options alter column option_seq restart with " + (ids.option + 1));
+            statement.execute("alter table option_details alter column detail_seq restart with " + (ids.detail + 1));
+        }
+        connection.commit();
+    }
+
+    private static final class IdSequence {
+
+        private long product;
+        private long option;
+        private long detail;
+
+        private IdSequence(long product, long option, long detail) {
+            this.product = product;
+            this.option = option;
+            this.detail = detail;
+        }
+    }
+
+    /**
+     * 명령행 실행 (./gradlew generateCatalog -Pdatagen.products=5000000)
+     * - 접속 정보가 없으면 .env의 DB 설정(애플리케이션과 동일)으로 로컬 MySQL에 접속
+     */
+    public static void main(String[] args) throws SQLException {
+        Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+        Properties properties = System.getProperties();
+
+        String url = properties.getProperty("datagen.url",
+                "jdbc:mysql://localhost:" + dotenv.get("DB_PORT", "3306") + "/" + dotenv.get("DB_NAME", "frankit"));
+        String username = properties.getProperty("datagen.username", dotenv.get("DB_USERNAME", "frankit"));
+        String password = properties.getProperty("datagen.password", dotenv.get("DB_PASSWORD", ""));
+
+        LocalDate baseDate = properties.containsKey("datagen.base-date")
+                ? LocalDate.parse(properties.getProperty("datagen.base-date"))
+                : LocalDate.now();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, username, password);
+        new CatalogDataGenerator(dataSource, CatalogGeneratorSettings.from(properties), baseDate).generate();
+    }
+
+}
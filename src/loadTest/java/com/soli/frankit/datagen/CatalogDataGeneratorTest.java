@@ -0,0 +1,122 @@
+package com.soli.frankit.datagen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.datagen
+ * fileName     : CatalogDataGeneratorTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 대용량 카탈로그 생성기 테스트 (H2 MySQL 모드 + 운영 스키마)
+ */
+class CatalogDataGeneratorTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 2, 18);
+
+    @Test
+    @DisplayName("같은 시드와 설정이면 같은 데이터 생성")
+    void sameSeedSameCatalog() throws Exception {
+        // Given
+        CatalogGeneratorSettings settings = settings(2_000, "100");
+        DataSource first = newDatabase();
+        DataSource second = newDatabase();
+
+        // When
+        new CatalogDataGenerator(first, settings, BASE_DATE).generate();
+        new CatalogDataGenerator(second, settings(2_000, "7"), BASE_DATE).generate(); // 커밋 단위만 다름
+
+        // Then
+        assertThat(checksum(first)).isEqualTo(checksum(second));
+    }
+
+    @Test
+    @DisplayName("분포 제약 준수 - 상품당 활성 옵션 최대 3개, 선택형 옵션 상세 수 범위, 입력형 옵션은 상세 없음")
+    void respectsDistributionConstraints() throws Exception {
+        // Given
+        DataSource dataSource = newDatabase();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // When
+        CatalogDataGenerator.Result result =
+                new CatalogDataGenerator(dataSource, settings(3_000, "500"), BASE_DATE).generate();
+
+        // Then
+        assertThat(result.products()).isEqualTo(3_000);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from option_details", Long.class)).isEqualTo(result.details());
+        assertThat(jdbcTemplate.queryForObject(
+                "select coalesce(max(cnt), 0) from (select count(*) cnt from product_options where is_active = true group by product_seq) t",
+                Integer.class)).isLessThanOrEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from product_options where is_active = false", Long.class)).isPositive(); // 타입 변경 이력
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from option_details d join product_options o on o.option_seq = d.option_seq where o.option_type = 'INPUT'",
+                Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select max(cnt) from (select count(*) cnt from option_details group by option_seq) t", Integer.class))
+                .isBetween(2, 40);
+    }
+
+    @Test
+    @DisplayName("기존 데이터 뒤에 이어서 생성 - 이후 애플리케이션 INSERT도 ID 충돌 없음")
+    void appendsAfterExistingRows() throws Exception {
+        // Given
+        DataSource dataSource = newDatabase();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        new CatalogDataGenerator(dataSource, settings(500, "100"), BASE_DATE).generate();
+
+        // When
+        new CatalogDataGenerator(dataSource, settings(500, "100"), BASE_DATE).generate();
+        jdbcTemplate.update("insert into products (name, description, price, shipping_fee) values ('상품', '설명', 1000, 0)");
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from products", Long.class)).isEqualTo(1_001);
+        assertThat(jdbcTemplate.queryForObject("select max(product_seq) from products", Long.class)).isEqualTo(1_001);
+    }
+
+    private static CatalogGeneratorSettings settings(int products, String productsPerCommit) {
+        Properties properties = new Properties();
+        properties.setProperty("datagen.products", String.valueOf(products));
+        properties.setProperty("datagen.products-per-commit", productsPerCommit);
+        properties.setProperty("datagen.rows-per-statement", "200");
+        return CatalogGeneratorSettings.from(properties);
+    }
+
+    private static DataSource newDatabase() throws IOException {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ByteArrayResource(h2Schema().getBytes(StandardCharsets.UTF_8))).execute(dataSource);
+        return dataSource;
+    }
+
+    // H2는 "not null on update ..." 순서를 지원하지 않으므로 "on update ... not null"로 바꿔 운영 스키마 그대로 사용
+    private static String h2Schema() throws IOException {
+        String schema = new ClassPathResource("db/schema.sql").getContentAsString(StandardCharsets.UTF_8);
+        return schema.replaceAll("(?i)not null\\s+(on update CURRENT_TIMESTAMP)", "$1 not null");
+    }
+
+    private static String checksum(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return jdbcTemplate.queryForObject(
+                "select concat(count(*), ':', sum(product_seq * length(name)), ':', sum(price), ':', sum(case when is_active then product_seq else 0 end)) from products", String.class)
+                + "/" + jdbcTemplate.queryForObject(
+                "select concat(count(*), ':', sum(option_seq * product_seq), ':', sum(coalesce(option_price, 0)), ':', sum(case when option_type = 'SELECT' then option_seq else 0 end)) from product_options", String.class)
+                + "/" + jdbcTemplate.queryForObject(
+                "select concat(count(*), ':', sum(detail_seq * option_seq), ':', sum(detail_price), ':', sum(case when is_active then detail_seq else 0 end)) from option_details", String.class);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.soli.frankit.datagen;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * packageName  : com.soli.frankit.datagen
+ * fileName     : CatalogGeneratorSettings
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 대용량 카탈로그 생성 설정 (분포 포함)
+ *
+ * @param seed 난수 시드 (같은 시드 + 같은 설정이면 같은 데이터)
+ * @param products 생성할 상품 수
+ * @param rowsPerStatement INSERT 1문장에 담을 행 수
+ * @param productsPerCommit 커밋 단위 (상품 수 기준)
+ * @param inactiveProductRatio 비활성 상품 비율
+ * @param activeOptionWeights 활성 옵션 개수별 비중 (인덱스 = 활성 옵션 수, 최대 3개)
+ * @param typeChangedOptionRatio 활성 옵션 중 타입 변경 이력이 있는 비율 (이전 타입의 비활성 옵션이 함께 생성됨)
+ * @param maxTypeChangesPerOption 옵션 하나당 최대 타입 변경 횟수
+ * @param selectOptionRatio 선택형(SELECT) 옵션 비율
+ * @param minDetailsPerSelect 선택형 옵션당 최소 상세 옵션 수
+ * @param maxDetailsPerSelect 선택형 옵션당 최대 상세 옵션 수
+ * @param inactiveDetailRatio 활성 선택형 옵션의 상세 옵션 중 비활성 비율
+ * @param createdWithinDays 생성일 분포 범위 (오늘로부터 과거 N일)
+ */
+public record CatalogGeneratorSettings(long seed,
+                                       int products,
+                                       int rowsPerStatement,
+                                       int productsPerCommit,
+                                       double inactiveProductRatio,
+                                       double[] activeOptionWeights,
+                                       double typeChangedOptionRatio,
+                                       int maxTypeChangesPerOption,
+                                       double selectOptionRatio,
+                                       int minDetailsPerSelect,
+                                       int maxDetailsPerSelect,
+                                       double inactiveDetailRatio,
+                                       int createdWithinDays) {
+
+    private static final String PREFIX = "datagen.";
+    private static final int MAX_ACTIVE_OPTIONS = 3; // ProductOptionService의 활성 옵션 제한과 동일
+
+    public CatalogGeneratorSettings {
+        if (products < 0 || rowsPerStatement <= 0 || productsPerCommit <= 0) {
+            throw new IllegalArgumentException("상품 수/행 수/커밋 단위가 올바르지 않습니다.");
+        }
+        if (activeOptionWeights.length == 0 || activeOptionWeights.length > MAX_ACTIVE_OPTIONS + 1) {
+            throw new IllegalArgumentException("활성 옵션 비중은 1 ~ " + (MAX_ACTIVE_OPTIONS + 1) + "개여야 합니다.");
+        }
+        if (minDetailsPerSelect < 0 || minDetailsPerSelect > maxDetailsPerSelect) {
+            throw new IllegalArgumentException("상세 옵션 수 범위가 올바르지 않습니다: "
+                    + minDetailsPerSelect + " ~ " + maxDetailsPerSelect);
+        }
+        activeOptionWeights = activeOptionWeights.clone();
+    }
+
+    /**
+     * 기본 설정 (상품 100만 개, 실제 운영 데이터와 비슷한 분포)
+     *
+     * @return 기본 설정
+     */
+    public static CatalogGeneratorSettings defaults() {
+        return from(new Properties());
+    }
+
+    /**
+     * datagen.* 속성으로 설정 생성 (없는 값은 기본값 사용)
+     *
+     * @param properties 설정 속성 (예: datagen.products=5000000)
+     * @return 설정
+     */
+    public static CatalogGeneratorSettings from(Properties properties) {
+        return new CatalogGeneratorSettings(
+                Long.parseLong(get(properties, "seed", "20250218")),
+                Integer.parseInt(get(properties, "products", "1000000")),
+                Integer.parseInt(get(properties, "rows-per-statement", "1000")),
+                Integer.parseInt(get(properties, "products-per-commit", "5000")),
+                Double.parseDouble(get(properties, "inactive-product-ratio", "0.1")),
+                Arrays.stream(get(properties, "active-option-weights", "15,25,30,30").split(","))
+                      .map(String::trim)
+                      .mapToDouble(Double::parseDouble)
+                      .toArray(),
+                Double.parseDouble(get(properties, "type-changed-option-ratio", "0.3")),
+                Integer.parseInt(get(properties, "max-type-changes-per-option", "3")),
+                Double.parseDouble(get(properties, "select-option-ratio", "0.7")),
+                Integer.parseInt(get(properties, "min-details-per-select", "2")),
+                Integer.parseInt(get(properties, "max-details-per-select", "40")),
+                Double.parseDouble(get(properties, "inactive-detail-ratio", "0.1")),
+                Integer.parseInt(get(properties, "created-within-days", "730")));
+    }
+
+    private static String get(Properties properties, String key, String defaultValue) {
+        return properties.getProperty(PREFIX + key, defaultValue);
+    }
+
+    @Override
+    public double[] activeOptionWeights() {
+        return activeOptionWeights.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogGeneratorSettings[seed=" + seed + ", products=" + products
+                + ", activeOptionWeights=" + Arrays.toString(activeOptionWeights)
+                + ", typeChangedOptionRatio=" + typeChangedOptionRatio
+                + ", selectOptionRatio=" + selectOptionRatio
+                + ", detailsPerSelect=" + minDetailsPerSelect + "~" + maxDetailsPerSelect + "]";
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.soli.frankit.datagen;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * packageName  : com.soli.frankit.datagen
+ * fileName     : MultiRowInserter
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 여러 행을 INSERT 1문장(VALUES (...), (...), ...)으로 묶어 저장
+ *                - 행 수가 가득 찬 문장은 같은 PreparedStatement를 재사용하고, 남은 행만 별도 문장으로 저장
+ */
+class MultiRowInserter implements AutoCloseable {
+
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerStatement;
+    private final Object[] values;
+    private final MultiRowInserter parent;
+
+    private PreparedStatement fullStatement;
+    private int rows;
+    private long totalRows;
+
+    /**
+     * MultiRowInserter 생성자
+     *
+     * @param connection DB 커넥션 (자동 커밋 해제 상태)
+     * @param table 테이블명
+     * @param columns 컬럼명
+     * @param rowsPerStatement INSERT 1문장에 담을 행 수
+     * @param parent 외래 키로 참조하는 테이블 (이 테이블보다 먼저 저장)
+     */
+    MultiRowInserter(Connection connection, String table, String[] columns, int rowsPerStatement, MultiRowInserter parent) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns.clone();
+        this.rowsPerStatement = rowsPerStatement;
+        this.values = new Object[rowsPerStatement * columns.length];
+        this.parent = parent;
+    }
+
+    /**
+     * 행 추가 (문장이 가득 차면 저장)
+     *
+     * @param row 컬럼 순서대로의 값
+     */
+    void add(Object... row) throws SQLException {
+        System.arraycopy(row, 0, values, rows * columns.length, columns.length);
+        if (++rows == rowsPerStatement) {
+            flush();
+        }
+    }
+
+    /**
+     * 쌓인 행 저장 (참조하는 테이블의 행을 먼저 저장)
+     */
+    void flush() throws SQLException {
+        if (parent != null) {
+            parent.flush();
+        }
+        if (rows == 0) {
+            return;
+        }
+
+        if (rows == rowsPerStatement) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+            }
+            bindAndExecute(fullStatement);
+        } else {
+            try (PreparedStatement statement = connection.prepareStatement(sql(rows))) {
+                bindAndExecute(statement);
+            }
+        }
+
+        totalRows += rows;
+        rows = 0;
+        Arrays.fill(values, null);
+    }
+
+    long getTotalRows() {
+        return totalRows;
+    }
+
+    private void bindAndExecute(PreparedStatement statement) throws SQLException {
+        int count = rows * columns.length;
+        for (int i = 0; i < count; i++) {
+            int index = i + 1;
+            switch (values[i]) {
+                case Long value -> statement.setLong(index, value);
+                case Integer value -> statement.setInt(index, value);
+                case Boolean value -> statement.setBoolean(index, value);
+                case BigDecimal value -> statement.setBigDecimal(index, value);
+                case Timestamp value -> statement.setTimestamp(index, value);
+                case String value -> statement.setString(index, value);
+                case null -> statement.setObject(index, null);
+                default -> statement.setObject(index, values[i]);
+            }
+        }
+        statement.executeUpdate();
+    }
+
+    private String sql(int rowCount) {
+        String placeholders = "(" + String.join(", ", Arrays.stream(columns).map(c -> "?").toList()) + ")";
+        StringBuilder sql = new StringBuilder(64 + rowCount * (placeholders.length() + 2))
+                .append("insert into ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") values ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholders);
+        }
+        return sql.toString();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (fullStatement != null) {
+            fullStatement.close();
+        }
+    }
+
+}
@@ -0,0 +1,301 @@
+package com.soli.frankit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.loadtest
+ * fileName     : CatalogLoadTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 카탈로그 API 부하 테스트 (./gradlew loadTest)
+ *                - 전체 애플리케이션을 H2(MySQL 모드)로 기동하고, 가상 스레드 클라이언트가 실제 로그인으로 받은 JWT로 요청
+ *                - 설정은 application-loadtest.yml 또는 -Ploadtest.clients=64 처럼 Gradle 속성으로 변경
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class CatalogLoadTest {
+
+    private static final String PASSWORD = "loadtest1216";
+    private static final String ADMIN_EMAIL = "admin@loadtest.com";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionRepository productOptionRepository;
+    @Autowired private OptionDetailRepository optionDetailRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Value("${loadtest.products}") private int products;
+    @Value("${loadtest.options-per-product}") private int optionsPerProduct;
+    @Value("${loadtest.details-per-option}") private int detailsPerOption;
+    @Value("${loadtest.clients}") private int clients;
+    @Value("${loadtest.warmup-seconds}") private int warmupSeconds;
+    @Value("${loadtest.duration-seconds}") private int durationSeconds;
+    @Value("${loadtest.write-ratio}") private double writeRatio;
+    @Value("${loadtest.max-error-rate}") private double maxErrorRate;
+    @Value("${loadtest.max-p99-ms}") private double maxP99Ms;
+    @Value("${loadtest.report-file}") private String reportFile;
+
+    private HttpClient httpClient;
+    private CatalogSeeder.Catalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = HttpClient.newBuilder()
+                               .version(HttpClient.Version.HTTP_1_1)
+                               .executor(Executors.newVirtualThreadPerTaskExecutor())
+                               .connectTimeout(Duration.ofSeconds(5))
+                               .build();
+
+        CatalogSeeder seeder = new CatalogSeeder(productRepository, productOptionRepository,
+                optionDetailRepository, userRepository, passwordEncoder);
+        catalog = seeder.seedCatalog(products, optionsPerProduct, detailsPerOption);
+        seeder.seedAdmin(ADMIN_EMAIL, PASSWORD);
+    }
+
+    @Test
+    @DisplayName("카탈로그 읽기/쓰기 혼합 부하 - 오류율과 p99 기준 충족")
+    void catalogMixedLoad() throws Exception {
+        // Given
+        String adminToken = login(ADMIN_EMAIL, new LatencyStats());
+        List<String> userTokens = registerAndLogin(clients, new LatencyStats());
+
+        // When
+        runClients(userTokens, adminToken, Duration.ofSeconds(warmupSeconds)); // JIT/커넥션 풀 워밍업 (결과 버림)
+
+        LatencyStats total = new LatencyStats();
+        login(ADMIN_EMAIL, total);
+        long start = System.nanoTime();
+        for (LatencyStats stats : runClients(userTokens, adminToken, Duration.ofSeconds(durationSeconds))) {
+            total.merge(stats);
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Map<Endpoint, LatencyStats.Summary> summaries = total.summarize(elapsedSeconds);
+
+        report(summaries, elapsedSeconds);
+
+        // Then
+        summaries.forEach((endpoint, summary) -> {
+            assertThat(summary.errorRate())
+                    .as("%s 오류율", endpoint.getDescription())
+                    .isLessThanOrEqualTo(maxErrorRate);
+            if (maxP99Ms > 0) {
+                assertThat(summary.p99Ms())
+                        .as("%s p99(ms)", endpoint.getDescription())
+                        .isLessThanOrEqualTo(maxP99Ms);
+            }
+        });
+    }
+
+    /**
+     * 클라이언트마다 가상 스레드 1개로 정해진 시간 동안 요청 반복
+     */
+    private List<LatencyStats> runClients(List<String> userTokens, String adminToken, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<LatencyStats>> futures = new ArrayList<>(userTokens.size());
+            for (String userToken : userTokens) {
+                futures.add(executor.submit(() -> {
+                    LatencyStats stats = new LatencyStats();
+                    while (System.nanoTime() < deadline) {
+                        Endpoint endpoint = nextEndpoint();
+                        call(endpoint, endpoint.isWrite() ? adminToken : userToken, stats);
+                    }
+                    return stats;
+                }));
+            }
+
+            List<LatencyStats> results = new ArrayList<>(futures.size());
+            for (Future<LatencyStats> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    /**
+     * 쓰기 비율에 따라 읽기/쓰기를 정한 뒤, 그 안에서 비중에 따라 API 선택
+     */
+    private Endpoint nextEndpoint() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean write = random.nextDouble() < writeRatio;
+
+        Endpoint[] candidates = Arrays.stream(Endpoint.values())
+                                      .filter(e -> e.getWeight() > 0 && e.isWrite() == write)
+                                      .toArray(Endpoint[]::new);
+        int roll = random.nextInt(Arrays.stream(candidates).mapToInt(Endpoint::getWeight).sum());
+        for (Endpoint candidate : candidates) {
+            roll -= candidate.getWeight();
+            if (roll < 0) {
+                return candidate;
+            }
+        }
+        return candidates[candidates.length - 1];
+    }
+
+    private void call(Endpoint endpoint, String token, LatencyStats stats) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long productId = pick(catalog.productIds(), random);
+        long optionId = pick(catalog.optionIds(), random);
+        long detailId = pick(catalog.detailIds(), random);
+        int pages = Math.max(products / 20, 1);
+
+        HttpRequest.Builder request = switch (endpoint) {
+            case LIST_PRODUCTS -> get("/api/products?page=" + random.nextInt(pages) + "&size=20");
+            case GET_PRODUCT -> get("/api/products/" + productId);
+            case LIST_ACTIVE_OPTIONS -> get("/api/product-options/products/" + productId + "/active");
+            case LIST_ACTIVE_DETAILS -> get("/api/option-details/options/" + optionId + "/active");
+            case UPDATE_PRODUCT -> put("/api/products/" + productId, Map.of(
+                    "name", "부하 테스트 상품 " + productId,
+                    "description", "수정된 상품 설명 " + random.nextInt(1000),
+                    "price", 10_000 + random.nextInt(10_000),
+                    "shippingFee", 3000));
+            case UPDATE_OPTION_DETAIL -> put("/api/option-details/" + detailId, Map.of(
+                    "detailName", "수정된 상세 옵션 " + random.nextInt(1000),
+                    "detailPrice", random.nextInt(10) * 500));
+            case CREATE_OPTION_DETAIL -> post("/api/option-details/options/" + optionId, Map.of(
+                    "detailName", "추가 상세 옵션 " + random.nextInt(1000),
+                    "detailPrice", random.nextInt(10) * 500));
+            case LOGIN -> throw new IllegalArgumentException("로그인은 login()으로 호출");
+        };
+
+        send(endpoint, request.header("Authorization", "Bearer " + token).build(), stats);
+    }
+
+    private List<String> registerAndLogin(int count, LatencyStats stats) throws IOException, InterruptedException {
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String email = "client" + i + "@loadtest.com";
+            HttpResponse<String> response = httpClient.send(
+                    post("/api/users/register", Map.of("email", email, "password", PASSWORD)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).as("회원가입 응답").isEqualTo(201);
+            tokens.add(login(email, stats));
+        }
+        return tokens;
+    }
+
+    private String login(String email, LatencyStats stats) throws IOException {
+        HttpResponse<String> response = send(Endpoint.LOGIN,
+                post("/api/auth/login", Map.of("email", email, "password", PASSWORD)).build(), stats);
+        assertThat(response.statusCode()).as("로그인 응답").isEqualTo(200);
+
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.get("token").asText();
+    }
+
+    private HttpResponse<String> send(Endpoint endpoint, HttpRequest request, LatencyStats stats) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.record(endpoint, System.nanoTime() - start, response.statusCode() / 100 == 2);
+            return response;
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, false);
+            throw new IllegalStateException(endpoint.getDescription() + " 호출 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(endpoint.getDescription() + " 호출 중단", e);
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Object body) {
+        return HttpRequest.newBuilder(uri(path))
+                          .header("Content-Type", "application/json")
+                          .POST(HttpRequest.BodyPublishers.ofString(toJson(body)));
+    }
+
+    private HttpRequest.Builder put(String path, Object body) {
+        return HttpRequest.newBuilder(uri(path))
+                          .header("Content-Type", "application/json")
+                          .PUT(HttpRequest.BodyPublishers.ofString(toJson(body)));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long pick(long[] ids, ThreadLocalRandom random) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    /**
+     * 결과를 표로 출력하고 JSON 파일로 저장 (회귀 비교용)
+     */
+    private void report(Map<Endpoint, LatencyStats.Summary> summaries, double elapsedSeconds) throws IOException {
+        StringBuilder table = new StringBuilder(String.format("%n%-48s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        summaries.forEach((endpoint, s) -> table.append(String.format("%-48s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint.getDescription(), s.requests(), s.errors(), s.throughput(),
+                s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs())));
+        System.out.println(table);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("clients", clients);
+        result.put("writeRatio", writeRatio);
+        result.put("durationSeconds", elapsedSeconds);
+        result.put("catalog", Map.of("products", products,
+                "optionsPerProduct", optionsPerProduct, "detailsPerOption", detailsPerOption));
+        Map<String, LatencyStats.Summary> endpoints = new LinkedHashMap<>();
+        summaries.forEach((endpoint, s) -> endpoints.put(endpoint.getDescription(), s));
+        result.put("endpoints", endpoints);
+
+        Path path = Path.of(reportFile);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(path.toFile(), result);
+    }
+
+}
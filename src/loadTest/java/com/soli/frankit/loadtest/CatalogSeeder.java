@@ -0,0 +1,128 @@
+package com.soli.frankit.loadtest;
+
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.entity.Role;
+import com.soli.frankit.entity.User;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName  : com.soli.frankit.loadtest
+ * fileName     : CatalogSeeder
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 부하 테스트용 카탈로그/관리자 계정 생성
+ *                - 측정 대상이 아닌 데이터 준비는 API를 거치지 않고 리포지토리로 일괄 저장
+ */
+@RequiredArgsConstructor
+public class CatalogSeeder {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final OptionDetailRepository optionDetailRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * 시드 데이터의 ID 목록
+     *
+     * @param productIds 상품 ID
+     * @param optionIds 선택형 옵션 ID
+     * @param detailIds 상세 옵션 ID
+     */
+    public record Catalog(long[] productIds, long[] optionIds, long[] detailIds) {
+    }
+
+    /**
+     * 카탈로그 생성
+     *
+     * @param products 상품 수
+     * @param optionsPerProduct 상품당 선택형 옵션 수
+     * @param detailsPerOption 옵션당 상세 옵션 수
+     * @return 생성된 데이터의 ID 목록
+     */
+    public Catalog seedCatalog(int products, int optionsPerProduct, int detailsPerOption) {
+        List<Product> savedProducts = new ArrayList<>(products);
+        List<ProductOption> savedOptions = new ArrayList<>(products * optionsPerProduct);
+        List<OptionDetail> savedDetails = new ArrayList<>(products * optionsPerProduct * detailsPerOption);
+
+        List<Product> productBatch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < products; i++) {
+            productBatch.add(Product.builder()
+                                    .name("부하 테스트 상품 " + i)
+                                    .description("부하 테스트용 상품 설명입니다. 상품 번호: " + i)
+                                    .price(BigDecimal.valueOf(10_000L + i * 100L))
+                                    .shippingFee(BigDecimal.valueOf(3000))
+                                    .build());
+            if (productBatch.size() == BATCH_SIZE || i == products - 1) {
+                savedProducts.addAll(productRepository.saveAll(productBatch));
+                productBatch.clear();
+            }
+        }
+
+        List<ProductOption> optionBatch = new ArrayList<>(BATCH_SIZE);
+        for (Product product : savedProducts) {
+            for (int i = 0; i < optionsPerProduct; i++) {
+                optionBatch.add(ProductOption.builder()
+                                             .product(product)
+                                             .optionName("옵션 " + i)
+                                             .optionType(OptionType.SELECT)
+                                             .build());
+                if (optionBatch.size() == BATCH_SIZE) {
+                    savedOptions.addAll(productOptionRepository.saveAll(optionBatch));
+                    optionBatch.clear();
+                }
+            }
+        }
+        savedOptions.addAll(productOptionRepository.saveAll(optionBatch));
+
+        List<OptionDetail> detailBatch = new ArrayList<>(BATCH_SIZE);
+        for (ProductOption option : savedOptions) {
+            for (int i = 0; i < detailsPerOption; i++) {
+                detailBatch.add(OptionDetail.builder()
+                                            .productOption(option)
+                                            .detailName("상세 옵션 " + i)
+                                            .detailPrice(BigDecimal.valueOf(i * 500L))
+                                            .build());
+                if (detailBatch.size() == BATCH_SIZE) {
+                    savedDetails.addAll(optionDetailRepository.saveAll(detailBatch));
+                    detailBatch.clear();
+                }
+            }
+        }
+        savedDetails.addAll(optionDetailRepository.saveAll(detailBatch));
+
+        return new Catalog(
+                savedProducts.stream().mapToLong(Product::getId).toArray(),
+                savedOptions.stream().mapToLong(ProductOption::getId).toArray(),
+                savedDetails.stream().mapToLong(OptionDetail::getId).toArray());
+    }
+
+    /**
+     * 관리자 계정 생성 (회원가입 API는 일반 사용자만 생성)
+     *
+     * @param email 관리자 이메일
+     * @param rawPassword 관리자 비밀번호
+     */
+    public void seedAdmin(String email, String rawPassword) {
+        userRepository.save(User.builder()
+                                .email(email)
+                                .password(passwordEncoder.encode(rawPassword))
+                                .role(Role.ADMIN)
+                                .build());
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.soli.frankit.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * packageName  : com.soli.frankit.loadtest
+ * fileName     : Endpoint
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 부하 테스트 대상 API와 요청 비중
+ *                - 읽기/쓰기 각각 안에서의 상대 비중이며, 읽기/쓰기 비율은 loadtest.write-ratio로 조정
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Endpoint {
+
+    LOGIN("POST /api/auth/login", false, 0),
+
+    LIST_PRODUCTS("GET /api/products", false, 40),
+    GET_PRODUCT("GET /api/products/{id}", false, 30),
+    LIST_ACTIVE_OPTIONS("GET /api/product-options/products/{id}/active", false, 15),
+    LIST_ACTIVE_DETAILS("GET /api/option-details/options/{id}/active", false, 15),
+
+    UPDATE_PRODUCT("PUT /api/products/{id}", true, 50),
+    UPDATE_OPTION_DETAIL("PUT /api/option-details/{id}", true, 30),
+    CREATE_OPTION_DETAIL("POST /api/option-details/options/{id}", true, 20);
+
+    private final String description;
+    private final boolean write;
+    private final int weight;
+
+}
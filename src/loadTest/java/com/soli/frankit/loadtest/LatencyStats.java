@@ -0,0 +1,117 @@
+package com.soli.frankit.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * packageName  : com.soli.frankit.loadtest
+ * fileName     : LatencyStats
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : API별 응답 시간 기록
+ *                - 클라이언트마다 하나씩 사용해 락 없이 기록하고, 측정이 끝난 뒤 합산
+ */
+public class LatencyStats {
+
+    private final Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+
+    /**
+     * 응답 시간 기록
+     *
+     * @param endpoint 호출한 API
+     * @param nanos 응답 시간 (나노초)
+     * @param success 2xx 응답 여부
+     */
+    public void record(Endpoint endpoint, long nanos, boolean success) {
+        samples.computeIfAbsent(endpoint, e -> new Samples()).add(nanos, success);
+    }
+
+    /**
+     * 다른 클라이언트의 기록을 합산
+     *
+     * @param other 합산할 기록
+     */
+    public void merge(LatencyStats other) {
+        other.samples.forEach((endpoint, s) -> samples.computeIfAbsent(endpoint, e -> new Samples()).addAll(s));
+    }
+
+    /**
+     * API별 결과 요약
+     *
+     * @param elapsedSeconds 측정 시간 (초)
+     * @return API별 요약 (API 선언 순서)
+     */
+    public Map<Endpoint, Summary> summarize(double elapsedSeconds) {
+        Map<Endpoint, Summary> summaries = new EnumMap<>(Endpoint.class);
+        samples.forEach((endpoint, s) -> summaries.put(endpoint, s.summarize(elapsedSeconds)));
+        return summaries;
+    }
+
+    /**
+     * API별 결과 요약
+     *
+     * @param requests 전체 요청 수
+     * @param errors 실패 요청 수 (2xx 이외 응답 또는 통신 오류)
+     * @param throughput 초당 처리 요청 수
+     * @param p50Ms 50번째 백분위 응답 시간 (밀리초)
+     * @param p95Ms 95번째 백분위 응답 시간 (밀리초)
+     * @param p99Ms 99번째 백분위 응답 시간 (밀리초)
+     * @param maxMs 최대 응답 시간 (밀리초)
+     */
+    public record Summary(long requests, long errors, double throughput,
+                          double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        public double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    private static class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long value, boolean success) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+            }
+            System.arraycopy(other.nanos, 0, nanos, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        Summary summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new Summary(size, errors, elapsedSeconds > 0 ? size / elapsedSeconds : 0,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+        }
+
+        // nearest-rank 방식
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p * sorted.length);
+            return toMillis(sorted[Math.max(rank - 1, 0)]);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+}
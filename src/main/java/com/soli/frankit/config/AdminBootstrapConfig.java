@@ -0,0 +1,40 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : AdminBootstrapConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 초기 관리자 계정 설정 (admin.bootstrap.enabled=true 일 때만 등록)
+ *                - 회원가입은 항상 USER로 생성되므로, 첫 관리자는 기동 시 설정값으로 생성하거나 ADMIN으로 변경
+ *                - 이후 관리자는 PUT /api/users/role 로 다른 사용자의 권한을 변경
+ */
+@Configuration
+@ConditionalOnProperty(name = "admin.bootstrap.enabled", havingValue = "true")
+public class AdminBootstrapConfig {
+
+    /**
+     * 기동 시 관리자 계정 준비
+     *
+     * @param email 관리자 이메일
+     * @param password 관리자 비밀번호 (계정이 없을 때만 사용)
+     */
+    @Bean
+    public ApplicationRunner adminBootstrap(UserService userService,
+                                            @Value("${admin.bootstrap.email}") String email,
+                                            @Value("${admin.bootstrap.password}") String password) {
+        if (!StringUtils.hasText(email) || !StringUtils.hasText(password)) {
+            throw new IllegalStateException("admin.bootstrap.email 과 admin.bootstrap.password 를 설정해야 합니다.");
+        }
+        return args -> userService.provisionAdmin(email, password);
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.util.Bulkhead;
+import com.soli.frankit.util.BulkheadAspect;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : BulkheadConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 읽기/쓰기 벌크헤드 설정
+ *                - 두 벌크헤드의 합이 커넥션 풀 크기를 넘지 않게 나눠, 쓰기가 몰려도 읽기 커넥션이 남도록 함
+ *                - 벌크헤드 밖에서 실행되는 조회 모델 재생성 구간 수만큼은 풀에 남겨 둠
+ */
+@Slf4j
+@Configuration
+public class BulkheadConfig {
+
+    /**
+     * 읽기 전용 트랜잭션(@Transactional(readOnly = true))용 벌크헤드
+     */
+    @Bean
+    public Bulkhead readBulkhead(@Value("${bulkhead.read.max-concurrent-calls}") int maxConcurrentCalls,
+                                 @Value("${bulkhead.read.max-wait-ms}") long maxWaitMs) {
+        return new Bulkhead("read", maxConcurrentCalls, Duration.ofMillis(maxWaitMs));
+    }
+
+    /**
+     * 쓰기 트랜잭션용 벌크헤드
+     */
+    @Bean
+    public Bulkhead writeBulkhead(@Value("${bulkhead.write.max-concurrent-calls}") int maxConcurrentCalls,
+                                  @Value("${bulkhead.write.max-wait-ms}") long maxWaitMs) {
+        return new Bulkhead("write", maxConcurrentCalls, Duration.ofMillis(maxWaitMs));
+    }
+
+    /**
+     * 벌크헤드 Aspect
+     *
+     * @param readBulkhead 읽기 벌크헤드
+     * @param writeBulkhead 쓰기 벌크헤드
+     * @param maximumPoolSize 커넥션 풀 최대 크기
+     * @param rebuildParallelism 조회 모델 재생성 구간 수 (벌크헤드 밖에서 커넥션 사용)
+     * @return BulkheadAspect
+     */
+    @Bean
+    public BulkheadAspect bulkheadAspect(Bulkhead readBulkhead,
+                                         Bulkhead writeBulkhead,
+                                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                                         @Value("${product-view.rebuild.parallelism:0}") int rebuildParallelism) {
+        int total = readBulkhead.getMaxConcurrentCalls() + writeBulkhead.getMaxConcurrentCalls() + rebuildParallelism;
+        if (total > maximumPoolSize) {
+            log.warn("벌크헤드 동시 실행 합계와 조회 모델 재생성 구간 수({})가 커넥션 풀 크기({})보다 큽니다. 풀 대기가 발생할 수 있습니다.",
+                    total, maximumPoolSize);
+        }
+        return new BulkheadAspect(readBulkhead, writeBulkhead);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.repository.CatalogChangeRepository;
+import com.soli.frankit.util.CatalogChangeLogPoller;
+import com.soli.frankit.util.CatalogChangeSubscriber;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : CatalogChangeLogConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 변경 로그 poller 설정 (catalog-change-log.poller.enabled=true 일 때만 등록)
+ *                - 변경 로그 기록(CatalogChangeLogService)은 설정과 관계없이 항상 동작
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog-change-log.poller.enabled", havingValue = "true")
+public class CatalogChangeLogConfig {
+
+    /**
+     * 변경 로그 poller (등록된 모든 CatalogChangeSubscriber에 전달)
+     */
+    @Bean
+    public CatalogChangeLogPoller catalogChangeLogPoller(CatalogChangeRepository catalogChangeRepository,
+                                                         ObjectProvider<CatalogChangeSubscriber> subscribers,
+                                                         @Value("${catalog-change-log.poller.interval-ms}") long intervalMs,
+                                                         @Value("${catalog-change-log.poller.batch-size}") int batchSize,
+                                                         @Value("${catalog-change-log.poller.gap-timeout-ms}") long gapTimeoutMs,
+                                                         @Value("${catalog-change-log.poller.max-pending-gaps}") int maxPendingGaps,
+                                                         @Value("${catalog-change-log.retention-hours}") long retentionHours) {
+        CatalogChangeLogPoller poller = new CatalogChangeLogPoller(catalogChangeRepository,
+                subscribers.orderedStream().toList(), batchSize, Duration.ofMillis(gapTimeoutMs), maxPendingGaps);
+        poller.start(Duration.ofMillis(intervalMs), Duration.ofHours(retentionHours));
+        return poller;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.repository.CatalogChangeRepository;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.util.CatalogReadModel;
+import com.soli.frankit.util.CatalogResponseCache;
+import com.soli.frankit.util.CatalogSnapshotFile;
+import com.soli.frankit.util.ReadYourWrites;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : CatalogSnapshotConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 메모리 카탈로그 스냅샷 설정 (catalog-snapshot.enabled=true 일 때만 등록)
+ *                - 변경 로그 poller가 보내는 변경으로 갱신하므로 catalog-change-log.poller.enabled=true 필요
+ *                - catalog-snapshot.file.path를 설정하면 스냅샷을 파일로 저장하고 재시작 시 파일로 시작
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog-snapshot.enabled", havingValue = "true")
+public class CatalogSnapshotConfig {
+
+    /**
+     * 카탈로그 스냅샷 (CatalogChangeSubscriber로 poller에 등록됨)
+     *
+     * @param readYourWrites 쓰기 직후 주 DB 고정 (복제 DB 라우팅을 쓰지 않으면 없음)
+     * @param responseCache 스냅샷 교체 후 무효화할 응답 캐시 (응답 캐시를 쓰지 않으면 없음)
+     * @param filePath 스냅샷 파일 경로 (비어 있으면 파일을 쓰지 않음)
+     */
+    @Bean
+    public CatalogReadModel catalogReadModel(ProductRepository productRepository,
+                                             ProductOptionRepository productOptionRepository,
+                                             OptionDetailRepository optionDetailRepository,
+                                             CatalogChangeRepository catalogChangeRepository,
+                                             ObjectProvider<ReadYourWrites> readYourWrites,
+                                             ObjectProvider<CatalogResponseCache> responseCache,
+                                             @Value("${catalog-snapshot.load-batch-size}") int loadBatchSize,
+                                             @Value("${catalog-snapshot.refresh-interval-ms}") long refreshIntervalMs,
+                                             @Value("${catalog-snapshot.reconcile-interval-ms}") long reconcileIntervalMs,
+                                             @Value("${catalog-snapshot.reconcile-settle-ms}") long reconcileSettleMs,
+                                             @Value("${catalog-snapshot.full-reload-minutes}") long fullReloadMinutes,
+                                             @Value("${catalog-snapshot.local-write-pin-ms}") long localWritePinMs,
+                                             @Value("${catalog-snapshot.file.path}") String filePath,
+                                             @Value("${catalog-snapshot.file.save-interval-minutes}") long saveIntervalMinutes,
+                                             @Value("${catalog-change-log.retention-hours}") long retentionHours) {
+        CatalogSnapshotFile snapshotFile = filePath.isBlank() ? null : new CatalogSnapshotFile(Path.of(filePath));
+        CatalogReadModel readModel = new CatalogReadModel(productRepository, productOptionRepository, optionDetailRepository,
+                catalogChangeRepository, readYourWrites.getIfAvailable(), snapshotFile, responseCache.getIfAvailable(), loadBatchSize,
+                Duration.ofMillis(reconcileSettleMs), Duration.ofHours(retentionHours), Duration.ofMillis(localWritePinMs));
+        readModel.start(Duration.ofMillis(refreshIntervalMs), Duration.ofMillis(reconcileIntervalMs),
+                Duration.ofMinutes(fullReloadMinutes), Duration.ofMinutes(saveIntervalMinutes));
+        return readModel;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.soli.frankit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soli.frankit.repository.CatalogChangeRepository;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.util.CatalogChangeBroadcaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : CatalogStreamConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 변경 이벤트 SSE 스트림 설정 (catalog-stream.enabled=true 일 때만 등록)
+ *                - 변경 로그 poller가 보내는 변경을 전달하므로 catalog-change-log.poller.enabled=true 필요
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog-stream.enabled", havingValue = "true")
+public class CatalogStreamConfig {
+
+    /**
+     * 변경 이벤트 전달기 (CatalogChangeSubscriber로 poller에 등록됨)
+     */
+    @Bean
+    public CatalogChangeBroadcaster catalogChangeBroadcaster(ProductRepository productRepository,
+                                                             ProductOptionRepository productOptionRepository,
+                                                             OptionDetailRepository optionDetailRepository,
+                                                             CatalogChangeRepository catalogChangeRepository,
+                                                             ObjectMapper objectMapper,
+                                                             @Value("${catalog-stream.replay-size}") int replaySize,
+                                                             @Value("${catalog-stream.queue-capacity}") int queueCapacity,
+                                                             @Value("${catalog-stream.max-subscribers}") int maxSubscribers,
+                                                             @Value("${catalog-stream.heartbeat-seconds}") long heartbeatSeconds) {
+        return new CatalogChangeBroadcaster(productRepository, productOptionRepository, optionDetailRepository,
+                catalogChangeRepository, objectMapper, replaySize, queueCapacity, maxSubscribers, Duration.ofSeconds(heartbeatSeconds));
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.util.ReadYourWrites;
+import com.soli.frankit.util.ReadYourWritesFilter;
+import com.soli.frankit.util.ReplicaLagMonitor;
+import com.soli.frankit.util.ReplicaLagProbe;
+import com.soli.frankit.util.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : DataSourceRoutingConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 주/복제 DB 라우팅 설정 (datasource.routing.enabled=true 일 때만 등록)
+ *                - 주 DB: spring.datasource.* / 복제 DB: 주 DB의 커넥션 풀 설정을 복사해 URL/계정만 바꿈
+ *                - 애플리케이션이 사용하는 DataSource: LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ *                - spring.jpa.open-in-view=false 필요 (요청 단위 영속성 컨텍스트가 첫 커넥션을 요청 끝까지 잡으면
+ *                  읽기 전용 조회 후의 쓰기가 복제 DB 커넥션에서 실행됨)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * 주 DB 커넥션 풀 (spring.datasource.hikari.* 적용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    /**
+     * 복제 DB 커넥션 풀 생성 및 지연 감시 시작
+     * - 복제 DB가 내려가 있어도 기동은 계속 (지연 감시에서 장애로 표시되어 주 DB로 대체)
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               ObjectProvider<MeterRegistry> meterRegistry,
+                                               @Value("${datasource.routing.replica-urls}") List<String> replicaUrls,
+                                               @Value("${datasource.routing.replica-username}") String username,
+                                               @Value("${datasource.routing.replica-password}") String password,
+                                               @Value("${datasource.routing.max-lag-ms}") long maxLagMs,
+                                               @Value("${datasource.routing.lag-check-interval-ms}") long lagCheckIntervalMs,
+                                               @Value("${datasource.routing.lag-query}") String lagQuery,
+                                               @Value("${datasource.routing.lag-column}") String lagColumn) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(url.trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setPoolName("replica-" + replicas.size());
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);
+            if (config.getMetricsTrackerFactory() == null && config.getMetricRegistry() == null) {
+                meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            }
+            replicas.add(new HikariDataSource(config));
+        }
+
+        if (replicas.isEmpty()) {
+            log.warn("datasource.routing.enabled=true 이지만 복제 DB가 없습니다. 모든 요청을 주 DB로 보냅니다.");
+        }
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicas, ReplicaLagProbe.sql(lagQuery, lagColumn), Duration.ofMillis(maxLagMs));
+        monitor.start(Duration.ofMillis(lagCheckIntervalMs));
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(ReplicaLagMonitor replicaLagMonitor,
+                                         @Value("${datasource.routing.read-your-writes-window-ms}") long windowMs) {
+        return new ReadYourWrites(Duration.ofMillis(windowMs), replicaLagMonitor::maxUsableLag);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaLagMonitor replicaLagMonitor,
+                                                             ReadYourWrites readYourWrites) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaLagMonitor.getReplicas(), replicaLagMonitor, readYourWrites);
+    }
+
+    /**
+     * JPA/트랜잭션이 사용하는 DataSource
+     * - 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 꺼내야 readOnly 여부로 라우팅 가능
+     *
+     * @throws IllegalStateException open-in-view가 켜져 있는 경우
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("datasource.routing.enabled=true 이면 spring.jpa.open-in-view=false 로 설정해야 합니다.");
+        }
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 사용자별 read-your-writes 범위 필터 (인증 정보를 쓰므로 보안 필터 체인 다음)
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWrites readYourWrites) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWrites));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+}
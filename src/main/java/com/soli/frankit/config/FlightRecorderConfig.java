@@ -0,0 +1,69 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.util.ContinuousFlightRecording;
+import com.soli.frankit.util.FlightRecorderAspect;
+import com.soli.frankit.util.FlightRecorderEndpoint;
+import com.soli.frankit.util.RepositoryFlightRecorderPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : FlightRecorderConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : JFR 커스텀 이벤트 및 상시 기록 설정
+ *                - 이벤트는 기록 중인 JFR 세션이 없으면 비용이 거의 없으므로 항상 등록
+ *                - 상시 기록과 덤프 엔드포인트는 jfr.enabled=true 일 때만 등록
+ */
+@Configuration
+public class FlightRecorderConfig {
+
+    /**
+     * 서비스 메서드 이벤트
+     */
+    @Bean
+    public FlightRecorderAspect flightRecorderAspect() {
+        return new FlightRecorderAspect();
+    }
+
+    /**
+     * 리포지토리 호출 이벤트 (리포지토리 프록시 생성 전에 등록되어야 하므로 static)
+     */
+    @Bean
+    public static RepositoryFlightRecorderPostProcessor repositoryFlightRecorderPostProcessor() {
+        return new RepositoryFlightRecorderPostProcessor();
+    }
+
+    /**
+     * 상시 기록
+     */
+    @Bean
+    @ConditionalOnProperty(name = "jfr.enabled", havingValue = "true")
+    public ContinuousFlightRecording continuousFlightRecording(
+            @Value("${jfr.settings}") Resource settings,
+            @Value("${jfr.max-age-minutes}") long maxAgeMinutes,
+            @Value("${jfr.max-size-mb}") long maxSizeMb,
+            @Value("${jfr.dump-directory}") String dumpDirectory,
+            @Value("${jfr.keep-dumps}") int keepDumps) {
+        return new ContinuousFlightRecording(settings, Duration.ofMinutes(maxAgeMinutes), maxSizeMb * 1024 * 1024,
+                Path.of(dumpDirectory), keepDumps);
+    }
+
+    /**
+     * 최근 기록 덤프 엔드포인트 (/actuator/jfr)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "jfr.enabled", havingValue = "true")
+    public FlightRecorderEndpoint flightRecorderEndpoint(ContinuousFlightRecording continuousFlightRecording,
+                                                         @Value("${jfr.default-dump-minutes}") int defaultMinutes) {
+        return new FlightRecorderEndpoint(continuousFlightRecording, defaultMinutes);
+    }
+
+}
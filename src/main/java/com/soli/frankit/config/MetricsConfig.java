@@ -0,0 +1,52 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.util.HibernateSessionMetrics;
+import com.soli.frankit.util.RequestStatementMetricsFilter;
+import com.soli.frankit.util.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : MetricsConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 메트릭 설정
+ *                - API/리포지토리/커넥션 풀/Hibernate 전체 통계는 Actuator 자동 설정 사용 (application.yml의 management.*)
+ *                - 요청당 쿼리 수는 요청 필터가 SQL 카운터로, 세션(트랜잭션)당 쿼리/flush 수는 Hibernate 세션 이벤트 리스너로 직접 수집
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernateSessionMetrics hibernateSessionMetrics() {
+        return new HibernateSessionMetrics();
+    }
+
+    /**
+     * 요청당 SQL 수 메트릭 필터 (보안 필터를 포함한 요청 전체를 셈)
+     */
+    @Bean
+    public FilterRegistrationBean<RequestStatementMetricsFilter> requestStatementMetricsFilter(SqlStatementCounter sqlStatementCounter,
+                                                                                               MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatementMetricsFilter(sqlStatementCounter, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * 모든 Hibernate 세션에 세션 메트릭 리스너 등록
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSessionMetricsCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                HibernateSessionMetrics.Listener.class.getName());
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.service.OptionArchiveService;
+import com.soli.frankit.util.OptionArchiver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : OptionArchiveConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 비활성 옵션 보관 처리 작업 설정 (option-archive.enabled=true 일 때만 등록)
+ *                - 보관된 이력 조회 API는 작업 등록 여부와 관계없이 동작
+ */
+@Configuration
+@ConditionalOnProperty(name = "option-archive.enabled", havingValue = "true")
+public class OptionArchiveConfig {
+
+    /**
+     * 보관 처리 작업
+     */
+    @Bean
+    public OptionArchiver optionArchiver(OptionArchiveService optionArchiveService,
+                                         @Value("${option-archive.min-inactive-days}") long minInactiveDays,
+                                         @Value("${option-archive.batch-size}") int batchSize,
+                                         @Value("${option-archive.batch-pause-ms}") long batchPauseMs,
+                                         @Value("${option-archive.interval-minutes}") long intervalMinutes) {
+        OptionArchiver archiver = new OptionArchiver(optionArchiveService, Duration.ofDays(minInactiveDays),
+                batchSize, Duration.ofMillis(batchPauseMs));
+        archiver.start(Duration.ofMinutes(intervalMinutes));
+        return archiver;
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.ProductViewRepository;
+import com.soli.frankit.service.ProductViewService;
+import com.soli.frankit.util.ProductViewEndpoint;
+import com.soli.frankit.util.ProductViewRebuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : ProductViewConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 모델(product_view) 재생성 설정
+ *                - 변경 반영은 ProductViewService가 변경 트랜잭션 안에서 하므로 항상 동작, 여기서는 전체 재생성만 등록
+ */
+@Slf4j
+@Configuration
+public class ProductViewConfig {
+
+    /**
+     * 전체 재생성
+     *
+     * @param parallelism 동시에 재생성할 구간 수 (요청 벌크헤드 밖에서 커넥션을 쓰므로 풀에서 두 벌크헤드 합계를 뺀 여유만큼으로 제한)
+     * @param maximumPoolSize 커넥션 풀 최대 크기
+     * @param readPermits 읽기 벌크헤드 동시 실행 개수
+     * @param writePermits 쓰기 벌크헤드 동시 실행 개수
+     */
+    @Bean
+    public ProductViewRebuilder productViewRebuilder(ProductViewService productViewService,
+                                                     ProductRepository productRepository,
+                                                     ProductViewRepository productViewRepository,
+                                                     @Value("${product-view.rebuild.chunk-size}") int chunkSize,
+                                                     @Value("${product-view.rebuild.parallelism}") int parallelism,
+                                                     @Value("${product-view.rebuild.on-startup-if-empty}") boolean onStartupIfEmpty,
+                                                     @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                                                     @Value("${bulkhead.read.max-concurrent-calls}") int readPermits,
+                                                     @Value("${bulkhead.write.max-concurrent-calls}") int writePermits) {
+        int headroom = maximumPoolSize - readPermits - writePermits;
+        int capped = Math.max(1, Math.min(parallelism, headroom));
+        if (capped != parallelism) {
+            log.warn("조회 모델 재생성 구간 수({})를 커넥션 풀 여유(풀 {} - 벌크헤드 합계 {})에 맞춰 {}로 제한합니다.",
+                    parallelism, maximumPoolSize, readPermits + writePermits, capped);
+        }
+        return new ProductViewRebuilder(productViewService, productRepository, productViewRepository,
+                chunkSize, capped, onStartupIfEmpty);
+    }
+
+    /**
+     * 전체 재생성 엔드포인트 (/actuator/productview)
+     */
+    @Bean
+    public ProductViewEndpoint productViewEndpoint(ProductViewRebuilder productViewRebuilder) {
+        return new ProductViewEndpoint(productViewRebuilder);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.util.QueryBudgetFilter;
+import com.soli.frankit.util.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : QueryCountConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : SQL 실행 수 카운터 설정
+ *                - 카운터는 항상 등록 (테스트의 @MaxQueries에서 사용)
+ *                - 요청별 쿼리 예산 필터는 query-budget.enabled=true 일 때만 등록
+ */
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    /**
+     * Hibernate가 준비하는 모든 SQL을 카운터에 전달
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    /**
+     * 요청별 쿼리 예산 필터 (X-Query-Count 헤더 + 예산 초과 경고 로그)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "query-budget.enabled", havingValue = "true")
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(
+            SqlStatementCounter sqlStatementCounter,
+            @Value("${query-budget.max-statements-per-request}") int maxStatementsPerRequest) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+                new FilterRegistrationBean<>(new QueryBudgetFilter(sqlStatementCounter, maxStatementsPerRequest));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE); // 보안 필터를 포함한 요청 전체를 셈
+        return registration;
+    }
+
+}
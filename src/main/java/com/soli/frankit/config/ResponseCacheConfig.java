@@ -0,0 +1,60 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.util.CatalogResponseCache;
+import com.soli.frankit.util.ReadYourWrites;
+import com.soli.frankit.util.ResponseBytesCache;
+import com.soli.frankit.util.ResponseCacheFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : ResponseCacheConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 응답 캐시 설정 (response-cache.enabled=true 일 때만 등록)
+ *                - 복제 DB 라우팅을 쓰면 무효화 후 허용 복제 지연 시간 동안은 다시 채우지 않음
+ */
+@Configuration
+@ConditionalOnProperty(name = "response-cache.enabled", havingValue = "true")
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseBytesCache responseBytesCache(@Value("${response-cache.max-size-mb}") long maxSizeMb,
+                                                 @Value("${response-cache.max-entry-kb}") long maxEntryKb,
+                                                 @Value("${response-cache.ttl-seconds}") long ttlSeconds,
+                                                 @Value("${datasource.routing.enabled:false}") boolean routingEnabled,
+                                                 @Value("${datasource.routing.max-lag-ms:0}") long maxLagMs) {
+        Duration quarantine = routingEnabled ? Duration.ofMillis(maxLagMs) : Duration.ZERO;
+        return new ResponseBytesCache(maxSizeMb * 1024 * 1024, maxEntryKb * 1024, Duration.ofSeconds(ttlSeconds), quarantine);
+    }
+
+    /**
+     * 캐시 대상 결정 + 상품/옵션/상세 옵션 변경 이벤트로 무효화
+     */
+    @Bean
+    public CatalogResponseCache catalogResponseCache(ResponseBytesCache responseBytesCache) {
+        return new CatalogResponseCache(responseBytesCache);
+    }
+
+    /**
+     * 응답 캐시 필터 (인가 후에 캐시를 확인하도록 보안 필터 체인과 read-your-writes 필터 다음)
+     */
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(ResponseBytesCache responseBytesCache,
+                                                                           CatalogResponseCache catalogResponseCache,
+                                                                           ObjectProvider<ReadYourWrites> readYourWrites) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(
+                new ResponseCacheFilter(responseBytesCache, catalogResponseCache, readYourWrites.getIfAvailable()));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2);
+        return registration;
+    }
+
+}
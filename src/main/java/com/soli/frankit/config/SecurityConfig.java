@@ -1,17 +1,26 @@
 package com.soli.frankit.config;
 
+import com.soli.frankit.util.CalibratedBCryptPasswordEncoder;
+import com.soli.frankit.util.FlightRecorderPasswordEncoder;
 import com.soli.frankit.util.JwtAuthenticationFilter;
 import com.soli.frankit.util.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * packageName  : com.soli.frankit.config
  * fileName     : SecurityConfig
@@ -21,10 +30,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  */
 
 @Configuration
+@EnableMethodSecurity // 컨트롤러 메서드 단위 권한 검사 (@PreAuthorize)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Spring Security 설정을 정의하는 필터 체인
@@ -47,19 +58,36 @@ public class SecurityConfig {
                                 "/swagger-resources/**",
                                 "/webjars/**"
                         ).permitAll() // swagger 관련 인증 없이 접근 가능
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll() // actuator (관리 포트는 localhost에서만 열림)
                         .requestMatchers("/", "/api/auth/**", "/api/users/register").permitAll() // 인증 없이 접근 가능
                         .anyRequest().authenticated()) // 나머지는 인증 필요
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);  // JWT 필터 추가
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, meterRegistry), UsernamePasswordAuthenticationFilter.class);  // JWT 필터 추가
 
         return http.build();
     }
 
     /**
      * 비밀번호 암호화
+     * - 기동 시 실행 환경에서 목표 지연 시간을 만족하는 BCrypt cost를 보정
+     * - 해시 앞에 {bcrypt} 접두어를 붙여 저장하며, 접두어가 없는 기존 해시도 검증 가능
+     * - 해시 계산마다 JFR 이벤트 기록
+     *
+     * @param targetLatencyMs 해시 1회당 허용 시간 (밀리초)
+     * @param minStrength 최소 cost
+     * @param maxStrength 최대 cost
+     * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.hash.target-latency-ms}") long targetLatencyMs,
+                                           @Value("${password.hash.min-strength}") int minStrength,
+                                           @Value("${password.hash.max-strength}") int maxStrength) {
+        PasswordEncoder bcrypt = CalibratedBCryptPasswordEncoder.calibrate(
+                Duration.ofMillis(targetLatencyMs), minStrength, maxStrength);
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt); // 접두어 없는 기존 해시 검증용
+
+        return new FlightRecorderPasswordEncoder(passwordEncoder); // 해시 계산을 JFR 이벤트로 기록
     }
 
 }
@@ -0,0 +1,43 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.util.ReadYourWrites;
+import com.soli.frankit.util.SingleFlight;
+import com.soli.frankit.util.SingleFlightAspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : SingleFlightConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 읽기 전용 서비스 메서드의 동시 조회 합치기 설정 (single-flight.enabled=true 일 때만 등록)
+ */
+@Configuration
+@ConditionalOnProperty(name = "single-flight.enabled", havingValue = "true")
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight catalogSingleFlight(@Value("${single-flight.max-wait-ms}") long maxWaitMs) {
+        return new SingleFlight("catalog", Duration.ofMillis(maxWaitMs));
+    }
+
+    /**
+     * single-flight Aspect
+     *
+     * @param catalogSingleFlight 조회 합치기
+     * @param readYourWrites 쓰기 직후 주 DB 고정 (복제 DB 라우팅을 쓰지 않으면 없음)
+     * @return SingleFlightAspect
+     */
+    @Bean
+    public SingleFlightAspect singleFlightAspect(SingleFlight catalogSingleFlight,
+                                                 ObjectProvider<ReadYourWrites> readYourWrites) {
+        return new SingleFlightAspect(catalogSingleFlight, readYourWrites.getIfAvailable());
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.util.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : VirtualThreadConfig
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 가상 스레드 실행 모드 설정 (spring.threads.virtual.enabled=true 일 때만 적용)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * 가상 스레드 고정(pinning) 감지기
+     *
+     * @param thresholdMs 이 시간 이상 고정된 경우만 기록 (밀리초)
+     * @return VirtualThreadPinningMonitor
+     */
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${virtual-threads.pinning-threshold-ms}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs));
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.soli.frankit.controller;
+
+import com.soli.frankit.dto.CatalogFeedResponse;
+import com.soli.frankit.service.CatalogFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * packageName  : com.soli.frankit.controller
+ * fileName     : CatalogFeedController
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 외부 시스템(검색, 가격, 제휴 피드)의 증분 동기화를 위한 변경 피드 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/catalog")
+@RequiredArgsConstructor
+@Tag(name = "변경 피드 API", description = "상품/옵션/상세 옵션 증분 동기화 API")
+public class CatalogFeedController {
+
+    private final CatalogFeedService catalogFeedService;
+
+    /**
+     * 변경 피드 조회 API
+     *
+     * @param since 이전 응답의 nextCursor (없으면 처음부터 전체)
+     * @param limit 종류별 최대 개수
+     * @return 커서 이후의 변경 목록과 다음 커서
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "변경 피드 조회",
+            description = "커서 이후 등록/수정/삭제된 상품, 옵션, 상세 옵션을 조회합니다. hasMore가 false가 될 때까지 nextCursor로 이어서 요청합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 피드 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "410", description = "보관 기간이 지난 커서 (전체 동기화 필요)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<CatalogFeedResponse> getChanges(
+            @Parameter(description = "이전 응답의 nextCursor (없으면 처음부터)") @RequestParam(required = false) String since,
+            @Parameter(description = "종류별 최대 개수 (기본값: 100)", example = "100") @RequestParam(defaultValue = "100") int limit) {
+        CatalogFeedResponse response = catalogFeedService.getChanges(since, limit);
+        return ResponseEntity.ok(response);
+    }
+
+}
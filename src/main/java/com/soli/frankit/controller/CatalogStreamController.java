@@ -0,0 +1,66 @@
+package com.soli.frankit.controller;
+
+import com.soli.frankit.util.CatalogChangeBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.controller
+ * fileName     : CatalogStreamController
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품/옵션/상세 옵션 변경 이벤트 SSE 스트림 컨트롤러 (catalog-stream.enabled=true 일 때만 등록)
+ */
+@RestController
+@RequestMapping("/api/catalog")
+@ConditionalOnProperty(name = "catalog-stream.enabled", havingValue = "true")
+@Tag(name = "변경 피드 API", description = "상품/옵션/상세 옵션 증분 동기화 API")
+public class CatalogStreamController {
+
+    private final CatalogChangeBroadcaster catalogChangeBroadcaster;
+    private final Duration timeout;
+
+    /**
+     * CatalogStreamController 생성자
+     *
+     * @param timeoutMinutes 연결 유지 시간 (지나면 클라이언트가 Last-Event-ID로 다시 연결)
+     */
+    public CatalogStreamController(CatalogChangeBroadcaster catalogChangeBroadcaster,
+                                   @Value("${catalog-stream.timeout-minutes}") long timeoutMinutes) {
+        this.catalogChangeBroadcaster = catalogChangeBroadcaster;
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+    }
+
+    /**
+     * 변경 이벤트 구독 API
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재연결 시 EventSource가 자동으로 전송)
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "변경 이벤트 구독",
+            description = "커밋된 변경을 catalog-change 이벤트(변경 후 상태 포함)로 전달합니다. "
+                    + "resync 이벤트를 받으면 변경 피드로 다시 동기화해야 합니다 (reason이 overflow/gap이면 연결이 종료됨).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "503", description = "구독자 수 초과")
+    })
+    public SseEmitter stream(
+            @Parameter(description = "마지막으로 받은 이벤트 ID (변경 로그 순번)") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return catalogChangeBroadcaster.subscribe(lastEventId, timeout);
+    }
+
+}
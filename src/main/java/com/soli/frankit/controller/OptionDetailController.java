@@ -1,8 +1,15 @@
 package com.soli.frankit.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.soli.frankit.dto.MultiGetResponse;
 import com.soli.frankit.dto.OptionDetailRequest;
 import com.soli.frankit.dto.OptionDetailResponse;
+import com.soli.frankit.dto.SparseFieldset;
 import com.soli.frankit.service.OptionDetailService;
+import com.soli.frankit.util.CatalogReadModel;
+import com.soli.frankit.util.CatalogSnapshot;
+import com.soli.frankit.util.JsonMergePatch;
+import com.soli.frankit.util.MultiGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,10 +17,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * packageName  : com.soli.frankit.controller
@@ -29,6 +40,7 @@ import java.util.List;
 public class OptionDetailController {
 
     private final OptionDetailService optionDetailService;
+    private final ObjectProvider<CatalogReadModel> catalogReadModel; // 스냅샷을 쓰지 않으면 없음
 
     /**
      * 상세 옵션 등록 API
@@ -38,6 +50,7 @@ public class OptionDetailController {
      * @return 등록된 상세 옵션 정보
      */
     @PostMapping("/options/{optionId}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상세 옵션 등록", description = "상품 옵션에 상세 옵션을 추가합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상세 옵션 등록 성공"),
@@ -60,6 +73,7 @@ public class OptionDetailController {
      * @return 수정된 상세 옵션 정보
      */
     @PutMapping("/{detailId}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상세 옵션 수정", description = "등록된 상세 옵션을 수정합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상세 옵션 수정 성공"),
@@ -75,6 +89,30 @@ public class OptionDetailController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 상세 옵션 부분 수정 API (JSON Merge Patch, RFC 7396)
+     *
+     * @param detailId 수정할 상세 옵션 ID
+     * @param patch 수정할 필드만 담은 merge patch 문서
+     * @return 수정된 상세 옵션 정보
+     */
+    @PatchMapping(value = "/{detailId}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "상세 옵션 부분 수정", description = "보낸 필드만 수정합니다. (application/merge-patch+json)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상세 옵션 수정 성공"),
+            @ApiResponse(responseCode = "400", description = "입력값 검증 실패"),
+            @ApiResponse(responseCode = "404", description = "상세 옵션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "수정할 수 없는 상세 옵션"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<OptionDetailResponse> patchOptionDetail(
+            @Parameter(description = "수정할 상세 옵션 ID", example = "1") @PathVariable Long detailId,
+            @RequestBody JsonNode patch) {
+        OptionDetailResponse response = optionDetailService.patchOptionDetail(detailId, patch);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 상세 옵션 삭제 API
      *
@@ -82,6 +120,7 @@ public class OptionDetailController {
      * @return 응답 코드 204 (No Content)
      */
     @DeleteMapping("/{detailId}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상세 옵션 삭제", description = "등록된 상세 옵션을 삭제합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "상세 옵션 삭제 성공"),
@@ -102,6 +141,7 @@ public class OptionDetailController {
      * @return 응답 코드 204 (No Content)
      */
     @PutMapping("/{detailId}/activate")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상세 옵션 활성화", description = "비활성화된 상세 옵션을 다시 활성화합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "상세 옵션 활성화 성공"),
@@ -122,6 +162,7 @@ public class OptionDetailController {
      * @return 응답 코드 204 (No Content)
      */
     @PutMapping("/{detailId}/deactivate")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상세 옵션 비활성화", description = "상세 옵션을 비활성화합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "상세 옵션 비활성화 성공"),
@@ -134,6 +175,26 @@ public class OptionDetailController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 상세 옵션 ID 목록 조회 API
+     *
+     * @param ids 조회할 상세 옵션 ID 목록 (최대 MultiGet.MAX_IDS개)
+     * @return 요청한 ID 순서의 상세 옵션 정보 (없는 ID는 found=false)
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "상세 옵션 ID 목록 조회", description = "여러 상세 옵션을 ID로 한 번에 조회합니다. 결과는 요청한 ID 순서이며, 없는 ID는 found=false로 표시됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상세 옵션 ID 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "ID가 없거나 최대 개수 초과"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<MultiGetResponse<OptionDetailResponse>> getDetailsByIds(
+            @Parameter(description = "조회할 상세 옵션 ID 목록 (쉼표로 구분)", example = "1,2,3") @RequestParam List<Long> ids) {
+        CatalogSnapshot snapshot = catalogSnapshot();
+        MultiGetResponse<OptionDetailResponse> response = MultiGet.load(ids, snapshot != null ? snapshot::findDetail : null, optionDetailService::getDetailsByIds);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 옵션의 모든 상세 옵션 조회 API (활성화 + 비활성화 포함)
      *
@@ -149,7 +210,11 @@ public class OptionDetailController {
     })
     public ResponseEntity<List<OptionDetailResponse>> getAllDetailsByOption(
             @Parameter(description = "조회할 옵션 ID", example = "1") @PathVariable Long optionId) {
-        List<OptionDetailResponse> response = optionDetailService.getAllDetailsByOption(optionId);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        List<OptionDetailResponse> response = snapshot != null ? snapshot.findDetailsByOption(optionId, false) : null;
+        if (response == null) { // 스냅샷에 아직 반영되지 않은 옵션은 DB에서 조회
+            response = optionDetailService.getAllDetailsByOption(optionId);
+        }
         return ResponseEntity.ok(response);
     }
 
@@ -168,8 +233,99 @@ public class OptionDetailController {
     })
     public ResponseEntity<List<OptionDetailResponse>> getActiveDetailsByOption(
             @Parameter(description = "조회할 옵션 ID", example = "1") @PathVariable Long optionId) {
-        List<OptionDetailResponse> response = optionDetailService.getActiveDetailsByOption(optionId);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        List<OptionDetailResponse> response = snapshot != null ? snapshot.findDetailsByOption(optionId, true) : null;
+        if (response == null) { // 스냅샷에 아직 반영되지 않은 옵션은 DB에서 조회
+            response = optionDetailService.getActiveDetailsByOption(optionId);
+        }
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 옵션의 상세 옵션 조회 API (고른 필드만)
+     *
+     * @param optionId 옵션 ID
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 옵션의 모든 상세 옵션 리스트
+     */
+    @GetMapping(value = "/options/{optionId}", params = "fields")
+    @Operation(summary = "옵션별 상세 옵션 조회 (필드 선택)", description = "옵션의 모든 상세 옵션에서 fields로 고른 필드만 조회합니다. DB에서도 고른 열만 읽습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상세 옵션 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 필드"),
+            @ApiResponse(responseCode = "404", description = "옵션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<List<Map<String, Object>>> getAllDetailFieldsByOption(
+            @Parameter(description = "상세 옵션을 조회할 옵션 ID", example = "1") @PathVariable Long optionId,
+            @Parameter(description = "응답할 필드 (쉼표로 구분, id는 항상 포함)", example = "detailName,detailPrice") @RequestParam String fields) {
+        return ResponseEntity.ok(detailFields(optionId, false, fields));
+    }
+
+    /**
+     * 옵션의 활성화된 상세 옵션 조회 API (고른 필드만)
+     *
+     * @param optionId 옵션 ID
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 옵션의 활성화된 상세 옵션 리스트
+     */
+    @GetMapping(value = "/options/{optionId}/active", params = "fields")
+    @Operation(summary = "옵션별 활성화 상세 옵션 조회 (필드 선택)", description = "옵션의 활성화된 상세 옵션에서 fields로 고른 필드만 조회합니다. DB에서도 고른 열만 읽습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "활성화 상세 옵션 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 필드"),
+            @ApiResponse(responseCode = "404", description = "옵션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<List<Map<String, Object>>> getActiveDetailFieldsByOption(
+            @Parameter(description = "활성화된 상세 옵션을 조회할 옵션 ID", example = "1") @PathVariable Long optionId,
+            @Parameter(description = "응답할 필드 (쉼표로 구분, id는 항상 포함)", example = "detailName,detailPrice") @RequestParam String fields) {
+        return ResponseEntity.ok(detailFields(optionId, true, fields));
+    }
+
+    /**
+     * 상세 옵션 ID 목록 조회 API (고른 필드만)
+     *
+     * @param ids 조회할 상세 옵션 ID 목록 (최대 MultiGet.MAX_IDS개)
+     * @param fields 응답할 필드
+     * @return 요청한 ID 순서의 고른 필드만 담은 상세 옵션 정보 (없는 ID는 found=false)
+     */
+    @GetMapping(params = {"ids", "fields"})
+    @Operation(summary = "상세 옵션 ID 목록 조회 (필드 선택)", description = "여러 상세 옵션의 고른 필드만 ID로 한 번에 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상세 옵션 ID 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "ID가 없거나 최대 개수 초과, 알 수 없는 필드"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<MultiGetResponse<Map<String, Object>>> getDetailFieldsByIds(
+            @Parameter(description = "조회할 상세 옵션 ID 목록 (쉼표로 구분)", example = "1,2,3") @RequestParam List<Long> ids,
+            @Parameter(description = "응답할 필드 (쉼표로 구분, id는 항상 포함)", example = "detailName,detailPrice") @RequestParam String fields) {
+        SparseFieldset<OptionDetailResponse> fieldset = SparseFieldset.parse(fields, OptionDetailResponse.FIELDS);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        MultiGetResponse<Map<String, Object>> response = MultiGet.load(ids,
+                snapshot != null ? id -> fieldset.from(snapshot.findDetail(id)) : null,
+                misses -> optionDetailService.getDetailFieldsByIds(misses, fieldset));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 옵션의 상세 옵션 중 고른 필드만 조회 (스냅샷이 있으면 스냅샷에서, 없으면 고른 열만 DB에서)
+     */
+    private List<Map<String, Object>> detailFields(Long optionId, boolean activeOnly, String fields) {
+        SparseFieldset<OptionDetailResponse> fieldset = SparseFieldset.parse(fields, OptionDetailResponse.FIELDS);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        List<OptionDetailResponse> details = snapshot != null ? snapshot.findDetailsByOption(optionId, activeOnly) : null;
+        return details != null
+                ? details.stream().map(fieldset::from).toList()
+                : optionDetailService.getDetailFieldsByOption(optionId, activeOnly, fieldset);
+    }
+
+    /**
+     * 조회에 사용할 카탈로그 스냅샷 (스냅샷을 쓰지 않거나 적재 전, 이 노드의 변경이 아직 반영되지 않았거나 최근 변경한 사용자의 요청이면 null)
+     */
+    private CatalogSnapshot catalogSnapshot() {
+        CatalogReadModel readModel = catalogReadModel.getIfAvailable();
+        return readModel == null ? null : readModel.current();
+    }
+
 }
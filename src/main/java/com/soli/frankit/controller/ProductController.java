@@ -1,8 +1,17 @@
 package com.soli.frankit.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.soli.frankit.dto.MultiGetResponse;
 import com.soli.frankit.dto.ProductRequest;
 import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.dto.ProductViewResponse;
+import com.soli.frankit.dto.SparseFieldset;
 import com.soli.frankit.service.ProductService;
+import com.soli.frankit.service.ProductViewService;
+import com.soli.frankit.util.CatalogReadModel;
+import com.soli.frankit.util.CatalogSnapshot;
+import com.soli.frankit.util.JsonMergePatch;
+import com.soli.frankit.util.MultiGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,10 +19,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * packageName  : com.soli.frankit.controller.product
  * fileName     : ProductController
@@ -28,6 +43,8 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductViewService productViewService;
+    private final ObjectProvider<CatalogReadModel> catalogReadModel; // 스냅샷을 쓰지 않으면 없음
 
     /**
      * 상품 등록 API
@@ -36,6 +53,7 @@ public class ProductController {
      * @return 등록된 상품 정보
      */
     @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 등록", description = "새로운 상품을 등록합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "상품 등록 성공"),
@@ -55,6 +73,7 @@ public class ProductController {
      * @return 수정된 상품 정보 응답 DTO
      */
     @PutMapping("/{productId}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 수정", description = "상품 정보를 수정합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 수정 성공"),
@@ -69,6 +88,29 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 상품 부분 수정 API (JSON Merge Patch, RFC 7396)
+     *
+     * @param productId 수정할 상품 ID
+     * @param patch 수정할 필드만 담은 merge patch 문서 (null이면 필드 제거이므로 필수 필드는 검증 실패)
+     * @return 수정된 상품 정보 응답 DTO
+     */
+    @PatchMapping(value = "/{productId}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "상품 부분 수정", description = "보낸 필드만 수정합니다. (application/merge-patch+json)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 수정 성공"),
+            @ApiResponse(responseCode = "400", description = "입력값 검증 실패"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<ProductResponse> patchProduct(
+            @Parameter(description = "수정할 상품 ID", example = "1") @PathVariable Long productId,
+            @RequestBody JsonNode patch) {
+        ProductResponse response = productService.patchProduct(productId, patch);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 상품 삭제 API
      *
@@ -76,6 +118,7 @@ public class ProductController {
      * @return 응답 코드 204 (No Content)
      */
     @DeleteMapping("/{productId}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 삭제", description = "상품을 삭제합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "상품 삭제 성공"),
@@ -96,6 +139,7 @@ public class ProductController {
      * @return 응답 코드 204 (No Content)
      */
     @PutMapping("/{productId}/activate")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 활성화", description = "비활성화된 상품을 다시 활성화합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 활성화 성공"),
@@ -116,6 +160,7 @@ public class ProductController {
      * @return 응답 코드 204 (No Content)
      */
     @PutMapping("/{productId}/deactivate")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 비활성화", description = "상품을 비활성화합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 비활성화 성공"),
@@ -143,7 +188,50 @@ public class ProductController {
     })
     public ResponseEntity<ProductResponse> getProductById(
             @Parameter(description = "조회할 상품 ID", example = "1") @PathVariable Long productId) {
-        ProductResponse response = productService.getProductById(productId);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        ProductResponse response = snapshot != null ? snapshot.findProduct(productId) : null;
+        if (response == null) { // 스냅샷에 아직 반영되지 않은 상품은 DB에서 조회
+            response = productService.getProductById(productId);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상품 화면 조회 API (상품 + 활성화된 옵션/상세 옵션 트리)
+     *
+     * @param productId 조회할 상품 ID
+     * @return 상품과 활성화된 옵션 트리
+     */
+    @GetMapping("/{productId}/view")
+    @Operation(summary = "상품 화면 조회", description = "상품 정보와 활성화된 옵션, 상세 옵션을 한 번에 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 화면 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<ProductViewResponse> getProductView(
+            @Parameter(description = "조회할 상품 ID", example = "1") @PathVariable Long productId) {
+        ProductViewResponse response = productViewService.getProductView(productId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상품 ID 목록 조회 API
+     *
+     * @param ids 조회할 상품 ID 목록 (최대 MultiGet.MAX_IDS개)
+     * @return 요청한 ID 순서의 상품 정보 (없는 ID는 found=false)
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "상품 ID 목록 조회", description = "여러 상품을 ID로 한 번에 조회합니다. 결과는 요청한 ID 순서이며, 없는 ID는 found=false로 표시됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 ID 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "ID가 없거나 최대 개수 초과"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<MultiGetResponse<ProductResponse>> getProductsByIds(
+            @Parameter(description = "조회할 상품 ID 목록 (쉼표로 구분)", example = "1,2,3") @RequestParam List<Long> ids) {
+        CatalogSnapshot snapshot = catalogSnapshot();
+        MultiGetResponse<ProductResponse> response = MultiGet.load(ids, snapshot != null ? snapshot::findProduct : null, productService::getProductsByIds);
         return ResponseEntity.ok(response);
     }
 
@@ -163,8 +251,96 @@ public class ProductController {
     public ResponseEntity<Page<ProductResponse>> getAllProducts(
             @Parameter(description = "조회할 페이지 번호 (기본값: 0)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지당 항목 수 (기본값: 10)", example = "10") @RequestParam(defaultValue = "10") int size) {
-        Page<ProductResponse> response = productService.getAllProducts(page, size);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        Page<ProductResponse> response = snapshot != null ? snapshot.getProducts(page, size) : productService.getAllProducts(page, size);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 상품 단건 조회 API (고른 필드만)
+     *
+     * @param productId 조회할 상품 ID
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 상품 정보
+     */
+    @GetMapping(value = "/{productId}", params = "fields")
+    @Operation(summary = "상품 조회 (필드 선택)", description = "fields로 고른 필드만 조회합니다. DB에서도 고른 열만 읽습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 필드"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<Map<String, Object>> getProductFieldsById(
+            @Parameter(description = "조회할 상품 ID", example = "1") @PathVariable Long productId,
+            @Parameter(description = "응답할 필드 (쉼표로 구분, id는 항상 포함)", example = "name,price") @RequestParam String fields) {
+        SparseFieldset<ProductResponse> fieldset = SparseFieldset.parse(fields, ProductResponse.FIELDS);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        ProductResponse product = snapshot != null ? snapshot.findProduct(productId) : null;
+        Map<String, Object> response = product != null
+                ? fieldset.from(product)
+                : productService.getProductFields(productId, fieldset);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상품 목록 조회 API (페이징, 고른 필드만)
+     *
+     * @param page 조회할 페이지 번호 (기본값: 0)
+     * @param size 페이지당 항목 수 (기본값: 10)
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 페이징된 상품 목록
+     */
+    @GetMapping(params = "fields")
+    @Operation(summary = "상품 목록 조회 (필드 선택)", description = "fields로 고른 필드만 페이징하여 조회합니다. DB에서도 고른 열만 읽습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 필드"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<Page<Map<String, Object>>> getAllProductFields(
+            @Parameter(description = "조회할 페이지 번호 (기본값: 0)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지당 항목 수 (기본값: 10)", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "응답할 필드 (쉼표로 구분, id는 항상 포함)", example = "name,price") @RequestParam String fields) {
+        SparseFieldset<ProductResponse> fieldset = SparseFieldset.parse(fields, ProductResponse.FIELDS);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        Page<Map<String, Object>> response = snapshot != null
+                ? snapshot.getProducts(page, size).map(fieldset::from)
+                : productService.getAllProductFields(page, size, fieldset);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상품 ID 목록 조회 API (고른 필드만)
+     *
+     * @param ids 조회할 상품 ID 목록 (최대 MultiGet.MAX_IDS개)
+     * @param fields 응답할 필드
+     * @return 요청한 ID 순서의 고른 필드만 담은 상품 정보 (없는 ID는 found=false)
+     */
+    @GetMapping(params = {"ids", "fields"})
+    @Operation(summary = "상품 ID 목록 조회 (필드 선택)", description = "여러 상품의 고른 필드만 ID로 한 번에 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 ID 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "ID가 없거나 최대 개수 초과, 알 수 없는 필드"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<MultiGetResponse<Map<String, Object>>> getProductFieldsByIds(
+            @Parameter(description = "조회할 상품 ID 목록 (쉼표로 구분)", example = "1,2,3") @RequestParam List<Long> ids,
+            @Parameter(description = "응답할 필드 (쉼표로 구분, id는 항상 포함)", example = "name,price") @RequestParam String fields) {
+        SparseFieldset<ProductResponse> fieldset = SparseFieldset.parse(fields, ProductResponse.FIELDS);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        MultiGetResponse<Map<String, Object>> response = MultiGet.load(ids,
+                snapshot != null ? id -> fieldset.from(snapshot.findProduct(id)) : null,
+                misses -> productService.getProductFieldsByIds(misses, fieldset));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 조회에 사용할 카탈로그 스냅샷 (스냅샷을 쓰지 않거나 적재 전, 이 노드의 변경이 아직 반영되지 않았거나 최근 변경한 사용자의 요청이면 null)
+     */
+    private CatalogSnapshot catalogSnapshot() {
+        CatalogReadModel readModel = catalogReadModel.getIfAvailable();
+        return readModel == null ? null : readModel.current();
+    }
+
 }
@@ -1,8 +1,17 @@
 package com.soli.frankit.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.soli.frankit.dto.ArchivedOptionResponse;
+import com.soli.frankit.dto.MultiGetResponse;
 import com.soli.frankit.dto.ProductOptionRequest;
 import com.soli.frankit.dto.ProductOptionResponse;
+import com.soli.frankit.dto.SparseFieldset;
+import com.soli.frankit.service.OptionArchiveService;
 import com.soli.frankit.service.ProductOptionService;
+import com.soli.frankit.util.CatalogReadModel;
+import com.soli.frankit.util.CatalogSnapshot;
+import com.soli.frankit.util.JsonMergePatch;
+import com.soli.frankit.util.MultiGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,10 +19,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * packageName  : com.soli.frankit.controller
@@ -29,6 +42,8 @@ import java.util.List;
 public class ProductOptionController {
 
     private final ProductOptionService productOptionService;
+    private final OptionArchiveService optionArchiveService;
+    private final ObjectProvider<CatalogReadModel> catalogReadModel; // 스냅샷을 쓰지 않으면 없음
 
     /**
      * 상품 옵션 등록 API
@@ -38,6 +53,7 @@ public class ProductOptionController {
      * @return 등록된 옵션 정보
      */
     @PostMapping("/products/{productId}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 옵션 등록", description = "상품에 새로운 옵션을 등록합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "상품 옵션 등록 성공"),
@@ -61,6 +77,7 @@ public class ProductOptionController {
      * @return 수정된 상품 옵션 정보
      */
     @PutMapping("/{optionId}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 옵션 수정", description = "상품 옵션 정보를 수정합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 옵션 수정 성공"),
@@ -76,6 +93,30 @@ public class ProductOptionController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 상품 옵션 부분 수정 API (JSON Merge Patch, RFC 7396)
+     *
+     * @param optionId 수정할 상품 옵션 ID
+     * @param patch 수정할 필드만 담은 merge patch 문서
+     * @return 수정된 상품 옵션 정보
+     */
+    @PatchMapping(value = "/{optionId}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "상품 옵션 부분 수정", description = "보낸 필드만 수정합니다. 옵션 타입이 바뀌면 수정과 같이 새 옵션으로 등록됩니다. (application/merge-patch+json)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 옵션 수정 성공"),
+            @ApiResponse(responseCode = "400", description = "입력값 검증 실패"),
+            @ApiResponse(responseCode = "404", description = "상품 옵션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "수정할 수 없는 옵션"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<ProductOptionResponse> patchProductOption(
+            @Parameter(description = "수정할 옵션 ID", example = "1") @PathVariable Long optionId,
+            @RequestBody JsonNode patch) {
+        ProductOptionResponse response = productOptionService.patchProductOption(optionId, patch);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 상품 옵션 삭제 API
      *
@@ -83,6 +124,7 @@ public class ProductOptionController {
      * @return 응답 코드 204 (No Content)
      */
     @DeleteMapping("/{optionId}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 옵션 삭제", description = "상품 옵션을 삭제합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "상품 옵션 삭제 성공"),
@@ -103,6 +145,7 @@ public class ProductOptionController {
      * @return 응답 코드 204 (No Content)
      */
     @PutMapping("/{optionId}/activate")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 옵션 활성화", description = "비활성화된 상품 옵션을 다시 활성화합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 옵션 활성화 성공"),
@@ -123,6 +166,7 @@ public class ProductOptionController {
      * @return 응답 코드 204 (No Content)
      */
     @PutMapping("/{optionId}/deactivate")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "상품 옵션 비활성화", description = "상품 옵션을 비활성화합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 옵션 비활성화 성공"),
@@ -135,6 +179,26 @@ public class ProductOptionController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 옵션 ID 목록 조회 API
+     *
+     * @param ids 조회할 옵션 ID 목록 (최대 MultiGet.MAX_IDS개)
+     * @return 요청한 ID 순서의 옵션 정보 (없는 ID는 found=false)
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "옵션 ID 목록 조회", description = "여러 옵션을 ID로 한 번에 조회합니다. 결과는 요청한 ID 순서이며, 없는 ID는 found=false로 표시됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "옵션 ID 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "ID가 없거나 최대 개수 초과"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<MultiGetResponse<ProductOptionResponse>> getOptionsByIds(
+            @Parameter(description = "조회할 옵션 ID 목록 (쉼표로 구분)", example = "1,2,3") @RequestParam List<Long> ids) {
+        CatalogSnapshot snapshot = catalogSnapshot();
+        MultiGetResponse<ProductOptionResponse> response = MultiGet.load(ids, snapshot != null ? snapshot::findOption : null, productOptionService::getOptionsByIds);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 상품의 모든 옵션 조회 API (활성화 + 비활성화 포함)
      *
@@ -150,7 +214,10 @@ public class ProductOptionController {
     })
     public ResponseEntity<List<ProductOptionResponse>> getAllOptionsByProduct(
             @Parameter(description = "옵션을 조회할 상품 ID", example = "1") @PathVariable Long productId) {
-        List<ProductOptionResponse> response = productOptionService.getAllOptionsByProduct(productId);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        List<ProductOptionResponse> response = snapshot != null
+                ? snapshot.getOptionsByProduct(productId, false)
+                : productOptionService.getAllOptionsByProduct(productId);
         return ResponseEntity.ok(response);
     }
 
@@ -169,8 +236,114 @@ public class ProductOptionController {
     })
     public ResponseEntity<List<ProductOptionResponse>> getActiveOptionsByProduct(
             @Parameter(description = "활성화된 옵션을 조회할 상품 ID", example = "1") @PathVariable Long productId) {
-        List<ProductOptionResponse> response = productOptionService.getActiveOptionsByProduct(productId);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        List<ProductOptionResponse> response = snapshot != null
+                ? snapshot.getOptionsByProduct(productId, true)
+                : productOptionService.getActiveOptionsByProduct(productId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상품의 보관 처리된 옵션 이력 조회 API
+     *
+     * @param productId 상품 ID
+     * @return 보관 처리된 옵션과 상세 옵션 리스트
+     */
+    @GetMapping("/products/{productId}/archived")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "보관 처리된 옵션 조회", description = "비활성화된 뒤 보관 테이블로 옮겨진 옵션 이력을 상세 옵션과 함께 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "보관 처리된 옵션 조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<List<ArchivedOptionResponse>> getArchivedOptionsByProduct(
+            @Parameter(description = "보관 처리된 옵션을 조회할 상품 ID", example = "1") @PathVariable Long productId) {
+        List<ArchivedOptionResponse> response = optionArchiveService.getArchivedOptions(productId);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 상품의 옵션 조회 API (고른 필드만)
+     *
+     * @param productId 상품 ID
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 상품의 모든 옵션 리스트
+     */
+    @GetMapping(value = "/products/{productId}", params = "fields")
+    @Operation(summary = "상품별 옵션 조회 (필드 선택)", description = "상품의 모든 옵션에서 fields로 고른 필드만 조회합니다. DB에서도 고른 열만 읽습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "옵션 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 필드"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<List<Map<String, Object>>> getAllOptionFieldsByProduct(
+            @Parameter(description = "옵션을 조회할 상품 ID", example = "1") @PathVariable Long productId,
+            @Parameter(description = "응답할 필드 (쉼표로 구분, id는 항상 포함)", example = "optionName,optionPrice") @RequestParam String fields) {
+        return ResponseEntity.ok(optionFields(productId, false, fields));
+    }
+
+    /**
+     * 상품의 활성화된 옵션 조회 API (고른 필드만)
+     *
+     * @param productId 상품 ID
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 상품의 활성화된 옵션 리스트
+     */
+    @GetMapping(value = "/products/{productId}/active", params = "fields")
+    @Operation(summary = "상품별 활성화 옵션 조회 (필드 선택)", description = "상품의 활성화된 옵션에서 fields로 고른 필드만 조회합니다. DB에서도 고른 열만 읽습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "활성화 옵션 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 필드"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<List<Map<String, Object>>> getActiveOptionFieldsByProduct(
+            @Parameter(description = "활성화된 옵션을 조회할 상품 ID", example = "1") @PathVariable Long productId,
+            @Parameter(description = "응답할 필드 (쉼표로 구분, id는 항상 포함)", example = "optionName,optionPrice") @RequestParam String fields) {
+        return ResponseEntity.ok(optionFields(productId, true, fields));
+    }
+
+    /**
+     * 옵션 ID 목록 조회 API (고른 필드만)
+     *
+     * @param ids 조회할 옵션 ID 목록 (최대 MultiGet.MAX_IDS개)
+     * @param fields 응답할 필드
+     * @return 요청한 ID 순서의 고른 필드만 담은 옵션 정보 (없는 ID는 found=false)
+     */
+    @GetMapping(params = {"ids", "fields"})
+    @Operation(summary = "옵션 ID 목록 조회 (필드 선택)", description = "여러 옵션의 고른 필드만 ID로 한 번에 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "옵션 ID 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "ID가 없거나 최대 개수 초과, 알 수 없는 필드"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<MultiGetResponse<Map<String, Object>>> getOptionFieldsByIds(
+            @Parameter(description = "조회할 옵션 ID 목록 (쉼표로 구분)", example = "1,2,3") @RequestParam List<Long> ids,
+            @Parameter(description = "응답할 필드 (쉼표로 구분, id는 항상 포함)", example = "optionName,optionPrice") @RequestParam String fields) {
+        SparseFieldset<ProductOptionResponse> fieldset = SparseFieldset.parse(fields, ProductOptionResponse.FIELDS);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        MultiGetResponse<Map<String, Object>> response = MultiGet.load(ids,
+                snapshot != null ? id -> fieldset.from(snapshot.findOption(id)) : null,
+                misses -> productOptionService.getOptionFieldsByIds(misses, fieldset));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상품의 옵션 중 고른 필드만 조회 (스냅샷이 있으면 스냅샷에서, 없으면 고른 열만 DB에서)
+     */
+    private List<Map<String, Object>> optionFields(Long productId, boolean activeOnly, String fields) {
+        SparseFieldset<ProductOptionResponse> fieldset = SparseFieldset.parse(fields, ProductOptionResponse.FIELDS);
+        CatalogSnapshot snapshot = catalogSnapshot();
+        return snapshot != null
+                ? snapshot.getOptionsByProduct(productId, activeOnly).stream().map(fieldset::from).toList()
+                : productOptionService.getOptionFieldsByProduct(productId, activeOnly, fieldset);
+    }
+
+    /**
+     * 조회에 사용할 카탈로그 스냅샷 (스냅샷을 쓰지 않거나 적재 전, 이 노드의 변경이 아직 반영되지 않았거나 최근 변경한 사용자의 요청이면 null)
+     */
+    private CatalogSnapshot catalogSnapshot() {
+        CatalogReadModel readModel = catalogReadModel.getIfAvailable();
+        return readModel == null ? null : readModel.current();
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.soli.frankit.controller;
 
+import com.soli.frankit.dto.RoleChangeRequest;
 import com.soli.frankit.dto.UserRequest;
 import com.soli.frankit.dto.UserResponse;
 import com.soli.frankit.service.UserService;
@@ -11,7 +12,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -51,4 +54,25 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 사용자 권한 변경 API (관리자 전용)
+     *
+     * @param request 권한 변경 요청 DTO
+     * @return 응답 본문 없음 (204 No Content)
+     */
+    @PutMapping("/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "사용자 권한 변경", description = "사용자의 권한을 변경합니다. 대상 사용자가 다시 로그인해야 적용됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "권한 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "입력값 검증 실패"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<Void> changeRole(@Valid @RequestBody RoleChangeRequest request) {
+        userService.changeRole(request.getEmail(), request.getRole());
+        return ResponseEntity.noContent().build();
+    }
+
 }
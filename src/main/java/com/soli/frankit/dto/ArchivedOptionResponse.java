@@ -0,0 +1,74 @@
+package com.soli.frankit.dto;
+
+import com.soli.frankit.entity.OptionDetailArchive;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.ProductOptionArchive;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * packageName  : com.soli.frankit.dto
+ * fileName     : ArchivedOptionResponse
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 보관 처리된 옵션 응답 DTO (상세 옵션 포함)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "보관 처리된 옵션 응답 DTO")
+public class ArchivedOptionResponse {
+
+    @Schema(description = "옵션 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "옵션명", example = "색상 선택")
+    private String optionName;
+
+    @Schema(description = "옵션 타입", example = "INPUT (입력형) 또는 SELECT (선택형)")
+    private OptionType optionType;
+
+    @Schema(description = "옵션 추가 금액 (입력형 옵션만 해당)", example = "5000")
+    private BigDecimal optionPrice;
+
+    @Schema(description = "상세 옵션 (ID 순)")
+    private List<OptionDetailResponse> details;
+
+    @Schema(description = "옵션 등록일", example = "2025-02-24T12:34:56")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "옵션 비활성화일 (마지막 수정일)", example = "2025-02-25T12:34:56")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "보관 처리일", example = "2025-04-01T03:00:00")
+    private LocalDateTime archivedAt;
+
+    public static ArchivedOptionResponse from(ProductOptionArchive option, List<OptionDetailArchive> details) {
+        return ArchivedOptionResponse.builder()
+                .id(option.getId())
+                .optionName(option.getOptionName())
+                .optionType(option.getOptionType())
+                .optionPrice(option.getOptionPrice())
+                .details(details.stream()
+                                .map(detail -> OptionDetailResponse.builder()
+                                                                   .id(detail.getId())
+                                                                   .detailName(detail.getDetailName())
+                                                                   .detailPrice(detail.getDetailPrice())
+                                                                   .isActive(detail.isActive())
+                                                                   .createdAt(detail.getCreatedAt())
+                                                                   .updatedAt(detail.getUpdatedAt())
+                                                                   .build())
+                                .toList())
+                .createdAt(option.getCreatedAt())
+                .updatedAt(option.getUpdatedAt())
+                .archivedAt(option.getArchivedAt())
+                .build();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.soli.frankit.dto;
+
+import com.soli.frankit.service.CatalogChangeEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * packageName  : com.soli.frankit.dto
+ * fileName     : CatalogFeedResponse
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 변경 피드 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "변경 피드 응답 DTO")
+public class CatalogFeedResponse {
+
+    @Schema(description = "커서 이후 등록/수정된 상품 (수정일 순)")
+    private List<ProductResponse> products;
+
+    @Schema(description = "커서 이후 등록/수정된 옵션 (수정일 순)")
+    private List<OptionChange> options;
+
+    @Schema(description = "커서 이후 등록/수정된 상세 옵션 (수정일 순)")
+    private List<DetailChange> details;
+
+    @Schema(description = "커서 이후 삭제된 상품/옵션/상세 옵션 (상품/옵션 삭제 시 하위 옵션/상세 옵션도 함께 삭제된 것으로 처리)")
+    private List<Tombstone> deleted;
+
+    @Schema(description = "다음 요청에 since로 전달할 커서", example = "MXwxOTcwLTAxLTAxVDAwOjAw...")
+    private String nextCursor;
+
+    @Schema(description = "바로 이어서 요청하면 더 받을 변경이 있는지 여부", example = "false")
+    private boolean hasMore;
+
+    /**
+     * 변경된 옵션 (상품 ID 포함)
+     */
+    public record OptionChange(Long productId, ProductOptionResponse option) {
+    }
+
+    /**
+     * 변경된 상세 옵션 (옵션 ID 포함)
+     */
+    public record DetailChange(Long optionId, OptionDetailResponse detail) {
+    }
+
+    /**
+     * 삭제 기록
+     *
+     * @param target 삭제 대상 종류
+     * @param productId 상품 ID
+     * @param optionId 옵션 ID (상품 삭제면 null)
+     * @param detailId 상세 옵션 ID (상품/옵션 삭제면 null)
+     * @param deletedAt 삭제 시각
+     */
+    public record Tombstone(CatalogChangeEvent.Target target, Long productId, Long optionId, Long detailId,
+                            LocalDateTime deletedAt) {
+    }
+
+}
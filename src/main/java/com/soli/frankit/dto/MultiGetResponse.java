@@ -0,0 +1,55 @@
+package com.soli.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName  : com.soli.frankit.dto
+ * fileName     : MultiGetResponse
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : ID 목록 조회 응답 DTO (요청한 ID 순서, 없는 ID는 found=false로 표시)
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "ID 목록 조회 응답 DTO")
+public class MultiGetResponse<T> {
+
+    @Schema(description = "요청한 ID 순서의 조회 결과 (중복 ID는 요청한 만큼 반복)")
+    private List<Item<T>> items;
+
+    @Schema(description = "찾지 못한 항목 수", example = "0")
+    private int notFoundCount;
+
+    /**
+     * ID 하나의 조회 결과
+     *
+     * @param id 요청한 ID
+     * @param found 찾았는지 여부
+     * @param data 조회 결과 (찾지 못하면 생략)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item<T>(Long id, boolean found, T data) {
+    }
+
+    /**
+     * 요청한 ID 순서로 응답 생성
+     *
+     * @param ids 요청한 ID 목록
+     * @param found ID별 조회 결과 (없는 ID는 포함하지 않음)
+     * @return ID 목록 조회 응답
+     */
+    public static <T> MultiGetResponse<T> of(List<Long> ids, Map<Long, T> found) {
+        List<Item<T>> items = ids.stream()
+                                 .map(id -> new Item<>(id, found.containsKey(id), found.get(id)))
+                                 .toList();
+        int notFoundCount = (int) items.stream().filter(item -> !item.found()).count();
+        return new MultiGetResponse<>(items, notFoundCount);
+    }
+
+}
@@ -8,6 +8,9 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.soli.frankit.dto.SparseFieldset.field;
 
 /**
  * packageName  : com.soli.frankit.dto
@@ -22,6 +25,17 @@ import java.time.LocalDateTime;
 @Schema(description = "상세 옵션 응답 DTO")
 public class OptionDetailResponse {
 
+    /**
+     * fields 파라미터로 고를 수 있는 필드 (JSON 이름, 엔티티 속성)
+     */
+    public static final List<SparseFieldset.Field<OptionDetailResponse>> FIELDS = List.of(
+            field("id", "id", OptionDetailResponse::getId),
+            field("detailName", "detailName", OptionDetailResponse::getDetailName),
+            field("detailPrice", "detailPrice", OptionDetailResponse::getDetailPrice),
+            field("active", "isActive", OptionDetailResponse::isActive),
+            field("createdAt", "createdAt", OptionDetailResponse::getCreatedAt),
+            field("updatedAt", "updatedAt", OptionDetailResponse::getUpdatedAt));
+
     @Schema(description = "상세 옵션 ID", example = "1")
     private Long id;
 
@@ -9,6 +9,9 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.soli.frankit.dto.SparseFieldset.field;
 
 /**
  * packageName  : com.soli.frankit.dto
@@ -24,6 +27,18 @@ import java.time.LocalDateTime;
 @Schema(description = "상품 옵션 응답 DTO")
 public class ProductOptionResponse {
 
+    /**
+     * fields 파라미터로 고를 수 있는 필드 (JSON 이름, 엔티티 속성)
+     */
+    public static final List<SparseFieldset.Field<ProductOptionResponse>> FIELDS = List.of(
+            field("id", "id", ProductOptionResponse::getId),
+            field("optionName", "optionName", ProductOptionResponse::getOptionName),
+            field("optionType", "optionType", ProductOptionResponse::getOptionType),
+            field("optionPrice", "optionPrice", ProductOptionResponse::getOptionPrice),
+            field("active", "isActive", ProductOptionResponse::isActive),
+            field("createdAt", "createdAt", ProductOptionResponse::getCreatedAt),
+            field("updatedAt", "updatedAt", ProductOptionResponse::getUpdatedAt));
+
     @Schema(description = "상품 옵션 ID", example = "1")
     private Long id;
 
@@ -8,6 +8,9 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.soli.frankit.dto.SparseFieldset.field;
 
 /**
  * packageName  com.soli.frankit.dto
@@ -22,6 +25,19 @@ import java.time.LocalDateTime;
 @Schema(description = "상품 응답 DTO")
 public class ProductResponse {
 
+    /**
+     * fields 파라미터로 고를 수 있는 필드 (JSON 이름, 엔티티 속성)
+     */
+    public static final List<SparseFieldset.Field<ProductResponse>> FIELDS = List.of(
+            field("id", "id", ProductResponse::getId),
+            field("name", "name", ProductResponse::getName),
+            field("description", "description", ProductResponse::getDescription),
+            field("price", "price", ProductResponse::getPrice),
+            field("shippingFee", "shippingFee", ProductResponse::getShippingFee),
+            field("active", "isActive", ProductResponse::isActive),
+            field("createdAt", "createdAt", ProductResponse::getCreatedAt),
+            field("updatedAt", "updatedAt", ProductResponse::getUpdatedAt));
+
     @Schema(description = "상품 ID", example = "1")
     private Long id;
 
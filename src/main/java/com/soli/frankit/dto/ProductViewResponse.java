@@ -0,0 +1,67 @@
+package com.soli.frankit.dto;
+
+import com.soli.frankit.entity.ProductView;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * packageName  : com.soli.frankit.dto
+ * fileName     : ProductViewResponse
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 화면 응답 DTO (상품 + 활성화된 옵션/상세 옵션 트리)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 화면 응답 DTO")
+public class ProductViewResponse {
+
+    @Schema(description = "상품 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "상품명", example = "아이폰 15 pro")
+    private String name;
+
+    @Schema(description = "상품 설명", example = "최신형 애플 스마트폰입니다.")
+    private String description;
+
+    @Schema(description = "가격", example = "1000000")
+    private BigDecimal price;
+
+    @Schema(description = "배송비", example = "3000")
+    private BigDecimal shippingFee;
+
+    @Schema(description = "상품 활성화 여부", example = "true")
+    private boolean isActive;
+
+    @Schema(description = "활성화된 옵션 (ID 순, 선택형 옵션은 활성화된 상세 옵션 포함)")
+    private List<ProductView.OptionNode> options;
+
+    @Schema(description = "등록일", example = "2025-02-24T12:34:56")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "수정일", example = "2025-02-25T12:34:56")
+    private LocalDateTime updatedAt;
+
+    public static ProductViewResponse from(ProductView view) {
+        return ProductViewResponse.builder()
+                                  .id(view.getId())
+                                  .name(view.getName())
+                                  .description(view.getDescription())
+                                  .price(view.getPrice())
+                                  .shippingFee(view.getShippingFee())
+                                  .isActive(view.isActive())
+                                  .options(view.getOptions())
+                                  .createdAt(view.getCreatedAt())
+                                  .updatedAt(view.getUpdatedAt())
+                                  .build();
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.soli.frankit.dto;
+
+import com.soli.frankit.entity.Role;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * packageName  : com.soli.frankit.dto
+ * fileName     : RoleChangeRequest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 사용자 권한 변경 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사용자 권한 변경 요청 DTO")
+public class RoleChangeRequest {
+
+    @Schema(description = "권한을 변경할 사용자 이메일", example = "soli@email.com")
+    @Email(message = "올바른 이메일 형식이 아닙니다.")
+    @NotBlank(message = "이메일은 필수 입력값입니다.")
+    private String email;
+
+    @Schema(description = "변경할 권한", example = "ADMIN")
+    @NotNull(message = "권한은 필수 입력값입니다.")
+    private Role role;
+
+}
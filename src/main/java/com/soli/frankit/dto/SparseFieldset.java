@@ -0,0 +1,119 @@
+package com.soli.frankit.dto;
+
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import jakarta.persistence.Tuple;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * packageName  : com.soli.frankit.dto
+ * fileName     : SparseFieldset
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 조회 API의 fields 파라미터로 고른 응답 필드 (예: fields=name,price)
+ *                - 고른 필드의 엔티티 속성만 SELECT 하고(ProjectionRepository), 그 필드만 JSON으로 응답
+ *                - 스냅샷에서 응답할 때는 응답 DTO에서 고른 필드만 꺼냄
+ *                - ID는 항상 포함 (목록/ID 목록 조회에서 항목 구분)
+ *                - single-flight 호출 키의 인자이므로 고른 속성으로 비교 (같은 fields 요청끼리 조회를 합침)
+ */
+public final class SparseFieldset<R> {
+
+    /**
+     * 응답 필드
+     *
+     * @param name JSON 필드 이름 (응답 DTO와 같음)
+     * @param attribute 엔티티 속성 이름 (SELECT 할 열)
+     * @param getter 응답 DTO에서 값을 꺼내는 함수
+     */
+    public record Field<R>(String name, String attribute, Function<R, Object> getter) {
+    }
+
+    private final List<Field<R>> fields;
+
+    private SparseFieldset(List<Field<R>> fields) {
+        this.fields = fields;
+    }
+
+    public static <R> Field<R> field(String name, String attribute, Function<R, Object> getter) {
+        return new Field<>(name, attribute, getter);
+    }
+
+    /**
+     * fields 파라미터 해석
+     *
+     * @param fields 쉼표로 구분한 JSON 필드 이름
+     * @param available 고를 수 있는 필드 (첫 번째는 ID, 응답에 나오는 순서)
+     * @return 고른 필드 (ID 포함, available 순서)
+     * @throws CustomException(ErrorCode.INVALID_REQUEST) 필드가 비었거나 없는 필드를 고른 경우
+     */
+    public static <R> SparseFieldset<R> parse(String fields, List<Field<R>> available) {
+        Set<String> requested = Arrays.stream(fields.split(","))
+                                      .map(String::trim)
+                                      .filter(name -> !name.isEmpty())
+                                      .collect(Collectors.toSet());
+        Set<String> names = available.stream().map(Field::name).collect(Collectors.toSet());
+        if (requested.isEmpty() || !names.containsAll(requested)) {
+            requested.removeAll(names);
+            throw new CustomException(ErrorCode.INVALID_REQUEST,
+                    requested.isEmpty() ? "fields가 비어 있습니다." : "알 수 없는 필드입니다: " + requested);
+        }
+
+        Field<R> id = available.get(0);
+        return new SparseFieldset<>(available.stream()
+                                             .filter(field -> field == id || requested.contains(field.name()))
+                                             .toList());
+    }
+
+    /**
+     * SELECT 할 엔티티 속성 (ID가 첫 번째)
+     */
+    public List<String> attributes() {
+        return fields.stream().map(Field::attribute).toList();
+    }
+
+    /**
+     * 속성만 조회한 결과를 응답으로 변환 (ProjectionRepository는 속성 이름을 별칭으로 씀)
+     */
+    public Map<String, Object> from(Tuple tuple) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        fields.forEach(field -> response.put(field.name(), tuple.get(field.attribute())));
+        return response;
+    }
+
+    /**
+     * 응답 DTO에서 고른 필드만 꺼냄 (스냅샷 응답, dto가 null이면 null)
+     */
+    public Map<String, Object> from(R dto) {
+        if (dto == null) {
+            return null;
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        fields.forEach(field -> response.put(field.name(), field.getter().apply(dto)));
+        return response;
+    }
+
+    /**
+     * 변환한 응답의 ID
+     */
+    public Long idOf(Map<String, Object> response) {
+        return (Long) response.get(fields.get(0).name());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SparseFieldset<?> other && attributes().equals(other.attributes());
+    }
+
+    @Override
+    public int hashCode() {
+        return attributes().hashCode();
+    }
+
+}
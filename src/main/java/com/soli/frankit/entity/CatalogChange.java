@@ -0,0 +1,76 @@
+package com.soli.frankit.entity;
+
+import com.soli.frankit.service.CatalogChangeEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.soli.frankit.entity
+ * fileName     : CatalogChange
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품/옵션/상세 옵션 변경 로그 엔티티 (변경과 같은 트랜잭션에서 추가만 하고 수정하지 않음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "catalog_changes", indexes = {
+        @Index(name = "idx_catalog_changes_created_at", columnList = "created_at"),
+        @Index(name = "idx_catalog_changes_action", columnList = "action, change_seq")
+})
+public class CatalogChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_seq")
+    private Long id; // 변경 순번 (증가하는 값으로 다른 노드가 이어서 읽음)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private CatalogChangeEvent.Target target; // 변경 대상 종류
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 15)
+    private CatalogChangeEvent.Action action; // 변경 종류
+
+    @Column(name = "product_seq", nullable = false)
+    private Long productId; // 상품 ID
+
+    @Column(name = "option_seq")
+    private Long optionId; // 옵션 ID (상품 변경이면 null)
+
+    @Column(name = "detail_seq")
+    private Long detailId; // 상세 옵션 ID (상품/옵션 변경이면 null)
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt; // 변경 시각
+
+    /**
+     * CatalogChange 생성자
+     *
+     * @param event 변경 이벤트
+     */
+    public CatalogChange(CatalogChangeEvent event) {
+        this.target = event.target();
+        this.action = event.action();
+        this.productId = event.productId();
+        this.optionId = event.optionId();
+        this.detailId = event.detailId();
+    }
+
+    /**
+     * 변경 이벤트로 변환
+     *
+     * @return 변경 로그 순번을 담은 변경 이벤트
+     */
+    public CatalogChangeEvent toEvent() {
+        return new CatalogChangeEvent(target, action, productId, optionId, detailId, id);
+    }
+
+}
@@ -20,13 +20,14 @@ import java.time.LocalDateTime;
  * author       : eumsoli
  * date         : 2025-02-23
  * description  : 상세 옵션 정보를 저장하는 엔티티
+ *                - @DynamicUpdate를 쓰지 않음 (옵션 활성화/비활성화 시 상세 옵션 UPDATE를 JDBC 배치로 묶기 위함, 열이 작아 전체 열 UPDATE 부담도 적음)
  */
 
 @Slf4j
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "option_details")
+@Table(name = "option_details", indexes = @Index(name = "idx_option_details_updated_at", columnList = "updated_at, detail_seq"))
 public class OptionDetail {
 
     @Id
@@ -112,7 +113,7 @@ public class OptionDetail {
      */
     public boolean isUpdatable(boolean hasDetailOrder) {
         boolean updatable = !hasDetailOrder;
-        log.info("상세 옵션 수정 가능 여부 확인 - 주문 여부: {}, 수정 가능 여부: {}", hasDetailOrder, updatable);
+        log.debug("상세 옵션 수정 가능 여부 확인 - 주문 여부: {}, 수정 가능 여부: {}", hasDetailOrder, updatable);
         return updatable;
     }
 
@@ -125,7 +126,7 @@ public class OptionDetail {
      */
     public boolean isDeletable(boolean hasDetailOrder) {
         boolean deletable = !hasDetailOrder;
-        log.info("상세 옵션 삭제 가능 여부 확인 - 주문 여부: {}, 삭제 가능 여부: {}", hasDetailOrder, deletable);
+        log.debug("상세 옵션 삭제 가능 여부 확인 - 주문 여부: {}, 삭제 가능 여부: {}", hasDetailOrder, deletable);
         return deletable;
     }
 
@@ -0,0 +1,50 @@
+package com.soli.frankit.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.soli.frankit.entity
+ * fileName     : OptionDetailArchive
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 보관 처리된 상세 옵션 엔티티 (보관 처리된 옵션의 상세 옵션을 option_details에서 옮겨 둠)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "option_details_archive",
+        indexes = @Index(name = "idx_option_details_archive_option", columnList = "option_seq, detail_seq"))
+public class OptionDetailArchive {
+
+    @Id
+    @Column(name = "detail_seq")
+    private Long id; // 원래 상세 옵션 ID
+
+    @Column(name = "option_seq", nullable = false)
+    private Long optionId; // 옵션 ID
+
+    @Column(name = "detail_name", nullable = false)
+    private String detailName; // 상세 옵션 이름
+
+    @Column(name = "detail_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal detailPrice; // 상세 옵션 추가 금액
+
+    @Column(name = "is_active", nullable = false)
+    private boolean isActive; // 보관 당시 활성화 여부
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 등록일
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt; // 마지막 수정일
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt; // 보관 처리일
+
+}
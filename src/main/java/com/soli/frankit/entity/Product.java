@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -23,9 +24,10 @@ import java.time.LocalDateTime;
  */
 @Slf4j
 @Entity
+@DynamicUpdate // 바뀐 열만 UPDATE (가격만 바꿀 때 TEXT 설명 열을 다시 쓰지 않도록)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "products")
+@Table(name = "products", indexes = @Index(name = "idx_products_updated_at", columnList = "updated_at, product_seq"))
 public class Product {
 
     @Id
@@ -115,7 +117,7 @@ public class Product {
      */
     public boolean isDeletable(boolean hasOrder) {
         boolean deletable = !hasOrder;
-        log.info("상품 삭제 가능 여부 확인 - 주문 여부: {}, 삭제 가능 여부: {}", hasOrder, deletable);
+        log.debug("상품 삭제 가능 여부 확인 - 주문 여부: {}, 삭제 가능 여부: {}", hasOrder, deletable);
         return deletable;
     }
 
@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -26,9 +27,10 @@ import java.util.List;
 
 @Slf4j
 @Entity
+@DynamicUpdate // 바뀐 열만 UPDATE (한 건씩 수정하므로 JDBC 배치를 쓰지 못해도 손해 없음)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "product_options")
+@Table(name = "product_options", indexes = @Index(name = "idx_product_options_updated_at", columnList = "updated_at, option_seq"))
 public class ProductOption {
 
     @Id
@@ -95,7 +97,7 @@ public class ProductOption {
         }
 
         if (this.optionType != optionType) {
-            log.info("옵션 타입 변경 - 기존 타입: {}, 새로운 타입: {}", this.optionType, optionType);
+            log.debug("옵션 타입 변경 - 기존 타입: {}, 새로운 타입: {}", this.optionType, optionType);
             deactivate(); // 기존 옵션 비활성화
         }
 
@@ -137,7 +139,7 @@ public class ProductOption {
      */
     public boolean isUpdatable(boolean hasOptionOrder) {
         boolean updatable = !hasOptionOrder;
-        log.info("옵션 수정 가능 여부 확인 - 주문 여부: {}, 수정 가능 여부: {}", hasOptionOrder, updatable);
+        log.debug("옵션 수정 가능 여부 확인 - 주문 여부: {}, 수정 가능 여부: {}", hasOptionOrder, updatable);
         return updatable;
     }
 
@@ -151,7 +153,7 @@ public class ProductOption {
      */
     public boolean isDeletable(boolean hasOptionOrder) {
         boolean deletable = !hasOptionOrder;
-        log.info("옵션 삭제 가능 여부 확인 - 주문 여부: {}, 삭제 가능 여부: {}", hasOptionOrder, deletable);
+        log.debug("옵션 삭제 가능 여부 확인 - 주문 여부: {}, 삭제 가능 여부: {}", hasOptionOrder, deletable);
         return deletable;
     }
 
@@ -0,0 +1,52 @@
+package com.soli.frankit.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.soli.frankit.entity
+ * fileName     : ProductOptionArchive
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 보관 처리된 옵션 엔티티 (비활성화 후 오래된, 주문되지 않은 옵션을 product_options에서 옮겨 둠)
+ *                - 행은 보관 작업이 INSERT ... SELECT로만 추가하고 수정하지 않음 (OptionArchiveService)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_options_archive",
+        indexes = @Index(name = "idx_product_options_archive_product", columnList = "product_seq, option_seq"))
+public class ProductOptionArchive {
+
+    @Id
+    @Column(name = "option_seq")
+    private Long id; // 원래 옵션 ID
+
+    @Column(name = "product_seq", nullable = false)
+    private Long productId; // 상품 ID
+
+    @Column(name = "option_name", nullable = false)
+    private String optionName; // 옵션 이름
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "option_type", nullable = false)
+    private OptionType optionType; // 옵션 타입
+
+    @Column(name = "option_price", precision = 10, scale = 2)
+    private BigDecimal optionPrice; // 옵션 추가 금액 (입력형)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 등록일
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt; // 마지막 수정일 (비활성화 시각)
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt; // 보관 처리일
+
+}
@@ -0,0 +1,179 @@
+package com.soli.frankit.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * packageName  : com.soli.frankit.entity
+ * fileName     : ProductView
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 모델 엔티티 (상품 + 활성화된 옵션/상세 옵션 트리를 JSON 한 열로, 상품 화면을 PK 조회 한 번으로 응답)
+ *                - 상품/옵션/상세 옵션 변경과 같은 트랜잭션에서 갱신 (ProductViewService)
+ *                - 옵션은 ID 순, 비활성 옵션과 그 상세 옵션, 비활성 상세 옵션은 포함하지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_view")
+public class ProductView implements Persistable<Long> {
+
+    @Id
+    @Column(name = "product_seq")
+    private Long id; // 상품 ID
+
+    @Column(nullable = false)
+    private String name; // 상품 이름
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String description; // 상품 설명
+
+    @Column(nullable = false)
+    private BigDecimal price; // 상품 가격
+
+    @Column(name = "shipping_fee", nullable = false)
+    private BigDecimal shippingFee; // 배송비
+
+    @Column(name = "is_active", nullable = false)
+    private boolean isActive; // 상품 활성화 여부
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "option_tree", nullable = false)
+    private List<OptionNode> options = new ArrayList<>(); // 활성화된 옵션 트리
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 상품 등록일
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt; // 상품 수정일
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted; // ID를 직접 지정하므로 저장 시 merge(SELECT) 대신 바로 INSERT 하도록 구분
+
+    /**
+     * 옵션 트리의 옵션 (선택형이면 활성화된 상세 옵션 포함)
+     */
+    public record OptionNode(Long id, String optionName, OptionType optionType, BigDecimal optionPrice, List<DetailNode> details) {
+
+        public static OptionNode of(ProductOption option, List<OptionDetail> activeDetails) {
+            return new OptionNode(option.getId(), option.getOptionName(), option.getOptionType(), option.getOptionPrice(),
+                    activeDetails.stream().map(DetailNode::from).sorted(Comparator.comparing(DetailNode::id)).toList());
+        }
+
+    }
+
+    /**
+     * 옵션 트리의 상세 옵션
+     */
+    public record DetailNode(Long id, String detailName, BigDecimal detailPrice) {
+
+        public static DetailNode from(OptionDetail detail) {
+            return new DetailNode(detail.getId(), detail.getDetailName(), detail.getDetailPrice());
+        }
+
+    }
+
+    /**
+     * ProductView 생성자
+     *
+     * @param product 상품
+     * @param options 활성화된 옵션 트리
+     */
+    public ProductView(Product product, List<OptionNode> options) {
+        this.id = product.getId();
+        updateProduct(product);
+        this.options = sorted(options);
+    }
+
+    /**
+     * 상품 정보 반영
+     */
+    public void updateProduct(Product product) {
+        this.name = product.getName();
+        this.description = product.getDescription();
+        this.price = product.getPrice();
+        this.shippingFee = product.getShippingFee();
+        this.isActive = product.isActive();
+        this.createdAt = product.getCreatedAt();
+        this.updatedAt = product.getUpdatedAt();
+    }
+
+    /**
+     * 옵션 트리 전체 교체 (재생성)
+     */
+    public void replaceOptions(List<OptionNode> options) {
+        this.options = sorted(options);
+    }
+
+    /**
+     * 옵션 추가 또는 교체 (트리는 새 목록으로 바꿔 변경 감지되도록 함)
+     */
+    public void putOption(OptionNode option) {
+        List<OptionNode> next = new ArrayList<>(options.stream().filter(node -> !node.id().equals(option.id())).toList());
+        next.add(option);
+        this.options = sorted(next);
+    }
+
+    /**
+     * 옵션 제거
+     */
+    public void removeOption(Long optionId) {
+        this.options = options.stream().filter(node -> !node.id().equals(optionId)).toList();
+    }
+
+    /**
+     * 상세 옵션 추가 또는 교체 (트리에 없는 옵션이면 무시)
+     */
+    public void putDetail(Long optionId, DetailNode detail) {
+        replaceDetails(optionId, details -> {
+            List<DetailNode> next = new ArrayList<>(details.stream().filter(node -> !node.id().equals(detail.id())).toList());
+            next.add(detail);
+            next.sort(Comparator.comparing(DetailNode::id));
+            return next;
+        });
+    }
+
+    /**
+     * 상세 옵션 제거
+     */
+    public void removeDetail(Long optionId, Long detailId) {
+        replaceDetails(optionId, details -> details.stream().filter(node -> !node.id().equals(detailId)).toList());
+    }
+
+    private void replaceDetails(Long optionId, UnaryOperator<List<DetailNode>> change) {
+        this.options = options.stream()
+                              .map(node -> !node.id().equals(optionId) ? node
+                                      : new OptionNode(node.id(), node.optionName(), node.optionType(), node.optionPrice(),
+                                                       List.copyOf(change.apply(node.details()))))
+                              .toList();
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    private static List<OptionNode> sorted(List<OptionNode> options) {
+        return options.stream().sorted(Comparator.comparing(OptionNode::id)).toList();
+    }
+
+}
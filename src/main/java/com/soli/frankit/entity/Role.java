@@ -0,0 +1,14 @@
+package com.soli.frankit.entity;
+
+/**
+ * packageName  : com.soli.frankit.entity
+ * fileName     : Role
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 사용자 권한 Enum
+ */
+
+public enum Role {
+    USER, // 일반 사용자 (조회만 가능)
+    ADMIN // 관리자 (상품/옵션/상세 옵션 등록·수정·삭제 가능)
+}
@@ -35,6 +35,10 @@ public class User {
     @Column(nullable = false)
     private String password; // 비밀번호
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Role role = Role.USER; // 권한 (기본값 USER)
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt; // 등록일
@@ -43,16 +47,28 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt; // 수정일
 
+    /**
+     * User 생성자 (일반 사용자)
+     *
+     * @param email    사용자 이메일
+     * @param password 암호화된 비밀번호
+     */
+    public User(String email, String password) {
+        this(email, password, Role.USER);
+    }
+
     /**
      * User 생성자
      *
      * @param email    사용자 이메일
      * @param password 암호화된 비밀번호
+     * @param role     사용자 권한 (null이면 USER)
      */
     @Builder
-    public User(String email, String password) {
+    public User(String email, String password, Role role) {
         this.email = email;
         this.password = password;
+        this.role = role != null ? role : Role.USER;
     }
 
     /**
@@ -64,4 +80,13 @@ public class User {
         this.password = newPassword;
     }
 
+    /**
+     * 권한 변경 메서드 (발급된 토큰에는 반영되지 않으므로 다시 로그인해야 적용)
+     *
+     * @param newRole 새로운 권한
+     */
+    public void changeRole(Role newRole) {
+        this.role = newRole;
+    }
+
 }
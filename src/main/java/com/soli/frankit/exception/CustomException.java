@@ -1,10 +1,6 @@
 package com.soli.frankit.exception;
 
 import lombok.Getter;
-import org.springframework.validation.BindingResult;
-
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * packageName  com.soli.frankit.exception
@@ -12,21 +8,33 @@ import java.util.Map;
  * author       eumsoli
  * date         2025-02-19
  * description  프로젝트에서 사용되는 커스텀 예외 클래스
+ *              - 예상된 비즈니스 오류(ErrorCode.isExpected)는 스택 트레이스를 생성하지 않음
+ *                (디버깅 시 -Dfrankit.exception.stack-trace=true 로 항상 생성)
  */
 
 @Getter
 public class CustomException extends RuntimeException {
 
+    private static final boolean ALWAYS_STACK_TRACE = Boolean.getBoolean("frankit.exception.stack-trace");
+
     private final ErrorCode errorCode;
 
     public CustomException(ErrorCode errorCode) {
-        super(errorCode.getMessage()); // 기본 메세지
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage()); // 기본 메세지
     }
 
     public CustomException(ErrorCode errorCode, String message) {
-        super(message);  // 커스텀 메세지
+        super(message, null, false, ALWAYS_STACK_TRACE || !errorCode.isExpected());  // 커스텀 메세지
         this.errorCode = errorCode;
     }
 
+    /**
+     * ErrorCode 기본 메시지를 그대로 사용하는지 여부 (미리 만들어 둔 응답 본문 재사용 가능)
+     *
+     * @return 기본 메시지면 true
+     */
+    public boolean hasDefaultMessage() {
+        return errorCode.getMessage().equals(getMessage());
+    }
+
 }
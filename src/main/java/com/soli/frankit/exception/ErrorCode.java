@@ -48,11 +48,26 @@ public enum ErrorCode {
     OPTION_DETAIL_CANNOT_BE_DELETED(CONFLICT, "이 상세 옵션은 삭제할 수 없습니다."),
     OPTION_DETAIL_CANNOT_BE_ACTIVATED(BAD_REQUEST, "비활성화된 옵션의 상세 옵션은 활성화할 수 없습니다."),
 
+    // 변경 피드 관련 예외
+    INVALID_CURSOR(BAD_REQUEST, "유효하지 않은 커서입니다."),
+    CURSOR_EXPIRED(GONE, "커서의 보관 기간이 지났습니다. 전체 동기화 후 다시 시도해주세요."),
+
     // 기타 예외
     INVALID_REQUEST(BAD_REQUEST, "잘못된 요청입니다."),
+    SERVICE_BUSY(SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
 
     private final HttpStatus httpStatus; // HTTP 상태 코드
     private final String message; // 에러 메시지
 
+    /**
+     * 예상된 비즈니스 오류 여부 (4xx, 과부하 차단 503)
+     * - 정상 흐름에서 자주 발생하므로 스택 트레이스가 필요 없는 오류
+     *
+     * @return 예상된 오류면 true, 서버 내부 오류면 false
+     */
+    public boolean isExpected() {
+        return httpStatus.is4xxClientError() || httpStatus == SERVICE_UNAVAILABLE;
+    }
+
 }
@@ -2,12 +2,14 @@ package com.soli.frankit.exception;
 
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,6 +24,25 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Map<ErrorCode, ResponseEntity<Map<String, Object>>> ERROR_RESPONSES = precomputeErrorResponses();
+
+    /**
+     * ErrorCode별 응답을 미리 생성 (불변 본문/헤더라서 요청 간 공유 가능)
+     *
+     * @return ErrorCode별 응답
+     */
+    private static Map<ErrorCode, ResponseEntity<Map<String, Object>>> precomputeErrorResponses() {
+        Map<ErrorCode, ResponseEntity<Map<String, Object>>> responses = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            responses.put(errorCode, errorResponse(errorCode, errorCode.getMessage()));
+        }
+        return responses;
+    }
+
+    private static ResponseEntity<Map<String, Object>> errorResponse(ErrorCode errorCode, String message) {
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(Map.of("error", message));
+    }
+
     /**
      * CustomException 처리
      *
@@ -38,10 +59,11 @@ public class GlobalExceptionHandler {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     public ResponseEntity<Map<String, Object>> handleCustomException(CustomException e) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", e.getMessage());
+        if (e.hasDefaultMessage()) {
+            return ERROR_RESPONSES.get(e.getErrorCode());
+        }
 
-        return ResponseEntity.status(e.getErrorCode().getHttpStatus()).body(errorResponse);
+        return errorResponse(e.getErrorCode(), e.getMessage()); // 커스텀 메시지
     }
 
     /**
@@ -59,6 +81,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * ConstraintViolationException 처리 (merge patch 적용 결과 Validation 실패)
+     *
+     * @param e 발생한 ConstraintViolationException 객체
+     * @return HTTP 400 Bad Request 필드별 응답 반환 (DTO Validation 실패와 같은 형식)
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ApiResponse(responseCode = "400", description = "입력값 검증 실패")
+    public ResponseEntity<Map<String, String>> handleConstraintViolationException(ConstraintViolationException e) {
+        Map<String, String> errorResponse = new HashMap<>();
+        e.getConstraintViolations().forEach(violation ->
+                errorResponse.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
 
 
 }
@@ -0,0 +1,82 @@
+package com.soli.frankit.repository;
+
+import com.soli.frankit.entity.CatalogChange;
+import com.soli.frankit.service.CatalogChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * packageName  : com.soli.frankit.repository
+ * fileName     : CatalogChangeRepository
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품/옵션/상세 옵션 변경 로그를 관리하는 JPA Repository
+ */
+@Repository
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+
+    /**
+     * 특정 순번 이후의 변경 로그를 순번 순으로 조회
+     *
+     * @param id 마지막으로 읽은 순번
+     * @param limit 최대 개수
+     * @return 변경 로그 목록
+     */
+    List<CatalogChange> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * 특정 순번 이후의 특정 종류 변경 로그를 순번 순으로 조회 (변경 피드의 삭제 목록, idx_catalog_changes_action)
+     *
+     * @param id 마지막으로 읽은 순번
+     * @param action 변경 종류
+     * @param limit 최대 개수
+     * @return 변경 로그 목록
+     */
+    List<CatalogChange> findByIdGreaterThanAndActionOrderByIdAsc(Long id, CatalogChangeEvent.Action action, Limit limit);
+
+    /**
+     * 특정 시각 이후 기록된 첫 변경 로그 조회 (idx_catalog_changes_created_at)
+     *
+     * @param createdAt 기준 시각
+     * @return 첫 변경 로그
+     */
+    Optional<CatalogChange> findFirstByCreatedAtGreaterThanEqualOrderByIdAsc(LocalDateTime createdAt);
+
+    /**
+     * 가장 큰 순번 조회
+     *
+     * @return 가장 큰 순번 (변경 로그가 없으면 0)
+     */
+    @Query("select coalesce(max(c.id), 0) from CatalogChange c")
+    long findMaxId();
+
+    /**
+     * 가장 작은 순번 조회 (이보다 이전 로그는 보관 기간이 지나 삭제됨)
+     *
+     * @return 가장 작은 순번 (변경 로그가 없으면 0)
+     */
+    @Query("select coalesce(min(c.id), 0) from CatalogChange c")
+    long findMinId();
+
+    /**
+     * 보관 기간이 지난 변경 로그 삭제
+     *
+     * @param before 이 시각 이전 로그 삭제
+     * @param keepFrom 이 순번부터는 보관 기간이 지나도 남김 (가장 작은 순번으로 삭제 위치를 알 수 있도록 마지막 로그는 유지)
+     * @return 삭제된 개수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from CatalogChange c where c.createdAt < :before and c.id < :keepFrom")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before, @Param("keepFrom") long keepFrom);
+
+}
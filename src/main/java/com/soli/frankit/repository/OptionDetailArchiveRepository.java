@@ -0,0 +1,43 @@
+package com.soli.frankit.repository;
+
+import com.soli.frankit.entity.OptionDetailArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * packageName  : com.soli.frankit.repository
+ * fileName     : OptionDetailArchiveRepository
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 보관 처리된 상세 옵션을 관리하는 JPA Repository
+ */
+@Repository
+public interface OptionDetailArchiveRepository extends JpaRepository<OptionDetailArchive, Long> {
+
+    /**
+     * 옵션들의 상세 옵션을 보관 테이블로 복사 (INSERT ... SELECT 한 번)
+     *
+     * @param optionIds 보관할 옵션 ID 목록
+     * @return 복사된 개수
+     */
+    @Modifying
+    @Query("insert into OptionDetailArchive (id, optionId, detailName, detailPrice, isActive, createdAt, updatedAt, archivedAt) " +
+           "select d.id, d.productOption.id, d.detailName, d.detailPrice, d.isActive, d.createdAt, d.updatedAt, local datetime " +
+           "from OptionDetail d where d.productOption.id in :optionIds")
+    int copyFrom(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * 보관 처리된 옵션들의 상세 옵션 목록을 ID 순으로 조회 (idx_option_details_archive_option)
+     *
+     * @param optionIds 옵션 ID 목록
+     * @return 보관 처리된 상세 옵션 목록
+     */
+    List<OptionDetailArchive> findByOptionIdInOrderByIdAsc(Collection<Long> optionIds);
+
+}
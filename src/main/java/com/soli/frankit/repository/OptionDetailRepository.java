@@ -2,9 +2,15 @@ package com.soli.frankit.repository;
 
 import com.soli.frankit.entity.OptionDetail;
 import com.soli.frankit.entity.ProductOption;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,10 +35,9 @@ public interface OptionDetailRepository extends JpaRepository<OptionDetail, Long
      * 특정 옵션의 활성화된 상세 옵션 개수 조회
      *
      * @param productOption 특정 옵션
-     * @param isActive 옵션 활성화 여부
      * @return 활성화된 옵션 개수
      */
-    long countByProductOptionAndIsActiveTrue(ProductOption productOption, boolean isActive);
+    long countByProductOptionAndIsActiveTrue(ProductOption productOption);
 
     /**
      * 특정 옵션 개수 조회
@@ -50,4 +55,56 @@ public interface OptionDetailRepository extends JpaRepository<OptionDetail, Long
      */
     List<OptionDetail> findByProductOptionAndIsActiveTrue(ProductOption productOption);
 
+    /**
+     * 여러 옵션의 활성화된 상세 옵션 목록을 ID 순으로 조회 (상품 조회 모델 재생성)
+     *
+     * @param optionIds 옵션 ID 목록
+     * @return 활성화된 상세 옵션 목록
+     */
+    List<OptionDetail> findByProductOptionIdInAndIsActiveTrueOrderByIdAsc(Collection<Long> optionIds);
+
+    /**
+     * 여러 옵션의 모든 상세 옵션 조회 (옵션 보관 시 주문 여부 확인)
+     *
+     * @param optionIds 옵션 ID 목록
+     * @return 상세 옵션 목록
+     */
+    List<OptionDetail> findByProductOptionIdIn(Collection<Long> optionIds);
+
+    /**
+     * 여러 옵션의 상세 옵션 일괄 삭제 (옵션 보관)
+     *
+     * @param optionIds 옵션 ID 목록
+     * @return 삭제된 개수
+     */
+    @Modifying
+    @Query("delete from OptionDetail d where d.productOption.id in :optionIds")
+    int deleteByOptionIds(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * (수정일, ID) 커서 이후에 변경된 상세 옵션을 커서 순으로 조회 (idx_option_details_updated_at)
+     *
+     * @param updatedAt 커서 수정일
+     * @param id 커서 ID (같은 수정일 안에서의 순서)
+     * @param until 이 시각 이전에 수정된 상세 옵션만 조회
+     * @param limit 최대 개수
+     * @return 변경된 상세 옵션 목록
+     */
+    @Query("select d from OptionDetail d " +
+           "where (d.updatedAt > :updatedAt or (d.updatedAt = :updatedAt and d.id > :id)) and d.updatedAt < :until " +
+           "order by d.updatedAt, d.id")
+    List<OptionDetail> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                        @Param("id") Long id,
+                                        @Param("until") LocalDateTime until,
+                                        Limit limit);
+
+    /**
+     * ID 이후의 상세 옵션을 ID 순으로 조회 (전체 적재를 나눠서 읽을 때 사용)
+     *
+     * @param id 마지막으로 읽은 ID
+     * @param limit 최대 개수
+     * @return 상세 옵션 목록
+     */
+    List<OptionDetail> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
 }
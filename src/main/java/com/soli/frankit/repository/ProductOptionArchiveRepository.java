@@ -0,0 +1,43 @@
+package com.soli.frankit.repository;
+
+import com.soli.frankit.entity.ProductOptionArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * packageName  : com.soli.frankit.repository
+ * fileName     : ProductOptionArchiveRepository
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 보관 처리된 옵션을 관리하는 JPA Repository
+ */
+@Repository
+public interface ProductOptionArchiveRepository extends JpaRepository<ProductOptionArchive, Long> {
+
+    /**
+     * 옵션을 보관 테이블로 복사 (INSERT ... SELECT 한 번)
+     *
+     * @param optionIds 보관할 옵션 ID 목록
+     * @return 복사된 개수
+     */
+    @Modifying
+    @Query("insert into ProductOptionArchive (id, productId, optionName, optionType, optionPrice, createdAt, updatedAt, archivedAt) " +
+           "select o.id, o.product.id, o.optionName, o.optionType, o.optionPrice, o.createdAt, o.updatedAt, local datetime " +
+           "from ProductOption o where o.id in :optionIds")
+    int copyFrom(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * 상품의 보관 처리된 옵션 목록을 ID 순으로 조회 (idx_product_options_archive_product)
+     *
+     * @param productId 상품 ID
+     * @return 보관 처리된 옵션 목록
+     */
+    List<ProductOptionArchive> findByProductIdOrderByIdAsc(Long productId);
+
+}
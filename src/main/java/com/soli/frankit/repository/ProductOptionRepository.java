@@ -1,9 +1,17 @@
 package com.soli.frankit.repository;
 
 import com.soli.frankit.entity.ProductOption;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -41,4 +49,70 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
      */
     List<ProductOption> findByProductIdAndIsActiveTrue(Long productId);
 
+    /**
+     * 여러 상품의 활성화된 옵션 목록을 ID 순으로 조회 (상품 조회 모델 재생성)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 활성화된 옵션 목록
+     */
+    List<ProductOption> findByProductIdInAndIsActiveTrueOrderByIdAsc(Collection<Long> productIds);
+
+    /**
+     * 특정 ID 이후, 기준 시각 전에 비활성화된 옵션 ID를 ID 순으로 조회 (보관 대상 후보, 잠그지 않음)
+     *
+     * @param id 마지막으로 확인한 옵션 ID
+     * @param before 이 시각 전에 마지막으로 수정(비활성화)된 옵션만
+     * @param limit 최대 개수
+     * @return 옵션 ID 목록
+     */
+    @Query("select o.id from ProductOption o where o.id > :id and o.isActive = false and o.updatedAt < :before order by o.id")
+    List<Long> findInactiveIdsAfter(@Param("id") Long id, @Param("before") LocalDateTime before, Limit limit);
+
+    /**
+     * 보관 대상 후보를 쓰기 잠금으로 다시 조회 (그 사이 다시 활성화/수정된 옵션 제외, 잠근 옵션에는 상세 옵션이 추가되지 않음)
+     *
+     * @param ids 후보 옵션 ID 목록
+     * @param before 이 시각 전에 마지막으로 수정(비활성화)된 옵션만
+     * @return 잠근 옵션 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from ProductOption o where o.id in :ids and o.isActive = false and o.updatedAt < :before order by o.id")
+    List<ProductOption> findInactiveForUpdate(@Param("ids") Collection<Long> ids, @Param("before") LocalDateTime before);
+
+    /**
+     * 옵션 일괄 삭제 (상세 옵션은 먼저 삭제해야 함)
+     *
+     * @param ids 삭제할 옵션 ID 목록
+     * @return 삭제된 개수
+     */
+    @Modifying
+    @Query("delete from ProductOption o where o.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * (수정일, ID) 커서 이후에 변경된 옵션을 커서 순으로 조회 (idx_product_options_updated_at)
+     *
+     * @param updatedAt 커서 수정일
+     * @param id 커서 ID (같은 수정일 안에서의 순서)
+     * @param until 이 시각 이전에 수정된 옵션만 조회
+     * @param limit 최대 개수
+     * @return 변경된 옵션 목록
+     */
+    @Query("select o from ProductOption o " +
+           "where (o.updatedAt > :updatedAt or (o.updatedAt = :updatedAt and o.id > :id)) and o.updatedAt < :until " +
+           "order by o.updatedAt, o.id")
+    List<ProductOption> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                         @Param("id") Long id,
+                                         @Param("until") LocalDateTime until,
+                                         Limit limit);
+
+    /**
+     * ID 이후의 옵션을 ID 순으로 조회 (전체 적재를 나눠서 읽을 때 사용)
+     *
+     * @param id 마지막으로 읽은 ID
+     * @param limit 최대 개수
+     * @return 옵션 목록
+     */
+    List<ProductOption> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
 }
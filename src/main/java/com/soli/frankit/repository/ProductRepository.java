@@ -1,9 +1,15 @@
 package com.soli.frankit.repository;
 
 import com.soli.frankit.entity.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * packageName  : com.soli.frankit.repository
  * fileName     : ProductRepository
@@ -14,4 +20,47 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    /**
+     * (수정일, ID) 커서 이후에 변경된 상품을 커서 순으로 조회 (idx_products_updated_at)
+     *
+     * @param updatedAt 커서 수정일
+     * @param id 커서 ID (같은 수정일 안에서의 순서)
+     * @param until 이 시각 이전에 수정된 상품만 조회
+     * @param limit 최대 개수
+     * @return 변경된 상품 목록
+     */
+    @Query("select p from Product p " +
+           "where (p.updatedAt > :updatedAt or (p.updatedAt = :updatedAt and p.id > :id)) and p.updatedAt < :until " +
+           "order by p.updatedAt, p.id")
+    List<Product> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                   @Param("id") Long id,
+                                   @Param("until") LocalDateTime until,
+                                   Limit limit);
+
+    /**
+     * ID 이후의 상품을 ID 순으로 조회 (전체 적재를 나눠서 읽을 때 사용)
+     *
+     * @param id 마지막으로 읽은 ID
+     * @param limit 최대 개수
+     * @return 상품 목록
+     */
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * ID 구간의 상품을 ID 순으로 조회 (상품 조회 모델 재생성 구간)
+     *
+     * @param from 시작 ID (포함)
+     * @param to 끝 ID (포함)
+     * @return 상품 목록
+     */
+    List<Product> findByIdBetweenOrderByIdAsc(Long from, Long to);
+
+    /**
+     * 가장 큰 상품 ID 조회
+     *
+     * @return 가장 큰 상품 ID (상품이 없으면 0)
+     */
+    @Query("select coalesce(max(p.id), 0) from Product p")
+    long findMaxId();
+
 }
@@ -0,0 +1,53 @@
+package com.soli.frankit.repository;
+
+import com.soli.frankit.entity.ProductView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * packageName  : com.soli.frankit.repository
+ * fileName     : ProductViewRepository
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 모델(product_view)을 관리하는 JPA Repository
+ */
+@Repository
+public interface ProductViewRepository extends JpaRepository<ProductView, Long> {
+
+    /**
+     * 상품 조회 모델을 쓰기 잠금으로 조회 (같은 상품의 변경을 순서대로 반영하고, 잠금 조회라 최신 커밋 값을 읽음)
+     *
+     * @param productId 상품 ID
+     * @return 상품 조회 모델
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from ProductView v where v.id = :productId")
+    Optional<ProductView> findForUpdate(@Param("productId") Long productId);
+
+    /**
+     * ID 구간의 상품 조회 모델을 쓰기 잠금으로 조회 (재생성 중 같은 상품의 변경 반영은 대기)
+     *
+     * @param from 시작 ID (포함)
+     * @param to 끝 ID (포함)
+     * @return 상품 조회 모델 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from ProductView v where v.id between :from and :to")
+    List<ProductView> findAllForUpdate(@Param("from") Long from, @Param("to") Long to);
+
+    /**
+     * 특정 ID보다 큰 상품 조회 모델 존재 여부 (0이면 비어 있는지 확인)
+     *
+     * @param id 기준 ID
+     * @return 존재 여부
+     */
+    boolean existsByIdGreaterThan(Long id);
+
+}
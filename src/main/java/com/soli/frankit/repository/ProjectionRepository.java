@@ -0,0 +1,83 @@
+package com.soli.frankit.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * packageName  : com.soli.frankit.repository
+ * fileName     : ProjectionRepository
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 지정한 엔티티 속성만 SELECT 하는 조회 (fields 파라미터로 고른 응답 필드)
+ *                - 고를 속성이 요청마다 달라 Spring Data 프로젝션 대신 Criteria tuple 쿼리로 구성
+ *                - 엔티티를 만들지 않으므로 영속성 컨텍스트에도 올라가지 않음
+ *                - 결과 tuple의 별칭은 속성 이름
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 조건에 맞는 행의 지정한 속성만 조회
+     *
+     * @param domainClass 엔티티 타입
+     * @param attributes 조회할 속성 이름
+     * @param spec 조회 조건
+     * @param sort 정렬
+     * @return 속성 이름을 별칭으로 한 tuple 목록
+     */
+    public <E> List<Tuple> findAll(Class<E> domainClass, List<String> attributes, Specification<E> spec, Sort sort) {
+        return query(domainClass, attributes, spec, sort).getResultList();
+    }
+
+    /**
+     * 조건에 맞는 행의 지정한 속성만 페이지 단위로 조회
+     *
+     * @param domainClass 엔티티 타입
+     * @param attributes 조회할 속성 이름
+     * @param spec 조회 조건 (null이면 전체)
+     * @param pageable 페이지와 정렬
+     * @return 속성 이름을 별칭으로 한 tuple 목록
+     */
+    public <E> List<Tuple> findAll(Class<E> domainClass, List<String> attributes, Specification<E> spec, Pageable pageable) {
+        TypedQuery<Tuple> query = query(domainClass, attributes, spec, pageable.getSort());
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        return query.getResultList();
+    }
+
+    private <E> TypedQuery<Tuple> query(Class<E> domainClass, List<String> attributes, Specification<E> spec, Sort sort) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<E> root = query.from(domainClass);
+
+        query.multiselect(attributes.stream()
+                                    .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                                    .toList());
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        }
+        return entityManager.createQuery(query);
+    }
+
+}
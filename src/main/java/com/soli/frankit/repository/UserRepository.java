@@ -1,9 +1,14 @@
 package com.soli.frankit.repository;
 
 import com.soli.frankit.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,6 +17,8 @@ import java.util.Optional;
  * author       : eumsoli
  * date         : 2025-02-18
  * description  : 사용자 정보를 관리하는 JPA Repository
+ *                - 읽기/쓰기 라우팅 시 선언한 조회 메서드의 대상 DB를 트랜잭션 설정으로 명시
+ *                  (트랜잭션이 없으면 주 DB, 읽기 전용 트랜잭션이면 복제 DB)
  */
 
 @Repository
@@ -19,10 +26,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
      * 이메일을 기반으로 사용자 정보를 조회
+     * - 가입 직후 로그인/권한 변경이 복제 지연으로 실패하지 않도록 주 DB에서 조회 (읽기 전용이 아닌 트랜잭션)
      *
      * @param email 사용자 이메일
      * @return 사용자 엔티티 (Optional)
      */
+    @Transactional
     Optional<User> findByEmail(String email);
 
     /**
@@ -31,5 +40,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param email 사용자 이메일
      * @return 존재 여부 (true: 존재함, false: 존재하지 않음)
      */
+    @Transactional(readOnly = true) // 복제 DB에서 조회 (복제 지연으로 놓친 중복은 유니크 제약으로 감지)
     boolean existsByEmail(String email);
+
+    /**
+     * 특정 이메일 이후의 이메일 목록을 이메일 순서로 조회 (이메일 유니크 인덱스를 이용한 키셋 페이징)
+     *
+     * @param after 마지막으로 조회한 이메일 (처음에는 빈 문자열)
+     * @param pageable 조회 개수
+     * @return 이메일 목록
+     */
+    @Transactional(readOnly = true) // 복제 DB에서 조회 (놓친 최근 가입자는 유니크 제약으로 감지)
+    @Query("select u.email from User u where u.email > :after order by u.email")
+    List<String> findEmailsAfter(@Param("after") String after, Pageable pageable);
+
 }
@@ -7,7 +7,9 @@ import com.soli.frankit.exception.CustomException;
 import com.soli.frankit.exception.ErrorCode;
 import com.soli.frankit.repository.UserRepository;
 import com.soli.frankit.util.JwtTokenProvider;
+import com.soli.frankit.util.LogMarkers;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
  * description  로그인 및 JWT 발급을 담당하는 서비스 클래스
  */
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -29,6 +32,7 @@ public class AuthService {
 
     /**
      * 로그인
+     * - 저장된 해시의 cost가 현재 설정과 다르면 로그인 성공 시 재해시하여 저장
      *
      * @param request 로그인 요청 DTO
      * @return JWT 토큰
@@ -43,7 +47,15 @@ public class AuthService {
             throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
         }
 
-        String token = jwtTokenProvider.createToken(user.getEmail());
+        // cost 변경 시 비밀번호 초기화 없이 점진적으로 해시 교체
+        // (해시 계산 동안 커넥션을 잡고 있지 않도록 트랜잭션 없이 조회 후 저장, spring.jpa.open-in-view=false 필요)
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.updatePassword(passwordEncoder.encode(request.getPassword()));
+            userRepository.save(user);
+            log.info(LogMarkers.MUTATION, "비밀번호 해시 재암호화 완료: userId={}", user.getId());
+        }
+
+        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole());
 
         return new TokenResponse(token);
     }
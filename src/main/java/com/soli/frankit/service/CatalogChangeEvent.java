@@ -0,0 +1,39 @@
+package com.soli.frankit.service;
+
+/**
+ * packageName  : com.soli.frankit.service
+ * fileName     : CatalogChangeEvent
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품/옵션/상세 옵션 변경 이벤트 (서비스의 변경 메서드가 트랜잭션 안에서 발행)
+ *
+ * @param target 변경 대상 종류
+ * @param action 변경 종류
+ * @param productId 상품 ID
+ * @param optionId 옵션 ID (상품 변경이면 null)
+ * @param detailId 상세 옵션 ID (상품/옵션 변경이면 null)
+ * @param changeSeq 변경 로그 순번 (change_seq, 변경 로그 poller가 전달한 이벤트만 있음, 서비스가 발행한 이벤트는 null)
+ */
+public record CatalogChangeEvent(Target target, Action action, Long productId, Long optionId, Long detailId, Long changeSeq) {
+
+    public enum Target {
+        PRODUCT, OPTION, DETAIL
+    }
+
+    public enum Action {
+        CREATED, UPDATED, DELETED, ACTIVATED, DEACTIVATED
+    }
+
+    public static CatalogChangeEvent product(Action action, Long productId) {
+        return new CatalogChangeEvent(Target.PRODUCT, action, productId, null, null, null);
+    }
+
+    public static CatalogChangeEvent option(Action action, Long productId, Long optionId) {
+        return new CatalogChangeEvent(Target.OPTION, action, productId, optionId, null, null);
+    }
+
+    public static CatalogChangeEvent detail(Action action, Long productId, Long optionId, Long detailId) {
+        return new CatalogChangeEvent(Target.DETAIL, action, productId, optionId, detailId, null);
+    }
+
+}
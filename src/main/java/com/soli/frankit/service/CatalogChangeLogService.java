@@ -0,0 +1,37 @@
+package com.soli.frankit.service;
+
+import com.soli.frankit.entity.CatalogChange;
+import com.soli.frankit.repository.CatalogChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * packageName  : com.soli.frankit.service
+ * fileName     : CatalogChangeLogService
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품/옵션/상세 옵션 변경 이벤트를 변경 로그(catalog_changes)에 기록하는 서비스
+ *                - 변경 메서드의 트랜잭션 안에서 동기로 기록하므로, 변경이 롤백되면 로그도 남지 않음
+ *                - 다른 노드는 이 로그를 순번 순으로 읽어 로컬 캐시를 무효화 (CatalogChangeLogPoller)
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeLogService {
+
+    private final CatalogChangeRepository catalogChangeRepository;
+
+    /**
+     * 변경 로그 추가
+     *
+     * @param event 서비스의 변경 메서드가 발행한 이벤트
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(CatalogChangeEvent event) {
+        catalogChangeRepository.save(new CatalogChange(event));
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.soli.frankit.service;
+
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * packageName  : com.soli.frankit.service
+ * fileName     : CatalogFeedCursor
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 변경 피드 커서 (클라이언트에는 Base64 문자열로만 노출)
+ *                - 상품/옵션/상세 옵션은 각각 마지막으로 보낸 (수정일, ID), 삭제는 마지막으로 보낸 변경 로그 순번
+ *                - 삭제 순번이 보관 중인 가장 오래된 변경 로그보다 이전이면 삭제 기록이 빠졌으므로 거절 (CatalogFeedService)
+ *
+ * @param product 마지막으로 보낸 상품 위치
+ * @param option 마지막으로 보낸 옵션 위치
+ * @param detail 마지막으로 보낸 상세 옵션 위치
+ * @param deletedSeq 삭제 기록을 모두 보낸 변경 로그 순번
+ */
+public record CatalogFeedCursor(Position product, Position option, Position detail, long deletedSeq) {
+
+    private static final String VERSION = "2";
+    private static final String LEGACY_VERSION = "1"; // 발급 시각이 붙어 있던 이전 형식
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 수정일 + ID 위치 (같은 수정일 안에서는 ID 순)
+     */
+    public record Position(LocalDateTime updatedAt, long id) {
+
+        public static final Position START = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    }
+
+    /**
+     * 처음부터 읽는 커서 (삭제는 지금 이후부터)
+     *
+     * @param deletedSeq 현재 마지막 변경 로그 순번
+     * @return 커서
+     */
+    public static CatalogFeedCursor start(long deletedSeq) {
+        return new CatalogFeedCursor(Position.START, Position.START, Position.START, deletedSeq);
+    }
+
+    /**
+     * 클라이언트에 전달할 문자열로 변환
+     *
+     * @return URL에 그대로 쓸 수 있는 Base64 문자열
+     */
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION,
+                product.updatedAt().toString(), String.valueOf(product.id()),
+                option.updatedAt().toString(), String.valueOf(option.id()),
+                detail.updatedAt().toString(), String.valueOf(detail.id()),
+                String.valueOf(deletedSeq));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 문자열을 커서로 변환
+     *
+     * @param value encode()로 만든 문자열
+     * @return 커서
+     * @throws CustomException(ErrorCode.INVALID_CURSOR) 형식이 잘못된 경우
+     */
+    public static CatalogFeedCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] fields = raw.split("\\" + SEPARATOR);
+            boolean legacy = fields.length == 9 && LEGACY_VERSION.equals(fields[0]);
+            if (!legacy && (fields.length != 8 || !VERSION.equals(fields[0]))) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            return new CatalogFeedCursor(
+                    new Position(LocalDateTime.parse(fields[1]), Long.parseLong(fields[2])),
+                    new Position(LocalDateTime.parse(fields[3]), Long.parseLong(fields[4])),
+                    new Position(LocalDateTime.parse(fields[5]), Long.parseLong(fields[6])),
+                    Long.parseLong(fields[7]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+}
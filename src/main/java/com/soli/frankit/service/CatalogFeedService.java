@@ -0,0 +1,166 @@
+package com.soli.frankit.service;
+
+import com.soli.frankit.dto.CatalogFeedResponse;
+import com.soli.frankit.dto.CatalogFeedResponse.DetailChange;
+import com.soli.frankit.dto.CatalogFeedResponse.OptionChange;
+import com.soli.frankit.dto.CatalogFeedResponse.Tombstone;
+import com.soli.frankit.dto.OptionDetailResponse;
+import com.soli.frankit.dto.ProductOptionResponse;
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.entity.CatalogChange;
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import com.soli.frankit.repository.CatalogChangeRepository;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.service.CatalogFeedCursor.Position;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * packageName  : com.soli.frankit.service
+ * fileName     : CatalogFeedService
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 커서 이후 변경된 상품/옵션/상세 옵션과 삭제 기록을 조회하는 변경 피드 서비스
+ *                - 등록/수정은 각 테이블의 (updated_at, ID) 인덱스로, 삭제는 변경 로그(catalog_changes)로 조회
+ *                - 수정일은 커밋 전에 정해지므로, 아직 커밋되지 않은 변경을 건너뛰지 않도록 최근 settle 시간 안의 변경은 다음 요청으로 미룸
+ *                  (settle 시간은 가장 긴 변경 트랜잭션 + 복제 DB 허용 지연보다 길어야 함)
+ *                - 클라이언트는 등록/수정을 먼저 반영한 뒤 삭제를 반영 (ID는 재사용되지 않음)
+ *                - 커서의 삭제 순번 이후 변경 로그가 보관 기간이 지나 삭제되었으면 tombstone이 빠졌으므로 커서 만료 (자주 조회해도 뒤처져 있으면 만료)
+ */
+@Slf4j
+@Service
+public class CatalogFeedService {
+
+    private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final OptionDetailRepository optionDetailRepository;
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final Duration settle;
+    private final int maxLimit;
+
+    /**
+     * CatalogFeedService 생성자
+     *
+     * @param settleMs 이 시간보다 최근의 변경은 다음 요청으로 미룸 (밀리초)
+     * @param maxLimit 종류별 최대 조회 개수
+     */
+    public CatalogFeedService(ProductRepository productRepository,
+                              ProductOptionRepository productOptionRepository,
+                              OptionDetailRepository optionDetailRepository,
+                              CatalogChangeRepository catalogChangeRepository,
+                              @Value("${catalog-feed.settle-ms}") long settleMs,
+                              @Value("${catalog-feed.max-limit}") int maxLimit) {
+        this.productRepository = productRepository;
+        this.productOptionRepository = productOptionRepository;
+        this.optionDetailRepository = optionDetailRepository;
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.settle = Duration.ofMillis(settleMs);
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 커서 이후의 변경 조회
+     *
+     * @param since 이전 응답의 nextCursor (없으면 처음부터 전체)
+     * @param limit 종류(상품/옵션/상세 옵션/삭제)별 최대 개수
+     * @return 변경 목록과 다음 커서
+     * @throws CustomException(ErrorCode.INVALID_CURSOR) 커서 형식이 잘못된 경우
+     * @throws CustomException(ErrorCode.CURSOR_EXPIRED) 커서 이후의 삭제 기록이 보관 기간이 지나 삭제된 경우
+     */
+    @Transactional(readOnly = true)
+    public CatalogFeedResponse getChanges(String since, int limit) {
+        CatalogFeedCursor cursor = since == null || since.isBlank()
+                ? CatalogFeedCursor.start(catalogChangeRepository.findMaxId())
+                : CatalogFeedCursor.decode(since);
+        if (cursor.deletedSeq() + 1 < catalogChangeRepository.findMinId()) {
+            throw new CustomException(ErrorCode.CURSOR_EXPIRED);
+        }
+
+        int size = Math.min(Math.max(limit, 1), maxLimit);
+        LocalDateTime until = LocalDateTime.now().minus(settle);
+
+        List<Product> products = productRepository.findChangedAfter(
+                cursor.product().updatedAt(), cursor.product().id(), until, Limit.of(size));
+        List<ProductOption> options = productOptionRepository.findChangedAfter(
+                cursor.option().updatedAt(), cursor.option().id(), until, Limit.of(size));
+        List<OptionDetail> details = optionDetailRepository.findChangedAfter(
+                cursor.detail().updatedAt(), cursor.detail().id(), until, Limit.of(size));
+        List<CatalogChange> deletions = catalogChangeRepository.findByIdGreaterThanAndActionOrderByIdAsc(
+                cursor.deletedSeq(), CatalogChangeEvent.Action.DELETED, Limit.of(size));
+
+        List<Tombstone> tombstones = new ArrayList<>(deletions.size());
+        long deletedSeq = cursor.deletedSeq();
+        for (CatalogChange deletion : deletions) {
+            if (!deletion.getCreatedAt().isBefore(until)) {
+                break; // 순번 순으로 읽으므로 settle 시간 안의 기록부터는 다음 요청으로
+            }
+            tombstones.add(new Tombstone(deletion.getTarget(), deletion.getProductId(), deletion.getOptionId(),
+                    deletion.getDetailId(), deletion.getCreatedAt()));
+            deletedSeq = deletion.getId();
+        }
+        if (tombstones.size() < size) {
+            deletedSeq = Math.max(deletedSeq, settledSeq(until)); // 삭제가 아닌 변경만 쌓여도 보관 기간이 지나 만료되지 않도록
+        }
+
+        CatalogFeedCursor next = new CatalogFeedCursor(
+                lastPosition(products, cursor.product(), Product::getUpdatedAt, Product::getId),
+                lastPosition(options, cursor.option(), ProductOption::getUpdatedAt, ProductOption::getId),
+                lastPosition(details, cursor.detail(), OptionDetail::getUpdatedAt, OptionDetail::getId),
+                deletedSeq);
+        boolean hasMore = products.size() == size || options.size() == size || details.size() == size
+                || tombstones.size() == size;
+
+        log.debug("변경 피드 조회 - products: {}, options: {}, details: {}, deleted: {}, hasMore: {}",
+                products.size(), options.size(), details.size(), tombstones.size(), hasMore);
+
+        return CatalogFeedResponse.builder()
+                .products(products.stream().map(ProductResponse::from).toList())
+                .options(options.stream()
+                                .map(option -> new OptionChange(option.getProduct().getId(), ProductOptionResponse.from(option)))
+                                .toList())
+                .details(details.stream()
+                                .map(detail -> new DetailChange(detail.getProductOption().getId(), OptionDetailResponse.from(detail)))
+                                .toList())
+                .deleted(tombstones)
+                .nextCursor(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * settle 시간 이전에 기록된 마지막 변경 로그 순번 (이 순번까지의 삭제 기록은 모두 읽음)
+     */
+    private long settledSeq(LocalDateTime until) {
+        return catalogChangeRepository.findFirstByCreatedAtGreaterThanEqualOrderByIdAsc(until)
+                                      .map(change -> change.getId() - 1)
+                                      .orElseGet(catalogChangeRepository::findMaxId);
+    }
+
+    /**
+     * 조회한 목록의 마지막 위치 (비어 있으면 기존 위치)
+     */
+    private static <T> Position lastPosition(List<T> rows, Position current,
+                                             Function<T, LocalDateTime> updatedAt, Function<T, Long> id) {
+        if (rows.isEmpty()) {
+            return current;
+        }
+        T last = rows.get(rows.size() - 1);
+        return new Position(updatedAt.apply(last), id.apply(last));
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.soli.frankit.service;
+
+import com.soli.frankit.repository.UserRepository;
+import com.soli.frankit.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * packageName  : com.soli.frankit.service
+ * fileName     : EmailMembershipFilter
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 가입된 이메일 여부를 메모리에서 빠르게 판단하는 필터
+ *                - 확실히 없는 이메일은 DB 중복 조회 없이 바로 가입 처리
+ *                - 초기 적재가 끝나기 전에는 항상 "있을 수도 있음"으로 응답하여 DB 조회로 위임
+ */
+@Slf4j
+@Component
+public class EmailMembershipFilter {
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final BloomFilter bloomFilter;
+    private volatile boolean ready = false;
+
+    /**
+     * EmailMembershipFilter 생성자
+     *
+     * @param userRepository 사용자 Repository
+     * @param expectedInsertions 예상 가입자 수
+     * @param falsePositiveRate 허용 오탐률
+     */
+    public EmailMembershipFilter(UserRepository userRepository,
+                                 @Value("${user.email-filter.expected-insertions}") long expectedInsertions,
+                                 @Value("${user.email-filter.false-positive-rate}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 기동 완료 후 가입된 이메일을 이메일 순서로 나눠 읽어 필터에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long count = 0;
+        String after = "";
+
+        try {
+            while (true) {
+                List<String> emails = userRepository.findEmailsAfter(after, PageRequest.of(0, SEED_BATCH_SIZE));
+                emails.forEach(this::put);
+                count += emails.size();
+
+                if (emails.size() < SEED_BATCH_SIZE) {
+                    break;
+                }
+                after = emails.get(emails.size() - 1);
+            }
+            ready = true;
+            log.info("이메일 필터 적재 완료: count={}", count);
+        } catch (RuntimeException e) {
+            log.warn("이메일 필터 적재 실패 - DB 중복 조회로 대체합니다.", e);
+        }
+    }
+
+    /**
+     * 이메일 추가
+     *
+     * @param email 가입된 이메일
+     */
+    public void put(String email) {
+        bloomFilter.put(normalize(email));
+    }
+
+    /**
+     * 이메일이 가입되어 있을 가능성 확인
+     *
+     * @param email 확인할 이메일
+     * @return false면 확실히 가입되지 않은 이메일
+     */
+    public boolean mightContain(String email) {
+        return !ready || bloomFilter.mightContain(normalize(email));
+    }
+
+    /**
+     * DB 이메일 비교가 대소문자를 구분하지 않으므로 소문자로 통일
+     */
+    private String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.soli.frankit.service;
+
+import com.soli.frankit.dto.ArchivedOptionResponse;
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionDetailArchive;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.entity.ProductOptionArchive;
+import com.soli.frankit.repository.OptionDetailArchiveRepository;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionArchiveRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import com.soli.frankit.util.LogMarkers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * packageName  : com.soli.frankit.service
+ * fileName     : OptionArchiveService
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 비활성 옵션 보관 처리 서비스
+ *                - 옵션 타입 변경 등으로 비활성화된 뒤 오래된, 주문되지 않은 옵션과 그 상세 옵션을 보관 테이블로 옮김
+ *                - 한 묶음씩 별도 트랜잭션으로 처리 (OptionArchiver가 반복 호출)
+ *                - 옮긴 옵션/상세 옵션은 삭제 이벤트를 발행해 변경 로그, 캐시, 스냅샷에서도 빠지게 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OptionArchiveService {
+
+    private final ProductOptionRepository productOptionRepository;
+    private final OptionDetailRepository optionDetailRepository;
+    private final ProductOptionArchiveRepository productOptionArchiveRepository;
+    private final OptionDetailArchiveRepository optionDetailArchiveRepository;
+    private final OrderService orderService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 보관 처리 한 묶음의 결과
+     *
+     * @param lastId 이번에 확인한 마지막 옵션 ID (다음 묶음은 이 ID 이후부터)
+     * @param scanned 확인한 후보 수 (묶음 크기보다 작으면 끝)
+     * @param archived 보관 처리한 옵션 수
+     */
+    public record Batch(long lastId, int scanned, int archived) {
+    }
+
+    /**
+     * 보관 처리 한 묶음
+     *
+     * @param afterId 이 ID 이후의 옵션부터 확인
+     * @param inactiveBefore 이 시각 전에 비활성화된 옵션만 보관 (다시 활성화할 여유 기간)
+     * @param batchSize 한 번에 확인할 후보 수
+     * @return 처리 결과
+     */
+    @Transactional
+    public Batch archiveBatch(long afterId, LocalDateTime inactiveBefore, int batchSize) {
+        List<Long> candidateIds = productOptionRepository.findInactiveIdsAfter(afterId, inactiveBefore, Limit.of(batchSize));
+        if (candidateIds.isEmpty()) {
+            return new Batch(afterId, 0, 0);
+        }
+        long lastId = candidateIds.get(candidateIds.size() - 1);
+
+        List<ProductOption> locked = productOptionRepository.findInactiveForUpdate(candidateIds, inactiveBefore);
+        Map<Long, List<OptionDetail>> details = locked.isEmpty() ? Map.of()
+                : optionDetailRepository.findByProductOptionIdIn(locked.stream().map(ProductOption::getId).toList()).stream()
+                                        .collect(Collectors.groupingBy(detail -> detail.getProductOption().getId()));
+        List<ProductOption> archivable = locked.stream()
+                .filter(option -> !orderService.hasOptionOrders(option.getId()))
+                .filter(option -> details.getOrDefault(option.getId(), List.of()).stream()
+                                         .noneMatch(detail -> orderService.hasDetailOrders(detail.getId())))
+                .toList();
+        if (archivable.isEmpty()) {
+            return new Batch(lastId, candidateIds.size(), 0);
+        }
+
+        List<Long> optionIds = archivable.stream().map(ProductOption::getId).toList();
+        optionDetailArchiveRepository.copyFrom(optionIds);
+        productOptionArchiveRepository.copyFrom(optionIds);
+        optionDetailRepository.deleteByOptionIds(optionIds);
+        productOptionRepository.deleteAllByIds(optionIds);
+
+        for (ProductOption option : archivable) {
+            Long productId = option.getProduct().getId();
+            details.getOrDefault(option.getId(), List.of()).forEach(detail ->
+                    eventPublisher.publishEvent(CatalogChangeEvent.detail(Action.DELETED, productId, option.getId(), detail.getId())));
+            eventPublisher.publishEvent(CatalogChangeEvent.option(Action.DELETED, productId, option.getId()));
+        }
+        log.info(LogMarkers.MUTATION, "옵션 보관 처리 완료: optionIds={}", optionIds);
+
+        return new Batch(lastId, candidateIds.size(), archivable.size());
+    }
+
+    /**
+     * 상품의 보관 처리된 옵션 이력 조회
+     *
+     * @param productId 상품 ID
+     * @return 보관 처리된 옵션과 상세 옵션 목록 (옵션 ID 순)
+     */
+    @Transactional(readOnly = true)
+    public List<ArchivedOptionResponse> getArchivedOptions(Long productId) {
+        List<ProductOptionArchive> options = productOptionArchiveRepository.findByProductIdOrderByIdAsc(productId);
+        if (options.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<OptionDetailArchive>> details = optionDetailArchiveRepository
+                .findByOptionIdInOrderByIdAsc(options.stream().map(ProductOptionArchive::getId).toList()).stream()
+                .collect(Collectors.groupingBy(OptionDetailArchive::getOptionId));
+        log.debug("보관 처리된 옵션 조회 - productId: {}, optionsCount: {}", productId, options.size());
+
+        return options.stream()
+                      .map(option -> ArchivedOptionResponse.from(option, details.getOrDefault(option.getId(), List.of())))
+                      .toList();
+    }
+
+}
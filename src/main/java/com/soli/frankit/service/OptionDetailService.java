@@ -1,7 +1,9 @@
 package com.soli.frankit.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.soli.frankit.dto.OptionDetailRequest;
 import com.soli.frankit.dto.OptionDetailResponse;
+import com.soli.frankit.dto.SparseFieldset;
 import com.soli.frankit.entity.OptionDetail;
 import com.soli.frankit.entity.OptionType;
 import com.soli.frankit.entity.ProductOption;
@@ -9,12 +11,23 @@ import com.soli.frankit.exception.CustomException;
 import com.soli.frankit.exception.ErrorCode;
 import com.soli.frankit.repository.OptionDetailRepository;
 import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProjectionRepository;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import com.soli.frankit.util.JsonMergePatch;
+import com.soli.frankit.util.LogMarkers;
+import com.soli.frankit.util.MultiGet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +46,9 @@ public class OptionDetailService {
     private final ProductOptionRepository productOptionRepository;
     private final OptionDetailRepository optionDetailRepository;
     private final OrderService orderService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMergePatch jsonMergePatch;
+    private final ProjectionRepository projectionRepository;
 
     /**
      * 상세 옵션 등록
@@ -58,8 +74,9 @@ public class OptionDetailService {
                                                 .build();
 
         OptionDetail savedDetail = optionDetailRepository.save(optionDetail);
-        log.info("상세 옵션 등록 완료: id={}, detailName={}, detailPrice={}",
+        log.info(LogMarkers.MUTATION, "상세 옵션 등록 완료: id={}, detailName={}, detailPrice={}",
                 savedDetail.getId(), savedDetail.getDetailName(), savedDetail.getDetailPrice());
+        eventPublisher.publishEvent(detailChange(Action.CREATED, savedDetail));
 
         return convertToResponseDto(savedDetail);
     }
@@ -77,7 +94,7 @@ public class OptionDetailService {
                 .orElseThrow(() -> new CustomException(ErrorCode.OPTION_DETAIL_NOT_FOUND));
 
         boolean hasDetailOrder = orderService.hasDetailOrders(detailId);
-        log.info("상세 옵션 수정 요청 - detailId: {}, hasDetailOrder: {}", detailId, hasDetailOrder);
+        log.debug("상세 옵션 수정 요청 - detailId: {}, hasDetailOrder: {}", detailId, hasDetailOrder);
 
         // 기존 상세 옵션이 주문된 상태라면 수정 불가
         if (!detail.isUpdatable(hasDetailOrder)) {
@@ -86,12 +103,34 @@ public class OptionDetailService {
         }
 
         detail.update(request.getDetailName(), request.getDetailPrice(), hasDetailOrder);
-        log.info("상세 옵션 수정 완료: detailId={}, detailName={}, detailPrice={}",
+        log.info(LogMarkers.MUTATION, "상세 옵션 수정 완료: detailId={}, detailName={}, detailPrice={}",
                 detail.getId(), detail.getDetailName(), detail.getDetailPrice());
+        eventPublisher.publishEvent(detailChange(Action.UPDATED, detail));
 
         return convertToResponseDto(detail);
     }
 
+    /**
+     * 상세 옵션 부분 수정 (JSON Merge Patch)
+     * - patch를 적용한 값으로 상세 옵션 수정과 같은 규칙 적용
+     *
+     * @param detailId 수정할 상세 옵션 ID
+     * @param patch 수정할 필드만 담은 merge patch 문서
+     * @return 수정된 상세 옵션 정보
+     */
+    @Transactional
+    public OptionDetailResponse patchOptionDetail(Long detailId, JsonNode patch) {
+        OptionDetail detail = optionDetailRepository.findById(detailId)
+                .orElseThrow(() -> new CustomException(ErrorCode.OPTION_DETAIL_NOT_FOUND));
+
+        OptionDetailRequest current = OptionDetailRequest.builder()
+                                                         .detailName(detail.getDetailName())
+                                                         .detailPrice(detail.getDetailPrice())
+                                                         .build();
+
+        return updateOptionDetail(detailId, jsonMergePatch.apply(current, patch, OptionDetailRequest.class));
+    }
+
     /**
      * 상세 옵션 삭제
      *
@@ -103,7 +142,7 @@ public class OptionDetailService {
                 .orElseThrow(() -> new CustomException(ErrorCode.OPTION_DETAIL_NOT_FOUND));
 
         boolean hasDetailOrder = orderService.hasDetailOrders(detailId);
-        log.info("상세 옵션 삭제 요청 - detailId: {}, hasDetailOrder: {}", detailId, hasDetailOrder);
+        log.debug("상세 옵션 삭제 요청 - detailId: {}, hasDetailOrder: {}", detailId, hasDetailOrder);
 
         if (!detail.isDeletable(hasDetailOrder)) {
             log.warn("상세 옵션 삭제 불가 - 주문된 상세 옵션은 삭제할 수 없습니다.");
@@ -111,7 +150,8 @@ public class OptionDetailService {
         }
 
         optionDetailRepository.delete(detail);
-        log.info("상세 옵션 삭제 완료: detailId={}", detail.getId());
+        log.info(LogMarkers.MUTATION, "상세 옵션 삭제 완료: detailId={}", detail.getId());
+        eventPublisher.publishEvent(detailChange(Action.DELETED, detail));
     }
 
     /**
@@ -125,7 +165,8 @@ public class OptionDetailService {
                 .orElseThrow(() -> new CustomException(ErrorCode.OPTION_DETAIL_NOT_FOUND));
 
         detail.activate();
-        log.info("상세 옵션 활성화 완료: detailId={}", detail.getId());
+        log.info(LogMarkers.MUTATION, "상세 옵션 활성화 완료: detailId={}", detail.getId());
+        eventPublisher.publishEvent(detailChange(Action.ACTIVATED, detail));
     }
 
     /**
@@ -139,7 +180,24 @@ public class OptionDetailService {
                 .orElseThrow(() -> new CustomException(ErrorCode.OPTION_DETAIL_NOT_FOUND));
 
         detail.deactivate();
-        log.info("상세 옵션 비활성화 완료: detailId={}", detail.getId());
+        log.info(LogMarkers.MUTATION, "상세 옵션 비활성화 완료: detailId={}", detail.getId());
+        eventPublisher.publishEvent(detailChange(Action.DEACTIVATED, detail));
+    }
+
+    /**
+     * ID 목록으로 상세 옵션 조회 (IN 조회, MultiGet.CHUNK_SIZE개씩)
+     *
+     * @param detailIds 조회할 상세 옵션 ID (중복 없음)
+     * @return 상세 옵션 ID별 상세 옵션 정보 (없는 상세 옵션은 포함하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, OptionDetailResponse> getDetailsByIds(Collection<Long> detailIds) {
+        Map<Long, OptionDetailResponse> details = MultiGet.inChunks(detailIds, optionDetailRepository::findAllById).stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toMap(OptionDetailResponse::getId, Function.identity()));
+        log.debug("상세 옵션 ID 목록 조회 - requested: {}, found: {}", detailIds.size(), details.size());
+
+        return details;
     }
 
     /**
@@ -154,7 +212,7 @@ public class OptionDetailService {
                 .orElseThrow(() -> new CustomException(ErrorCode.OPTION_NOT_FOUND));
 
         List<OptionDetail> details = optionDetailRepository.findByProductOption(productOption);
-        log.info("옵션의 모든 상세 옵션 조회 - optionId: {}, detailsCount: {}", optionId, details.size());
+        log.debug("옵션의 모든 상세 옵션 조회 - optionId: {}, detailsCount: {}", optionId, details.size());
 
         return details.stream().map(this::convertToResponseDto).collect(Collectors.toList());
     }
@@ -175,12 +233,68 @@ public class OptionDetailService {
         if (activeDetails.isEmpty()) {
             log.warn("옵션의 활성화된 상세 옵션이 없습니다 - optionId: {}", optionId);
         } else {
-            log.info("옵션의 활성화된 상세 옵션 조회 - optionId: {}, activeDetailsCount: {}", optionId, activeDetails.size());
+            log.debug("옵션의 활성화된 상세 옵션 조회 - optionId: {}, activeDetailsCount: {}", optionId, activeDetails.size());
         }
 
         return activeDetails.stream().map(this::convertToResponseDto).collect(Collectors.toList());
     }
 
+    /**
+     * 특정 옵션의 상세 옵션 조회 (고른 필드의 열만 SELECT, ID 순)
+     *
+     * @param optionId 옵션 ID
+     * @param activeOnly 활성화된 상세 옵션만 조회할지 여부
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 상세 옵션 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getDetailFieldsByOption(Long optionId, boolean activeOnly, SparseFieldset<OptionDetailResponse> fields) {
+        if (!productOptionRepository.existsById(optionId)) {
+            throw new CustomException(ErrorCode.OPTION_NOT_FOUND);
+        }
+
+        Specification<OptionDetail> spec = (root, query, builder) -> builder.equal(root.get("productOption").get("id"), optionId);
+        if (activeOnly) {
+            spec = spec.and((root, query, builder) -> builder.isTrue(root.get("isActive")));
+        }
+
+        List<Map<String, Object>> details = projectionRepository.findAll(OptionDetail.class, fields.attributes(), spec, Sort.by("id"))
+                                                                .stream()
+                                                                .map(fields::from)
+                                                                .toList();
+        log.debug("옵션의 상세 옵션 조회 (필드 선택) - optionId: {}, activeOnly: {}, detailsCount: {}", optionId, activeOnly, details.size());
+
+        return details;
+    }
+
+    /**
+     * ID 목록으로 상세 옵션 조회 (고른 필드의 열만 SELECT, MultiGet.CHUNK_SIZE개씩 IN 조회)
+     *
+     * @param detailIds 조회할 상세 옵션 ID (중복 없음)
+     * @param fields 응답할 필드
+     * @return 상세 옵션 ID별 고른 필드만 담은 상세 옵션 정보 (없는 상세 옵션은 포함하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, Object>> getDetailFieldsByIds(Collection<Long> detailIds, SparseFieldset<OptionDetailResponse> fields) {
+        return MultiGet.inChunks(detailIds, chunk -> projectionRepository.findAll(OptionDetail.class, fields.attributes(),
+                               (root, query, builder) -> root.get("id").in(chunk), Sort.unsorted()))
+                       .stream()
+                       .map(fields::from)
+                       .collect(Collectors.toMap(fields::idOf, Function.identity()));
+    }
+
+    /**
+     * 상세 옵션 변경 이벤트 생성
+     *
+     * @param action 변경 종류
+     * @param detail 변경된 상세 옵션
+     * @return 변경 이벤트
+     */
+    private CatalogChangeEvent detailChange(Action action, OptionDetail detail) {
+        ProductOption option = detail.getProductOption();
+        return CatalogChangeEvent.detail(action, option.getProduct().getId(), option.getId(), detail.getId());
+    }
+
     /**
      * 상세 옵션 정보를 DTO로 변환
      *
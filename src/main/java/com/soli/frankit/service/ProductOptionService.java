@@ -1,7 +1,9 @@
 package com.soli.frankit.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.soli.frankit.dto.ProductOptionRequest;
 import com.soli.frankit.dto.ProductOptionResponse;
+import com.soli.frankit.dto.SparseFieldset;
 import com.soli.frankit.entity.OptionType;
 import com.soli.frankit.entity.Product;
 import com.soli.frankit.entity.ProductOption;
@@ -10,12 +12,23 @@ import com.soli.frankit.exception.ErrorCode;
 import com.soli.frankit.repository.OptionDetailRepository;
 import com.soli.frankit.repository.ProductOptionRepository;
 import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.ProjectionRepository;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import com.soli.frankit.util.JsonMergePatch;
+import com.soli.frankit.util.LogMarkers;
+import com.soli.frankit.util.MultiGet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -34,7 +47,10 @@ public class ProductOptionService {
     private final ProductRepository productRepository;
     private final ProductOptionRepository productOptionRepository;
     private final OrderService orderService;
+    private final ApplicationEventPublisher eventPublisher;
     private final OptionDetailRepository optionDetailRepository;
+    private final JsonMergePatch jsonMergePatch;
+    private final ProjectionRepository projectionRepository;
 
     /**
      * 상품 옵션 등록
@@ -63,8 +79,9 @@ public class ProductOptionService {
                                             .build();
 
         ProductOption savedOption = productOptionRepository.save(option);
-        log.info("옵션 등록 완료: id={}, optionName={}, optionType={}, optionPrice={}"
+        log.info(LogMarkers.MUTATION, "옵션 등록 완료: id={}, optionName={}, optionType={}, optionPrice={}"
                 , savedOption.getId(), savedOption.getOptionName(), savedOption.getOptionType(), savedOption.getOptionPrice());
+        eventPublisher.publishEvent(CatalogChangeEvent.option(Action.CREATED, productId, savedOption.getId()));
 
         return convertToResponseDto(savedOption);
     }
@@ -82,7 +99,7 @@ public class ProductOptionService {
                 .orElseThrow(() -> new CustomException(ErrorCode.OPTION_NOT_FOUND));
 
         boolean hasOptionOrder = orderService.hasOptionOrders(optionId);
-        log.info("옵션 수정 요청 - optionId: {}, hasOptionOrder: {}, isActive: {}", optionId, hasOptionOrder, option.isActive());
+        log.debug("옵션 수정 요청 - optionId: {}, hasOptionOrder: {}, isActive: {}", optionId, hasOptionOrder, option.isActive());
 
         // 기존 옵션이 주문된 상태라면 수정 불가
         if (!option.isUpdatable(hasOptionOrder)) {
@@ -92,11 +109,11 @@ public class ProductOptionService {
 
         // 옵션 타입이 변경된 경우 기존 옵션 비활성화 후 새 옵션 추가
         if (!option.getOptionType().equals(request.getOptionType())) {
-            log.info("옵션 타입 변경 - 기존: {}, 변경: {}", option.getOptionType(), request.getOptionType());
+            log.info(LogMarkers.MUTATION, "옵션 타입 변경 - 기존: {}, 변경: {}", option.getOptionType(), request.getOptionType());
 
             // 입력형 <-> 선택형 변경 시, 상세 옵션 여부 확인
             if (request.getOptionType() == OptionType.SELECT) {
-                long detailCount = optionDetailRepository.countByProductOptionAndIsActiveTrue(option, true);
+                long detailCount = optionDetailRepository.countByProductOptionAndIsActiveTrue(option);
                 if (detailCount == 0) {
                     throw new CustomException(ErrorCode.OPTION_MUST_HAVE_DETAILS);
                 }
@@ -108,17 +125,41 @@ public class ProductOptionService {
             }
 
             option.deactivate();
+            eventPublisher.publishEvent(CatalogChangeEvent.option(Action.DEACTIVATED, option.getProduct().getId(), optionId));
 
             return createProductOption(option.getProduct().getId(), request);
         }
 
         option.update(request.getOptionName(), request.getOptionType(), request.getOptionPrice(), hasOptionOrder);
-        log.info("옵션 수정 완료: optionId={}, optionName={}, optionType={}, optionPrice={}"
+        log.info(LogMarkers.MUTATION, "옵션 수정 완료: optionId={}, optionName={}, optionType={}, optionPrice={}"
                 , option.getId(), option.getOptionName(), option.getOptionType(), option.getOptionPrice());
+        eventPublisher.publishEvent(CatalogChangeEvent.option(Action.UPDATED, option.getProduct().getId(), optionId));
 
         return convertToResponseDto(option);
     }
 
+    /**
+     * 상품 옵션 부분 수정 (JSON Merge Patch)
+     * - patch를 적용한 값으로 옵션 수정과 같은 규칙 적용 (옵션 타입이 바뀌면 새 옵션 등록)
+     *
+     * @param optionId 수정할 상품 옵션 ID
+     * @param patch 수정할 필드만 담은 merge patch 문서
+     * @return 수정된 상품 옵션 정보
+     */
+    @Transactional
+    public ProductOptionResponse patchProductOption(Long optionId, JsonNode patch) {
+        ProductOption option = productOptionRepository.findById(optionId)
+                .orElseThrow(() -> new CustomException(ErrorCode.OPTION_NOT_FOUND));
+
+        ProductOptionRequest current = ProductOptionRequest.builder()
+                                                           .optionName(option.getOptionName())
+                                                           .optionType(option.getOptionType())
+                                                           .optionPrice(option.getOptionPrice())
+                                                           .build();
+
+        return updateProductOption(optionId, jsonMergePatch.apply(current, patch, ProductOptionRequest.class));
+    }
+
     /**
      * 상품 옵션 삭제
      *
@@ -130,7 +171,7 @@ public class ProductOptionService {
                 .orElseThrow(() -> new CustomException(ErrorCode.OPTION_NOT_FOUND));
 
         boolean hasOptionOrder = orderService.hasOptionOrders(optionId);
-        log.info("옵션 삭제 요청 - optionId: {}, hasOptionOrder: {}, isActive: {}", optionId, hasOptionOrder, option.isActive());
+        log.debug("옵션 삭제 요청 - optionId: {}, hasOptionOrder: {}, isActive: {}", optionId, hasOptionOrder, option.isActive());
 
         // 기존 옵션이 주문된 상태라면 삭제 불가
         if (!option.isDeletable(hasOptionOrder)) {
@@ -139,7 +180,8 @@ public class ProductOptionService {
         }
 
         productOptionRepository.delete(option);
-        log.info("옵션 삭제 완료: optionId={}", option.getId());
+        log.info(LogMarkers.MUTATION, "옵션 삭제 완료: optionId={}", option.getId());
+        eventPublisher.publishEvent(CatalogChangeEvent.option(Action.DELETED, option.getProduct().getId(), optionId));
     }
 
     /**
@@ -155,7 +197,8 @@ public class ProductOptionService {
         long activeOptionCount = productOptionRepository.countByProductIdAndIsActive(option.getProduct().getId(), true);
 
         option.activate((int) activeOptionCount);
-        log.info("옵션 활성화 완료: optionId={}", option.getId());
+        log.info(LogMarkers.MUTATION, "옵션 활성화 완료: optionId={}", option.getId());
+        eventPublisher.publishEvent(CatalogChangeEvent.option(Action.ACTIVATED, option.getProduct().getId(), optionId));
     }
 
     /**
@@ -169,7 +212,24 @@ public class ProductOptionService {
                 .orElseThrow(() -> new CustomException(ErrorCode.OPTION_NOT_FOUND));
 
         option.deactivate();
-        log.info("옵션 비활성화 완료: optionId={}", option.getId());
+        log.info(LogMarkers.MUTATION, "옵션 비활성화 완료: optionId={}", option.getId());
+        eventPublisher.publishEvent(CatalogChangeEvent.option(Action.DEACTIVATED, option.getProduct().getId(), optionId));
+    }
+
+    /**
+     * ID 목록으로 옵션 조회 (IN 조회, MultiGet.CHUNK_SIZE개씩)
+     *
+     * @param optionIds 조회할 옵션 ID (중복 없음)
+     * @return 옵션 ID별 옵션 정보 (없는 옵션은 포함하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ProductOptionResponse> getOptionsByIds(Collection<Long> optionIds) {
+        Map<Long, ProductOptionResponse> options = MultiGet.inChunks(optionIds, productOptionRepository::findAllById).stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toMap(ProductOptionResponse::getId, Function.identity()));
+        log.debug("옵션 ID 목록 조회 - requested: {}, found: {}", optionIds.size(), options.size());
+
+        return options;
     }
 
     /**
@@ -181,7 +241,7 @@ public class ProductOptionService {
     @Transactional(readOnly = true)
     public List<ProductOptionResponse> getAllOptionsByProduct(Long productId) {
         List<ProductOption> options = productOptionRepository.findByProductId(productId);
-        log.info("상품의 모든 옵션 조회 - productId: {}, optionsCount: {}", productId, options.size());
+        log.debug("상품의 모든 옵션 조회 - productId: {}, optionsCount: {}", productId, options.size());
 
         return options.stream().map(this::convertToResponseDto).collect(Collectors.toList());
     }
@@ -199,12 +259,52 @@ public class ProductOptionService {
         if (activeOptions.isEmpty()) {
             log.warn("상품의 활성화된 옵션이 없습니다 - productId: {}", productId);
         } else {
-            log.info("상품의 활성화된 옵션 조회 - productId: {}, activeOptionsCount: {}", productId, activeOptions.size());
+            log.debug("상품의 활성화된 옵션 조회 - productId: {}, activeOptionsCount: {}", productId, activeOptions.size());
         }
 
         return activeOptions.stream().map(this::convertToResponseDto).collect(Collectors.toList());
     }
 
+    /**
+     * 상품의 옵션 조회 (고른 필드의 열만 SELECT, ID 순)
+     *
+     * @param productId 상품 ID
+     * @param activeOnly 활성화된 옵션만 조회할지 여부
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 옵션 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getOptionFieldsByProduct(Long productId, boolean activeOnly, SparseFieldset<ProductOptionResponse> fields) {
+        Specification<ProductOption> spec = (root, query, builder) -> builder.equal(root.get("product").get("id"), productId);
+        if (activeOnly) {
+            spec = spec.and((root, query, builder) -> builder.isTrue(root.get("isActive")));
+        }
+
+        List<Map<String, Object>> options = projectionRepository.findAll(ProductOption.class, fields.attributes(), spec, Sort.by("id"))
+                                                                .stream()
+                                                                .map(fields::from)
+                                                                .toList();
+        log.debug("상품의 옵션 조회 (필드 선택) - productId: {}, activeOnly: {}, optionsCount: {}", productId, activeOnly, options.size());
+
+        return options;
+    }
+
+    /**
+     * ID 목록으로 옵션 조회 (고른 필드의 열만 SELECT, MultiGet.CHUNK_SIZE개씩 IN 조회)
+     *
+     * @param optionIds 조회할 옵션 ID (중복 없음)
+     * @param fields 응답할 필드
+     * @return 옵션 ID별 고른 필드만 담은 옵션 정보 (없는 옵션은 포함하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, Object>> getOptionFieldsByIds(Collection<Long> optionIds, SparseFieldset<ProductOptionResponse> fields) {
+        return MultiGet.inChunks(optionIds, chunk -> projectionRepository.findAll(ProductOption.class, fields.attributes(),
+                               (root, query, builder) -> root.get("id").in(chunk), Sort.unsorted()))
+                       .stream()
+                       .map(fields::from)
+                       .collect(Collectors.toMap(fields::idOf, Function.identity()));
+    }
+
     /**
      * 상품 옵션 정보를 DTO로 변환
      *
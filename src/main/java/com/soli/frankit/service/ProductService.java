@@ -1,20 +1,36 @@
 package com.soli.frankit.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.soli.frankit.dto.ProductRequest;
 import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.dto.SparseFieldset;
 import com.soli.frankit.entity.Product;
 import com.soli.frankit.exception.CustomException;
 import com.soli.frankit.exception.ErrorCode;
 import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.ProjectionRepository;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import com.soli.frankit.util.JsonMergePatch;
+import com.soli.frankit.util.LogMarkers;
+import com.soli.frankit.util.MultiGet;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * packageName  : com.soli.frankit.service
  * fileName     : ProductService
@@ -29,8 +45,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProjectionRepository projectionRepository;
 
     private final OrderService orderService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMergePatch jsonMergePatch;
 
     /**
      * 상품 등록
@@ -48,7 +67,8 @@ public class ProductService {
                                     .build();
 
         Product savedProduct = productRepository.save(product);
-        log.info("상품 등록 완료: {}", savedProduct);
+        log.info(LogMarkers.MUTATION, "상품 등록 완료: {}", savedProduct);
+        eventPublisher.publishEvent(CatalogChangeEvent.product(Action.CREATED, savedProduct.getId()));
 
         return convertToResponseDto(savedProduct);
     }
@@ -66,11 +86,35 @@ public class ProductService {
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
         product.update(request.getName(), request.getDescription(), request.getPrice(), request.getShippingFee());
-        log.info("상품 수정 완료: {}", product);
+        log.info(LogMarkers.MUTATION, "상품 수정 완료: {}", product);
+        eventPublisher.publishEvent(CatalogChangeEvent.product(Action.UPDATED, productId));
 
         return convertToResponseDto(product);
     }
 
+    /**
+     * 상품 부분 수정 (JSON Merge Patch)
+     * - 보낸 필드만 바뀌므로 UPDATE 문에도 바뀐 열만 포함 (Product는 @DynamicUpdate)
+     *
+     * @param productId 수정할 상품 ID
+     * @param patch 수정할 필드만 담은 merge patch 문서
+     * @return 수정된 상품 정보
+     */
+    @Transactional
+    public ProductResponse patchProduct(Long productId, JsonNode patch) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        ProductRequest current = ProductRequest.builder()
+                                               .name(product.getName())
+                                               .description(product.getDescription())
+                                               .price(product.getPrice())
+                                               .shippingFee(product.getShippingFee())
+                                               .build();
+
+        return updateProduct(productId, jsonMergePatch.apply(current, patch, ProductRequest.class));
+    }
+
     /**
      * 상품 삭제
      *
@@ -82,7 +126,7 @@ public class ProductService {
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
         boolean hasOrder = orderService.hasOrders(productId); // 주문 여부 확인
-        log.info("상품 삭제 요청 - productId: {}, hasOrder: {}, isActive: {}", productId, hasOrder, product.isActive());
+        log.debug("상품 삭제 요청 - productId: {}, hasOrder: {}, isActive: {}", productId, hasOrder, product.isActive());
 
         // 삭제 가능 여부 확인
         if (!product.isDeletable(hasOrder)) {
@@ -91,7 +135,8 @@ public class ProductService {
         }
 
         productRepository.delete(product);
-        log.info("상품 삭제 완료: productId={}", productId);
+        log.info(LogMarkers.MUTATION, "상품 삭제 완료: productId={}", productId);
+        eventPublisher.publishEvent(CatalogChangeEvent.product(Action.DELETED, productId));
     }
 
     /**
@@ -105,7 +150,8 @@ public class ProductService {
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
         product.activate();
-        log.info("상품 활성화 완료: {}", product);
+        log.info(LogMarkers.MUTATION, "상품 활성화 완료: {}", product);
+        eventPublisher.publishEvent(CatalogChangeEvent.product(Action.ACTIVATED, productId));
     }
 
     /**
@@ -119,7 +165,8 @@ public class ProductService {
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
         product.deactivate();
-        log.info("상품 비활성화 완료: {}", product);
+        log.info(LogMarkers.MUTATION, "상품 비활성화 완료: {}", product);
+        eventPublisher.publishEvent(CatalogChangeEvent.product(Action.DEACTIVATED, productId));
     }
 
     /**
@@ -133,11 +180,28 @@ public class ProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
-        log.info("상품 조회 완료: {}", product);
+        log.debug("상품 조회 완료: {}", product);
 
         return convertToResponseDto(product);
     }
 
+    /**
+     * ID 목록으로 상품 조회 (IN 조회, MultiGet.CHUNK_SIZE개씩)
+     *
+     * @param productIds 조회할 상품 ID (중복 없음)
+     * @return 상품 ID별 상품 정보 (없는 상품은 포함하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ProductResponse> getProductsByIds(Collection<Long> productIds) {
+        Map<Long, ProductResponse> products = MultiGet.inChunks(productIds, productRepository::findAllById).stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toMap(ProductResponse::getId, Function.identity()));
+
+        log.debug("상품 ID 목록 조회 완료: requested={}, found={}", productIds.size(), products.size());
+
+        return products;
+    }
+
     /**
      * 상품 목록 조회 (페이징)
      *
@@ -151,16 +215,73 @@ public class ProductService {
 
         Page<Product> products = productRepository.findAll(pageable);
 
-        log.info("상품 목록 조회 완료: page={}, size={}, totalElements={}", page, size, products.getTotalElements());
+        log.debug("상품 목록 조회 완료: page={}, size={}, totalElements={}", page, size, products.getTotalElements());
 
-        products.getContent().forEach(product ->
-                log.info("상품 목록 정보: id={}, name={}, price={}, shippingFee={}",
-                        product.getId(), product.getName(), product.getPrice(), product.getShippingFee())
-        );
+        if (log.isDebugEnabled()) { // 항목별 로그는 DEBUG에서만 (목록 호출마다 페이지 크기만큼 출력되지 않도록)
+            products.getContent().forEach(product ->
+                    log.debug("상품 목록 정보: id={}, name={}, price={}, shippingFee={}",
+                            product.getId(), product.getName(), product.getPrice(), product.getShippingFee())
+            );
+        }
 
         return products.map(this::convertToResponseDto);
     }
 
+    /**
+     * 상품 단건 조회 (고른 필드의 열만 SELECT)
+     *
+     * @param productId 조회할 상품 ID
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 상품 정보
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getProductFields(Long productId, SparseFieldset<ProductResponse> fields) {
+        List<Tuple> rows = projectionRepository.findAll(Product.class, fields.attributes(),
+                (root, query, builder) -> builder.equal(root.get("id"), productId), Sort.unsorted());
+        if (rows.isEmpty()) {
+            throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        return fields.from(rows.get(0));
+    }
+
+    /**
+     * 상품 목록 조회 (페이징, 고른 필드의 열만 SELECT)
+     *
+     * @param page 페이지 번호
+     * @param size 페이지당 항목 수
+     * @param fields 응답할 필드
+     * @return 고른 필드만 담은 상품 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllProductFields(int page, int size, SparseFieldset<ProductResponse> fields) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending()); // getAllProducts와 같은 정렬
+
+        List<Map<String, Object>> content = projectionRepository.findAll(Product.class, fields.attributes(), null, pageable)
+                                                                .stream()
+                                                                .map(fields::from)
+                                                                .toList();
+        log.debug("상품 목록 조회 완료 (필드 선택): page={}, size={}, fields={}", page, size, fields.attributes());
+
+        return PageableExecutionUtils.getPage(content, pageable, productRepository::count);
+    }
+
+    /**
+     * ID 목록으로 상품 조회 (고른 필드의 열만 SELECT, MultiGet.CHUNK_SIZE개씩 IN 조회)
+     *
+     * @param productIds 조회할 상품 ID (중복 없음)
+     * @param fields 응답할 필드
+     * @return 상품 ID별 고른 필드만 담은 상품 정보 (없는 상품은 포함하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, Object>> getProductFieldsByIds(Collection<Long> productIds, SparseFieldset<ProductResponse> fields) {
+        return MultiGet.inChunks(productIds, chunk -> projectionRepository.findAll(Product.class, fields.attributes(),
+                               (root, query, builder) -> root.get("id").in(chunk), Sort.unsorted()))
+                       .stream()
+                       .map(fields::from)
+                       .collect(Collectors.toMap(fields::idOf, Function.identity()));
+    }
+
     /**
      * 상품 정보를 DTO로 변환
      *
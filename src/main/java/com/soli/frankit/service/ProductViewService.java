@@ -0,0 +1,186 @@
+package com.soli.frankit.service;
+
+import com.soli.frankit.dto.ProductViewResponse;
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.entity.ProductView;
+import com.soli.frankit.entity.ProductView.DetailNode;
+import com.soli.frankit.entity.ProductView.OptionNode;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.ProductViewRepository;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import com.soli.frankit.service.CatalogChangeEvent.Target;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * packageName  : com.soli.frankit.service
+ * fileName     : ProductViewService
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 모델(product_view)을 갱신/조회하는 서비스
+ *                - 변경 메서드의 트랜잭션 안에서 동기로 반영하므로, 변경이 롤백되면 조회 모델도 롤백
+ *                - 조회 모델 행을 잠근 뒤 이벤트를 보낸 변경만 덧입히므로, 같은 상품의 다른 변경과 동시에 반영돼도 서로 덮어쓰지 않음
+ *                - 전체 재생성은 ID 구간 단위로 나눠 호출 (ProductViewRebuilder)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductViewService {
+
+    private final ProductViewRepository productViewRepository;
+    private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final OptionDetailRepository optionDetailRepository;
+
+    /**
+     * 변경 이벤트를 상품 조회 모델에 반영
+     *
+     * @param event 서비스의 변경 메서드가 발행한 이벤트
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(CatalogChangeEvent event) {
+        Long productId = event.productId();
+        if (event.target() == Target.PRODUCT && event.action() == Action.DELETED) {
+            productViewRepository.deleteById(productId);
+            return;
+        }
+        if (event.target() == Target.PRODUCT && event.action() == Action.CREATED) {
+            // 새 상품은 잠글 행이 없으므로 바로 추가 (없는 행을 잠그면 MySQL 갭 잠금으로 동시 등록끼리 교착될 수 있음)
+            productRepository.findById(productId).ifPresent(product -> productViewRepository.save(new ProductView(product, List.of())));
+            return;
+        }
+
+        Optional<ProductView> locked = productViewRepository.findForUpdate(productId);
+        if (locked.isEmpty()) {
+            // 재생성 전에 등록된 상품이면 현재 트리로 새로 만듦
+            productRepository.findById(productId).ifPresent(product -> productViewRepository.save(
+                    new ProductView(product, optionTrees(List.of(productId)).getOrDefault(productId, List.of()))));
+            return;
+        }
+
+        ProductView view = locked.get();
+        switch (event.target()) {
+            case PRODUCT -> applyProduct(view, productId);
+            case OPTION -> applyOption(view, event);
+            case DETAIL -> applyDetail(view, event);
+        }
+        log.debug("상품 조회 모델 반영 - event: {}", event);
+    }
+
+    /**
+     * 상품 화면 조회 (상품 조회 모델 PK 조회 한 번)
+     *
+     * @param productId 조회할 상품 ID
+     * @return 상품과 활성화된 옵션 트리
+     */
+    @Transactional(readOnly = true)
+    public ProductViewResponse getProductView(Long productId) {
+        ProductView view = productViewRepository.findById(productId)
+                .orElseGet(() -> productRepository.findById(productId) // 재생성 전이면 원본 테이블에서 구성
+                        .map(product -> new ProductView(product, optionTrees(List.of(productId)).getOrDefault(productId, List.of())))
+                        .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND)));
+
+        return ProductViewResponse.from(view);
+    }
+
+    /**
+     * ID 구간의 상품 조회 모델 재생성 (구간마다 별도 트랜잭션)
+     * - 조회 모델 행을 먼저 잠가, 이후 원본 조회가 진행 중인 변경 반영과 섞이지 않게 함
+     * - 요청 벌크헤드를 거치지 않음 (동시 실행은 ProductViewRebuilder의 재생성 구간 수로 제한)
+     *
+     * @param from 시작 상품 ID (포함)
+     * @param to 끝 상품 ID (포함)
+     * @return 재생성한 상품 수
+     */
+    @Transactional
+    public int rebuild(long from, long to) {
+        Map<Long, ProductView> existing = productViewRepository.findAllForUpdate(from, to).stream()
+                .collect(Collectors.toMap(ProductView::getId, Function.identity()));
+        List<Product> products = productRepository.findByIdBetweenOrderByIdAsc(from, to);
+        Map<Long, List<OptionNode>> trees = products.isEmpty() ? Map.of()
+                : optionTrees(products.stream().map(Product::getId).toList());
+
+        for (Product product : products) {
+            List<OptionNode> tree = trees.getOrDefault(product.getId(), List.of());
+            ProductView view = existing.remove(product.getId());
+            if (view == null) {
+                productViewRepository.save(new ProductView(product, tree));
+            } else {
+                view.updateProduct(product);
+                view.replaceOptions(tree);
+            }
+        }
+        productViewRepository.deleteAllInBatch(existing.values()); // 삭제된 상품
+
+        return products.size();
+    }
+
+    private void applyProduct(ProductView view, Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+        productRepository.flush(); // 수정일(@UpdateTimestamp)은 flush 시 정해짐
+        view.updateProduct(product);
+    }
+
+    private void applyOption(ProductView view, CatalogChangeEvent event) {
+        if (event.action() == Action.DELETED) {
+            view.removeOption(event.optionId());
+            return;
+        }
+        productOptionRepository.findById(event.optionId())
+                .filter(ProductOption::isActive)
+                .ifPresentOrElse(
+                        option -> view.putOption(OptionNode.of(option, optionDetailRepository.findByProductOptionAndIsActiveTrue(option))),
+                        () -> view.removeOption(event.optionId()));
+    }
+
+    private void applyDetail(ProductView view, CatalogChangeEvent event) {
+        if (event.action() == Action.DELETED) {
+            view.removeDetail(event.optionId(), event.detailId());
+            return;
+        }
+        optionDetailRepository.findById(event.detailId())
+                .filter(OptionDetail::isActive)
+                .ifPresentOrElse(
+                        detail -> view.putDetail(event.optionId(), DetailNode.from(detail)),
+                        () -> view.removeDetail(event.optionId(), event.detailId()));
+    }
+
+    /**
+     * 상품별 활성화된 옵션 트리 (옵션, 상세 옵션 각각 IN 조회 한 번)
+     */
+    private Map<Long, List<OptionNode>> optionTrees(Collection<Long> productIds) {
+        List<ProductOption> options = productOptionRepository.findByProductIdInAndIsActiveTrueOrderByIdAsc(productIds);
+        if (options.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<OptionDetail>> details = optionDetailRepository
+                .findByProductOptionIdInAndIsActiveTrueOrderByIdAsc(options.stream().map(ProductOption::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(detail -> detail.getProductOption().getId()));
+
+        return options.stream().collect(Collectors.groupingBy(option -> option.getProduct().getId(),
+                Collectors.mapping(option -> OptionNode.of(option, details.getOrDefault(option.getId(), List.of())),
+                        Collectors.toList())));
+    }
+
+}
@@ -2,13 +2,18 @@ package com.soli.frankit.service;
 
 import com.soli.frankit.dto.UserRequest;
 import com.soli.frankit.dto.UserResponse;
+import com.soli.frankit.entity.Role;
 import com.soli.frankit.entity.User;
 import com.soli.frankit.exception.CustomException;
 import com.soli.frankit.exception.ErrorCode;
 import com.soli.frankit.repository.UserRepository;
+import com.soli.frankit.util.LogMarkers;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * packageName  com.soli.frankit.service
@@ -18,23 +23,27 @@ import org.springframework.stereotype.Service;
  * description  회원가입 및 사용자 관리를 담당하는 서비스 클래스
  */
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EmailMembershipFilter emailMembershipFilter;
 
     /**
      * 회원가입
+     * - 이메일 필터에 확실히 없는 이메일은 중복 조회 없이 INSERT 1회로 처리
+     * - 동시 가입이나 다른 서버에서 가입한 이메일은 유니크 제약 위반으로 감지
      *
      * @param request 회원가입 요청 DTO
      * @return 가입된 사용자 정보
      * @throws CustomException(ErrorCode.EMAIL_ALREADY_EXISTS) 중복 이메일 예외 발생
      */
     public UserResponse register(UserRequest request) {
-        // 이메일 중복 검사 (existsByEmail() 사용하여 최적화)
-        if (userRepository.existsByEmail(request.getEmail())) {
+        // 이메일 중복 검사 (필터에 있을 수도 있는 경우에만 existsByEmail() 조회)
+        if (emailMembershipFilter.mightContain(request.getEmail()) && userRepository.existsByEmail(request.getEmail())) {
             throw new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
@@ -47,11 +56,60 @@ public class UserService {
                         .password(encodedPassword)
                         .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("회원가입 실패 - 이메일 유니크 제약 위반: {}", request.getEmail());
+            throw new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
+        emailMembershipFilter.put(savedUser.getEmail());
 
         // 비밀번호를 제외한 응답 DTO 반환
         return new UserResponse(savedUser.getEmail(), savedUser.getCreatedAt());
     }
 
-}
+    /**
+     * 사용자 권한 변경 (관리자 전용)
+     * - 토큰에 권한이 담겨 있으므로 대상 사용자가 다시 로그인해야 적용
+     *
+     * @param email 권한을 변경할 사용자 이메일
+     * @param role 변경할 권한
+     * @throws CustomException(ErrorCode.MEMBER_NOT_FOUND) 사용자가 조회되지 않는 경우 예외 발생
+     */
+    @Transactional
+    public void changeRole(String email, Role role) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+
+        user.changeRole(role);
+        log.info(LogMarkers.MUTATION, "사용자 권한 변경 완료: userId={}, role={}", user.getId(), role);
+    }
 
+    /**
+     * 초기 관리자 계정 준비 (기동 시 admin.bootstrap 설정으로 실행)
+     * - 계정이 없으면 ADMIN 권한으로 생성
+     * - 이미 있으면 권한만 ADMIN으로 변경 (비밀번호는 그대로)
+     *
+     * @param email 관리자 이메일
+     * @param password 관리자 비밀번호 (계정을 새로 만들 때만 사용)
+     */
+    @Transactional
+    public void provisionAdmin(String email, String password) {
+        userRepository.findByEmail(email).ifPresentOrElse(user -> {
+            if (user.getRole() != Role.ADMIN) {
+                user.changeRole(Role.ADMIN);
+                log.info(LogMarkers.MUTATION, "초기 관리자 권한 부여: userId={}", user.getId());
+            }
+        }, () -> {
+            User admin = userRepository.save(User.builder()
+                                                 .email(email)
+                                                 .password(passwordEncoder.encode(password))
+                                                 .role(Role.ADMIN)
+                                                 .build());
+            emailMembershipFilter.put(admin.getEmail());
+            log.info(LogMarkers.MUTATION, "초기 관리자 계정 생성: userId={}", admin.getId());
+        });
+    }
+
+}
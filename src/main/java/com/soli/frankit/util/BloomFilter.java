@@ -0,0 +1,120 @@
+package com.soli.frankit.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : BloomFilter
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 문자열 집합의 포함 여부를 확률적으로 판단하는 블룸 필터 (thread-safe)
+ *                - mightContain()이 false면 확실히 없음, true면 있을 수도 있음
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * BloomFilter 생성자
+     *
+     * @param expectedInsertions 예상 저장 개수
+     * @param falsePositiveRate 허용 오탐률 (0 < fpp < 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("블룸 필터 설정값이 올바르지 않습니다.");
+        }
+
+        // 최적 비트 수: m = -n * ln(p) / (ln 2)^2, 최적 해시 수: k = m / n * ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 값 추가
+     *
+     * @param value 추가할 값
+     */
+    public void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L);
+
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1, h2, i));
+        }
+    }
+
+    /**
+     * 값 포함 여부 확인
+     *
+     * @param value 확인할 값
+     * @return false면 확실히 없음, true면 있을 수도 있음
+     */
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1, h2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 두 해시 값을 조합해 i번째 비트 위치 계산 (Kirsch-Mitzenmacher)
+     */
+    private long index(long h1, long h2, int i) {
+        long combined = h1 + i * h2;
+        if (combined < 0) {
+            combined = ~combined;
+        }
+        return combined % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * 문자열의 64비트 해시 (FNV-1a + 비트 믹싱)
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * 64비트 값의 비트를 고르게 섞음 (MurmurHash3 finalizer)
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : Bulkhead
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 동시 실행 개수를 제한하는 벌크헤드 (세마포어 + 대기 시간 제한)
+ *                - 가상 스레드가 커넥션 풀 앞에 무한정 쌓이지 않도록 입구에서 제한
+ */
+@Slf4j
+@Getter
+public class Bulkhead implements MeterBinder {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final Duration maxWait;
+    private final Semaphore semaphore;
+
+    private final LongAdder permittedCalls = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+    private volatile Timer waitTimer;
+
+    /**
+     * Bulkhead 생성자
+     *
+     * @param name 벌크헤드 이름 (메트릭 태그)
+     * @param maxConcurrentCalls 최대 동시 실행 개수
+     * @param maxWait 자리가 날 때까지 기다리는 최대 시간
+     */
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("벌크헤드 동시 실행 개수는 1 이상이어야 합니다: " + name);
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWait = maxWait;
+        this.semaphore = new Semaphore(maxConcurrentCalls, true); // 먼저 온 요청부터 처리
+    }
+
+    /**
+     * 실행 권한 획득
+     *
+     * @throws CustomException(ErrorCode.SERVICE_BUSY) 대기 시간 안에 권한을 얻지 못한 경우
+     */
+    public void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+
+        try {
+            acquired = semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        Timer timer = waitTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            rejectedCalls.increment();
+            log.warn("벌크헤드 대기 시간 초과 - name: {}, maxConcurrentCalls: {}, waiting: {}",
+                    name, maxConcurrentCalls, semaphore.getQueueLength());
+            throw new CustomException(ErrorCode.SERVICE_BUSY);
+        }
+        permittedCalls.increment();
+    }
+
+    /**
+     * 실행 권한 반환
+     */
+    public void release() {
+        semaphore.release();
+    }
+
+    /**
+     * 벌크헤드 메트릭 등록 (이름별 태그)
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bulkhead.available.permits", semaphore, Semaphore::availablePermits)
+             .tag("name", name)
+             .description("사용 가능한 실행 권한 수")
+             .register(registry);
+        Gauge.builder("bulkhead.waiting.calls", semaphore, Semaphore::getQueueLength)
+             .tag("name", name)
+             .description("실행 권한을 기다리는 요청 수")
+             .register(registry);
+        FunctionCounter.builder("bulkhead.calls", permittedCalls, LongAdder::sum)
+                       .tags("name", name, "result", "permitted")
+                       .register(registry);
+        FunctionCounter.builder("bulkhead.calls", rejectedCalls, LongAdder::sum)
+                       .tags("name", name, "result", "rejected")
+                       .register(registry);
+        this.waitTimer = Timer.builder("bulkhead.wait")
+                              .tag("name", name)
+                              .description("실행 권한 획득까지 대기한 시간")
+                              .publishPercentileHistogram()
+                              .register(registry);
+    }
+
+}
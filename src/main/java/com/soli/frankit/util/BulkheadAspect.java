@@ -0,0 +1,59 @@
+package com.soli.frankit.util;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : BulkheadAspect
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 서비스의 트랜잭션 메서드를 읽기/쓰기 벌크헤드로 나눠 동시 실행 개수를 제한하는 Aspect
+ *                - 트랜잭션(커넥션 획득)보다 바깥에서 실행되도록 순서를 앞에 둠
+ *                - 이미 권한을 가진 스레드의 중첩 호출은 다시 제한하지 않음
+ *                - 상품 조회 모델 구간 재생성(ProductViewService.rebuild)은 요청이 아니므로 제외
+ *                  (재생성 동시 구간 수로 따로 제한, 쓰기 벌크헤드를 차지해 사용자 변경이 503이 되지 않도록)
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 100) // 트랜잭션 Aspect(LOWEST_PRECEDENCE)보다 바깥
+@RequiredArgsConstructor
+public class BulkheadAspect {
+
+    private static final ThreadLocal<Bulkhead> HELD = new ThreadLocal<>();
+
+    private final Bulkhead readBulkhead;
+    private final Bulkhead writeBulkhead;
+
+    /**
+     * 트랜잭션 메서드 실행 전 벌크헤드 권한 획득
+     *
+     * @param joinPoint 실행할 서비스 메서드
+     * @param transactional 메서드의 트랜잭션 설정 (readOnly 여부로 벌크헤드 선택)
+     * @return 서비스 메서드 실행 결과
+     * @throws Throwable 서비스 메서드에서 발생한 예외
+     */
+    @Around("execution(* com.soli.frankit.service..*(..)) && @annotation(transactional)"
+            + " && !execution(* com.soli.frankit.service.ProductViewService.rebuild(..))")
+    public Object limit(ProceedingJoinPoint joinPoint, Transactional transactional) throws Throwable {
+        if (HELD.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        Bulkhead bulkhead = transactional.readOnly() ? readBulkhead : writeBulkhead;
+        bulkhead.acquire();
+        HELD.set(bulkhead);
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            HELD.remove();
+            bulkhead.release();
+        }
+    }
+
+}
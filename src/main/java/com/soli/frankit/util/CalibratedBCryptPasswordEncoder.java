@@ -0,0 +1,115 @@
+package com.soli.frankit.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CalibratedBCryptPasswordEncoder
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 실행 환경에 맞춰 cost(work factor)를 보정하는 BCrypt 인코더
+ */
+@Slf4j
+@Getter
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final int SAMPLE_COUNT = 3; // cost별 측정 횟수 (최솟값 사용)
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private final int strength;
+
+    /**
+     * CalibratedBCryptPasswordEncoder 생성자
+     *
+     * @param strength BCrypt cost (4 ~ 31)
+     */
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * 목표 지연 시간 안에 해시 1회를 계산할 수 있는 가장 높은 cost로 인코더 생성
+     * - 최소 cost부터 측정하며, 목표 시간을 넘는 순간 이전 cost를 선택
+     * - 최소 cost조차 목표 시간을 넘으면 보안 하한선인 최소 cost 사용
+     *
+     * @param targetLatency 해시 1회당 허용 시간
+     * @param minStrength 최소 cost (보안 하한선)
+     * @param maxStrength 최대 cost
+     * @return 보정된 cost를 사용하는 인코더
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt cost 범위가 올바르지 않습니다: " + minStrength + " ~ " + maxStrength);
+        }
+
+        long targetNanos = targetLatency.toNanos();
+        int chosen = minStrength;
+        long chosenNanos = measure(minStrength);
+
+        if (chosenNanos <= targetNanos) {
+            for (int strength = minStrength + 1; strength <= maxStrength; strength++) {
+                long elapsed = measure(strength);
+                if (elapsed > targetNanos) {
+                    break;
+                }
+                chosen = strength;
+                chosenNanos = elapsed;
+            }
+        }
+
+        log.info("BCrypt cost 보정 완료 - 목표: {}ms, 선택된 cost: {}, 측정 시간: {}ms",
+                targetLatency.toMillis(), chosen, Duration.ofNanos(chosenNanos).toMillis());
+
+        return new CalibratedBCryptPasswordEncoder(chosen);
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 cost와 다르면 재해시 필요
+     * - 기본 구현은 cost가 낮은 경우만 재해시하므로, cost를 낮추는 경우도 반영하도록 재정의
+     *
+     * @param encodedPassword 저장된 해시
+     * @return 재해시 필요 여부
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * 주어진 cost로 해시 1회 계산 시간을 측정
+     *
+     * @param strength 측정할 cost
+     * @return 측정 시간 (나노초, 여러 번 측정한 값 중 최솟값)
+     */
+    private static long measure(int strength) {
+        String salt = BCrypt.gensalt(strength);
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        return best;
+    }
+
+}
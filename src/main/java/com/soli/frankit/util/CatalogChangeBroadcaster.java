@@ -0,0 +1,458 @@
+package com.soli.frankit.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soli.frankit.dto.OptionDetailResponse;
+import com.soli.frankit.dto.ProductOptionResponse;
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.entity.CatalogChange;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import com.soli.frankit.repository.CatalogChangeRepository;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.service.CatalogChangeEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogChangeBroadcaster
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 커밋된 상품/옵션/상세 옵션 변경을 SSE 구독자에게 전달
+ *                - 변경 로그 poller에서 변경을 받으므로 다른 노드의 변경도 커밋된 뒤에만 전달
+ *                - 변경마다 새 상태를 1번 조회하고 JSON으로 1번 직렬화한 뒤 모든 구독자가 공유
+ *                - 이벤트 ID는 변경 로그 순번(change_seq)이라 다른 노드나 재시작 후에도 Last-Event-ID로 이어 받기 가능
+ *                - 최근 이벤트는 고정 크기 버퍼에서, 버퍼보다 오래된 ID는 변경 로그에서 다시 보냄 (로그가 삭제되었거나 너무 많으면 resync 이벤트)
+ *                - 구독자마다 크기가 정해진 큐 + 가상 스레드 1개로 전송, 큐가 가득 차면 버리고 resync 이벤트 후 연결 종료
+ */
+@Slf4j
+public class CatalogChangeBroadcaster implements CatalogChangeSubscriber, MeterBinder, DisposableBean {
+
+    public static final String CHANGE_EVENT = "catalog-change";
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final StreamEvent OVERFLOW = new StreamEvent(null, RESYNC_EVENT, "{\"reason\":\"overflow\"}");
+    private static final StreamEvent RESUME_FAILED = new StreamEvent(null, RESYNC_EVENT, "{\"reason\":\"resume\"}");
+    private static final StreamEvent FULL_FLUSH = new StreamEvent(null, RESYNC_EVENT, "{\"reason\":\"gap\"}");
+
+    private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final OptionDetailRepository optionDetailRepository;
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final Duration heartbeat;
+
+    private final StreamEvent[] replay; // 전달 순서 % 크기 위치에 보관 (lock 안에서만 접근)
+    private final long[] replaySeqs; // 같은 위치 이벤트의 변경 로그 순번
+    private long published;
+    private final Object lock = new Object();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder overflowResyncs = new LongAdder();
+    private final LongAdder resumeResyncs = new LongAdder();
+
+    /**
+     * 전송할 SSE 이벤트
+     *
+     * @param id 이벤트 ID = 변경 로그 순번 (resync 이벤트는 null)
+     * @param name 이벤트 이름
+     * @param data JSON 문자열
+     */
+    public record StreamEvent(String id, String name, String data) {
+    }
+
+    /**
+     * 구독자 1명에게 이벤트를 쓰는 대상 (SseEmitter 또는 테스트용 기록기)
+     */
+    public interface Sink {
+
+        void send(StreamEvent event) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+
+    }
+
+    /**
+     * 변경 이벤트 본문
+     *
+     * @param state 변경 후 상태 (삭제되었으면 null)
+     */
+    public record ChangeMessage(CatalogChangeEvent.Target target, CatalogChangeEvent.Action action,
+                                Long productId, Long optionId, Long detailId, Object state) {
+    }
+
+    /**
+     * CatalogChangeBroadcaster 생성자
+     *
+     * @param replaySize 메모리에 보관할 최근 이벤트 수이자 Last-Event-ID로 다시 보낼 수 있는 최대 이벤트 수
+     * @param queueCapacity 구독자별 전송 대기 이벤트 최대 수 (넘으면 resync 후 연결 종료)
+     * @param maxSubscribers 최대 구독자 수 (넘으면 503)
+     * @param heartbeat 이벤트가 없을 때 연결 확인용 주석을 보내는 주기
+     */
+    public CatalogChangeBroadcaster(ProductRepository productRepository,
+                                    ProductOptionRepository productOptionRepository,
+                                    OptionDetailRepository optionDetailRepository,
+                                    CatalogChangeRepository catalogChangeRepository,
+                                    ObjectMapper objectMapper,
+                                    int replaySize,
+                                    int queueCapacity,
+                                    int maxSubscribers,
+                                    Duration heartbeat) {
+        this.productRepository = productRepository;
+        this.productOptionRepository = productOptionRepository;
+        this.optionDetailRepository = optionDetailRepository;
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.objectMapper = objectMapper;
+        this.replay = new StreamEvent[replaySize];
+        this.replaySeqs = new long[replaySize];
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * SSE 구독
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (처음이면 null)
+     * @param timeout 연결 유지 시간 (지나면 클라이언트가 Last-Event-ID로 다시 연결)
+     * @return SseEmitter
+     * @throws CustomException(ErrorCode.SERVICE_BUSY) 최대 구독자 수를 넘은 경우
+     */
+    public SseEmitter subscribe(String lastEventId, Duration timeout) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = subscribe(lastEventId, new Sink() {
+            @Override
+            public void send(StreamEvent event) throws IOException {
+                SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name()).data(event.data(), MediaType.APPLICATION_JSON);
+                emitter.send(event.id() == null ? builder : builder.id(event.id()));
+            }
+
+            @Override
+            public void heartbeat() throws IOException {
+                emitter.send(SseEmitter.event().comment("ping"));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+
+        emitter.onCompletion(subscriber::cancel);
+        emitter.onTimeout(subscriber::cancel);
+        emitter.onError(e -> subscriber.cancel());
+        return emitter;
+    }
+
+    /**
+     * 구독 등록 및 전송 스레드 시작
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (처음이면 null)
+     * @param sink 이벤트를 쓸 대상
+     * @return 구독자
+     */
+    Subscriber subscribe(String lastEventId, Sink sink) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new CustomException(ErrorCode.SERVICE_BUSY);
+        }
+
+        Subscriber subscriber = new Subscriber(sink);
+        List<StreamEvent> backlog = new ArrayList<>();
+        Long resumeFromLog = null;
+        synchronized (lock) { // 다시 보낼 이벤트와 이후 실시간 이벤트 사이에 빠지는 이벤트가 없도록
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                Long lastSeq = parseSeq(lastEventId);
+                if (lastSeq == null) {
+                    backlog.add(RESUME_FAILED);
+                    resumeResyncs.increment();
+                } else if (!collectReplay(lastSeq, backlog)) {
+                    resumeFromLog = lastSeq;
+                }
+            }
+            subscribers.add(subscriber);
+        }
+
+        Long fromLog = resumeFromLog;
+        subscriber.writer = Thread.ofVirtual()
+                                  .name("catalog-stream-subscriber")
+                                  .start(() -> {
+                                      if (fromLog == null) {
+                                          subscriber.run(backlog, false);
+                                      } else {
+                                          subscriber.run(replayFromLog(fromLog), true);
+                                      }
+                                  });
+        return subscriber;
+    }
+
+    private static Long parseSeq(String lastEventId) {
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null; // 순번이 아닌 ID (변경 전 형식 등)
+        }
+    }
+
+    /**
+     * 버퍼에서 lastSeq 이후의 이벤트를 전달 순서대로 backlog에 추가 (lock 안에서 호출)
+     *
+     * @return 버퍼가 lastSeq 바로 다음 순번까지 거슬러 올라가면 true
+     */
+    private boolean collectReplay(long lastSeq, List<StreamEvent> backlog) {
+        int size = (int) Math.min(published, replay.length);
+        long first = published - size;
+        if (size == 0 || replaySeqs[(int) (first % replay.length)] > lastSeq + 1) {
+            return false;
+        }
+        for (long i = first; i < published; i++) {
+            int index = (int) (i % replay.length);
+            if (replaySeqs[index] > lastSeq) {
+                backlog.add(replay[index]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 변경 로그에서 lastSeq 이후의 이벤트를 다시 만듦 (버퍼보다 오래된 ID, 다른 노드나 재시작 전에 받은 ID)
+     *
+     * @return 다시 보낼 이벤트 (이어 받을 수 없으면 resync 이벤트 1개)
+     */
+    private List<StreamEvent> replayFromLog(long lastSeq) {
+        try {
+            // 보관 기간이 지나 삭제되지 않았으면 이후 변경도 모두 남아 있음 (오래된 것부터 삭제)
+            if (lastSeq == 0 || catalogChangeRepository.existsById(lastSeq)) {
+                List<CatalogChange> changes = catalogChangeRepository.findByIdGreaterThanOrderByIdAsc(lastSeq, Limit.of(replay.length + 1));
+                if (changes.size() <= replay.length) {
+                    return changes.stream().map(change -> toStreamEvent(change.toEvent())).filter(Objects::nonNull).toList();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("변경 로그에서 이어 받기 실패 - lastSeq: {}", lastSeq, e);
+        }
+        resumeResyncs.increment();
+        return List.of(RESUME_FAILED);
+    }
+
+    /**
+     * 커밋된 변경 1건을 모든 구독자에게 전달 (변경 로그 poller 스레드에서 호출)
+     *
+     * @param event 변경 이벤트
+     */
+    @Override
+    public void onCatalogChange(CatalogChangeEvent event) {
+        StreamEvent streamEvent = toStreamEvent(event);
+        if (streamEvent == null) {
+            return;
+        }
+
+        synchronized (lock) {
+            int index = (int) (published++ % replay.length);
+            replay[index] = streamEvent;
+            replaySeqs[index] = event.changeSeq();
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(streamEvent);
+            }
+        }
+        publishedEvents.increment();
+    }
+
+    /**
+     * 새 상태를 담아 변경 이벤트 직렬화
+     *
+     * @return SSE 이벤트 (직렬화에 실패하면 null)
+     */
+    private StreamEvent toStreamEvent(CatalogChangeEvent event) {
+        try {
+            String data = objectMapper.writeValueAsString(new ChangeMessage(event.target(), event.action(),
+                    event.productId(), event.optionId(), event.detailId(), loadState(event)));
+            return new StreamEvent(Long.toString(event.changeSeq()), CHANGE_EVENT, data);
+        } catch (JsonProcessingException e) {
+            log.warn("변경 이벤트 직렬화 실패 - event: {}", event, e);
+            return null;
+        }
+    }
+
+    /**
+     * 변경 로그에서 놓친 변경이 있을 수 있으므로 모든 구독자에게 resync 전달 후 연결 종료
+     */
+    @Override
+    public void onFullFlush() {
+        synchronized (lock) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.drop(FULL_FLUSH);
+            }
+        }
+    }
+
+    /**
+     * 변경 후 상태 조회 (복제 DB 지연을 피하도록 트랜잭션 없이 주 DB에서 조회)
+     */
+    private Object loadState(CatalogChangeEvent event) {
+        if (event.action() == CatalogChangeEvent.Action.DELETED) {
+            return null;
+        }
+
+        try {
+            return switch (event.target()) {
+                case PRODUCT -> productRepository.findById(event.productId()).map(ProductResponse::from).orElse(null);
+                case OPTION -> productOptionRepository.findById(event.optionId()).map(ProductOptionResponse::from).orElse(null);
+                case DETAIL -> optionDetailRepository.findById(event.detailId()).map(OptionDetailResponse::from).orElse(null);
+            };
+        } catch (Exception e) {
+            log.warn("변경 후 상태 조회 실패 - event: {}", event, e);
+            return null;
+        }
+    }
+
+    /**
+     * 현재 구독자 수
+     *
+     * @return 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 스트림 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.stream.subscribers", subscribers, Set::size)
+             .description("SSE 구독자 수")
+             .register(registry);
+        FunctionCounter.builder("catalog.stream.events", publishedEvents, LongAdder::sum)
+                       .description("전달한 변경 이벤트 수")
+                       .register(registry);
+        FunctionCounter.builder("catalog.stream.resyncs", overflowResyncs, LongAdder::sum)
+                       .tag("reason", "overflow")
+                       .description("전송 대기 큐가 가득 차 resync 후 종료한 구독자 수")
+                       .register(registry);
+        FunctionCounter.builder("catalog.stream.resyncs", resumeResyncs, LongAdder::sum)
+                       .tag("reason", "resume")
+                       .description("Last-Event-ID를 버퍼와 변경 로그로 이어 받을 수 없어 resync를 보낸 구독자 수")
+                       .register(registry);
+    }
+
+    /**
+     * 종료 시 모든 구독 종료
+     */
+    @Override
+    public void destroy() {
+        subscribers.forEach(Subscriber::cancel);
+    }
+
+    /**
+     * 구독자 1명 (크기가 정해진 큐 + 전송 가상 스레드)
+     */
+    final class Subscriber {
+
+        private final Sink sink;
+        private final BlockingQueue<StreamEvent> queue = new ArrayBlockingQueue<>(queueCapacity + 1); // +1: resync 자리
+        private volatile Thread writer;
+
+        private Subscriber(Sink sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * 이벤트 추가 (lock 안에서 호출), 가득 차면 쌓인 이벤트를 버리고 resync 후 종료
+         */
+        private void offer(StreamEvent event) {
+            if (queue.size() >= queueCapacity || !queue.offer(event)) {
+                overflowResyncs.increment();
+                drop(OVERFLOW);
+            }
+        }
+
+        /**
+         * 쌓인 이벤트를 버리고 마지막으로 보낼 resync 이벤트만 남김 (lock 안에서 호출)
+         */
+        private void drop(StreamEvent resync) {
+            subscribers.remove(this);
+            queue.clear();
+            queue.offer(resync);
+        }
+
+        /**
+         * @param backlog 먼저 보낼 이벤트
+         * @param fromLog backlog를 변경 로그에서 읽었으면 true (이 노드에 아직 전달되지 않은 변경이 실시간으로 다시 올 수 있음)
+         */
+        private void run(List<StreamEvent> backlog, boolean fromLog) {
+            try {
+                Set<String> replayed = new HashSet<>();
+                for (StreamEvent event : backlog) {
+                    sink.send(event);
+                    if (fromLog && event.id() != null) {
+                        replayed.add(event.id());
+                    }
+                }
+                while (!Thread.currentThread().isInterrupted()) {
+                    StreamEvent event = queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        sink.heartbeat();
+                        continue;
+                    }
+                    if (event.id() != null && replayed.remove(event.id())) {
+                        continue;
+                    }
+                    sink.send(event);
+                    if (event == OVERFLOW || event == FULL_FLUSH) {
+                        return;
+                    }
+                }
+            } catch (IOException | InterruptedException e) {
+                log.debug("SSE 구독 종료 - {}", e.toString());
+            } catch (RuntimeException e) {
+                log.debug("SSE 구독 종료 - {}", e.toString()); // 이미 완료된 SseEmitter에 쓰는 경우
+            } finally {
+                subscribers.remove(this);
+                sink.close();
+            }
+        }
+
+        /**
+         * 구독 취소 (연결 종료/시간 초과/오류)
+         */
+        void cancel() {
+            subscribers.remove(this);
+            Thread thread = writer;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,255 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.entity.CatalogChange;
+import com.soli.frankit.repository.CatalogChangeRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogChangeLogPoller
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 변경 로그(catalog_changes)를 순번 순으로 이어 읽어 로컬 캐시를 무효화하는 poller
+ *                - 메시지 브로커 없이 다른 노드의 변경을 조회 주기 이내에 반영
+ *                - 순번이 건너뛴 경우(먼저 순번을 받은 트랜잭션이 늦게 커밋) 빈 순번을 기억해 두고 매번 다시 확인
+ *                - 빈 순번이 제한 시간 안에 채워지지 않거나 너무 많으면 놓친 변경이 있을 수 있으므로 전체 무효화
+ *                - 기동 시에는 로컬 캐시가 비어 있으므로 현재 마지막 순번부터 읽음
+ */
+@Slf4j
+public class CatalogChangeLogPoller implements MeterBinder, DisposableBean {
+
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final List<CatalogChangeSubscriber> subscribers;
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final int maxPendingGaps;
+
+    private long lastId = -1;                                          // 마지막으로 읽은 순번 (poll 안에서만 변경)
+    private final Map<Long, Long> pendingGaps = new LinkedHashMap<>(); // 빈 순번 -> 처음 발견한 시각
+    private volatile int pendingGapCount;
+    private volatile long lastSuccessNanos = System.nanoTime();
+
+    private final LongAdder appliedChanges = new LongAdder();
+    private final LongAdder fullFlushes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile Timer lagTimer;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * CatalogChangeLogPoller 생성자
+     *
+     * @param catalogChangeRepository 변경 로그 저장소
+     * @param subscribers 변경을 반영할 대상
+     * @param batchSize 한 번에 읽는 최대 개수
+     * @param gapTimeout 빈 순번이 채워지길 기다리는 최대 시간 (가장 긴 변경 트랜잭션보다 길게)
+     * @param maxPendingGaps 기억해 두는 빈 순번 최대 개수 (넘으면 즉시 전체 무효화)
+     */
+    public CatalogChangeLogPoller(CatalogChangeRepository catalogChangeRepository,
+                                  List<CatalogChangeSubscriber> subscribers,
+                                  int batchSize,
+                                  Duration gapTimeout,
+                                  int maxPendingGaps) {
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.subscribers = List.copyOf(subscribers);
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.maxPendingGaps = maxPendingGaps;
+    }
+
+    /**
+     * 주기적 조회 및 보관 기간이 지난 로그 삭제 시작
+     *
+     * @param interval 조회 주기 (다른 노드의 변경이 반영되기까지의 최대 시간)
+     * @param retention 변경 로그 보관 기간
+     */
+    public void start(Duration interval, Duration retention) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-change-log-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> purge(retention), 1, 1, TimeUnit.HOURS);
+    }
+
+    /**
+     * 새 변경 로그와 빈 순번을 읽어 반영
+     */
+    public synchronized void poll() {
+        try {
+            if (lastId < 0) {
+                lastId = catalogChangeRepository.findMaxId();
+                lastSuccessNanos = System.nanoTime();
+                return;
+            }
+
+            recheckGaps();
+
+            List<CatalogChange> changes;
+            do {
+                changes = catalogChangeRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(batchSize));
+                for (CatalogChange change : changes) {
+                    trackGaps(change.getId());
+                    apply(change);
+                    lastId = change.getId();
+                }
+            } while (changes.size() == batchSize);
+
+            expireGaps();
+            lastSuccessNanos = System.nanoTime();
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("변경 로그 조회 실패 - lastId: {}", lastId, e);
+        } finally {
+            pendingGapCount = pendingGaps.size();
+        }
+    }
+
+    private void recheckGaps() {
+        if (pendingGaps.isEmpty()) {
+            return;
+        }
+
+        List<CatalogChange> filled = new ArrayList<>(catalogChangeRepository.findAllById(pendingGaps.keySet()));
+        filled.sort(Comparator.comparing(CatalogChange::getId));
+        for (CatalogChange change : filled) {
+            pendingGaps.remove(change.getId());
+            apply(change);
+        }
+    }
+
+    private void trackGaps(long id) {
+        long missing = id - lastId - 1;
+        if (missing <= 0) {
+            return;
+        }
+
+        if (pendingGaps.size() + missing > maxPendingGaps) {
+            pendingGaps.clear();
+            fullFlush("빈 순번 " + missing + "개 (" + (lastId + 1) + " ~ " + (id - 1) + ")");
+            return;
+        }
+
+        long now = System.nanoTime();
+        for (long gap = lastId + 1; gap < id; gap++) {
+            pendingGaps.put(gap, now);
+        }
+    }
+
+    private void expireGaps() {
+        long now = System.nanoTime();
+        boolean expired = false;
+
+        for (Iterator<Long> firstSeen = pendingGaps.values().iterator(); firstSeen.hasNext(); ) {
+            if (now - firstSeen.next() > gapTimeoutNanos) {
+                firstSeen.remove();
+                expired = true;
+            }
+        }
+
+        if (expired) {
+            fullFlush("빈 순번 대기 시간 초과 (롤백되었거나 아직 커밋되지 않은 변경)");
+        }
+    }
+
+    private void apply(CatalogChange change) {
+        for (CatalogChangeSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onCatalogChange(change.toEvent());
+            } catch (Exception e) {
+                log.warn("변경 로그 반영 실패 - id: {}, subscriber: {}", change.getId(), subscriber.getClass().getSimpleName(), e);
+            }
+        }
+        appliedChanges.increment();
+
+        Timer timer = lagTimer;
+        if (timer != null && change.getCreatedAt() != null) {
+            Duration lag = Duration.between(change.getCreatedAt(), LocalDateTime.now());
+            timer.record(lag.isNegative() ? Duration.ZERO : lag); // 노드 간 시계 차이로 음수가 될 수 있음
+        }
+    }
+
+    private void fullFlush(String reason) {
+        log.warn("변경 로그 누락 가능성으로 전체 무효화 - reason: {}, lastId: {}", reason, lastId);
+        for (CatalogChangeSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onFullFlush();
+            } catch (Exception e) {
+                log.warn("전체 무효화 실패 - subscriber: {}", subscriber.getClass().getSimpleName(), e);
+            }
+        }
+        fullFlushes.increment();
+    }
+
+    private void purge(Duration retention) {
+        try {
+            int deleted = catalogChangeRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(retention),
+                    catalogChangeRepository.findMaxId());
+            if (deleted > 0) {
+                log.info("보관 기간이 지난 변경 로그 삭제 - count: {}", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("변경 로그 삭제 실패", e);
+        }
+    }
+
+    /**
+     * 변경 로그 반영 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("catalog.changes.applied", appliedChanges, LongAdder::sum)
+                       .description("반영한 변경 로그 수")
+                       .register(registry);
+        FunctionCounter.builder("catalog.changes.full.flushes", fullFlushes, LongAdder::sum)
+                       .description("빈 순번으로 인한 전체 무효화 횟수")
+                       .register(registry);
+        FunctionCounter.builder("catalog.changes.poll.failures", failures, LongAdder::sum)
+                       .register(registry);
+        Gauge.builder("catalog.changes.pending.gaps", this, poller -> poller.pendingGapCount)
+             .description("채워지길 기다리는 빈 순번 수")
+             .register(registry);
+        Gauge.builder("catalog.changes.staleness", this,
+                      poller -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - poller.lastSuccessNanos))
+             .baseUnit("milliseconds")
+             .description("마지막으로 조회에 성공한 뒤 지난 시간")
+             .register(registry);
+        this.lagTimer = Timer.builder("catalog.changes.lag")
+                             .description("변경 시각부터 이 노드에 반영되기까지 걸린 시간")
+                             .publishPercentileHistogram()
+                             .register(registry);
+    }
+
+    /**
+     * 종료 시 조회 스레드 정리
+     */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+}
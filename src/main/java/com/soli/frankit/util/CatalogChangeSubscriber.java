@@ -0,0 +1,26 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.service.CatalogChangeEvent;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogChangeSubscriber
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 변경 로그를 읽어 로컬 상태(캐시 등)를 갱신하는 대상 (CatalogChangeLogPoller가 호출)
+ */
+public interface CatalogChangeSubscriber {
+
+    /**
+     * 변경 로그 1건 반영
+     *
+     * @param event 변경 이벤트 (다른 노드의 변경 포함)
+     */
+    void onCatalogChange(CatalogChangeEvent event);
+
+    /**
+     * 놓친 변경이 있을 수 있어 전체를 비워야 하는 경우
+     */
+    void onFullFlush();
+
+}
@@ -0,0 +1,575 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.entity.CatalogChange;
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.repository.CatalogChangeRepository;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.service.CatalogChangeEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogReadModel
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 조회 API가 사용하는 최신 CatalogSnapshot 보관 및 갱신
+ *                - 기동 시 전체를 ID 순으로 나눠 읽어 적재 (적재 전에는 current()가 null이므로 기존 서비스로 조회)
+ *                - 변경 로그 poller에서 받은 변경 ID를 모아 주기마다 DB에서 다시 읽고, 병합한 새 스냅샷으로 교체
+ *                - 변경이 누락됐을 수 있으면(빈 순번 시간 초과, 반영 실패) 전체를 다시 적재 (적재 중에는 기존 스냅샷으로 응답)
+ *                - 서비스를 거치지 않은 변경(직접 실행한 SQL, 일괄 적재)도 반영하도록 주기적으로 (updated_at, ID) 인덱스로 변경분을 조회하고,
+ *                  삭제까지 맞추도록 주기적으로 전체를 다시 적재
+ *                - 최근에 변경한 사용자의 요청은 스냅샷 대신 주 DB로 조회 (ReadYourWrites)
+ *                - 이 노드의 서비스가 변경을 커밋하면 그 변경이 스냅샷에 반영될 때까지(최대 유지 시간) 조회를 DB로 (복제 DB 라우팅과 무관)
+ *                - 스냅샷을 교체하면 반영한 ID의 응답 캐시를 다시 무효화
+ *                  (poller가 무효화한 뒤 교체 전까지 이전 스냅샷으로 만든 응답이 캐시에 다시 저장될 수 있으므로)
+ *                - 스냅샷 파일을 설정하면 주기적으로/종료 시 저장하고, 기동 시 파일로 시작한 뒤 저장 이후의 변경만 DB에서 따라잡음
+ *                  (등록/수정은 (updated_at, ID) 변경분 조회, 삭제는 변경 로그)
+ */
+@Slf4j
+public class CatalogReadModel implements CatalogChangeSubscriber, MeterBinder, DisposableBean {
+
+    private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final OptionDetailRepository optionDetailRepository;
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final ReadYourWrites readYourWrites; // 복제 DB 라우팅을 쓰지 않으면 null
+    private final CatalogSnapshotFile snapshotFile; // 파일을 쓰지 않으면 null
+    private final CatalogChangeSubscriber swapListener; // 응답 캐시를 쓰지 않으면 null
+    private final int batchSize;
+    private final Duration reconcileSettle;
+    private final Duration fileMaxAge;
+    private final Duration localWritePin;
+
+    private volatile CatalogSnapshot snapshot; // 적재 전에는 null
+    private final Set<Long> pendingProducts = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingOptions = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingDetails = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> writtenProducts = new ConcurrentHashMap<>(); // 이 노드에서 변경한 ID → 커밋 시각 (반영되면 제거)
+    private final Map<Long, Long> writtenOptions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> writtenDetails = new ConcurrentHashMap<>();
+    private final AtomicBoolean reloadRequested = new AtomicBoolean(true);
+    private volatile long lastSwapNanos = System.nanoTime();
+    private Watermark productWatermark; // 변경분 조회 위치 (적재 시 초기화)
+    private Watermark optionWatermark;
+    private Watermark detailWatermark;
+    private LocalDateTime appliedWatermark; // 이 시각까지의 변경분은 스냅샷에 반영됨 (파일 저장 기준 시각)
+
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder reconciled = new LongAdder();
+    private final LongAdder fileSaves = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * CatalogReadModel 생성자
+     *
+     * @param catalogChangeRepository 파일로 시작할 때 저장 이후의 삭제를 읽을 변경 로그
+     * @param readYourWrites 최근 변경한 사용자 확인 (null이면 항상 스냅샷으로 응답)
+     * @param snapshotFile 스냅샷 파일 (null이면 저장/파일 적재 안 함)
+     * @param swapListener 스냅샷 교체 후 반영한 변경을 전달할 대상 (응답 캐시, null이면 전달 안 함)
+     * @param batchSize 전체 적재/변경분 조회 시 한 번에 읽는 최대 개수
+     * @param reconcileSettle 변경분 조회 시 이 시간보다 최근의 변경은 다음 조회로 미룸 (가장 긴 변경 트랜잭션보다 길게)
+     * @param fileMaxAge 이보다 오래된 파일은 사용하지 않음 (변경 로그 보관 기간, 그 사이의 삭제를 알 수 없으므로)
+     * @param localWritePin 이 노드의 변경 후 스냅샷 대신 DB로 조회하는 최대 시간 (반영되면 바로 해제)
+     */
+    public CatalogReadModel(ProductRepository productRepository,
+                            ProductOptionRepository productOptionRepository,
+                            OptionDetailRepository optionDetailRepository,
+                            CatalogChangeRepository catalogChangeRepository,
+                            ReadYourWrites readYourWrites,
+                            CatalogSnapshotFile snapshotFile,
+                            CatalogChangeSubscriber swapListener,
+                            int batchSize,
+                            Duration reconcileSettle,
+                            Duration fileMaxAge,
+                            Duration localWritePin) {
+        this.productRepository = productRepository;
+        this.productOptionRepository = productOptionRepository;
+        this.optionDetailRepository = optionDetailRepository;
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.readYourWrites = readYourWrites;
+        this.snapshotFile = snapshotFile;
+        this.swapListener = swapListener;
+        this.batchSize = batchSize;
+        this.reconcileSettle = reconcileSettle;
+        this.fileMaxAge = fileMaxAge;
+        this.localWritePin = localWritePin;
+    }
+
+    /**
+     * 전체 적재 및 주기적 갱신 시작
+     *
+     * @param interval 모아 둔 변경을 반영하는 주기
+     * @param reconcileInterval 서비스를 거치지 않은 변경을 찾는 변경분 조회 주기
+     * @param fullReloadInterval 전체 재적재 주기 (서비스를 거치지 않은 삭제 반영)
+     * @param saveInterval 스냅샷 파일 저장 주기 (파일을 쓰지 않으면 무시)
+     */
+    public void start(Duration interval, Duration reconcileInterval, Duration fullReloadInterval, Duration saveInterval) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-read-model");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::reconcile, reconcileInterval.toMillis(), reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::onFullFlush, fullReloadInterval.toMillis(), fullReloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (snapshotFile != null) {
+            scheduler.scheduleWithFixedDelay(this::save, saveInterval.toMillis(), saveInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 현재 요청에 사용할 스냅샷
+     *
+     * @return 스냅샷 (적재 전이거나 이 노드의 변경이 아직 반영되지 않았거나 최근 변경한 사용자의 요청이면 null)
+     */
+    public CatalogSnapshot current() {
+        if (readYourWrites != null && readYourWrites.isPinned()) {
+            return null;
+        }
+        if (hasUnappliedLocalWrites()) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * 이 노드의 서비스가 발행한 변경 기록 (커밋 후, 스냅샷에 반영될 때까지 조회를 DB로)
+     *
+     * @param event 상품/옵션/상세 옵션 변경 이벤트
+     */
+    @EventListener
+    public void onLocalWrite(CatalogChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markWritten(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWritten(event);
+            }
+        });
+    }
+
+    private void markWritten(CatalogChangeEvent event) {
+        long committedAt = System.nanoTime();
+        switch (event.target()) {
+            case PRODUCT -> writtenProducts.put(event.productId(), committedAt);
+            case OPTION -> writtenOptions.put(event.optionId(), committedAt);
+            case DETAIL -> writtenDetails.put(event.detailId(), committedAt);
+        }
+    }
+
+    private boolean hasUnappliedLocalWrites() {
+        if (writtenProducts.isEmpty() && writtenOptions.isEmpty() && writtenDetails.isEmpty()) {
+            return false;
+        }
+
+        unpinCommittedBefore(System.nanoTime() - localWritePin.toNanos()); // 반영이 늦어져도 이 시간이 지나면 스냅샷으로 응답
+        return !writtenProducts.isEmpty() || !writtenOptions.isEmpty() || !writtenDetails.isEmpty();
+    }
+
+    @Override
+    public void onCatalogChange(CatalogChangeEvent event) {
+        switch (event.target()) {
+            case PRODUCT -> pendingProducts.add(event.productId());
+            case OPTION -> pendingOptions.add(event.optionId());
+            case DETAIL -> pendingDetails.add(event.detailId());
+        }
+    }
+
+    @Override
+    public void onFullFlush() {
+        reloadRequested.set(true);
+    }
+
+    /**
+     * 전체 재적재 요청이 있으면 재적재, 아니면 모아 둔 변경 반영
+     */
+    public synchronized void refresh() {
+        try {
+            if (reloadRequested.getAndSet(false)) {
+                if (snapshot == null && loadFile()) {
+                    return;
+                }
+
+                // 적재 시작 전까지의 변경은 적재 결과에 포함되므로 버림
+                pendingProducts.clear();
+                pendingOptions.clear();
+                pendingDetails.clear();
+                Watermark loadStarted = new Watermark(LocalDateTime.now().minus(reconcileSettle), 0);
+                long readStarted = System.nanoTime();
+                swap(load());
+                unpinCommittedBefore(readStarted);
+                flushListener();
+                productWatermark = loadStarted;
+                optionWatermark = loadStarted;
+                detailWatermark = loadStarted;
+                appliedWatermark = loadStarted.updatedAt();
+                reloads.increment();
+                return;
+            }
+
+            LocalDateTime scanned = minWatermark(); // 여기까지 변경분 조회로 찾은 ID는 아래에서 꺼내 반영
+            long readStarted = System.nanoTime(); // 이전에 커밋된 이 노드의 변경은 아래에서 읽는 상태에 포함됨
+            List<Long> productIds = drain(pendingProducts);
+            List<Long> optionIds = drain(pendingOptions);
+            List<Long> detailIds = drain(pendingDetails);
+            if (!productIds.isEmpty() || !optionIds.isEmpty() || !detailIds.isEmpty()) {
+                CatalogSnapshot before = snapshot;
+                CatalogSnapshot next = before.apply(productIds, productRepository.findAllById(productIds),
+                        optionIds, productOptionRepository.findAllById(optionIds),
+                        detailIds, optionDetailRepository.findAllById(detailIds));
+                swap(next);
+                unpin(writtenProducts, productIds, readStarted);
+                unpin(writtenOptions, optionIds, readStarted);
+                unpin(writtenDetails, detailIds, readStarted);
+                notifyListener(before, next, productIds, optionIds, detailIds);
+            }
+            appliedWatermark = scanned;
+        } catch (Exception e) {
+            failures.increment();
+            reloadRequested.set(true); // 꺼낸 변경 ID를 잃었으므로 다음 주기에 전체 재적재
+            log.warn("카탈로그 스냅샷 갱신 실패 - 전체 재적재 예정", e);
+        }
+    }
+
+    /**
+     * 저장된 스냅샷 파일로 시작하고, 저장 이후의 변경을 반영 대기 목록에 추가 (다음 refresh에서 반영)
+     *
+     * @return 파일로 시작했으면 true (파일이 없거나 오래됐거나 손상됐으면 false, DB에서 전체 적재)
+     */
+    private boolean loadFile() {
+        if (snapshotFile == null) {
+            return false;
+        }
+
+        long started = System.nanoTime();
+        CatalogSnapshotFile.Loaded loaded;
+        try {
+            loaded = snapshotFile.read();
+        } catch (Exception e) {
+            log.warn("카탈로그 스냅샷 파일 읽기 실패 - DB에서 전체 적재, path: {}", snapshotFile.getPath(), e);
+            return false;
+        }
+        if (loaded == null) {
+            return false;
+        }
+        if (loaded.watermark().isBefore(LocalDateTime.now().minus(fileMaxAge))) {
+            log.info("카탈로그 스냅샷 파일이 변경 로그 보관 기간보다 오래되어 DB에서 전체 적재 - savedAt: {}", loaded.savedAt());
+            return false;
+        }
+
+        swap(loaded.snapshot());
+        flushListener();
+        Watermark saved = new Watermark(loaded.watermark(), 0);
+        productWatermark = saved;
+        optionWatermark = saved;
+        detailWatermark = saved;
+        appliedWatermark = loaded.watermark();
+        collectDeletionsSince(loaded.watermark());
+        reconcile(); // 저장 이후 등록/수정된 행
+
+        log.info("카탈로그 스냅샷 파일 적재 완료 - products: {}, options: {}, details: {}, savedAt: {}, elapsedMs: {}",
+                loaded.snapshot().getProductCount(), loaded.snapshot().getOptionCount(), loaded.snapshot().getDetailCount(),
+                loaded.savedAt(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return true;
+    }
+
+    /**
+     * 기준 시각 이후 변경 로그에 기록된 삭제를 반영 대기 목록에 추가
+     */
+    private void collectDeletionsSince(LocalDateTime since) {
+        Optional<CatalogChange> first = catalogChangeRepository.findFirstByCreatedAtGreaterThanEqualOrderByIdAsc(since);
+        if (first.isEmpty()) {
+            return;
+        }
+
+        long lastId = first.get().getId() - 1;
+        List<CatalogChange> deletions;
+        do {
+            deletions = catalogChangeRepository.findByIdGreaterThanAndActionOrderByIdAsc(
+                    lastId, CatalogChangeEvent.Action.DELETED, Limit.of(batchSize));
+            for (CatalogChange deletion : deletions) {
+                onCatalogChange(deletion.toEvent());
+                lastId = deletion.getId();
+            }
+        } while (deletions.size() == batchSize);
+    }
+
+    /**
+     * 현재 스냅샷을 파일로 저장 (반영을 마친 변경분 기준 시각을 함께 기록)
+     */
+    public void save() {
+        CatalogSnapshot current;
+        LocalDateTime watermark;
+        synchronized (this) {
+            if (snapshotFile == null || snapshot == null) {
+                return;
+            }
+            current = snapshot;
+            watermark = appliedWatermark;
+        }
+
+        long started = System.nanoTime();
+        try {
+            snapshotFile.write(current, watermark); // 스냅샷은 변경 불가이므로 잠금 없이 기록
+            fileSaves.increment();
+            log.info("카탈로그 스냅샷 파일 저장 완료 - path: {}, elapsedMs: {}",
+                    snapshotFile.getPath(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("카탈로그 스냅샷 파일 저장 실패 - path: {}", snapshotFile.getPath(), e);
+        }
+    }
+
+    /**
+     * 마지막 조회 위치 이후 수정된 행의 ID를 반영 대기 목록에 추가 (다음 refresh에서 반영)
+     */
+    public synchronized void reconcile() {
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            LocalDateTime until = LocalDateTime.now().minus(reconcileSettle);
+            productWatermark = scan(productRepository::findChangedAfter, productWatermark, until,
+                    Product::getUpdatedAt, Product::getId, pendingProducts);
+            optionWatermark = scan(productOptionRepository::findChangedAfter, optionWatermark, until,
+                    ProductOption::getUpdatedAt, ProductOption::getId, pendingOptions);
+            detailWatermark = scan(optionDetailRepository::findChangedAfter, detailWatermark, until,
+                    OptionDetail::getUpdatedAt, OptionDetail::getId, pendingDetails);
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("카탈로그 스냅샷 변경분 조회 실패", e);
+        }
+    }
+
+    private <T> Watermark scan(ChangeReader<T> reader, Watermark from, LocalDateTime until,
+                               Function<T, LocalDateTime> updatedAt, ToLongFunction<T> id, Set<Long> pending) {
+        Watermark position = from;
+        List<T> rows;
+        do {
+            rows = reader.read(position.updatedAt(), position.id(), until, Limit.of(batchSize));
+            for (T row : rows) {
+                pending.add(id.applyAsLong(row));
+            }
+            if (!rows.isEmpty()) {
+                T last = rows.get(rows.size() - 1);
+                position = new Watermark(updatedAt.apply(last), id.applyAsLong(last));
+                reconciled.add(rows.size());
+            }
+        } while (rows.size() == batchSize);
+        return position;
+    }
+
+    /**
+     * 상품/옵션/상세 옵션 전체를 ID 순으로 나눠 읽어 스냅샷 생성 (트랜잭션 없이 주 DB에서 조회)
+     */
+    private CatalogSnapshot load() {
+        long started = System.nanoTime();
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        readAll(productRepository::findByIdGreaterThanOrderByIdAsc, Product::getId, builder::addProducts);
+        readAll(productOptionRepository::findByIdGreaterThanOrderByIdAsc, ProductOption::getId, builder::addOptions);
+        readAll(optionDetailRepository::findByIdGreaterThanOrderByIdAsc, OptionDetail::getId, builder::addDetails);
+        CatalogSnapshot loaded = builder.build();
+
+        log.info("카탈로그 스냅샷 적재 완료 - products: {}, options: {}, details: {}, elapsedMs: {}",
+                loaded.getProductCount(), loaded.getOptionCount(), loaded.getDetailCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return loaded;
+    }
+
+    private <T> void readAll(BatchReader<T> reader, ToLongFunction<T> id, Function<List<T>, CatalogSnapshot.Builder> sink) {
+        long lastId = 0;
+        List<T> rows;
+        do {
+            rows = reader.read(lastId, Limit.of(batchSize));
+            if (!rows.isEmpty()) {
+                sink.apply(rows);
+                lastId = id.applyAsLong(rows.get(rows.size() - 1));
+            }
+        } while (rows.size() == batchSize);
+    }
+
+    private LocalDateTime minWatermark() {
+        return Stream.of(productWatermark, optionWatermark, detailWatermark)
+                     .map(Watermark::updatedAt)
+                     .min(Comparator.naturalOrder())
+                     .orElseThrow();
+    }
+
+    private void swap(CatalogSnapshot next) {
+        snapshot = next;
+        lastSwapNanos = System.nanoTime();
+        swaps.increment();
+    }
+
+    /**
+     * 교체한 스냅샷에 반영한 변경을 응답 캐시에 전달 (이전 스냅샷으로 만든 응답 무효화)
+     * - 옵션/상세 옵션이 속한 상품/옵션은 새 스냅샷에서, 삭제됐으면 이전 스냅샷에서 찾음
+     */
+    private void notifyListener(CatalogSnapshot before, CatalogSnapshot after,
+                                List<Long> productIds, List<Long> optionIds, List<Long> detailIds) {
+        if (swapListener == null) {
+            return;
+        }
+
+        for (Long productId : productIds) {
+            CatalogChangeEvent.Action action = after.findProduct(productId) != null
+                    ? CatalogChangeEvent.Action.UPDATED : CatalogChangeEvent.Action.DELETED;
+            swapListener.onCatalogChange(CatalogChangeEvent.product(action, productId));
+        }
+        for (Long optionId : optionIds) {
+            Long productId = parentOf(after::productIdOfOption, before::productIdOfOption, optionId);
+            if (productId != null) { // 어느 스냅샷에도 없으면 캐시된 응답에도 없음
+                CatalogChangeEvent.Action action = after.productIdOfOption(optionId) != null
+                        ? CatalogChangeEvent.Action.UPDATED : CatalogChangeEvent.Action.DELETED;
+                swapListener.onCatalogChange(CatalogChangeEvent.option(action, productId, optionId));
+            }
+        }
+        for (Long detailId : detailIds) {
+            Long optionId = parentOf(after::optionIdOfDetail, before::optionIdOfDetail, detailId);
+            if (optionId != null) {
+                Long productId = parentOf(after::productIdOfOption, before::productIdOfOption, optionId);
+                swapListener.onCatalogChange(CatalogChangeEvent.detail(CatalogChangeEvent.Action.UPDATED, productId, optionId, detailId));
+            }
+        }
+    }
+
+    private void flushListener() {
+        if (swapListener != null) {
+            swapListener.onFullFlush();
+        }
+    }
+
+    private static Long parentOf(Function<Long, Long> after, Function<Long, Long> before, Long id) {
+        Long parent = after.apply(id);
+        return parent != null ? parent : before.apply(id);
+    }
+
+    private void unpinCommittedBefore(long nanos) {
+        Stream.of(writtenProducts, writtenOptions, writtenDetails)
+              .forEach(written -> written.values().removeIf(committedAt -> committedAt - nanos < 0));
+    }
+
+    private static void unpin(Map<Long, Long> written, List<Long> appliedIds, long readStarted) {
+        for (Long id : appliedIds) {
+            written.computeIfPresent(id, (key, committedAt) -> committedAt - readStarted < 0 ? null : committedAt);
+        }
+    }
+
+    private static List<Long> drain(Set<Long> pending) {
+        List<Long> ids = List.copyOf(pending);
+        ids.forEach(pending::remove); // 꺼낸 뒤 다시 들어온 ID는 이번에 DB에서 읽는 최신 상태에 포함됨
+        return ids;
+    }
+
+    /**
+     * 스냅샷 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.snapshot.rows", this, model -> model.snapshot == null ? 0 : model.snapshot.getProductCount())
+             .tag("table", "products")
+             .register(registry);
+        Gauge.builder("catalog.snapshot.rows", this, model -> model.snapshot == null ? 0 : model.snapshot.getOptionCount())
+             .tag("table", "options")
+             .register(registry);
+        Gauge.builder("catalog.snapshot.rows", this, model -> model.snapshot == null ? 0 : model.snapshot.getDetailCount())
+             .tag("table", "details")
+             .register(registry);
+        Gauge.builder("catalog.snapshot.age", this,
+                      model -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - model.lastSwapNanos))
+             .baseUnit("milliseconds")
+             .description("마지막으로 스냅샷을 교체한 뒤 지난 시간")
+             .register(registry);
+        FunctionCounter.builder("catalog.snapshot.swaps", swaps, LongAdder::sum)
+                       .description("스냅샷 교체 횟수")
+                       .register(registry);
+        FunctionCounter.builder("catalog.snapshot.reloads", reloads, LongAdder::sum)
+                       .description("전체 적재 횟수")
+                       .register(registry);
+        FunctionCounter.builder("catalog.snapshot.reconciled", reconciled, LongAdder::sum)
+                       .description("변경분 조회로 찾은 행 수 (서비스를 거친 변경도 포함)")
+                       .register(registry);
+        FunctionCounter.builder("catalog.snapshot.file.saves", fileSaves, LongAdder::sum)
+                       .description("스냅샷 파일 저장 횟수")
+                       .register(registry);
+        FunctionCounter.builder("catalog.snapshot.failures", failures, LongAdder::sum)
+                       .register(registry);
+    }
+
+    /**
+     * 종료 시 갱신 스레드 정리 후 스냅샷 파일 저장 (다음 기동을 파일로 시작하도록)
+     */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        save();
+    }
+
+    /**
+     * ID 이후의 행을 ID 순으로 읽는 조회
+     */
+    @FunctionalInterface
+    private interface BatchReader<T> {
+
+        List<T> read(Long id, Limit limit);
+
+    }
+
+    /**
+     * (수정일, ID) 커서 이후에 수정된 행을 커서 순으로 읽는 조회
+     */
+    @FunctionalInterface
+    private interface ChangeReader<T> {
+
+        List<T> read(LocalDateTime updatedAt, Long id, LocalDateTime until, Limit limit);
+
+    }
+
+    /**
+     * 변경분 조회 위치
+     */
+    private record Watermark(LocalDateTime updatedAt, long id) {
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.service.CatalogChangeEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogResponseCache
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 응답 캐시 대상 결정 및 변경 이벤트에 따른 무효화
+ *                - 대상: 상품 목록 첫 페이지, 상품 단건, 상품별 옵션 목록, 옵션별 상세 옵션 목록
+ *                - 변경 이벤트를 받으면 즉시 1번, 트랜잭션이 끝난 뒤 1번 더 무효화
+ *                  (커밋 전에 변경 전 데이터를 읽은 요청이 캐시를 다시 채우지 못하도록)
+ *                - 다른 노드의 변경은 변경 로그 poller가 같은 방식으로 전달 (트랜잭션 밖이므로 즉시 1번만 무효화)
+ *                - 카탈로그 스냅샷을 쓰면 스냅샷 교체 후 CatalogReadModel이 반영한 변경을 한 번 더 전달
+ *                  (poller가 무효화한 뒤 교체 전까지 이전 스냅샷으로 만든 응답이 다시 저장되지 않도록)
+ */
+public class CatalogResponseCache implements CatalogChangeSubscriber {
+
+    public static final String FIRST_PAGE_GROUP = "products:first-page";
+
+    private static final String PRODUCTS_PATH = "/api/products";
+    private static final Pattern PRODUCT_PATH = Pattern.compile("/api/products/(\\d+)");
+    private static final Pattern OPTIONS_PATH = Pattern.compile("/api/product-options/products/(\\d+)(/active)?");
+    private static final Pattern DETAILS_PATH = Pattern.compile("/api/option-details/options/(\\d+)(/active)?");
+
+    private final ResponseBytesCache cache;
+
+    public CatalogResponseCache(ResponseBytesCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param group 무효화 단위
+     * @param variant 같은 그룹 안의 응답 구분 (경로 + 쿼리 문자열)
+     */
+    public record Key(String group, String variant) {
+    }
+
+    /**
+     * 요청의 캐시 키 결정
+     *
+     * @param request GET 요청
+     * @return 캐시 키 (캐시 대상이 아니거나 ID를 읽을 수 없으면 null)
+     */
+    public Key resolve(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String query = request.getQueryString();
+        String variant = query == null ? path : path + "?" + query;
+
+        if (PRODUCTS_PATH.equals(path)) {
+            if (request.getParameter("ids") != null) {
+                return null; // ID 목록 조회는 조합이 다양해 응답째 캐시하지 않음 (항목별로 스냅샷에서 찾음)
+            }
+            String page = request.getParameter("page");
+            return page == null || "0".equals(page) ? new Key(FIRST_PAGE_GROUP, variant) : null;
+        }
+
+        Matcher matcher = PRODUCT_PATH.matcher(path);
+        if (matcher.matches()) {
+            Long productId = parseId(matcher.group(1));
+            return productId == null ? null : new Key(productGroup(productId), variant);
+        }
+        matcher = OPTIONS_PATH.matcher(path);
+        if (matcher.matches()) {
+            Long productId = parseId(matcher.group(1));
+            return productId == null ? null : new Key(optionsGroup(productId), variant);
+        }
+        matcher = DETAILS_PATH.matcher(path);
+        if (matcher.matches()) {
+            Long optionId = parseId(matcher.group(1));
+            return optionId == null ? null : new Key(detailsGroup(optionId), variant);
+        }
+        return null;
+    }
+
+    /**
+     * 경로의 ID (long 범위를 넘으면 null - 캐시하지 않고 컨트롤러가 400으로 응답하도록)
+     */
+    private static Long parseId(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 변경 이벤트에 영향을 받는 응답 무효화 (서비스 트랜잭션 안에서 동기 호출, 변경 로그 poller는 트랜잭션 밖에서 호출)
+     *
+     * @param event 상품/옵션/상세 옵션 변경 이벤트
+     */
+    @Override
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent event) {
+        List<String> groups = affectedGroups(event);
+        groups.forEach(cache::invalidate);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    groups.forEach(cache::invalidate);
+                }
+            });
+        }
+    }
+
+    /**
+     * 모든 응답 무효화 (변경 로그에서 놓친 변경이 있을 수 있는 경우)
+     */
+    @Override
+    public void onFullFlush() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 변경 이벤트에 영향을 받는 그룹
+     * - 상품 응답에는 옵션이, 옵션 응답에는 상세 옵션이 포함되지 않으므로 변경된 대상의 목록만 무효화
+     * - 옵션 활성화/비활성화/삭제는 상세 옵션에도 전파되므로 상세 옵션 목록도 무효화
+     */
+    private static List<String> affectedGroups(CatalogChangeEvent event) {
+        List<String> groups = new ArrayList<>(3);
+
+        switch (event.target()) {
+            case PRODUCT -> {
+                groups.add(FIRST_PAGE_GROUP);
+                groups.add(productGroup(event.productId()));
+                if (event.action() == CatalogChangeEvent.Action.DELETED) {
+                    groups.add(optionsGroup(event.productId()));
+                }
+            }
+            case OPTION -> {
+                groups.add(optionsGroup(event.productId()));
+                if (event.action() != CatalogChangeEvent.Action.CREATED) {
+                    groups.add(detailsGroup(event.optionId()));
+                }
+            }
+            case DETAIL -> groups.add(detailsGroup(event.optionId()));
+        }
+        return groups;
+    }
+
+    private static String productGroup(Long productId) {
+        return "product:" + productId;
+    }
+
+    private static String optionsGroup(Long productId) {
+        return "options:" + productId;
+    }
+
+    private static String detailsGroup(Long optionId) {
+        return "details:" + optionId;
+    }
+
+}
@@ -0,0 +1,689 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.dto.OptionDetailResponse;
+import com.soli.frankit.dto.ProductOptionResponse;
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogSnapshot
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품/옵션/상세 옵션 전체를 담은 변경 불가 스냅샷 (조회 API를 DB 없이 응답)
+ *                - 엔티티 대신 열(column)별 배열에 저장: 금액은 최소 단위(1/100) long, 일시는 epoch 마이크로초 long, 옵션명/상세 옵션명은 intern
+ *                - 상품은 (등록일, ID) 내림차순, 옵션은 (상품 ID, ID), 상세 옵션은 (옵션 ID, ID) 순으로 정렬해 범위로 조회
+ *                - 변경은 기존 배열을 고치지 않고 병합한 새 스냅샷을 만들어 교체 (copy-on-write)
+ */
+public final class CatalogSnapshot {
+
+    static final int PRICE_SCALE = 2; // DB 금액 컬럼 scale
+    private static final long NULL_VALUE = Long.MIN_VALUE;
+    private static final OptionType[] OPTION_TYPES = OptionType.values();
+    private static final Sort PRODUCT_SORT = Sort.by("createdAt").descending(); // ProductService.getAllProducts와 같은 정렬
+
+    // 상품 열
+    private static final int P_ID = 0, P_PRICE = 1, P_SHIPPING_FEE = 2, P_CREATED_AT = 3, P_UPDATED_AT = 4;
+    private static final int P_NAME = 0, P_DESCRIPTION = 1;
+    // 옵션 열
+    private static final int O_ID = 0, O_PRODUCT_ID = 1, O_PRICE = 2, O_TYPE = 3, O_CREATED_AT = 4, O_UPDATED_AT = 5;
+    private static final int O_NAME = 0;
+    // 상세 옵션 열
+    private static final int D_ID = 0, D_OPTION_ID = 1, D_PRICE = 2, D_CREATED_AT = 3, D_UPDATED_AT = 4;
+    private static final int D_NAME = 0;
+
+    private static final RowOrder PRODUCT_ORDER = (a, i, b, j) -> {
+        int compare = Long.compare(b.longs[P_CREATED_AT][j], a.longs[P_CREATED_AT][i]);
+        return compare != 0 ? compare : Long.compare(b.longs[P_ID][j], a.longs[P_ID][i]);
+    };
+    private static final RowOrder OPTION_ORDER = (a, i, b, j) -> {
+        int compare = Long.compare(a.longs[O_PRODUCT_ID][i], b.longs[O_PRODUCT_ID][j]);
+        return compare != 0 ? compare : Long.compare(a.longs[O_ID][i], b.longs[O_ID][j]);
+    };
+    private static final RowOrder DETAIL_ORDER = (a, i, b, j) -> {
+        int compare = Long.compare(a.longs[D_OPTION_ID][i], b.longs[D_OPTION_ID][j]);
+        return compare != 0 ? compare : Long.compare(a.longs[D_ID][i], b.longs[D_ID][j]);
+    };
+
+    public static final CatalogSnapshot EMPTY = new Builder().build();
+
+    private final Table products;
+    private final Table options;
+    private final Table details;
+
+    private CatalogSnapshot(Table products, Table options, Table details) {
+        this.products = products;
+        this.options = options;
+        this.details = details;
+    }
+
+    /**
+     * 상품 단건 조회
+     *
+     * @param productId 상품 ID
+     * @return 상품 정보
+     * @throws CustomException(ErrorCode.PRODUCT_NOT_FOUND) 상품이 없는 경우
+     */
+    public ProductResponse getProduct(long productId) {
+        int row = products.rowOf(productId);
+        if (row < 0) {
+            throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return productAt(row);
+    }
+
+    /**
+     * ID로 상품/옵션/상세 옵션 조회 (ID 목록 조회의 캐시 적중 확인용)
+     *
+     * @return 조회 결과 (스냅샷에 없으면 null)
+     */
+    public ProductResponse findProduct(long productId) {
+        int row = products.rowOf(productId);
+        return row < 0 ? null : productAt(row);
+    }
+
+    public ProductOptionResponse findOption(long optionId) {
+        int row = options.rowOf(optionId);
+        return row < 0 ? null : optionAt(row);
+    }
+
+    public OptionDetailResponse findDetail(long detailId) {
+        int row = details.rowOf(detailId);
+        return row < 0 ? null : detailAt(row);
+    }
+
+    /**
+     * 옵션/상세 옵션이 속한 상위 ID (스냅샷 교체 후 무효화할 응답 결정용)
+     *
+     * @return 상위 ID (스냅샷에 없으면 null)
+     */
+    Long productIdOfOption(long optionId) {
+        int row = options.rowOf(optionId);
+        return row < 0 ? null : options.longs[O_PRODUCT_ID][row];
+    }
+
+    Long optionIdOfDetail(long detailId) {
+        int row = details.rowOf(detailId);
+        return row < 0 ? null : details.longs[D_OPTION_ID][row];
+    }
+
+    /**
+     * 상품 목록 조회 (등록일 내림차순 페이징)
+     *
+     * @param page 페이지 번호
+     * @param size 페이지당 항목 수
+     * @return 페이징된 상품 목록
+     */
+    public Page<ProductResponse> getProducts(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, PRODUCT_SORT);
+        long from = Math.min(pageable.getOffset(), products.size);
+        int to = (int) Math.min(from + size, products.size);
+
+        List<ProductResponse> content = new ArrayList<>(to - (int) from);
+        for (int row = (int) from; row < to; row++) {
+            content.add(productAt(row));
+        }
+        return new PageImpl<>(content, pageable, products.size);
+    }
+
+    /**
+     * 상품의 옵션 조회
+     *
+     * @param productId 상품 ID
+     * @param activeOnly 활성화된 옵션만 조회할지 여부
+     * @return 옵션 목록 (ID 순)
+     */
+    public List<ProductOptionResponse> getOptionsByProduct(long productId, boolean activeOnly) {
+        List<ProductOptionResponse> result = new ArrayList<>();
+        for (int row = options.lowerBound(O_PRODUCT_ID, productId); row < options.size && options.longs[O_PRODUCT_ID][row] == productId; row++) {
+            if (!activeOnly || options.active[row]) {
+                result.add(optionAt(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 옵션의 상세 옵션 조회
+     *
+     * @param optionId 옵션 ID
+     * @param activeOnly 활성화된 상세 옵션만 조회할지 여부
+     * @return 상세 옵션 목록 (ID 순)
+     * @throws CustomException(ErrorCode.OPTION_NOT_FOUND) 옵션이 없는 경우
+     */
+    public List<OptionDetailResponse> getDetailsByOption(long optionId, boolean activeOnly) {
+        List<OptionDetailResponse> result = findDetailsByOption(optionId, activeOnly);
+        if (result == null) {
+            throw new CustomException(ErrorCode.OPTION_NOT_FOUND);
+        }
+        return result;
+    }
+
+    /**
+     * 옵션의 상세 옵션 조회 (옵션이 스냅샷에 없으면 null, 아직 반영되지 않은 옵션은 DB에서 조회하도록)
+     *
+     * @param optionId 옵션 ID
+     * @param activeOnly 활성화된 상세 옵션만 조회할지 여부
+     * @return 상세 옵션 목록 (ID 순, 옵션이 없으면 null)
+     */
+    public List<OptionDetailResponse> findDetailsByOption(long optionId, boolean activeOnly) {
+        if (options.rowOf(optionId) < 0) {
+            return null;
+        }
+
+        List<OptionDetailResponse> result = new ArrayList<>();
+        for (int row = details.lowerBound(D_OPTION_ID, optionId); row < details.size && details.longs[D_OPTION_ID][row] == optionId; row++) {
+            if (!activeOnly || details.active[row]) {
+                result.add(detailAt(row));
+            }
+        }
+        return result;
+    }
+
+    public int getProductCount() {
+        return products.size;
+    }
+
+    public int getOptionCount() {
+        return options.size;
+    }
+
+    public int getDetailCount() {
+        return details.size;
+    }
+
+    /**
+     * 스냅샷을 이진 형식으로 기록 (CatalogSnapshotFile에서 사용)
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        products.writeTo(out);
+        options.writeTo(out);
+        details.writeTo(out);
+    }
+
+    /**
+     * writeTo로 기록한 이진 형식에서 스냅샷 복원
+     */
+    static CatalogSnapshot readFrom(ByteBuffer buffer) {
+        return new CatalogSnapshot(Table.readFrom(buffer, 5, 2), Table.readFrom(buffer, 6, 1), Table.readFrom(buffer, 5, 1));
+    }
+
+    /**
+     * 변경을 반영한 새 스냅샷 생성 (이 스냅샷은 그대로 유지)
+     * - 변경된 ID 중 조회 결과에 없는 것은 삭제로 처리하고, 삭제된 상품/옵션의 하위 행도 함께 제거
+     *
+     * @param productIds 변경된 상품 ID
+     * @param changedProducts 변경된 상품 중 DB에 남아 있는 상품
+     * @param optionIds 변경된 옵션 ID
+     * @param changedOptions 변경된 옵션 중 DB에 남아 있는 옵션
+     * @param detailIds 변경된 상세 옵션 ID
+     * @param changedDetails 변경된 상세 옵션 중 DB에 남아 있는 상세 옵션
+     * @return 새 스냅샷
+     */
+    public CatalogSnapshot apply(Collection<Long> productIds, List<Product> changedProducts,
+                                 Collection<Long> optionIds, List<ProductOption> changedOptions,
+                                 Collection<Long> detailIds, List<OptionDetail> changedDetails) {
+        Table freshProducts = sorted(productTable(changedProducts), PRODUCT_ORDER);
+        Table freshOptions = sorted(optionTable(changedOptions), OPTION_ORDER);
+        Table freshDetails = sorted(detailTable(changedDetails), DETAIL_ORDER);
+
+        long[] touchedProducts = sortedIds(productIds);
+        long[] removedProducts = missing(touchedProducts, freshProducts);
+        long[] touchedOptions = sortedIds(optionIds);
+        long[] removedOptions = missing(touchedOptions, freshOptions);
+
+        // 삭제된 상품의 옵션도 삭제된 옵션으로 처리 (상세 옵션까지 제거되도록)
+        if (removedProducts.length > 0) {
+            long[] cascaded = IntStream.range(0, options.size)
+                                       .filter(row -> contains(removedProducts, options.longs[O_PRODUCT_ID][row]))
+                                       .mapToLong(row -> options.longs[O_ID][row])
+                                       .toArray();
+            removedOptions = union(removedOptions, cascaded);
+        }
+        long[] removedParentOptions = removedOptions;
+
+        Table mergedProducts = productIds.isEmpty() ? products
+                : merge(products, freshProducts, PRODUCT_ORDER,
+                        (table, row) -> contains(touchedProducts, table.longs[P_ID][row]));
+        Table mergedOptions = optionIds.isEmpty() && removedProducts.length == 0 ? options
+                : merge(options, freshOptions, OPTION_ORDER,
+                        (table, row) -> contains(touchedOptions, table.longs[O_ID][row])
+                                || contains(removedProducts, table.longs[O_PRODUCT_ID][row]));
+        long[] touchedDetails = sortedIds(detailIds);
+        Table mergedDetails = detailIds.isEmpty() && removedParentOptions.length == 0 ? details
+                : merge(details, freshDetails, DETAIL_ORDER,
+                        (table, row) -> contains(touchedDetails, table.longs[D_ID][row])
+                                || contains(removedParentOptions, table.longs[D_OPTION_ID][row]));
+
+        return new CatalogSnapshot(mergedProducts, mergedOptions, mergedDetails);
+    }
+
+    private ProductResponse productAt(int row) {
+        return ProductResponse.builder()
+                              .id(products.longs[P_ID][row])
+                              .name(products.strings[P_NAME][row])
+                              .description(products.strings[P_DESCRIPTION][row])
+                              .price(toPrice(products.longs[P_PRICE][row]))
+                              .shippingFee(toPrice(products.longs[P_SHIPPING_FEE][row]))
+                              .isActive(products.active[row])
+                              .createdAt(toDateTime(products.longs[P_CREATED_AT][row]))
+                              .updatedAt(toDateTime(products.longs[P_UPDATED_AT][row]))
+                              .build();
+    }
+
+    private ProductOptionResponse optionAt(int row) {
+        return ProductOptionResponse.builder()
+                                    .id(options.longs[O_ID][row])
+                                    .optionName(options.strings[O_NAME][row])
+                                    .optionType(OPTION_TYPES[(int) options.longs[O_TYPE][row]])
+                                    .optionPrice(toPrice(options.longs[O_PRICE][row]))
+                                    .isActive(options.active[row])
+                                    .createdAt(toDateTime(options.longs[O_CREATED_AT][row]))
+                                    .updatedAt(toDateTime(options.longs[O_UPDATED_AT][row]))
+                                    .build();
+    }
+
+    private OptionDetailResponse detailAt(int row) {
+        return OptionDetailResponse.builder()
+                                   .id(details.longs[D_ID][row])
+                                   .detailName(details.strings[D_NAME][row])
+                                   .detailPrice(toPrice(details.longs[D_PRICE][row]))
+                                   .isActive(details.active[row])
+                                   .createdAt(toDateTime(details.longs[D_CREATED_AT][row]))
+                                   .updatedAt(toDateTime(details.longs[D_UPDATED_AT][row]))
+                                   .build();
+    }
+
+    private static Table productTable(List<Product> rows) {
+        TableBuilder builder = new TableBuilder(5, 2, rows.size());
+        rows.forEach(product -> addProduct(builder, product));
+        return builder.build();
+    }
+
+    private static Table optionTable(List<ProductOption> rows) {
+        TableBuilder builder = new TableBuilder(6, 1, rows.size());
+        rows.forEach(option -> addOption(builder, option));
+        return builder.build();
+    }
+
+    private static Table detailTable(List<OptionDetail> rows) {
+        TableBuilder builder = new TableBuilder(5, 1, rows.size());
+        rows.forEach(detail -> addDetail(builder, detail));
+        return builder.build();
+    }
+
+    private static void addProduct(TableBuilder builder, Product product) {
+        int row = builder.next();
+        builder.longs[P_ID][row] = product.getId();
+        builder.longs[P_PRICE][row] = toMinorUnits(product.getPrice());
+        builder.longs[P_SHIPPING_FEE][row] = toMinorUnits(product.getShippingFee());
+        builder.longs[P_CREATED_AT][row] = toMicros(product.getCreatedAt());
+        builder.longs[P_UPDATED_AT][row] = toMicros(product.getUpdatedAt());
+        builder.strings[P_NAME][row] = product.getName();
+        builder.strings[P_DESCRIPTION][row] = product.getDescription();
+        builder.active[row] = product.isActive();
+    }
+
+    private static void addOption(TableBuilder builder, ProductOption option) {
+        int row = builder.next();
+        builder.longs[O_ID][row] = option.getId();
+        builder.longs[O_PRODUCT_ID][row] = option.getProduct().getId(); // 지연 로딩 프록시도 ID는 초기화 없이 조회
+        builder.longs[O_PRICE][row] = toMinorUnits(option.getOptionPrice());
+        builder.longs[O_TYPE][row] = option.getOptionType().ordinal();
+        builder.longs[O_CREATED_AT][row] = toMicros(option.getCreatedAt());
+        builder.longs[O_UPDATED_AT][row] = toMicros(option.getUpdatedAt());
+        builder.strings[O_NAME][row] = option.getOptionName().intern(); // "색상", "사이즈" 같은 이름이 반복되므로 공유
+        builder.active[row] = option.isActive();
+    }
+
+    private static void addDetail(TableBuilder builder, OptionDetail detail) {
+        int row = builder.next();
+        builder.longs[D_ID][row] = detail.getId();
+        builder.longs[D_OPTION_ID][row] = detail.getProductOption().getId();
+        builder.longs[D_PRICE][row] = toMinorUnits(detail.getDetailPrice());
+        builder.longs[D_CREATED_AT][row] = toMicros(detail.getCreatedAt());
+        builder.longs[D_UPDATED_AT][row] = toMicros(detail.getUpdatedAt());
+        builder.strings[D_NAME][row] = detail.getDetailName().intern();
+        builder.active[row] = detail.isActive();
+    }
+
+    static long toMinorUnits(BigDecimal price) {
+        return price == null ? NULL_VALUE : price.setScale(PRICE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    static BigDecimal toPrice(long minorUnits) {
+        return minorUnits == NULL_VALUE ? null : BigDecimal.valueOf(minorUnits, PRICE_SCALE);
+    }
+
+    static long toMicros(LocalDateTime dateTime) {
+        return dateTime == null ? NULL_VALUE : dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime toDateTime(long micros) {
+        return micros == NULL_VALUE ? null
+                : LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 정렬된 두 테이블을 병합 (기존 테이블에서 removed에 해당하는 행은 제외)
+     */
+    private static Table merge(Table current, Table fresh, RowOrder order, RowFilter removed) {
+        TableBuilder builder = new TableBuilder(current.longs.length, current.strings.length, current.size + fresh.size);
+        int i = 0;
+        int j = 0;
+        while (i < current.size || j < fresh.size) {
+            if (i < current.size && removed.test(current, i)) {
+                i++;
+            } else if (j >= fresh.size || (i < current.size && order.compare(current, i, fresh, j) <= 0)) {
+                builder.copy(current, i++);
+            } else {
+                builder.copy(fresh, j++);
+            }
+        }
+        return builder.build();
+    }
+
+    private static Table sorted(Table table, RowOrder order) {
+        TableBuilder builder = new TableBuilder(table.longs.length, table.strings.length, table.size);
+        IntStream.range(0, table.size)
+                 .boxed()
+                 .sorted((i, j) -> order.compare(table, i, table, j))
+                 .forEach(row -> builder.copy(table, row));
+        return builder.build();
+    }
+
+    private static long[] sortedIds(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    private static long[] missing(long[] touched, Table fresh) {
+        return Arrays.stream(touched).filter(id -> fresh.rowOf(id) < 0).toArray();
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        return IntStream.range(0, a.length + b.length)
+                        .mapToLong(i -> i < a.length ? a[i] : b[i - a.length])
+                        .sorted()
+                        .distinct()
+                        .toArray();
+    }
+
+    private static boolean contains(long[] sorted, long value) {
+        return sorted.length > 0 && Arrays.binarySearch(sorted, value) >= 0;
+    }
+
+    /**
+     * 행 정렬 순서
+     */
+    @FunctionalInterface
+    private interface RowOrder {
+
+        int compare(Table a, int i, Table b, int j);
+
+    }
+
+    /**
+     * 병합 시 제외할 행
+     */
+    @FunctionalInterface
+    private interface RowFilter {
+
+        boolean test(Table table, int row);
+
+    }
+
+    /**
+     * 열별 배열로 저장한 변경 불가 테이블 (long 열 0번은 ID)
+     */
+    private static final class Table {
+
+        private final int size;
+        private final long[][] longs;     // [열][행]
+        private final String[][] strings; // [열][행]
+        private final boolean[] active;
+        private final long[] indexKeys;   // ID → 행 조회용 open addressing 해시 (키: ID, 값: 행 + 1, 0은 빈 칸)
+        private final int[] indexRows;
+
+        private Table(int size, long[][] longs, String[][] strings, boolean[] active) {
+            this.size = size;
+            this.longs = longs;
+            this.strings = strings;
+            this.active = active;
+
+            int capacity = Integer.highestOneBit(Math.max(size, 8) * 2 - 1) << 1; // 채움 비율 50% 이하
+            this.indexKeys = new long[capacity];
+            this.indexRows = new int[capacity];
+            for (int row = 0; row < size; row++) {
+                int slot = slot(longs[0][row]);
+                while (indexRows[slot] != 0) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                indexKeys[slot] = longs[0][row];
+                indexRows[slot] = row + 1;
+            }
+        }
+
+        private int slot(long id) {
+            long hash = id * 0x9E3779B97F4A7C15L;
+            return (int) (hash >>> 32) & (indexKeys.length - 1);
+        }
+
+        private int rowOf(long id) {
+            for (int slot = slot(id); indexRows[slot] != 0; slot = (slot + 1) & (indexKeys.length - 1)) {
+                if (indexKeys[slot] == id) {
+                    return indexRows[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 행 수, long 열, 활성화 여부, 문자열 열 순으로 기록 (문자열 열은 중복을 없앤 사전 + 행별 사전 번호)
+         */
+        private void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(size);
+            out.writeInt(longs.length);
+            out.writeInt(strings.length);
+            for (long[] column : longs) {
+                for (int row = 0; row < size; row++) {
+                    out.writeLong(column[row]);
+                }
+            }
+            for (int row = 0; row < size; row++) {
+                out.writeBoolean(active[row]);
+            }
+            for (String[] column : strings) {
+                Map<String, Integer> dictionary = new HashMap<>();
+                List<String> values = new ArrayList<>();
+                int[] refs = new int[size];
+                for (int row = 0; row < size; row++) {
+                    refs[row] = dictionary.computeIfAbsent(column[row], value -> {
+                        values.add(value);
+                        return values.size() - 1;
+                    });
+                }
+                out.writeInt(values.size());
+                for (String value : values) {
+                    if (value == null) {
+                        out.writeInt(-1); // 상품 설명 등 없는 값
+                        continue;
+                    }
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+                for (int ref : refs) {
+                    out.writeInt(ref);
+                }
+            }
+        }
+
+        private static Table readFrom(ByteBuffer buffer, int longColumns, int stringColumns) {
+            int size = buffer.getInt();
+            if (buffer.getInt() != longColumns || buffer.getInt() != stringColumns) {
+                throw new IllegalStateException("스냅샷 파일의 열 구성이 다릅니다.");
+            }
+
+            long[][] longs = new long[longColumns][size];
+            for (long[] column : longs) {
+                buffer.asLongBuffer().get(column); // 대량 복사
+                buffer.position(buffer.position() + size * Long.BYTES);
+            }
+            boolean[] active = new boolean[size];
+            for (int row = 0; row < size; row++) {
+                active[row] = buffer.get() != 0;
+            }
+            String[][] strings = new String[stringColumns][size];
+            for (String[] column : strings) {
+                String[] values = new String[buffer.getInt()];
+                for (int i = 0; i < values.length; i++) {
+                    int length = buffer.getInt();
+                    if (length < 0) {
+                        continue;
+                    }
+                    byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    values[i] = new String(bytes, StandardCharsets.UTF_8); // 사전 단위로 만들므로 같은 이름은 같은 인스턴스 공유
+                }
+                for (int row = 0; row < size; row++) {
+                    column[row] = values[buffer.getInt()];
+                }
+            }
+            return new Table(size, longs, strings, active);
+        }
+
+        /**
+         * column 값이 key 이상인 첫 행 (column 기준으로 정렬된 테이블에서만 사용)
+         */
+        private int lowerBound(int column, long key) {
+            long[] values = longs[column];
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+    }
+
+    /**
+     * 테이블을 행 단위로 채우는 빌더 (필요하면 배열 확장, build 시 크기에 맞게 잘라냄)
+     */
+    private static final class TableBuilder {
+
+        private int size;
+        private long[][] longs;
+        private String[][] strings;
+        private boolean[] active;
+
+        private TableBuilder(int longColumns, int stringColumns, int capacity) {
+            int initial = Math.max(capacity, 16);
+            this.longs = new long[longColumns][initial];
+            this.strings = new String[stringColumns][initial];
+            this.active = new boolean[initial];
+        }
+
+        private int next() {
+            if (size == active.length) {
+                int capacity = active.length * 2;
+                for (int column = 0; column < longs.length; column++) {
+                    longs[column] = Arrays.copyOf(longs[column], capacity);
+                }
+                for (int column = 0; column < strings.length; column++) {
+                    strings[column] = Arrays.copyOf(strings[column], capacity);
+                }
+                active = Arrays.copyOf(active, capacity);
+            }
+            return size++;
+        }
+
+        private void copy(Table from, int row) {
+            int target = next();
+            for (int column = 0; column < longs.length; column++) {
+                longs[column][target] = from.longs[column][row];
+            }
+            for (int column = 0; column < strings.length; column++) {
+                strings[column][target] = from.strings[column][row];
+            }
+            active[target] = from.active[row];
+        }
+
+        private Table build() {
+            long[][] trimmedLongs = new long[longs.length][];
+            for (int column = 0; column < longs.length; column++) {
+                trimmedLongs[column] = Arrays.copyOf(longs[column], size);
+            }
+            String[][] trimmedStrings = new String[strings.length][];
+            for (int column = 0; column < strings.length; column++) {
+                trimmedStrings[column] = Arrays.copyOf(strings[column], size);
+            }
+            return new Table(size, trimmedLongs, trimmedStrings, Arrays.copyOf(active, size));
+        }
+
+    }
+
+    /**
+     * 전체 적재용 빌더 (상품/옵션/상세 옵션을 나눠 받아 한 번에 정렬)
+     */
+    public static final class Builder {
+
+        private final TableBuilder products = new TableBuilder(5, 2, 0);
+        private final TableBuilder options = new TableBuilder(6, 1, 0);
+        private final TableBuilder details = new TableBuilder(5, 1, 0);
+
+        public Builder addProducts(List<Product> rows) {
+            rows.forEach(product -> addProduct(products, product));
+            return this;
+        }
+
+        public Builder addOptions(List<ProductOption> rows) {
+            rows.forEach(option -> addOption(options, option));
+            return this;
+        }
+
+        public Builder addDetails(List<OptionDetail> rows) {
+            rows.forEach(detail -> addDetail(details, detail));
+            return this;
+        }
+
+        public CatalogSnapshot build() {
+            return new CatalogSnapshot(sorted(products.build(), PRODUCT_ORDER),
+                    sorted(options.build(), OPTION_ORDER),
+                    sorted(details.build(), DETAIL_ORDER));
+        }
+
+    }
+
+}
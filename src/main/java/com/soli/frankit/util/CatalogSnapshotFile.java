@@ -0,0 +1,121 @@
+package com.soli.frankit.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogSnapshotFile
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : CatalogSnapshot을 이진 파일로 저장하고 재시작 시 메모리 매핑으로 읽음
+ *                - 형식: MAGIC, 버전, 변경분 기준 시각(epoch 마이크로초), 저장 시각, 상품/옵션/상세 옵션 테이블, CRC32C
+ *                - 임시 파일에 쓴 뒤 원자적으로 교체하므로 같은 파일을 쓰는 여러 JVM도 완성된 파일만 읽음
+ *                - 읽을 때는 FileChannel.map으로 page cache를 그대로 읽어 열 배열로 대량 복사 (같은 호스트의 JVM은 page cache 공유)
+ *                - 하나의 매핑으로 읽으므로 2GB 이하 파일만 지원 (넘으면 DB에서 전체 적재)
+ */
+@Slf4j
+public class CatalogSnapshotFile {
+
+    private static final int MAGIC = 0x46524B43; // "FRKC"
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path path;
+
+    /**
+     * 파일에서 읽은 스냅샷
+     *
+     * @param watermark 이 시각 이후의 변경은 스냅샷에 없을 수 있음 (DB에서 변경분을 다시 조회할 기준)
+     * @param savedAt 저장 시각
+     */
+    public record Loaded(CatalogSnapshot snapshot, LocalDateTime watermark, Instant savedAt) {
+    }
+
+    public CatalogSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+     *
+     * @param snapshot 저장할 스냅샷
+     * @param watermark 이 시각 이후의 변경은 스냅샷에 없을 수 있음
+     * @throws IOException 파일 쓰기 실패
+     */
+    public void write(CatalogSnapshot snapshot, LocalDateTime watermark) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+
+        try {
+            CRC32C crc = new CRC32C();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Files.newOutputStream(temp), crc), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(CatalogSnapshot.toMicros(watermark));
+                out.writeLong(System.currentTimeMillis());
+                snapshot.writeTo(out);
+                out.flush();
+                out.writeLong(crc.getValue()); // 본문 체크섬 (이 값 자체는 포함하지 않음)
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 스냅샷 읽기
+     *
+     * @return 읽은 스냅샷 (파일이 없으면 null)
+     * @throws IOException 파일이 손상됐거나 형식이 다른 경우
+     */
+    public Loaded read() throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < 32 || length > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷 파일 크기를 지원하지 않습니다: " + length);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            int bodyLength = (int) length - Long.BYTES;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(0, bodyLength));
+            if (crc.getValue() != buffer.getLong(bodyLength)) {
+                throw new IOException("스냅샷 파일 체크섬이 맞지 않습니다.");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("스냅샷 파일 형식이 다릅니다.");
+            }
+
+            LocalDateTime watermark = CatalogSnapshot.toDateTime(buffer.getLong());
+            Instant savedAt = Instant.ofEpochMilli(buffer.getLong());
+            return new Loaded(CatalogSnapshot.readFrom(buffer.limit(bodyLength)), watermark, savedAt);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+}
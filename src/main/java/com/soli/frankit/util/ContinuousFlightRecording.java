@@ -0,0 +1,146 @@
+package com.soli.frankit.util;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ContinuousFlightRecording
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상시 JFR 기록 (최근 maxAge 만큼만 디스크에 보관)
+ *                - 지연이 발생한 뒤 요청하면 최근 N분만 잘라 파일로 저장
+ */
+@Slf4j
+public class ContinuousFlightRecording implements DisposableBean {
+
+    private static final String RECORDING_NAME = "frankit-continuous";
+    private static final DateTimeFormatter DUMP_FILE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Resource settings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Path dumpDirectory;
+    private final int keepDumps;
+    private volatile Recording recording;
+
+    /**
+     * ContinuousFlightRecording 생성자
+     *
+     * @param settings JFR 설정 파일 (JDK 기본 설정 위에 덮어씀)
+     * @param maxAge 보관 기간
+     * @param maxSizeBytes 최대 보관 크기
+     * @param dumpDirectory 덤프 파일 저장 경로
+     * @param keepDumps 보관할 덤프 파일 수 (오래된 파일부터 삭제)
+     */
+    public ContinuousFlightRecording(Resource settings, Duration maxAge, long maxSizeBytes,
+                                     Path dumpDirectory, int keepDumps) {
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeBytes;
+        this.dumpDirectory = dumpDirectory;
+        this.keepDumps = keepDumps;
+    }
+
+    /**
+     * 기동 완료 후 기록 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException, ParseException {
+        Map<String, String> merged = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (Reader reader = new InputStreamReader(settings.getInputStream(), StandardCharsets.UTF_8)) {
+            merged.putAll(Configuration.create(reader).getSettings());
+        }
+
+        Recording continuous = new Recording(merged);
+        continuous.setName(RECORDING_NAME);
+        continuous.setToDisk(true);
+        continuous.setMaxAge(maxAge);
+        continuous.setMaxSize(maxSizeBytes);
+        continuous.start();
+        this.recording = continuous;
+
+        log.info("JFR 상시 기록 시작 - maxAge: {}분, maxSize: {}MB", maxAge.toMinutes(), maxSizeBytes / (1024 * 1024));
+    }
+
+    /**
+     * 최근 기록을 파일로 저장
+     *
+     * @param lastPeriod 저장할 기간 (보관 기간보다 길면 보관된 전체)
+     * @return 저장된 .jfr 파일 경로
+     */
+    public Path dump(Duration lastPeriod) throws IOException {
+        Recording current = recording;
+        if (current == null) {
+            throw new IllegalStateException("JFR 기록이 시작되지 않았습니다.");
+        }
+
+        Files.createDirectories(dumpDirectory);
+        Path full = Files.createTempFile(dumpDirectory, "full-", ".jfr");
+        Path target = dumpDirectory.resolve("frankit-" + LocalDateTime.now().format(DUMP_FILE_FORMAT) + ".jfr");
+        Instant from = Instant.now().minus(lastPeriod);
+
+        try {
+            current.dump(full);
+            try (RecordingFile recordingFile = new RecordingFile(full)) {
+                recordingFile.write(target, event -> !event.getEndTime().isBefore(from));
+            }
+        } finally {
+            Files.deleteIfExists(full);
+        }
+
+        pruneOldDumps();
+        log.info("JFR 덤프 저장 - 최근 {}분, file: {}", lastPeriod.toMinutes(), target);
+        return target;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    private void pruneOldDumps() throws IOException {
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            List<Path> dumps = files.filter(path -> path.getFileName().toString().startsWith("frankit-"))
+                                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                                    .toList();
+            for (Path old : dumps.subList(Math.min(keepDumps, dumps.size()), dumps.size())) {
+                Files.deleteIfExists(old);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 기록 중지
+     */
+    @Override
+    public void destroy() {
+        Recording current = recording;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+}
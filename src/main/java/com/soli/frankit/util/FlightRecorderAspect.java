@@ -0,0 +1,75 @@
+package com.soli.frankit.util;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.CodeSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : FlightRecorderAspect
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 서비스 메서드 실행을 JFR 이벤트로 기록하는 Aspect
+ *                - 벌크헤드 대기 시간까지 포함되도록 BulkheadAspect보다 바깥에서 실행
+ *                - 이벤트가 꺼져 있거나 임계 시간 미만이면 문자열을 만들지 않음
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 50) // BulkheadAspect(HIGHEST_PRECEDENCE + 100)보다 바깥
+public class FlightRecorderAspect {
+
+    /**
+     * 서비스 메서드 실행 기록
+     *
+     * @param joinPoint 실행할 서비스 메서드
+     * @return 서비스 메서드 실행 결과
+     * @throws Throwable 서비스 메서드에서 발생한 예외
+     */
+    @Around("execution(public * com.soli.frankit.service..*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        FlightRecorderEvents.ServiceMethod event = new FlightRecorderEvents.ServiceMethod();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.entityIds = entityIds(joinPoint);
+                event.exception = failure == null ? null : failure.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 메서드 인자 중 Long 타입(엔티티 ID)만 "이름=값" 형태로 연결
+     */
+    private static String entityIds(ProceedingJoinPoint joinPoint) {
+        String[] names = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        StringBuilder ids = new StringBuilder();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Long id) {
+                if (!ids.isEmpty()) {
+                    ids.append(", ");
+                }
+                ids.append(names != null ? names[i] : "arg" + i).append('=').append(id);
+            }
+        }
+        return ids.isEmpty() ? null : ids.toString();
+    }
+
+}
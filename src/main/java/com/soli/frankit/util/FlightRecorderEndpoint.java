@@ -0,0 +1,42 @@
+package com.soli.frankit.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : FlightRecorderEndpoint
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 최근 N분의 JFR 기록을 내려받는 관리 엔드포인트 (GET /actuator/jfr?minutes=10, 관리 포트)
+ */
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class FlightRecorderEndpoint {
+
+    private final ContinuousFlightRecording continuousFlightRecording;
+    private final int defaultMinutes;
+
+    /**
+     * 최근 기록 덤프
+     *
+     * @param minutes 내려받을 기간 (분, 생략 시 기본값)
+     * @return .jfr 파일
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump(@Nullable Integer minutes) throws IOException {
+        Duration period = Duration.ofMinutes(minutes == null || minutes <= 0 ? defaultMinutes : minutes);
+        if (period.compareTo(continuousFlightRecording.getMaxAge()) > 0) {
+            period = continuousFlightRecording.getMaxAge();
+        }
+        return new FileSystemResource(continuousFlightRecording.dump(period));
+    }
+
+}
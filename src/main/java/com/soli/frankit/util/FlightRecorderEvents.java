@@ -0,0 +1,89 @@
+package com.soli.frankit.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : FlightRecorderEvents
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 애플리케이션 JFR 커스텀 이벤트
+ *                - 임계 시간은 기본값이며, jfr/frankit.jfc 설정으로 변경 가능
+ *                - GC/락 이벤트와 같은 타임라인에서 보기 위해 스레드/시간 정보가 함께 기록됨
+ */
+public final class FlightRecorderEvents {
+
+    private FlightRecorderEvents() {
+    }
+
+    @Name("frankit.ServiceMethod")
+    @Label("Service Method")
+    @Category({"Frankit", "Service"})
+    @Description("서비스 메서드 실행")
+    @Threshold("10 ms")
+    @StackTrace(false)
+    public static class ServiceMethod extends Event {
+
+        @Label("Service")
+        public String service;
+
+        @Label("Method")
+        public String method;
+
+        @Label("Entity Ids")
+        @Description("메서드 인자 중 ID 값 (예: productId=1, optionId=2)")
+        public String entityIds;
+
+        @Label("Exception")
+        public String exception;
+    }
+
+    @Name("frankit.RepositoryCall")
+    @Label("Repository Call")
+    @Category({"Frankit", "Repository"})
+    @Description("리포지토리 메서드 실행")
+    @Threshold("5 ms")
+    @StackTrace(false)
+    public static class RepositoryCall extends Event {
+
+        @Label("Repository")
+        public String repository;
+
+        @Label("Method")
+        public String method;
+
+        @Label("Exception")
+        public String exception;
+    }
+
+    @Name("frankit.JwtValidation")
+    @Label("JWT Validation")
+    @Category({"Frankit", "Security"})
+    @Description("JWT 서명 검증 및 클레임 추출")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    public static class JwtValidation extends Event {
+
+        @Label("Valid")
+        public boolean valid;
+    }
+
+    @Name("frankit.PasswordHash")
+    @Label("Password Hash")
+    @Category({"Frankit", "Security"})
+    @Description("비밀번호 해시 계산 (BCrypt)")
+    @Threshold("0 ms")
+    public static class PasswordHash extends Event {
+
+        @Label("Operation")
+        @Description("encode / matches")
+        public String operation;
+    }
+
+}
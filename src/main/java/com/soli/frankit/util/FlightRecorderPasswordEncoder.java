@@ -0,0 +1,51 @@
+package com.soli.frankit.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : FlightRecorderPasswordEncoder
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 비밀번호 해시 계산(회원가입, 로그인, 재해시)을 JFR 이벤트로 기록하는 PasswordEncoder
+ *                - 이벤트의 스택 트레이스로 호출 위치(AuthService/UserService) 확인
+ */
+@RequiredArgsConstructor
+public class FlightRecorderPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        FlightRecorderEvents.PasswordHash event = begin("encode");
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        FlightRecorderEvents.PasswordHash event = begin("matches");
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static FlightRecorderEvents.PasswordHash begin(String operation) {
+        FlightRecorderEvents.PasswordHash event = new FlightRecorderEvents.PasswordHash();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.soli.frankit.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionEventListener;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : HibernateSessionMetrics
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : Hibernate 세션 단위 SQL 실행 수/flush 엔티티 수 메트릭
+ *                - Open Session In View를 끄므로 세션은 트랜잭션(또는 트랜잭션 밖 리포지토리 호출) 단위, 요청 1건에 여러 세션이 생길 수 있음
+ *                - 요청당 SQL 수는 RequestStatementMetricsFilter가 요청 경계에서 기록 (hibernate.request.statements)
+ *                - 전체 합계(hibernate.statements, hibernate.entities.loads 등)는 hibernate-micrometer가 제공
+ */
+public class HibernateSessionMetrics implements MeterBinder {
+
+    private static volatile DistributionSummary statementsPerSession;
+    private static volatile DistributionSummary flushedEntitiesPerSession;
+
+    /**
+     * 세션별 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        statementsPerSession = DistributionSummary.builder("hibernate.session.statements")
+                                                  .description("세션(트랜잭션)당 실행한 SQL 수")
+                                                  .baseUnit("statements")
+                                                  .register(registry);
+        flushedEntitiesPerSession = DistributionSummary.builder("hibernate.session.flushed.entities")
+                                                       .description("세션(트랜잭션)당 flush한 엔티티 수")
+                                                       .baseUnit("entities")
+                                                       .register(registry);
+    }
+
+    /**
+     * 세션마다 Hibernate가 생성하는 이벤트 리스너 (hibernate.session.events.auto)
+     * - 세션 종료 시 한 번만 메트릭에 기록
+     */
+    public static class Listener implements SessionEventListener {
+
+        private int statements;
+        private int flushedEntities;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            statements++;
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            statements++;
+        }
+
+        @Override
+        public void flushEnd(int numberOfEntities, int numberOfCollections) {
+            flushedEntities += numberOfEntities;
+        }
+
+        @Override
+        public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+            flushedEntities += numberOfEntities;
+        }
+
+        @Override
+        public void end() {
+            DistributionSummary statementsSummary = statementsPerSession;
+            if (statementsSummary == null || statements == 0) {
+                return; // 메트릭 등록 전이거나 DB를 사용하지 않은 세션
+            }
+            statementsSummary.record(statements);
+            flushedEntitiesPerSession.record(flushedEntities);
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.soli.frankit.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : JsonMergePatch
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : JSON Merge Patch (RFC 7396) 적용
+ *                - 현재 값을 요청 DTO로 만든 뒤 patch를 덧입히고, 등록/수정 요청과 같은 Bean Validation 제약으로 검증
+ *                - patch에 없는 필드는 현재 값 그대로이므로, 엔티티에 반영해도 보낸 필드만 변경 감지됨
+ *                - null 값은 필드 제거이므로 필수 필드면 검증에서 실패
+ */
+@Component
+public class JsonMergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public JsonMergePatch(ObjectMapper objectMapper, Validator validator) {
+        // 현재 값을 트리로 바꿀 때 금액의 소수점 자릿수가 바뀌지 않도록 (기본값은 10 -> 1E+1)
+        this.objectMapper = objectMapper.copy().configure(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES, false);
+        this.validator = validator;
+    }
+
+    /**
+     * 현재 값에 patch를 적용하고 검증
+     *
+     * @param current 현재 값 (요청 DTO)
+     * @param patch 클라이언트가 보낸 merge patch 문서
+     * @param type 요청 DTO 타입
+     * @return patch를 적용한 요청 DTO
+     * @throws CustomException patch를 DTO로 바꿀 수 없는 경우 (INVALID_REQUEST)
+     * @throws ConstraintViolationException patch 적용 결과가 요청 DTO 제약을 어기는 경우
+     */
+    public <T> T apply(T current, JsonNode patch, Class<T> type) {
+        if (patch == null || !patch.isObject()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST); // 객체가 아니면 전체 교체라서 요청 DTO가 될 수 없음
+        }
+
+        T patched;
+        try {
+            patched = objectMapper.treeToValue(merge(objectMapper.valueToTree(current), patch), type);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return patched;
+    }
+
+    /**
+     * RFC 7396 MergePatch(Target, Patch)
+     */
+    static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+
+        ObjectNode result = target != null && target.isObject() ? ((ObjectNode) target).deepCopy() : ((ObjectNode) patch).objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), merge(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+
+}
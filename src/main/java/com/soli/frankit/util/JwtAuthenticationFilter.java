@@ -1,13 +1,18 @@
 package com.soli.frankit.util;
 
+import com.soli.frankit.entity.Role;
 import com.soli.frankit.exception.CustomException;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,6 +20,10 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * packageName  : com.soli.frankit.util
@@ -23,10 +32,41 @@ import java.io.IOException;
  * date         : 2025-02-20
  * description  : API 요청 시 JWT 검증 및 인증 처리 필터
  */
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * 권한별 GrantedAuthority 목록 (요청마다 새로 생성하지 않도록 미리 생성해 재사용)
+     */
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+
+    /**
+     * JwtAuthenticationFilter 생성자
+     *
+     * @param jwtTokenProvider JWT 검증기
+     * @param meterRegistry 검증 시간 기록용 메트릭 레지스트리
+     */
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.validTokenTimer = validationTimer(meterRegistry, "valid");
+        this.invalidTokenTimer = validationTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.validation")
+                    .tag("result", result)
+                    .description("JWT 서명 검증 및 클레임 추출 시간")
+                    .register(meterRegistry);
+    }
 
     /**
      * 요청이 들어올 때마다 JWT 인증을 처리하는 필터
@@ -45,9 +85,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1️⃣ 요청에서 JWT 토큰 가져오기
             String token = resolveToken(request);
 
-            // 2️⃣ 토큰이 존재하면 유효성 검증 후 사용자 정보 설정
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                setAuthentication(token, request);
+            // 2️⃣ 토큰이 존재하면 유효성 검증 후 사용자 정보 설정 (검증과 클레임 추출을 한 번에 처리)
+            if (token != null) {
+                setAuthentication(parseClaims(token), request);
             }
 
         } catch (CustomException e) {
@@ -59,6 +99,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * JWT 검증 및 클레임 추출 (결과별 소요 시간 메트릭 + JFR 이벤트 기록)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임
+     */
+    private Claims parseClaims(String token) {
+        FlightRecorderEvents.JwtValidation event = new FlightRecorderEvents.JwtValidation();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            validTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.valid = true;
+            return claims;
+        } catch (CustomException e) {
+            invalidTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
     /**
      * 요청 헤더에서 JWT 토큰 추출
      *
@@ -76,15 +139,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * JWT 토큰을 이용해 사용자 정보 설정
+     * JWT 클레임을 이용해 사용자 정보 설정
+     * - 권한은 토큰의 클레임에서 가져오므로 요청마다 사용자 조회를 하지 않음
      *
-     * @param token   유효한 JWT 토큰
+     * @param claims  검증된 JWT 클레임
      * @param request HTTP 요청 객체
      */
-    private void setAuthentication(String token, HttpServletRequest request) {
-        String email = jwtTokenProvider.extractEmail(token);
+    private void setAuthentication(Claims claims, HttpServletRequest request) {
+        String email = claims.getSubject();
+        Role role = jwtTokenProvider.extractRole(claims);
 
-        User principal = new User(email, "", new java.util.ArrayList<>());
+        User principal = new User(email, "", AUTHORITIES.get(role));
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
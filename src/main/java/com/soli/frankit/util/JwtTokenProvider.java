@@ -1,7 +1,9 @@
 package com.soli.frankit.util;
 
+import com.soli.frankit.entity.Role;
 import com.soli.frankit.exception.CustomException;
 import com.soli.frankit.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
@@ -27,6 +29,8 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final String ROLE_CLAIM = "role";
+
     private final Key key;
     private final long expirationTime;
 
@@ -45,16 +49,19 @@ public class JwtTokenProvider {
 
     /**
      * JWT 토큰 생성
+     * - 사용자 권한을 클레임에 포함하여 요청마다 사용자 조회 없이 권한 확인
      *
      * @param email 사용자 이메일
+     * @param role 사용자 권한
      * @return 생성된 JWT 토큰
      */
-    public String createToken(String email) {
+    public String createToken(String email, Role role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationTime);
 
         return Jwts.builder()
                     .subject(email)
+                    .claim(ROLE_CLAIM, role.name())
                     .issuedAt(now)
                     .expiration(expiryDate)
                     .signWith(key)
@@ -76,6 +83,28 @@ public class JwtTokenProvider {
                    .getSubject();
     }
 
+    /**
+     * JWT 클레임에서 사용자 권한 추출
+     * - 권한 클레임이 없는 기존 토큰은 USER로 처리
+     *
+     * @param claims 검증된 JWT 클레임
+     * @return 사용자 권한
+     */
+    public Role extractRole(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+
+        if (role == null) {
+            return Role.USER;
+        }
+
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 권한 클레임입니다: {}", role);
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
     /**
      * JWT 토큰 유효성 검증
      *
@@ -83,12 +112,24 @@ public class JwtTokenProvider {
      * @throws CustomException 토큰이 유효하지 않거나, 서명이 올바르지 않을 때 발생
      */
     public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
+    }
+
+    /**
+     * JWT 토큰 검증 후 클레임 반환 (검증과 클레임 추출을 한 번의 파싱으로 처리)
+     *
+     * @param token 검증할 JWT 토큰
+     * @return 검증된 JWT 클레임
+     * @throws CustomException 토큰이 유효하지 않거나, 서명이 올바르지 않을 때 발생
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            return Jwts.parser()
+                       .setSigningKey(key)
+                       .build()
+                       .parseSignedClaims(token)
+                       .getPayload();
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("잘못된 JWT 서명입니다.");
             throw new CustomException(ErrorCode.INVALID_JWT_SIGNATURE);
@@ -0,0 +1,22 @@
+package com.soli.frankit.util;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : LogMarkers
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 로그 마커 모음
+ *                - MUTATION: 데이터 변경 이벤트 (샘플링/유량 제한/큐 가득 참으로 버려지지 않음)
+ */
+public final class LogMarkers {
+
+    public static final String MUTATION_NAME = "MUTATION";
+    public static final Marker MUTATION = MarkerFactory.getMarker(MUTATION_NAME);
+
+    private LogMarkers() {
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.dto.MultiGetResponse;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : MultiGet
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : ID 목록 조회 (장바구니/찜 목록처럼 단건 조회를 항목 수만큼 반복하던 호출을 한 번으로)
+ *                - 중복을 뺀 ID를 먼저 스냅샷에서 찾고, 없는 ID만 DB에서 IN 조회
+ *                - IN 절은 CHUNK_SIZE개씩 나눠 조회 (SQL 길이와 실행 계획 캐시 부담 제한)
+ *                - 결과는 요청한 ID 순서, 없는 ID는 found=false로 표시
+ */
+public final class MultiGet {
+
+    public static final int MAX_IDS = 1000;   // 한 요청에서 조회할 수 있는 최대 ID 수
+    public static final int CHUNK_SIZE = 500; // IN 절 하나에 넣는 최대 ID 수 (바인드 파라미터 수와 SQL 길이를 제한, MAX_IDS를 조회 2번 이내로)
+
+    private MultiGet() {
+    }
+
+    /**
+     * ID 목록 조회
+     *
+     * @param ids 요청한 ID 목록 (요청 순서, 중복 가능)
+     * @param cached 스냅샷 등 메모리에서 찾기 (없으면 null 반환, 캐시를 쓰지 않으면 null)
+     * @param loader 캐시에 없는 ID를 DB에서 조회 (ID별 결과, 없는 ID는 포함하지 않음)
+     * @return 요청한 ID 순서의 조회 결과
+     * @throws CustomException(ErrorCode.INVALID_REQUEST) ID가 없거나 MAX_IDS개를 넘는 경우
+     */
+    public static <T> MultiGetResponse<T> load(List<Long> ids, LongFunction<T> cached, Function<List<Long>, Map<Long, T>> loader) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_IDS || ids.stream().anyMatch(Objects::isNull)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        Map<Long, T> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            T hit = cached == null ? null : cached.apply(id);
+            if (hit != null) {
+                found.put(id, hit);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            found.putAll(loader.apply(misses)); // 스냅샷 반영 전에 등록된 항목도 찾도록 DB 확인
+        }
+
+        return MultiGetResponse.of(ids, found);
+    }
+
+    /**
+     * ID를 CHUNK_SIZE개씩 나눠 IN 조회
+     *
+     * @param ids 조회할 ID (중복 없음)
+     * @param query ID 묶음 하나를 조회하는 쿼리 (예: findAllById)
+     * @return 모든 묶음의 조회 결과
+     */
+    public static <E> List<E> inChunks(Collection<Long> ids, Function<List<Long>, List<E>> query) {
+        List<Long> idList = List.copyOf(Objects.requireNonNull(ids));
+        List<E> result = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += CHUNK_SIZE) {
+            result.addAll(query.apply(idList.subList(from, Math.min(from + CHUNK_SIZE, idList.size()))));
+        }
+        return result;
+    }
+
+}
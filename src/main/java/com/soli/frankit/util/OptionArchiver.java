@@ -0,0 +1,125 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.service.OptionArchiveService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : OptionArchiver
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 비활성 옵션 보관 처리 백그라운드 작업
+ *                - 주기마다 옵션 ID 순으로 한 묶음씩 보관 처리하고, 묶음 사이에 쉬어 운영 트래픽과 잠금 경합을 줄임
+ *                - 여러 노드가 동시에 실행해도 후보를 잠근 뒤 다시 확인하므로 중복 보관되지 않음
+ */
+@Slf4j
+public class OptionArchiver implements MeterBinder, DisposableBean {
+
+    private final OptionArchiveService optionArchiveService;
+    private final Duration minInactive;
+    private final int batchSize;
+    private final Duration batchPause;
+
+    private final LongAdder archived = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * OptionArchiver 생성자
+     *
+     * @param minInactive 비활성화 후 이 기간이 지난 옵션만 보관 (다시 활성화할 여유 기간)
+     * @param batchSize 한 트랜잭션에서 확인할 후보 수
+     * @param batchPause 묶음 사이 대기 시간
+     */
+    public OptionArchiver(OptionArchiveService optionArchiveService, Duration minInactive, int batchSize, Duration batchPause) {
+        this.optionArchiveService = optionArchiveService;
+        this.minInactive = minInactive;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+    }
+
+    /**
+     * 주기적 보관 처리 시작
+     *
+     * @param interval 실행 주기
+     */
+    public void start(Duration interval) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "option-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::run, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 보관 대상 옵션 전체를 묶음 단위로 보관 처리
+     *
+     * @return 보관 처리한 옵션 수
+     */
+    public long run() {
+        LocalDateTime inactiveBefore = LocalDateTime.now().minus(minInactive);
+        long lastId = 0;
+        long count = 0;
+
+        try {
+            OptionArchiveService.Batch batch;
+            do {
+                batch = optionArchiveService.archiveBatch(lastId, inactiveBefore, batchSize);
+                lastId = batch.lastId();
+                count += batch.archived();
+                archived.add(batch.archived());
+                if (batch.scanned() == batchSize && !batchPause.isZero()) {
+                    Thread.sleep(batchPause.toMillis());
+                }
+            } while (batch.scanned() == batchSize);
+
+            runs.increment();
+            if (count > 0) {
+                log.info("비활성 옵션 보관 처리 완료 - archived: {}, inactiveBefore: {}", count, inactiveBefore);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("비활성 옵션 보관 처리 실패 - lastId: {}", lastId, e);
+        }
+        return count;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("option.archive.archived", archived, LongAdder::sum)
+                       .description("보관 테이블로 옮긴 옵션 수")
+                       .register(registry);
+        FunctionCounter.builder("option.archive.runs", runs, LongAdder::sum)
+                       .description("보관 처리 완료 횟수")
+                       .register(registry);
+        FunctionCounter.builder("option.archive.failures", failures, LongAdder::sum)
+                       .description("보관 처리 실패 횟수")
+                       .register(registry);
+    }
+
+    /**
+     * 종료 시 작업 스레드 정리
+     */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+}
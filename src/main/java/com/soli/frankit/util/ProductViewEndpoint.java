@@ -0,0 +1,32 @@
+package com.soli.frankit.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Map;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ProductViewEndpoint
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 모델 전체 재생성 관리 엔드포인트 (POST /actuator/productview, 관리 포트)
+ */
+@Endpoint(id = "productview")
+@RequiredArgsConstructor
+public class ProductViewEndpoint {
+
+    private final ProductViewRebuilder productViewRebuilder;
+
+    /**
+     * 전체 재생성 (끝날 때까지 대기)
+     *
+     * @return 재생성한 상품 수 (이미 실행 중이면 -1)
+     */
+    @WriteOperation
+    public Map<String, Long> rebuild() {
+        return Map.of("rebuilt", productViewRebuilder.rebuild());
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.ProductViewRepository;
+import com.soli.frankit.service.ProductViewService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ProductViewRebuilder
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 모델(product_view) 전체 재생성
+ *                - 상품 ID 구간(chunkSize)마다 별도 트랜잭션으로, parallelism 개 구간을 동시에 재생성
+ *                - 요청 벌크헤드 밖에서 실행되므로 parallelism이 재생성의 동시 커넥션 수 (쓰기 벌크헤드보다 작게, 커넥션 풀에 그만큼 여유)
+ *                - 구간마다 조회 모델 행을 잠그고 다시 만들므로 서비스 운영 중에 실행해도 변경 반영과 섞이지 않음
+ *                - 기동 시 조회 모델이 비어 있으면 백그라운드에서 한 번 실행 (처음 배포), 이후에는 관리 엔드포인트로 실행
+ */
+@Slf4j
+public class ProductViewRebuilder {
+
+    private final ProductViewService productViewService;
+    private final ProductRepository productRepository;
+    private final ProductViewRepository productViewRepository;
+    private final int chunkSize;
+    private final int parallelism;
+    private final boolean rebuildIfEmptyOnStartup;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * ProductViewRebuilder 생성자
+     *
+     * @param chunkSize 한 트랜잭션에서 재생성할 상품 ID 구간 크기
+     * @param parallelism 동시에 재생성할 구간 수 (쓰기 벌크헤드 동시 실행 개수보다 작게)
+     * @param rebuildIfEmptyOnStartup 기동 시 조회 모델이 비어 있으면 재생성
+     */
+    public ProductViewRebuilder(ProductViewService productViewService,
+                                ProductRepository productRepository,
+                                ProductViewRepository productViewRepository,
+                                int chunkSize,
+                                int parallelism,
+                                boolean rebuildIfEmptyOnStartup) {
+        this.productViewService = productViewService;
+        this.productRepository = productRepository;
+        this.productViewRepository = productViewRepository;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.rebuildIfEmptyOnStartup = rebuildIfEmptyOnStartup;
+    }
+
+    /**
+     * 기동 완료 후 조회 모델이 비어 있고 상품이 있으면 백그라운드에서 재생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!rebuildIfEmptyOnStartup) {
+            return;
+        }
+
+        Thread.ofPlatform().daemon().name("product-view-rebuild").start(() -> {
+            try {
+                if (productViewRepository.existsByIdGreaterThan(0L) || productRepository.findMaxId() == 0) {
+                    return;
+                }
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("상품 조회 모델 기동 시 재생성 실패 - 조회는 원본 테이블로 대체합니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 전체 재생성
+     *
+     * @return 재생성한 상품 수 (이미 실행 중이면 -1)
+     */
+    public long rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().daemon().name("product-view-rebuild-", 0).factory());
+        try {
+            long maxId = productRepository.findMaxId();
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long from = 1; from <= maxId; from += chunkSize) {
+                long start = from;
+                long end = Math.min(from + chunkSize - 1, maxId);
+                chunks.add(executor.submit(() -> productViewService.rebuild(start, end)));
+            }
+
+            long count = 0;
+            for (Future<Integer> chunk : chunks) {
+                count += chunk.get();
+            }
+            log.info("상품 조회 모델 재생성 완료 - products: {}, chunks: {}, elapsedMs: {}",
+                    count, chunks.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return count;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("상품 조회 모델 재생성 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상품 조회 모델 재생성 중단", e);
+        } finally {
+            executor.shutdownNow();
+            running.set(false);
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.soli.frankit.util;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : QueryBudgetFilter
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 요청별 SQL 수를 응답 헤더로 알려주고, 예산을 넘은 요청을 경고 로그로 남기는 필터 (query-budget.enabled)
+ *                - 헤더는 응답 본문을 쓰기 직전까지의 수, 로그는 요청 전체의 수
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final int maxStatementsPerRequest;
+
+    /**
+     * QueryBudgetFilter 생성자
+     *
+     * @param sqlStatementCounter SQL 카운터
+     * @param maxStatementsPerRequest 요청당 허용 SQL 수
+     */
+    public QueryBudgetFilter(SqlStatementCounter sqlStatementCounter, int maxStatementsPerRequest) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.maxStatementsPerRequest = maxStatementsPerRequest;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean started = sqlStatementCounter.startIfIdle();
+        QueryCountResponse countingResponse = new QueryCountResponse(response);
+
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            countingResponse.writeQueryCount(); // 본문 없는 응답
+            int count = started ? sqlStatementCounter.stop() : sqlStatementCounter.count();
+
+            if (count > maxStatementsPerRequest) {
+                log.warn("요청당 쿼리 예산 초과 - {} {}, queries: {}, budget: {}",
+                        request.getMethod(), request.getRequestURI(), count, maxStatementsPerRequest);
+            }
+        }
+    }
+
+    /**
+     * 응답이 커밋되기 전(본문을 쓰기 직전)에 SQL 수 헤더를 추가하는 응답 래퍼
+     */
+    private class QueryCountResponse extends HttpServletResponseWrapper {
+
+        private boolean written;
+
+        QueryCountResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeQueryCount() {
+            if (!written && !isCommitted()) {
+                setIntHeader(QUERY_COUNT_HEADER, sqlStatementCounter.count());
+            }
+            written = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeQueryCount();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeQueryCount();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeQueryCount();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeQueryCount();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeQueryCount();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeQueryCount();
+            super.sendRedirect(location);
+        }
+    }
+
+}
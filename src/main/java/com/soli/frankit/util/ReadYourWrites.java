@@ -0,0 +1,111 @@
+package com.soli.frankit.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ReadYourWrites
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 쓰기 직후의 읽기를 주 DB로 고정 (read-your-writes)
+ *                - 사용자가 쓰기를 커밋하면 유지 시간 동안 그 사용자의 요청은 주 DB에서 읽음
+ *                - 유지 시간은 설정값과 현재 복제 지연 중 큰 값
+ *                - 쓰기 시각은 인스턴스 메모리에 보관 (다른 인스턴스로 간 요청은 복제 지연 허용 범위 안에서 읽음)
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<String> CURRENT_USER = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final Supplier<Duration> replicaLag;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    /**
+     * ReadYourWrites 생성자
+     *
+     * @param window 쓰기 후 주 DB에서 읽는 최소 시간
+     * @param replicaLag 현재 복제 지연 시간
+     */
+    public ReadYourWrites(Duration window, Supplier<Duration> replicaLag) {
+        this.window = window;
+        this.replicaLag = replicaLag;
+    }
+
+    /**
+     * 요청 시작 - 최근에 쓰기를 한 사용자면 주 DB로 고정
+     *
+     * @param user 사용자 식별자 (비로그인 요청이면 null)
+     */
+    public void begin(String user) {
+        if (user == null) {
+            return;
+        }
+        CURRENT_USER.set(user);
+        if (wroteRecently(user)) {
+            PINNED.set(Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 요청 종료
+     */
+    public void end() {
+        CURRENT_USER.remove();
+        PINNED.remove();
+    }
+
+    /**
+     * 현재 요청이 주 DB로 고정되었는지 여부
+     *
+     * @return 고정 여부
+     */
+    public boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * 현재 요청 사용자의 쓰기 커밋 기록 (이후 같은 요청의 읽기도 주 DB로 고정)
+     */
+    public void recordWrite() {
+        String user = CURRENT_USER.get();
+        if (user == null) {
+            return;
+        }
+
+        if (lastWriteNanos.size() > PURGE_THRESHOLD) {
+            purgeExpired();
+        }
+        lastWriteNanos.put(user, System.nanoTime());
+        PINNED.set(Boolean.TRUE);
+    }
+
+    private boolean wroteRecently(String user) {
+        Long writtenAt = lastWriteNanos.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < pinNanos()) {
+            return true;
+        }
+
+        lastWriteNanos.remove(user, writtenAt);
+        return false;
+    }
+
+    private long pinNanos() {
+        Duration lag = replicaLag.get();
+        return (lag.compareTo(window) > 0 ? lag : window).toNanos();
+    }
+
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        long pinNanos = pinNanos();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= pinNanos);
+    }
+
+}
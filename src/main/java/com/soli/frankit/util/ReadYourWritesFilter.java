@@ -0,0 +1,50 @@
+package com.soli.frankit.util;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ReadYourWritesFilter
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 인증된 사용자별 read-your-writes 범위를 요청 단위로 여닫는 필터 (보안 필터 체인 다음에 실행)
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWrites readYourWrites;
+
+    /**
+     * ReadYourWritesFilter 생성자
+     *
+     * @param readYourWrites 쓰기 직후 주 DB 고정
+     */
+    public ReadYourWritesFilter(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+        readYourWrites.begin(authenticated ? authentication.getName() : null);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWrites.end();
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.soli.frankit.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ReplicaLagMonitor
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 복제 DB 지연 시간 감시 및 읽기 대상 선택
+ *                - 주기적으로 지연 시간을 측정해 허용 지연 이내인 복제 DB만 라운드 로빈으로 선택
+ *                - 모든 복제 DB가 지연/장애 상태면 선택하지 않음 (주 DB로 대체)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder, DisposableBean {
+
+    private static final long UNAVAILABLE = -1L;
+
+    private final List<DataSource> replicas;
+    private final ReplicaLagProbe probe;
+    private final Duration maxLag;
+    private final AtomicLongArray lagMillis; // 복제 DB별 마지막 측정 지연 시간 (장애 시 -1)
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * ReplicaLagMonitor 생성자 (측정 전에는 모든 복제 DB를 사용하지 않음)
+     *
+     * @param replicas 복제 DB 목록
+     * @param probe 지연 시간 측정 방법
+     * @param maxLag 읽기 대상으로 허용하는 최대 지연 시간
+     */
+    public ReplicaLagMonitor(List<DataSource> replicas, ReplicaLagProbe probe, Duration maxLag) {
+        this.replicas = List.copyOf(replicas);
+        this.probe = probe;
+        this.maxLag = maxLag;
+        this.lagMillis = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            lagMillis.set(i, UNAVAILABLE);
+        }
+    }
+
+    /**
+     * 즉시 1회 측정한 뒤 주기적 측정 시작
+     *
+     * @param interval 측정 주기
+     */
+    public void start(Duration interval) {
+        checkNow();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkNow, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 모든 복제 DB 지연 시간 측정
+     */
+    public void checkNow() {
+        for (int i = 0; i < replicas.size(); i++) {
+            long previous = lagMillis.get(i);
+            long current;
+
+            try {
+                Duration lag = probe.lag(replicas.get(i));
+                current = lag == null ? UNAVAILABLE : lag.toMillis();
+            } catch (Exception e) {
+                current = UNAVAILABLE;
+            }
+
+            lagMillis.set(i, current);
+            if (isUsable(previous) != isUsable(current)) {
+                log.warn("복제 DB 상태 변경 - replica: {}, lag: {}ms, 읽기 대상: {}", i, current, isUsable(current));
+            }
+        }
+    }
+
+    /**
+     * 허용 지연 이내인 복제 DB를 라운드 로빈으로 선택
+     *
+     * @return 복제 DB 번호 (사용 가능한 복제 DB가 없으면 -1)
+     */
+    public int pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (isUsable(lagMillis.get(index))) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 사용 가능한 복제 DB 중 가장 큰 지연 시간 (read-your-writes 유지 시간 계산용)
+     *
+     * @return 최대 지연 시간 (사용 가능한 복제 DB가 없으면 0)
+     */
+    public Duration maxUsableLag() {
+        long max = 0;
+        for (int i = 0; i < lagMillis.length(); i++) {
+            long lag = lagMillis.get(i);
+            if (isUsable(lag)) {
+                max = Math.max(max, lag);
+            }
+        }
+        return Duration.ofMillis(max);
+    }
+
+    /**
+     * 감시 중인 복제 DB 목록
+     *
+     * @return 복제 DB 목록 (번호 순)
+     */
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    private boolean isUsable(long lag) {
+        return lag != UNAVAILABLE && lag <= maxLag.toMillis();
+    }
+
+    /**
+     * 복제 DB별 지연 시간 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = i;
+            Gauge.builder("datasource.replica.lag", lagMillis, lags -> lags.get(index))
+                 .tag("replica", String.valueOf(index))
+                 .baseUnit("milliseconds")
+                 .description("복제 DB 지연 시간 (-1: 장애 또는 복제 중단)")
+                 .register(registry);
+        }
+    }
+
+    /**
+     * 종료 시 측정 스레드 정리
+     */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+}
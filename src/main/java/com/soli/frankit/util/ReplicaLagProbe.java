@@ -0,0 +1,52 @@
+package com.soli.frankit.util;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ReplicaLagProbe
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 복제 DB의 지연 시간 측정 방법
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    /**
+     * 복제 DB 지연 시간 측정
+     *
+     * @param replica 측정할 복제 DB
+     * @return 지연 시간 (복제가 멈췄거나 알 수 없으면 null)
+     * @throws SQLException 복제 DB에 연결할 수 없는 경우
+     */
+    Duration lag(DataSource replica) throws SQLException;
+
+    /**
+     * SQL 한 줄로 지연 시간(초)을 읽는 측정 방법
+     * - MySQL: SHOW REPLICA STATUS / Seconds_Behind_Source (복제 스레드가 멈추면 NULL)
+     *
+     * @param query 지연 시간을 조회하는 SQL
+     * @param column 지연 시간(초) 컬럼 이름
+     * @return 측정 방법
+     */
+    static ReplicaLagProbe sql(String query, String column) {
+        return replica -> {
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(query)) {
+                if (!resultSet.next()) {
+                    return null; // 복제 설정이 없는 DB
+                }
+
+                long seconds = resultSet.getLong(column);
+                return resultSet.wasNull() ? null : Duration.ofSeconds(seconds);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.soli.frankit.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ReplicaRoutingDataSource
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 읽기 전용 트랜잭션을 복제 DB로 보내는 라우팅 DataSource
+ *                - 트랜잭션의 readOnly 여부는 커넥션을 실제로 꺼낼 때 확정되므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ *                - 주 DB로 보내는 경우: 쓰기 트랜잭션, 트랜잭션 밖, read-your-writes 고정, 사용 가능한 복제 DB 없음
+ *                - 쓰기 트랜잭션이 커밋되면 현재 사용자를 read-your-writes 대상으로 기록
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, DisposableBean {
+
+    public static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final List<DataSource> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWrites readYourWrites;
+
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+
+    /**
+     * ReplicaRoutingDataSource 생성자
+     *
+     * @param primary 주 DB
+     * @param replicas 복제 DB 목록 (종료 시 함께 닫음)
+     * @param lagMonitor 복제 DB 지연 감시
+     * @param readYourWrites 쓰기 직후 주 DB 고정
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    ReplicaLagMonitor lagMonitor, ReadYourWrites readYourWrites) {
+        this.replicas = List.copyOf(replicas);
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 커넥션을 꺼낼 DB 결정
+     *
+     * @return 대상 DB 키
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.recordWrite();
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        if (readYourWrites.isPinned()) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+
+        int replica = lagMonitor.pick();
+        if (replica < 0) {
+            fallbackReads.increment(); // 모든 복제 DB가 지연/장애 상태
+            return PRIMARY;
+        }
+
+        replicaReads.increment();
+        return REPLICA_PREFIX + replica;
+    }
+
+    /**
+     * 라우팅 결과 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, writes, "write");
+        register(registry, primaryReads, "read-your-writes");
+        register(registry, replicaReads, "replica");
+        register(registry, fallbackReads, "fallback");
+    }
+
+    private void register(MeterRegistry registry, LongAdder counter, String route) {
+        FunctionCounter.builder("datasource.routing", counter, LongAdder::sum)
+                       .tag("route", route)
+                       .description("트랜잭션별 커넥션 라우팅 결과")
+                       .register(registry);
+    }
+
+    /**
+     * 종료 시 복제 DB 커넥션 풀 정리 (주 DB는 별도 빈으로 관리)
+     *
+     * @throws Exception 커넥션 풀 종료 실패
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.soli.frankit.util;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : RepositoryFlightRecorderPostProcessor
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 모든 Spring Data 리포지토리 호출을 JFR 이벤트로 기록
+ *                - 리포지토리 프록시 생성 시 인터셉터를 추가하므로 상속받은 메서드(findById 등)도 리포지토리 이름으로 기록
+ */
+public class RepositoryFlightRecorderPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            interceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor interceptor(String repository) {
+        return invocation -> {
+            FlightRecorderEvents.RepositoryCall event = new FlightRecorderEvents.RepositoryCall();
+            if (!event.isEnabled()) {
+                return invocation.proceed();
+            }
+
+            event.begin();
+            Throwable failure = null;
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                failure = e;
+                throw e;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.repository = repository;
+                    event.method = invocation.getMethod().getName();
+                    event.exception = failure == null ? null : failure.getClass().getSimpleName();
+                    event.commit();
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.soli.frankit.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : RequestStatementMetricsFilter
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 요청당 실행한 SQL 수 메트릭 (hibernate.request.statements)
+ *                - Open Session In View를 끄므로 세션 단위가 아닌 요청 경계에서 SQL 카운터를 한 번 읽어 기록
+ *                - SQL을 실행하지 않은 요청(응답 캐시 적중, 스냅샷 조회 등)은 기록하지 않음
+ */
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final DistributionSummary statementsPerRequest;
+
+    public RequestStatementMetricsFilter(SqlStatementCounter sqlStatementCounter, MeterRegistry registry) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.statementsPerRequest = DistributionSummary.builder("hibernate.request.statements")
+                                                       .description("요청당 실행한 SQL 수 (배치로 묶인 같은 SQL은 1회)")
+                                                       .baseUnit("statements")
+                                                       .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean started = sqlStatementCounter.startIfIdle();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = started ? sqlStatementCounter.stop() : sqlStatementCounter.count();
+            if (count > 0) {
+                statementsPerRequest.record(count);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,255 @@
+package com.soli.frankit.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ResponseBytesCache
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 직렬화된 응답 본문(byte[]) 캐시
+ *                - 그룹(무효화 단위) + 변형(쿼리 문자열 등)으로 저장, 전체 크기를 바이트 단위로 제한 (가장 오래 안 쓴 항목부터 제거)
+ *                - 조회를 시작할 때의 버전을 받아, 그 사이 무효화되었으면 저장하지 않음 (변경 전 데이터로 다시 채워지는 것 방지)
+ *                - 무효화 후 격리 시간 동안은 저장하지 않음 (지연된 복제 DB에서 읽은 응답이 다시 채워지는 것 방지)
+ */
+public class ResponseBytesCache implements MeterBinder {
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final long ttlNanos;
+    private final long quarantineNanos;
+
+    private final Map<String, Map<String, Entry>> groups = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLongArray quarantinedUntil = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * ResponseBytesCache 생성자
+     *
+     * @param maxBytes 전체 최대 크기 (바이트)
+     * @param maxEntryBytes 항목 하나의 최대 크기 (바이트, 넘으면 저장하지 않음)
+     * @param ttl 항목 최대 보관 시간
+     * @param quarantine 무효화 후 저장하지 않는 시간 (복제 DB를 쓰지 않으면 0)
+     */
+    public ResponseBytesCache(long maxBytes, long maxEntryBytes, Duration ttl, Duration quarantine) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.ttlNanos = ttl.toNanos();
+        this.quarantineNanos = quarantine.toNanos();
+    }
+
+    /**
+     * 그룹의 현재 버전 (응답을 만들기 전에 읽어 두고 put에 전달)
+     *
+     * @param group 그룹
+     * @return 버전
+     */
+    public long version(String group) {
+        return versions.get(stripe(group));
+    }
+
+    /**
+     * 캐시된 응답 본문 조회
+     *
+     * @param group 그룹
+     * @param variant 변형
+     * @return 응답 본문 (없거나 만료되었으면 null)
+     */
+    public byte[] get(String group, String variant) {
+        Map<String, Entry> entries = groups.get(group);
+        Entry entry = entries == null ? null : entries.get(variant);
+        long now = System.nanoTime();
+
+        if (entry == null || now - entry.createdNanos > ttlNanos) {
+            if (entry != null) {
+                remove(entries, variant, entry);
+            }
+            misses.increment();
+            return null;
+        }
+
+        entry.lastAccessNanos = now;
+        hits.increment();
+        return entry.body;
+    }
+
+    /**
+     * 응답 본문 저장
+     *
+     * @param group 그룹
+     * @param variant 변형
+     * @param version 응답을 만들기 전에 읽은 그룹 버전
+     * @param body 응답 본문
+     */
+    public void put(String group, String variant, long version, byte[] body) {
+        int stripe = stripe(group);
+        long now = System.nanoTime();
+        if (body.length > maxEntryBytes || versions.get(stripe) != version || now - quarantinedUntil.get(stripe) < 0) {
+            return;
+        }
+
+        Entry entry = new Entry(body, now);
+        Map<String, Entry> entries = groups.computeIfAbsent(group, key -> new ConcurrentHashMap<>());
+        Entry previous = entries.put(variant, entry);
+        totalBytes.addAndGet(body.length);
+        if (previous != null) {
+            release(previous);
+        }
+
+        if (versions.get(stripe) != version) { // 저장하는 사이 무효화됨
+            remove(entries, variant, entry);
+            return;
+        }
+        evictIfNeeded();
+    }
+
+    /**
+     * 그룹의 모든 변형 무효화
+     *
+     * @param group 그룹
+     */
+    public void invalidate(String group) {
+        int stripe = stripe(group);
+        versions.incrementAndGet(stripe);
+        if (quarantineNanos > 0) {
+            quarantinedUntil.set(stripe, System.nanoTime() + quarantineNanos);
+        }
+
+        Map<String, Entry> entries = groups.remove(group);
+        if (entries != null) {
+            entries.values().forEach(this::release);
+        }
+    }
+
+    /**
+     * 모든 그룹 무효화 (놓친 변경이 있을 수 있는 경우)
+     */
+    public void invalidateAll() {
+        long quarantineUntil = System.nanoTime() + quarantineNanos;
+        for (int stripe = 0; stripe < VERSION_STRIPES; stripe++) {
+            versions.incrementAndGet(stripe);
+            if (quarantineNanos > 0) {
+                quarantinedUntil.set(stripe, quarantineUntil);
+            }
+        }
+
+        for (String group : groups.keySet()) {
+            Map<String, Entry> entries = groups.remove(group);
+            if (entries != null) {
+                entries.values().forEach(this::release);
+            }
+        }
+    }
+
+    /**
+     * 전체 크기 (바이트)
+     *
+     * @return 저장된 응답 본문 크기 합계
+     */
+    public long sizeInBytes() {
+        return totalBytes.get();
+    }
+
+    private void evictIfNeeded() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+
+        synchronized (evictionLock) {
+            while (totalBytes.get() > maxBytes) {
+                Map<String, Entry> oldestEntries = null;
+                String oldestVariant = null;
+                Entry oldest = null;
+
+                for (Map<String, Entry> entries : groups.values()) {
+                    for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+                        if (oldest == null || candidate.getValue().lastAccessNanos - oldest.lastAccessNanos < 0) {
+                            oldestEntries = entries;
+                            oldestVariant = candidate.getKey();
+                            oldest = candidate.getValue();
+                        }
+                    }
+                }
+
+                if (oldest == null) {
+                    return;
+                }
+                remove(oldestEntries, oldestVariant, oldest);
+                evictions.increment();
+            }
+        }
+    }
+
+    private void remove(Map<String, Entry> entries, String variant, Entry entry) {
+        if (entries.remove(variant, entry)) {
+            release(entry);
+        }
+    }
+
+    private void release(Entry entry) {
+        if (entry.released.compareAndSet(false, true)) { // 무효화와 제거가 겹쳐도 한 번만 차감
+            totalBytes.addAndGet(-entry.body.length);
+        }
+    }
+
+    private static int stripe(String group) {
+        return Math.floorMod(group.hashCode(), VERSION_STRIPES);
+    }
+
+    /**
+     * 캐시 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("response.cache.requests", hits, LongAdder::sum)
+                       .tag("result", "hit")
+                       .register(registry);
+        FunctionCounter.builder("response.cache.requests", misses, LongAdder::sum)
+                       .tag("result", "miss")
+                       .register(registry);
+        FunctionCounter.builder("response.cache.evictions", evictions, LongAdder::sum)
+                       .description("크기 제한으로 제거된 항목 수")
+                       .register(registry);
+        Gauge.builder("response.cache.size", totalBytes, AtomicLong::get)
+             .baseUnit("bytes")
+             .description("캐시된 응답 본문 크기 합계")
+             .register(registry);
+    }
+
+    private static final class Entry {
+
+        private final byte[] body;
+        private final long createdNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile long lastAccessNanos;
+
+        private Entry(byte[] body, long createdNanos) {
+            this.body = body;
+            this.createdNanos = createdNanos;
+            this.lastAccessNanos = createdNanos;
+        }
+
+    }
+
+}
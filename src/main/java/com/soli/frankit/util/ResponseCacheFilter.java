@@ -0,0 +1,89 @@
+package com.soli.frankit.util;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ResponseCacheFilter
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 응답을 직렬화된 바이트로 캐시하는 필터 (보안 필터 체인 다음에 실행)
+ *                - 적중 시 컨트롤러/JPA/DTO 변환/Jackson 없이 캐시된 바이트를 그대로 응답
+ *                - 미스 시 응답 본문을 복사해 두고, 200 JSON 응답만 저장
+ *                - read-your-writes로 주 DB에 고정된 요청은 캐시를 거치지 않음
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseBytesCache cache;
+    private final CatalogResponseCache catalogResponseCache;
+    private final ReadYourWrites readYourWrites; // 복제 DB 라우팅을 쓰지 않으면 null
+
+    /**
+     * ResponseCacheFilter 생성자
+     *
+     * @param cache 응답 본문 캐시
+     * @param catalogResponseCache 캐시 대상 결정
+     * @param readYourWrites 쓰기 직후 주 DB 고정 (없으면 null)
+     */
+    public ResponseCacheFilter(ResponseBytesCache cache, CatalogResponseCache catalogResponseCache, ReadYourWrites readYourWrites) {
+        this.cache = cache;
+        this.catalogResponseCache = catalogResponseCache;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CatalogResponseCache.Key key = HttpMethod.GET.matches(request.getMethod()) && !isPinnedToPrimary()
+                ? catalogResponseCache.resolve(request)
+                : null;
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        byte[] cached = cache.get(key.group(), key.variant());
+        if (cached != null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(cached.length);
+            response.setHeader(CACHE_HEADER, "HIT");
+            response.getOutputStream().write(cached);
+            return;
+        }
+
+        long version = cache.version(key.group());
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_HEADER, "MISS");
+
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && isJson(wrapper.getContentType())) {
+                cache.put(key.group(), key.variant(), version, wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isPinnedToPrimary() {
+        return readYourWrites != null && readYourWrites.isPinned();
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.soli.frankit.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : SamplingTurboFilter
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 로거 이름(접두사)별 샘플링 + 초당 유량 제한 필터 (logback-spring.xml 에서 로거별로 선언)
+ *                - 메시지 포맷팅 전에 판단하므로 버려지는 로그는 문자열 생성 비용이 없음
+ *                - maxLevel(기본 WARN) 이하 로그만 샘플링/유량 제한 대상, 그보다 높은 ERROR와 MUTATION 마커 로그는 항상 통과
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    @Getter @Setter
+    private String loggerPrefix = "";
+    @Getter @Setter
+    private double sampleRate = 1.0;  // 통과 비율 (0.0 ~ 1.0)
+    @Getter @Setter
+    private int maxPerSecond = 0;     // 초당 최대 통과 개수 (0이면 제한 없음)
+    @Getter @Setter
+    private Level maxLevel = Level.WARN; // 이 레벨 이하만 샘플링/유량 제한 대상 (ERROR는 버리지 않음)
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * 필터 시작 전 설정 검증
+     */
+    @Override
+    public void start() {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            addError("sampleRate는 0.0 ~ 1.0 사이여야 합니다: " + sampleRate);
+            return;
+        }
+        if (maxPerSecond < 0) {
+            addError("maxPerSecond는 0 이상이어야 합니다: " + maxPerSecond);
+            return;
+        }
+        super.start();
+    }
+
+    /**
+     * 로그 출력 여부 판단
+     *
+     * @return DENY(버림) 또는 NEUTRAL(다음 필터/레벨 판단으로 넘김)
+     */
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null) { // format == null: isDebugEnabled() 같은 레벨 확인 호출
+            return FilterReply.NEUTRAL;
+        }
+        if (level.toInt() > maxLevel.toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) { // 어차피 출력되지 않는 레벨은 할당량을 쓰지 않음
+            return FilterReply.NEUTRAL;
+        }
+        if (marker != null && marker.contains(LogMarkers.MUTATION_NAME)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            droppedCount.increment();
+            return FilterReply.DENY;
+        }
+        if (maxPerSecond > 0 && !tryAcquire()) {
+            droppedCount.increment();
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * 1초 고정 구간 안에서 통과 개수 할당
+     *
+     * @return 할당 성공 여부
+     */
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+
+        if (now - start >= NANOS_PER_SECOND && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0); // 새 구간 시작
+        }
+        return windowCount.incrementAndGet() <= maxPerSecond;
+    }
+
+    /**
+     * 샘플링/유량 제한으로 버려진 로그 수
+     *
+     * @return 누적 버림 개수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : SingleFlight
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 같은 키의 동시 조회를 하나로 합치는 single-flight
+ *                - 먼저 온 요청(leader)만 실제로 조회하고, 그동안 들어온 같은 키의 요청(follower)은 그 결과를 함께 받음
+ *                - leader의 예외는 모든 follower에게 그대로 전달
+ *                - follower는 최대 대기 시간까지만 기다리고, 초과하면 503
+ *                - 조회가 끝나면 키를 바로 지우므로 결과를 보관하지 않음 (캐시가 아님)
+ */
+@Slf4j
+@Getter
+public class SingleFlight implements MeterBinder {
+
+    private final String name;
+    private final Duration maxWait;
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaderCalls = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+    private final LongAdder timedOutCalls = new LongAdder();
+
+    /**
+     * 실제 조회
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws Throwable;
+    }
+
+    /**
+     * SingleFlight 생성자
+     *
+     * @param name 이름 (메트릭 태그)
+     * @param maxWait follower가 leader의 결과를 기다리는 최대 시간
+     */
+    public SingleFlight(String name, Duration maxWait) {
+        this.name = name;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 같은 키로 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 직접 조회
+     *
+     * @param key 조회 키 (equals/hashCode로 비교)
+     * @param loader 실제 조회
+     * @return 조회 결과 (follower는 leader와 같은 객체를 받음)
+     * @throws Throwable 조회 중 발생한 예외 (follower도 leader와 같은 예외)
+     * @throws CustomException(ErrorCode.SERVICE_BUSY) follower가 최대 대기 시간 안에 결과를 받지 못한 경우
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Loader<T> loader) throws Throwable {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return (T) await(key, existing);
+        }
+
+        leaderCalls.increment();
+        try {
+            T result = loader.load();
+            inFlight.remove(key, call); // 완료 후 들어온 요청은 새로 조회하도록 먼저 제거
+            call.complete(result);
+            return result;
+        } catch (Throwable e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(Object key, CompletableFuture<Object> call) throws Throwable {
+        coalescedCalls.increment();
+        try {
+            return call.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            timedOutCalls.increment();
+            log.warn("single-flight 대기 시간 초과 - name: {}, key: {}, maxWait: {}", name, key, maxWait);
+            throw new CustomException(ErrorCode.SERVICE_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SERVICE_BUSY);
+        }
+    }
+
+    /**
+     * single-flight 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("singleflight.calls", leaderCalls, LongAdder::sum)
+                       .tags("name", name, "result", "leader")
+                       .description("직접 조회한 요청 수")
+                       .register(registry);
+        FunctionCounter.builder("singleflight.calls", coalescedCalls, LongAdder::sum)
+                       .tags("name", name, "result", "coalesced")
+                       .description("진행 중인 조회 결과를 함께 받은 요청 수")
+                       .register(registry);
+        FunctionCounter.builder("singleflight.calls", timedOutCalls, LongAdder::sum)
+                       .tags("name", name, "result", "timeout")
+                       .description("결과를 기다리다 대기 시간을 넘긴 요청 수 (coalesced에도 포함)")
+                       .register(registry);
+        Gauge.builder("singleflight.in.flight", inFlight, Map::size)
+             .tag("name", name)
+             .description("진행 중인 조회 키 수")
+             .register(registry);
+    }
+
+}
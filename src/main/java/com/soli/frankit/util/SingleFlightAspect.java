@@ -0,0 +1,67 @@
+package com.soli.frankit.util;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : SingleFlightAspect
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 서비스의 읽기 전용 트랜잭션 메서드를 (메서드 + 인자) 단위로 single-flight 처리하는 Aspect
+ *                - follower가 벌크헤드 권한과 커넥션을 잡지 않도록 BulkheadAspect보다 바깥에서 실행
+ *                - 이미 트랜잭션 안에서의 중첩 호출과 쓰기 직후 주 DB에 고정된 요청은 합치지 않음
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 75) // FlightRecorderAspect(+50)와 BulkheadAspect(+100) 사이
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    private final SingleFlight singleFlight;
+    private final ReadYourWrites readYourWrites; // 복제 DB 라우팅을 쓰지 않으면 null
+
+    /**
+     * 읽기 전용 트랜잭션 메서드 호출을 같은 인자의 진행 중인 호출과 합침
+     *
+     * @param joinPoint 실행할 서비스 메서드
+     * @param transactional 메서드의 트랜잭션 설정 (readOnly 인 경우만 합침)
+     * @return 서비스 메서드 실행 결과
+     * @throws Throwable 서비스 메서드에서 발생한 예외
+     */
+    @Around("execution(* com.soli.frankit.service..*(..)) && @annotation(transactional)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Transactional transactional) throws Throwable {
+        if (!transactional.readOnly()
+                || TransactionSynchronizationManager.isActualTransactionActive()
+                || (readYourWrites != null && readYourWrites.isPinned())) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        CallKey key = new CallKey(method, Arrays.asList(joinPoint.getArgs()));
+        return singleFlight.execute(key, joinPoint::proceed);
+    }
+
+    /**
+     * 호출 키 (인자는 equals로 비교하므로 ID/페이지 번호 같은 값 타입이어야 함)
+     */
+    private record CallKey(Method method, List<Object> args) {
+
+        @Override
+        public String toString() {
+            return method.getDeclaringClass().getSimpleName() + "." + method.getName() + args;
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.soli.frankit.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : SqlStatementCounter
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : Hibernate가 준비(prepare)하는 SQL 수를 스레드별로 세는 StatementInspector
+ *                - start() ~ stop() 사이에 같은 스레드에서 실행된 SQL만 셈 (배치로 묶인 같은 SQL은 1회)
+ *                - 테스트의 쿼리 수 검증(@MaxQueries), 요청별 쿼리 예산(QueryBudgetFilter), 요청당 SQL 수 메트릭(RequestStatementMetricsFilter)에서 사용
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<Count> current = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드에서 세기 시작 (이전 값은 버림)
+     */
+    public void start() {
+        current.set(new Count());
+    }
+
+    /**
+     * 현재 스레드에서 세는 중이 아니면 세기 시작 (요청 필터끼리 같은 수를 함께 사용)
+     *
+     * @return 이번 호출로 시작했으면 true (true를 받은 쪽만 stop() 호출)
+     */
+    public boolean startIfIdle() {
+        if (current.get() != null) {
+            return false;
+        }
+        start();
+        return true;
+    }
+
+    /**
+     * 현재까지 센 SQL 수
+     *
+     * @return SQL 수 (세는 중이 아니면 0)
+     */
+    public int count() {
+        Count count = current.get();
+        return count == null ? 0 : count.value;
+    }
+
+    /**
+     * 세기 종료
+     *
+     * @return 센 SQL 수
+     */
+    public int stop() {
+        int count = count();
+        current.remove();
+        return count;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Count count = current.get();
+        if (count != null) {
+            count.value++;
+        }
+        return sql;
+    }
+
+    private static final class Count {
+        private int value;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.soli.frankit.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : VirtualThreadPinningMonitor
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 가상 스레드 고정(pinning) 감지기
+ *                - synchronized 블록 안에서 블로킹되어 캐리어 스레드를 점유한 경우를 JFR 이벤트로 감지해 로그와 메트릭으로 남김
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements MeterBinder, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final LongAdder pinnedCount = new LongAdder();
+    private RecordingStream recordingStream;
+
+    /**
+     * VirtualThreadPinningMonitor 생성자
+     *
+     * @param threshold 이 시간 이상 고정된 경우만 기록
+     */
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * 기동 완료 후 JFR 이벤트 스트림 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 고정 감지 시작 - threshold: {}ms", threshold.toMillis());
+    }
+
+    /**
+     * 가상 스레드 고정 이벤트 처리
+     *
+     * @param event JFR 고정 이벤트
+     */
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        log.warn("가상 스레드 고정 감지 - duration: {}ms, stack:\n{}", event.getDuration().toMillis(), describe(event.getStackTrace()));
+    }
+
+    private String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "  (스택 정보 없음)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                     .limit(LOGGED_FRAMES)
+                     .map(frame -> "  at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                             + "(line " + frame.getLineNumber() + ")")
+                     .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * 고정 횟수 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jvm.threads.virtual.pinned", pinnedCount, LongAdder::sum)
+                       .description("임계 시간 이상 캐리어 스레드에 고정된 가상 스레드 수")
+                       .register(registry);
+    }
+
+    /**
+     * 종료 시 JFR 이벤트 스트림 정리
+     */
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+}
@@ -5,6 +5,7 @@ create table if not exists users
     primary key,
     email      varchar(100)                       not null,
     password   varchar(255)                       not null,
+    role       enum ('USER', 'ADMIN') default 'USER' not null,
     created_at datetime default CURRENT_TIMESTAMP not null,
     updated_at datetime default CURRENT_TIMESTAMP not null on update CURRENT_TIMESTAMP,
     constraint email
@@ -45,6 +46,13 @@ create table if not exists product_options
 create index product_seq
     on product_options (product_seq);
 
+-- 변경 피드 (updated_at, ID) 커서 조회용
+create index idx_products_updated_at
+    on products (updated_at, product_seq);
+
+create index idx_product_options_updated_at
+    on product_options (updated_at, option_seq);
+
 -- 옵션 상세 테이블 (선택형 옵션 값 저장)
 create table if not exists option_details
 (
@@ -64,3 +72,75 @@ create table if not exists option_details
 create index option_seq
     on option_details (option_seq);
 
+create index idx_option_details_updated_at
+    on option_details (updated_at, detail_seq);
+
+
+-- 상품/옵션/상세 옵션 변경 로그 (변경과 같은 트랜잭션에서 추가, 각 노드가 순번 순으로 읽어 로컬 캐시 무효화)
+create table if not exists catalog_changes
+(
+    change_seq  bigint auto_increment
+    primary key,
+    target      varchar(10)                        not null,
+    action      varchar(15)                        not null,
+    product_seq bigint                             not null,
+    option_seq  bigint                             null,
+    detail_seq  bigint                             null,
+    created_at  datetime default CURRENT_TIMESTAMP not null
+    );
+
+create index idx_catalog_changes_created_at
+    on catalog_changes (created_at);
+
+-- 변경 피드 삭제 목록 조회용
+create index idx_catalog_changes_action
+    on catalog_changes (action, change_seq);
+
+-- 상품 조회 모델 (상품 + 활성화된 옵션/상세 옵션 트리 JSON, 변경과 같은 트랜잭션에서 갱신해 상품 화면을 PK 조회 한 번으로 응답)
+create table if not exists product_view
+(
+    product_seq  bigint                               not null
+    primary key,
+    name         varchar(255)                         not null,
+    description  text                                 not null,
+    price        decimal(10, 2)                       not null,
+    shipping_fee decimal(10, 2)                       not null,
+    is_active    tinyint(1)                           not null,
+    option_tree  json                                 not null,
+    created_at   datetime                             not null,
+    updated_at   datetime                             not null
+    );
+
+-- 보관 처리된 옵션 (비활성화 후 오래된, 주문되지 않은 옵션을 product_options에서 옮겨 둠)
+create table if not exists product_options_archive
+(
+    option_seq   bigint                               not null
+    primary key,
+    product_seq  bigint                               not null,
+    option_name  varchar(255)                         not null,
+    option_type  enum ('INPUT', 'SELECT')             not null,
+    option_price decimal(10, 2)                       null,
+    created_at   datetime                             not null,
+    updated_at   datetime                             not null,
+    archived_at  datetime                             not null
+    );
+
+create index idx_product_options_archive_product
+    on product_options_archive (product_seq, option_seq);
+
+-- 보관 처리된 상세 옵션 (보관 처리된 옵션의 상세 옵션)
+create table if not exists option_details_archive
+(
+    detail_seq   bigint                               not null
+    primary key,
+    option_seq   bigint                               not null,
+    detail_name  varchar(255)                         not null,
+    detail_price decimal(10, 2)                       not null,
+    is_active    tinyint(1)                           not null,
+    created_at   datetime                             not null,
+    updated_at   datetime                             not null,
+    archived_at  datetime                             not null
+    );
+
+create index idx_option_details_archive_option
+    on option_details_archive (option_seq, detail_seq);
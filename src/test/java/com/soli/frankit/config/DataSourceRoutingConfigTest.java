@@ -0,0 +1,157 @@
+package com.soli.frankit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soli.frankit.controller.AuthController;
+import com.soli.frankit.controller.UserController;
+import com.soli.frankit.dto.LoginRequest;
+import com.soli.frankit.dto.UserRequest;
+import com.soli.frankit.service.AuthService;
+import com.soli.frankit.service.EmailMembershipFilter;
+import com.soli.frankit.service.UserService;
+import com.soli.frankit.util.JwtTokenProvider;
+import com.soli.frankit.util.ReplicaLagMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : DataSourceRoutingConfigTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 두 개의 H2 인메모리 DB(주/복제)와 JPA, 실제 요청으로 읽기/쓰기 라우팅 테스트
+ *                - 복제는 일어나지 않으므로 주 DB에만 쓴 행은 복제 DB에서 보이지 않음 (복제 지연 상황)
+ */
+@WebMvcTest({UserController.class, AuthController.class})
+@AutoConfigureDataJpa
+@Import({DataSourceRoutingConfig.class, SecurityConfig.class, JwtTokenProvider.class, UserService.class, AuthService.class,
+        DataSourceRoutingConfigTest.MetricsTestConfig.class})
+class DataSourceRoutingConfigTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:primary-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate PRIMARY = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+    private static final JdbcTemplate REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    static {
+        // 주 DB는 Hibernate가 생성, 복제 DB는 같은 구조로 직접 생성
+        REPLICA.execute("create table users (user_seq bigint auto_increment primary key, email varchar(100) not null unique, "
+                + "password varchar(255) not null, role varchar(20) not null, created_at timestamp(6), updated_at timestamp(6))");
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.driver-class-name", () -> "org.h2.Driver");
+        registry.add("spring.datasource.url", () -> PRIMARY_URL);
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("datasource.routing.enabled", () -> "true");
+        registry.add("datasource.routing.replica-urls", () -> REPLICA_URL);
+        registry.add("datasource.routing.replica-username", () -> "sa");
+        registry.add("datasource.routing.replica-password", () -> "");
+        registry.add("datasource.routing.lag-query", () -> "select 0 as lag_seconds");
+        registry.add("datasource.routing.lag-column", () -> "lag_seconds");
+        registry.add("jwt.secret", () -> "c29saS1mcmFua2l0LXRlc3Qtc2VjcmV0LWtleS0yMDI1LWZvci1obWFjLXNoYTI1Ng==");
+        registry.add("password.hash.target-latency-ms", () -> "1");
+        registry.add("password.hash.min-strength", () -> "4");
+        registry.add("password.hash.max-strength", () -> "4");
+    }
+
+    @TestConfiguration
+    static class MetricsTestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @MockBean
+    private EmailMembershipFilter emailMembershipFilter;
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor.checkNow();
+        assertThat(replicaLagMonitor.pick()).isZero(); // 복제 DB가 읽기 대상
+
+        when(emailMembershipFilter.mightContain(anyString())).thenReturn(true); // 가입 시 중복 조회(읽기 전용) 후 저장
+    }
+
+    @Test
+    @DisplayName("한 요청에서 읽기 전용 조회 후 저장하면 조회는 복제 DB, 저장은 주 DB")
+    void readThenWriteInOneRequest() throws Exception {
+        // Given - 복제 DB에만 있는 이메일 (복제 DB에서 조회하면 중복으로 판단)
+        REPLICA.update("insert into users (email, password, role) values (?, ?, ?)", "replica-only@test.com", "x", "USER");
+
+        // When & Then
+        mockMvc.perform(post("/api/users/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new UserRequest("replica-only@test.com", "solitest1216"))))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(post("/api/users/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new UserRequest("writer@test.com", "solitest1216"))))
+                .andExpect(status().isCreated());
+
+        assertThat(countUsers(PRIMARY, "writer@test.com")).isEqualTo(1);
+        assertThat(countUsers(REPLICA, "writer@test.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("가입 직후 로그인은 복제 DB에 반영되기 전에도 성공")
+    void loginRightAfterRegister() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/users/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new UserRequest("new@test.com", "solitest1216"))))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new LoginRequest("new@test.com", "solitest1216"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists());
+    }
+
+    private int countUsers(JdbcTemplate database, String email) {
+        return database.queryForObject("select count(*) from users where email = ?", Integer.class, email);
+    }
+
+    private String json(Object request) throws Exception {
+        return new ObjectMapper().writeValueAsString(request);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.soli.frankit.config;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : MaxQueries
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 테스트 메서드 본문에서 실행되는 SQL 수 상한 (@BeforeEach 데이터 준비는 제외)
+ *                - Spring 컨텍스트에 SqlStatementCounter가 등록되어 있어야 함 (@Import(QueryCountConfig.class))
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface MaxQueries {
+
+    /**
+     * 허용하는 최대 SQL 수
+     */
+    int value();
+
+}
@@ -0,0 +1,46 @@
+package com.soli.frankit.config;
+
+import com.soli.frankit.util.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * packageName  : com.soli.frankit.config
+ * fileName     : QueryCountExtension
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : @MaxQueries 처리 - 테스트 본문 실행 전후로 SQL 수를 세어 상한을 넘으면 실패
+ */
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        counter(context).start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        int count = counter(context).stop();
+        int max = maxQueries(context);
+
+        if (count > max) {
+            throw new AssertionError("SQL 실행 수 초과 - " + context.getDisplayName()
+                    + ": 실행 " + count + "회, 허용 " + max + "회");
+        }
+    }
+
+    private static SqlStatementCounter counter(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(SqlStatementCounter.class);
+    }
+
+    private static int maxQueries(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxQueries.class))
+                                .map(MaxQueries::value)
+                                .orElseThrow();
+    }
+
+}
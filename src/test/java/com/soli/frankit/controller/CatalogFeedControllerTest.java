@@ -0,0 +1,77 @@
+package com.soli.frankit.controller;
+
+import com.soli.frankit.config.TestSecurityConfig;
+import com.soli.frankit.dto.CatalogFeedResponse;
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import com.soli.frankit.service.CatalogFeedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * packageName  : com.soli.frankit.controller
+ * fileName     : CatalogFeedControllerTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : CatalogFeedController의 변경 피드 API 테스트
+ */
+@WebMvcTest(CatalogFeedController.class)
+@Import(TestSecurityConfig.class)
+class CatalogFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CatalogFeedService catalogFeedService;
+
+    @Test
+    @DisplayName("변경 피드 조회 성공 (200) - 커서 없이 처음부터")
+    void getChangesSuccess() throws Exception {
+        // Given
+        CatalogFeedResponse response = CatalogFeedResponse.builder()
+                                                          .products(List.of(ProductResponse.builder().id(1L).name("상품명").build()))
+                                                          .options(List.of())
+                                                          .details(List.of())
+                                                          .deleted(List.of())
+                                                          .nextCursor("next")
+                                                          .hasMore(false)
+                                                          .build();
+        when(catalogFeedService.getChanges(null, 100)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/catalog/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products", hasSize(1)))
+                .andExpect(jsonPath("$.products[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("변경 피드 조회 실패 - 보관 기간이 지난 커서 (410)")
+    void getChangesFail_CursorExpired() throws Exception {
+        // Given
+        when(catalogFeedService.getChanges("old", 50)).thenThrow(new CustomException(ErrorCode.CURSOR_EXPIRED));
+
+        // When & Then
+        mockMvc.perform(get("/api/catalog/changes").param("since", "old").param("limit", "50"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error").value(ErrorCode.CURSOR_EXPIRED.getMessage()));
+    }
+
+}
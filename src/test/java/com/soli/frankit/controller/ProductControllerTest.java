@@ -4,11 +4,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.soli.frankit.config.TestSecurityConfig;
 import com.soli.frankit.dto.ProductRequest;
 import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.dto.ProductViewResponse;
+import com.soli.frankit.entity.OptionType;
 import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductView;
 import com.soli.frankit.exception.CustomException;
 import com.soli.frankit.exception.ErrorCode;
 import com.soli.frankit.service.OrderService;
 import com.soli.frankit.service.ProductService;
+import com.soli.frankit.service.ProductViewService;
+import com.soli.frankit.util.CatalogReadModel;
+import com.soli.frankit.util.CatalogSnapshot;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,7 +31,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.BDDMockito.*;
@@ -48,9 +58,15 @@ class ProductControllerTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private ProductViewService productViewService;
+
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private CatalogReadModel catalogReadModel; // current()가 null이면 서비스로 조회
+
     private Long validId;
     private Long invalidId;
 
@@ -204,6 +220,39 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.shippingFee").value("배송비는 0원 이상이어야 합니다."));
     }
 
+    @Test
+    @DisplayName("상품 부분 수정 성공 - merge patch (200)")
+    void patchProductSuccess() throws Exception {
+        // Given
+        when(productService.patchProduct(eq(validId), any())).thenReturn(validUpdateResponse);
+
+        // When & Then
+        mockMvc.perform(patch("/api/products/{id}", validId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"price\": 50000}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(BigDecimal.valueOf(50000)));
+
+        verify(productService).patchProduct(eq(validId), argThat(patch ->
+                patch.size() == 1 && patch.get("price").decimalValue().compareTo(BigDecimal.valueOf(50000)) == 0));
+    }
+
+    @Test
+    @DisplayName("상품 부분 수정 실패 - 필수 필드 제거 (400)")
+    void patchProductFail_RemoveRequiredField() throws Exception {
+        // Given
+        doThrow(new ConstraintViolationException(Validation.buildDefaultValidatorFactory().getValidator()
+                .validate(new ProductRequest("상품명", null, BigDecimal.valueOf(20000), BigDecimal.valueOf(3000)))))
+                .when(productService).patchProduct(eq(validId), any());
+
+        // When & Then
+        mockMvc.perform(patch("/api/products/{id}", validId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"description\": null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.description").value("상품 설명은 필수 입력값입니다."));
+    }
+
     @Test
     @DisplayName("상품 삭제 성공 - 주문되지 않은 상품(활성화 상태) (204)")
     void deleteProductSuccess_ActiveProductWithoutOrder() throws Exception {
@@ -319,6 +368,20 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.shippingFee").value(BigDecimal.valueOf(3000)));
     }
 
+    @Test
+    @DisplayName("상품 조회 성공 - 스냅샷에 아직 반영되지 않은 상품은 서비스로 조회 (200)")
+    void getProductByIdSuccess_NotInSnapshot() throws Exception {
+        // Given
+        when(catalogReadModel.current()).thenReturn(CatalogSnapshot.EMPTY);
+        when(productService.getProductById(validId)).thenReturn(validResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/{id}", validId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("상품명"));
+    }
+
     @Test
     @DisplayName("상품 조회 실패 - 상품이 존재하지 않음 (404)")
     void getProductByIdFail_ProductNotFound() throws Exception {
@@ -333,6 +396,29 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.error").value(ErrorCode.PRODUCT_NOT_FOUND.getMessage()));
     }
 
+    @Test
+    @DisplayName("상품 화면 조회 성공 - 활성화된 옵션 트리 포함 (200)")
+    void getProductViewSuccess() throws Exception {
+        // Given
+        ProductView.OptionNode color = new ProductView.OptionNode(10L, "색상", OptionType.SELECT, null,
+                List.of(new ProductView.DetailNode(100L, "빨강", BigDecimal.valueOf(1000))));
+        ProductViewResponse response = ProductViewResponse.builder()
+                                                          .id(validId)
+                                                          .name("상품명")
+                                                          .price(BigDecimal.valueOf(20000))
+                                                          .options(List.of(color))
+                                                          .build();
+        when(productViewService.getProductView(validId)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/{id}/view", validId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("상품명"))
+                .andExpect(jsonPath("$.options", hasSize(1)))
+                .andExpect(jsonPath("$.options[0].optionName").value("색상"))
+                .andExpect(jsonPath("$.options[0].details[0].detailName").value("빨강"));
+    }
+
     @Test
     @DisplayName("상품 목록 조회 성공 - 상품 있음 (200)")
     void getAllProductsSuccess() throws Exception {
@@ -360,6 +446,57 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.content[0].name").value("상품 1")); // 첫 번째 상품 이름 확인
     }
 
+    @Test
+    @DisplayName("상품 ID 목록 조회 성공 - 요청 순서, 없는 ID는 found=false (200)")
+    void getProductsByIdsSuccess() throws Exception {
+        // Given
+        when(productService.getProductsByIds(List.of(2L, 999L, 1L))).thenReturn(Map.of(
+                1L, ProductResponse.builder().id(1L).name("상품 1").price(BigDecimal.valueOf(10000)).build(),
+                2L, ProductResponse.builder().id(2L).name("상품 2").price(BigDecimal.valueOf(20000)).build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/products").param("ids", "2,999,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.items[0].data.name").value("상품 2"))
+                .andExpect(jsonPath("$.items[1].id").value(999))
+                .andExpect(jsonPath("$.items[1].found").value(false))
+                .andExpect(jsonPath("$.items[1].data").doesNotExist())
+                .andExpect(jsonPath("$.items[2].data.name").value("상품 1"))
+                .andExpect(jsonPath("$.notFoundCount").value(1));
+
+        verify(productService, never()).getAllProducts(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("상품 조회 성공 - 고른 필드만 응답 (200)")
+    void getProductFieldsSuccess() throws Exception {
+        // Given
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("id", 1L);
+        fields.put("price", BigDecimal.valueOf(10000));
+        when(productService.getProductFields(eq(1L), any())).thenReturn(fields);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/{productId}", 1L).param("fields", "price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.price").value(10000))
+                .andExpect(jsonPath("$.name").doesNotExist());
+
+        verify(productService, never()).getProductById(anyLong());
+    }
+
+    @Test
+    @DisplayName("상품 조회 실패 - 알 수 없는 필드 (400)")
+    void getProductFieldsFail_UnknownField() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/products/{productId}", 1L).param("fields", "name,password"))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).getProductFields(anyLong(), any());
+    }
+
     @Test
     @DisplayName("상품 목록 조회 성공 - 상품 없음 (200)")
     void getAllProductsSuccess_Empty() throws Exception {
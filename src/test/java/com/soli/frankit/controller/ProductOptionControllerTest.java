@@ -2,11 +2,14 @@ package com.soli.frankit.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.soli.frankit.config.TestSecurityConfig;
+import com.soli.frankit.dto.ArchivedOptionResponse;
+import com.soli.frankit.dto.OptionDetailResponse;
 import com.soli.frankit.dto.ProductOptionRequest;
 import com.soli.frankit.dto.ProductOptionResponse;
 import com.soli.frankit.entity.OptionType;
 import com.soli.frankit.exception.CustomException;
 import com.soli.frankit.exception.ErrorCode;
+import com.soli.frankit.service.OptionArchiveService;
 import com.soli.frankit.service.ProductOptionService;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +48,9 @@ class ProductOptionControllerTest {
     @MockBean
     private ProductOptionService productOptionService;
 
+    @MockBean
+    private OptionArchiveService optionArchiveService;
+
     private Long productId;
     private Long optionId;
     private Long invalidId;
@@ -395,4 +401,24 @@ class ProductOptionControllerTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("보관 처리된 옵션 조회 성공 - 상세 옵션 포함 (200)")
+    void getArchivedOptionsByProductSuccess() throws Exception {
+        // Given
+        ArchivedOptionResponse archived = ArchivedOptionResponse.builder()
+                                                                .id(optionId)
+                                                                .optionName("색상")
+                                                                .optionType(OptionType.SELECT)
+                                                                .details(List.of(OptionDetailResponse.builder().id(100L).detailName("빨강").build()))
+                                                                .build();
+        when(optionArchiveService.getArchivedOptions(productId)).thenReturn(List.of(archived));
+
+        // When & Then
+        mockMvc.perform(get("/api/product-options/products/{productId}/archived", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].optionName").value("색상"))
+                .andExpect(jsonPath("$[0].details[0].detailName").value("빨강"));
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.soli.frankit.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soli.frankit.config.SecurityConfig;
+import com.soli.frankit.dto.ProductRequest;
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.dto.RoleChangeRequest;
+import com.soli.frankit.entity.Role;
+import com.soli.frankit.service.OrderService;
+import com.soli.frankit.service.ProductService;
+import com.soli.frankit.service.ProductViewService;
+import com.soli.frankit.service.UserService;
+import com.soli.frankit.util.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * packageName  : com.soli.frankit.controller
+ * fileName     : RoleAuthorizationTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 실제 보안 설정과 JWT로 권한별 변경 API 접근 테스트
+ */
+@WebMvcTest({ProductController.class, UserController.class})
+@Import({SecurityConfig.class, JwtTokenProvider.class, RoleAuthorizationTest.MetricsTestConfig.class})
+@TestPropertySource(properties = {
+        "jwt.secret=c29saS1mcmFua2l0LXRlc3Qtc2VjcmV0LWtleS0yMDI1LWZvci1obWFjLXNoYTI1Ng==",
+        "jwt.expiration=60000",
+        "password.hash.target-latency-ms=1",
+        "password.hash.min-strength=4",
+        "password.hash.max-strength=4"
+})
+class RoleAuthorizationTest {
+
+    @TestConfiguration
+    static class MetricsTestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private ProductService productService;
+
+    @MockBean
+    private ProductViewService productViewService;
+
+    @MockBean
+    private OrderService orderService;
+
+    @MockBean
+    private UserService userService;
+
+    private final ProductRequest productRequest =
+            new ProductRequest("상품명", "상품 설명", BigDecimal.valueOf(20000), BigDecimal.valueOf(3000));
+
+    @Test
+    @DisplayName("상품 등록 실패 - USER 토큰 (403)")
+    void createProductFail_UserToken() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/products")
+                        .header("Authorization", bearer(Role.USER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(productRequest)))
+                .andExpect(status().isForbidden());
+
+        verify(productService, never()).createProduct(any(ProductRequest.class));
+    }
+
+    @Test
+    @DisplayName("상품 등록 성공 - ADMIN 토큰 (200)")
+    void createProductSuccess_AdminToken() throws Exception {
+        // Given
+        when(productService.createProduct(any(ProductRequest.class)))
+                .thenReturn(ProductResponse.builder().id(1L).name("상품명").build());
+
+        // When & Then
+        mockMvc.perform(post("/api/products")
+                        .header("Authorization", bearer(Role.ADMIN))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(productRequest)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("상품 등록 실패 - 토큰 없음 (403)")
+    void createProductFail_NoToken() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(productRequest)))
+                .andExpect(status().isForbidden());
+
+        verify(productService, never()).createProduct(any(ProductRequest.class));
+    }
+
+    @Test
+    @DisplayName("권한 변경 - USER 토큰은 403, ADMIN 토큰은 204")
+    void changeRole_AdminOnly() throws Exception {
+        // Given
+        String body = new ObjectMapper().writeValueAsString(new RoleChangeRequest("soli@test.com", Role.ADMIN));
+
+        // When & Then
+        mockMvc.perform(put("/api/users/role")
+                        .header("Authorization", bearer(Role.USER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isForbidden());
+        verify(userService, never()).changeRole(anyString(), any(Role.class));
+
+        mockMvc.perform(put("/api/users/role")
+                        .header("Authorization", bearer(Role.ADMIN))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNoContent());
+        verify(userService).changeRole("soli@test.com", Role.ADMIN);
+    }
+
+    private String bearer(Role role) {
+        return "Bearer " + jwtTokenProvider.createToken(role.name().toLowerCase() + "@test.com", role);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.soli.frankit.dto;
+
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.dto
+ * fileName     : SparseFieldsetTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : SparseFieldset의 fields 해석과 응답 변환, 비교 테스트
+ */
+class SparseFieldsetTest {
+
+    @Test
+    @DisplayName("고른 필드만 선언 순서로 SELECT 하고 ID는 항상 포함")
+    void selectsRequestedFieldsWithId() {
+        // When
+        SparseFieldset<ProductResponse> fieldset = SparseFieldset.parse("price, active", ProductResponse.FIELDS);
+
+        // Then
+        assertThat(fieldset.attributes()).containsExactly("id", "price", "isActive");
+    }
+
+    @Test
+    @DisplayName("응답 DTO에서 고른 필드만 꺼냄")
+    void extractsRequestedFieldsFromDto() {
+        // Given
+        ProductResponse product = ProductResponse.builder().id(1L).name("상품 1").price(BigDecimal.valueOf(10000)).build();
+        SparseFieldset<ProductResponse> fieldset = SparseFieldset.parse("name", ProductResponse.FIELDS);
+
+        // When
+        Map<String, Object> response = fieldset.from(product);
+
+        // Then
+        assertThat(response).containsExactly(Map.entry("id", 1L), Map.entry("name", "상품 1"));
+        assertThat(fieldset.idOf(response)).isEqualTo(1L);
+        assertThat(fieldset.from((ProductResponse) null)).isNull();
+    }
+
+    @Test
+    @DisplayName("순서나 공백이 달라도 같은 필드를 고르면 같은 fieldset")
+    void equalsBySelectedAttributes() {
+        // When
+        SparseFieldset<ProductResponse> first = SparseFieldset.parse("name,price", ProductResponse.FIELDS);
+        SparseFieldset<ProductResponse> second = SparseFieldset.parse(" price ,name,id", ProductResponse.FIELDS);
+        SparseFieldset<ProductResponse> other = SparseFieldset.parse("name", ProductResponse.FIELDS);
+
+        // Then
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(first).isNotEqualTo(other);
+    }
+
+    @Test
+    @DisplayName("fields가 비었거나 없는 필드를 고르면 잘못된 요청")
+    void rejectsEmptyOrUnknownFields() {
+        assertThatThrownBy(() -> SparseFieldset.parse(" , ", ProductResponse.FIELDS))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+
+        assertThatThrownBy(() -> SparseFieldset.parse("name,password", ProductResponse.FIELDS))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("password");
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.soli.frankit.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.exception
+ * fileName     : GlobalExceptionHandlerTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : CustomException 스택 트레이스 생략 및 미리 만든 오류 응답 테스트
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("예상된 비즈니스 오류는 스택 트레이스를 생성하지 않음")
+    void expectedErrorIsStackless() {
+        // When
+        CustomException notFound = new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+        CustomException serverError = new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+
+        // Then
+        assertThat(notFound.getStackTrace()).isEmpty();
+        assertThat(serverError.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("기본 메시지 오류는 같은 응답 객체를 재사용")
+    void defaultMessageReusesResponse() {
+        // When
+        ResponseEntity<Map<String, Object>> first = handler.handleCustomException(new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+        ResponseEntity<Map<String, Object>> second = handler.handleCustomException(new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(first.getBody()).containsEntry("error", ErrorCode.PRODUCT_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("커스텀 메시지 오류는 메시지를 담은 응답 생성")
+    void customMessageBuildsResponse() {
+        // When
+        ResponseEntity<Map<String, Object>> response =
+                handler.handleCustomException(new CustomException(ErrorCode.INVALID_REQUEST, "page는 0 이상이어야 합니다."));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).containsEntry("error", "page는 0 이상이어야 합니다.");
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.soli.frankit.repository;
+
+import com.soli.frankit.dto.CatalogFeedResponse;
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.entity.CatalogChange;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import com.soli.frankit.service.CatalogChangeEvent;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import com.soli.frankit.service.CatalogFeedService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.repository
+ * fileName     : CatalogFeedQueryTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 변경 피드의 (수정일, ID) 커서 조회와 삭제 기록, 변경 로그 삭제에 따른 커서 만료 테스트
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "catalog-feed.settle-ms=0",
+        "catalog-feed.max-limit=2"
+})
+@Import(CatalogFeedService.class)
+class CatalogFeedQueryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CatalogFeedService catalogFeedService;
+
+    @Autowired
+    private CatalogChangeRepository catalogChangeRepository;
+
+    private Product persistProduct(String name) {
+        Product product = Product.builder()
+                                 .name(name)
+                                 .description("상품 설명")
+                                 .price(BigDecimal.valueOf(20000))
+                                 .shippingFee(BigDecimal.valueOf(3000))
+                                 .build();
+        entityManager.persist(product);
+        return product;
+    }
+
+    private CatalogChange persistChange(Action action, long productId) {
+        CatalogChange change = new CatalogChange(CatalogChangeEvent.product(action, productId));
+        entityManager.persist(change);
+        return change;
+    }
+
+    /**
+     * 처음부터 읽는 커서 발급 (테스트가 롤백되어도 순번은 이어지므로, 앞 테스트가 남긴 순번 공백이 삭제된 로그로 보이지 않도록 기준 로그를 먼저 기록)
+     */
+    private String startCursor() {
+        persistChange(Action.UPDATED, 0L);
+        entityManager.flush();
+        return catalogFeedService.getChanges(null, 2).getNextCursor();
+    }
+
+    /**
+     * 모든 상품의 수정일을 같은 값으로 맞춤 (같은 초에 수정된 경우)
+     */
+    private void setAllUpdatedAt(LocalDateTime updatedAt) {
+        entityManager.flush();
+        entityManager.createQuery("update Product p set p.updatedAt = :updatedAt")
+                     .setParameter("updatedAt", updatedAt)
+                     .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("수정일이 같은 상품도 ID 순으로 빠짐없이 나눠 조회")
+    void pageThroughSameUpdatedAt() {
+        // Given
+        persistProduct("상품 1");
+        persistProduct("상품 2");
+        persistProduct("상품 3");
+        setAllUpdatedAt(LocalDateTime.now().minusMinutes(1).withNano(0));
+
+        // When
+        CatalogFeedResponse first = catalogFeedService.getChanges(null, 2);
+        CatalogFeedResponse second = catalogFeedService.getChanges(first.getNextCursor(), 2);
+        CatalogFeedResponse third = catalogFeedService.getChanges(second.getNextCursor(), 2);
+
+        // Then
+        assertThat(first.getProducts()).extracting(ProductResponse::getName).containsExactly("상품 1", "상품 2");
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getProducts()).extracting(ProductResponse::getName).containsExactly("상품 3");
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(third.getProducts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 이후 수정된 상품/옵션만 조회")
+    void returnOnlyChangesAfterCursor() {
+        // Given
+        Product product = persistProduct("상품");
+        setAllUpdatedAt(LocalDateTime.now().minusMinutes(2).withNano(0));
+        String cursor = catalogFeedService.getChanges(null, 2).getNextCursor();
+
+        ProductOption option = ProductOption.builder()
+                                            .product(entityManager.find(Product.class, product.getId()))
+                                            .optionName("색상 선택")
+                                            .optionType(OptionType.SELECT)
+                                            .build();
+        entityManager.persist(option);
+        entityManager.flush();
+
+        // When
+        CatalogFeedResponse response = catalogFeedService.getChanges(cursor, 2);
+
+        // Then
+        assertThat(response.getProducts()).isEmpty();
+        assertThat(response.getOptions()).hasSize(1);
+        assertThat(response.getOptions().get(0).productId()).isEqualTo(product.getId());
+        assertThat(response.getOptions().get(0).option().getOptionName()).isEqualTo("색상 선택");
+    }
+
+    @Test
+    @DisplayName("커서 이후 삭제 기록을 tombstone으로 조회")
+    void returnTombstones() {
+        // Given
+        String cursor = startCursor();
+        entityManager.persist(new CatalogChange(CatalogChangeEvent.product(Action.UPDATED, 1L)));
+        entityManager.persist(new CatalogChange(CatalogChangeEvent.product(Action.DELETED, 1L)));
+        entityManager.flush();
+
+        // When
+        CatalogFeedResponse response = catalogFeedService.getChanges(cursor, 2);
+        CatalogFeedResponse next = catalogFeedService.getChanges(response.getNextCursor(), 2);
+
+        // Then
+        assertThat(response.getDeleted()).singleElement()
+                                         .satisfies(tombstone -> {
+                                             assertThat(tombstone.target()).isEqualTo(CatalogChangeEvent.Target.PRODUCT);
+                                             assertThat(tombstone.productId()).isEqualTo(1L);
+                                         });
+        assertThat(next.getDeleted()).isEmpty();
+    }
+
+    /**
+     * 순번 이하의 변경 로그를 보관 기간보다 오래된 것으로 만들고 변경 로그 poller처럼 삭제
+     */
+    private int purgeThrough(long seq) {
+        entityManager.flush();
+        entityManager.createQuery("update CatalogChange c set c.createdAt = :createdAt where c.id <= :seq")
+                     .setParameter("createdAt", LocalDateTime.now().minusDays(30))
+                     .setParameter("seq", seq)
+                     .executeUpdate();
+        int deleted = catalogChangeRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusDays(7),
+                catalogChangeRepository.findMaxId());
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Test
+    @DisplayName("자주 조회해도 삭제 기록을 다 읽기 전에 변경 로그가 삭제되면 커서 만료 - 410")
+    void expireCursorOvertakenByPurge() {
+        // Given - 삭제 4건 중 2건만 읽은 커서
+        String cursor = startCursor();
+        persistChange(Action.DELETED, 1L);
+        persistChange(Action.DELETED, 2L);
+        CatalogChange third = persistChange(Action.DELETED, 3L);
+        persistChange(Action.DELETED, 4L);
+        entityManager.flush();
+        CatalogFeedResponse first = catalogFeedService.getChanges(cursor, 2);
+
+        // When - 방금 받은 커서지만 아직 보내지 않은 3번째 삭제 기록까지 삭제됨
+        purgeThrough(third.getId());
+
+        // Then
+        assertThat(first.getDeleted()).hasSize(2);
+        assertThat(first.isHasMore()).isTrue();
+        assertThatThrownBy(() -> catalogFeedService.getChanges(first.getNextCursor(), 2))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.CURSOR_EXPIRED.getMessage());
+    }
+
+    @Test
+    @DisplayName("삭제 기록을 모두 읽은 커서는 이후 변경 로그가 삭제되어도 만료되지 않음")
+    void keepCaughtUpCursorAfterPurge() {
+        // Given - 삭제가 아닌 변경만 쌓인 뒤 모두 읽은 커서
+        String cursor = startCursor();
+        persistChange(Action.UPDATED, 1L);
+        persistChange(Action.CREATED, 2L);
+        CatalogChange last = persistChange(Action.UPDATED, 2L);
+        entityManager.flush();
+        String caughtUp = catalogFeedService.getChanges(cursor, 2).getNextCursor();
+
+        // When - 마지막 로그는 남기고 모두 삭제
+        int deleted = purgeThrough(last.getId());
+        CatalogFeedResponse response = catalogFeedService.getChanges(caughtUp, 2);
+
+        // Then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(catalogChangeRepository.findMinId()).isEqualTo(last.getId());
+        assertThat(response.getDeleted()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 - 400")
+    void invalidCursor() {
+        assertThatThrownBy(() -> catalogFeedService.getChanges("not-a-cursor", 2))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INVALID_CURSOR.getMessage());
+    }
+
+}
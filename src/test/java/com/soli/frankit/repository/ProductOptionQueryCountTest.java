@@ -0,0 +1,142 @@
+package com.soli.frankit.repository;
+
+import com.soli.frankit.config.MaxQueries;
+import com.soli.frankit.config.QueryCountConfig;
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.repository
+ * fileName     : ProductOptionQueryCountTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 옵션 조회/활성화/비활성화의 SQL 실행 수 검증 (상세 옵션 수에 비례해 늘어나지 않아야 함)
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Import(QueryCountConfig.class)
+class ProductOptionQueryCountTest {
+
+    private static final int DETAIL_COUNT = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private OptionDetailRepository optionDetailRepository;
+
+    private Long productId;
+    private Long optionId;
+    private Long inactiveOptionId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                                 .name("상품명")
+                                 .description("상품 설명")
+                                 .price(BigDecimal.valueOf(20000))
+                                 .shippingFee(BigDecimal.valueOf(3000))
+                                 .build();
+        entityManager.persist(product);
+
+        ProductOption option = ProductOption.builder()
+                                            .product(product)
+                                            .optionName("색상 선택")
+                                            .optionType(OptionType.SELECT)
+                                            .build();
+        ProductOption inactiveOption = ProductOption.builder()
+                                                    .product(product)
+                                                    .optionName("사이즈 선택")
+                                                    .optionType(OptionType.SELECT)
+                                                    .build();
+        persistWithDetails(option);
+        persistWithDetails(inactiveOption);
+        inactiveOption.deactivate();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        productId = product.getId();
+        optionId = option.getId();
+        inactiveOptionId = inactiveOption.getId();
+    }
+
+    private void persistWithDetails(ProductOption option) {
+        entityManager.persist(option);
+        for (int i = 0; i < DETAIL_COUNT; i++) {
+            OptionDetail detail = OptionDetail.builder()
+                                              .productOption(option)
+                                              .detailName("상세 옵션 " + i)
+                                              .detailPrice(BigDecimal.valueOf(i * 500L))
+                                              .build();
+            option.getOptionDetails().add(detail);
+            entityManager.persist(detail);
+        }
+    }
+
+    @Test
+    @MaxQueries(4)
+    @DisplayName("옵션 비활성화 - 옵션 조회 1회 + 상세 옵션 조회 1회 + UPDATE 배치 2회")
+    void deactivateOption() {
+        // Given
+        ProductOption option = productOptionRepository.findById(optionId).orElseThrow();
+
+        // When
+        option.deactivate();
+        entityManager.flush();
+
+        // Then
+        assertThat(option.getOptionDetails()).hasSize(DETAIL_COUNT)
+                                             .noneMatch(OptionDetail::isActive);
+    }
+
+    @Test
+    @MaxQueries(4)
+    @DisplayName("옵션 활성화 - 상세 옵션 수와 관계없이 SQL 수 일정")
+    void activateOption() {
+        // Given
+        ProductOption inactiveOption = productOptionRepository.findById(inactiveOptionId).orElseThrow();
+
+        // When
+        inactiveOption.activate(0);
+        entityManager.flush();
+
+        // Then
+        assertThat(inactiveOption.getOptionDetails()).allMatch(OptionDetail::isActive);
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("상품의 활성 옵션 목록 조회 - 1회")
+    void findActiveOptionsByProduct() {
+        // When
+        assertThat(productOptionRepository.findByProductIdAndIsActiveTrue(productId)).hasSize(1);
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("옵션의 활성 상세 옵션 목록 조회 - 옵션 조회 1회 + 상세 옵션 조회 1회")
+    void findActiveDetailsByOption() {
+        // Given
+        ProductOption option = productOptionRepository.findById(optionId).orElseThrow();
+
+        // When
+        assertThat(optionDetailRepository.findByProductOptionAndIsActiveTrue(option)).hasSize(DETAIL_COUNT);
+    }
+
+}
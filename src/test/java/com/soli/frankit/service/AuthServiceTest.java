@@ -22,6 +22,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -73,7 +75,7 @@ public class AuthServiceTest {
         // Given
         when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.of(mockUser));
         when(passwordEncoder.matches(validRequest.getPassword(), mockUser.getPassword())).thenReturn(true);
-        when(jwtTokenProvider.createToken(mockUser.getEmail())).thenReturn("JWT_Token");
+        when(jwtTokenProvider.createToken(mockUser.getEmail(), mockUser.getRole())).thenReturn("JWT_Token");
 
         // When
         TokenResponse response = authService.login(validRequest);
@@ -83,6 +85,43 @@ public class AuthServiceTest {
         assertThat(response.getToken()).isEqualTo("JWT_Token");
     }
 
+    @Test
+    @DisplayName("로그인 성공 - 해시 cost 변경 시 재해시")
+    void loginSuccess_RehashOnCostChange() {
+        // Given
+        when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.of(mockUser));
+        when(passwordEncoder.matches(validRequest.getPassword(), mockUser.getPassword())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(validRequest.getPassword())).thenReturn("rehashedPassword");
+        when(jwtTokenProvider.createToken(mockUser.getEmail(), mockUser.getRole())).thenReturn("JWT_Token");
+
+        // When
+        TokenResponse response = authService.login(validRequest);
+
+        // Then
+        assertThat(response.getToken()).isEqualTo("JWT_Token");
+        assertThat(mockUser.getPassword()).isEqualTo("rehashedPassword");
+        verify(userRepository).save(mockUser);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 해시 cost 동일 시 재해시하지 않음")
+    void loginSuccess_NoRehashWhenCostUnchanged() {
+        // Given
+        when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.of(mockUser));
+        when(passwordEncoder.matches(validRequest.getPassword(), mockUser.getPassword())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(false);
+        when(jwtTokenProvider.createToken(mockUser.getEmail(), mockUser.getRole())).thenReturn("JWT_Token");
+
+        // When
+        authService.login(validRequest);
+
+        // Then
+        verify(passwordEncoder, never()).encode(validRequest.getPassword());
+        verify(userRepository, never()).save(mockUser);
+        assertThat(mockUser.getPassword()).isEqualTo("encodedPassword");
+    }
+
     @Test
     @DisplayName("로그인 실패 - 비밀번호 틀림")
     void loginFail_WrongPassword() {
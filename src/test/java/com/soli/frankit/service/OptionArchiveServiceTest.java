@@ -0,0 +1,130 @@
+package com.soli.frankit.service;
+
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.repository.OptionDetailArchiveRepository;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionArchiveRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * packageName  : com.soli.frankit.service
+ * fileName     : OptionArchiveServiceTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : OptionArchiveService의 비활성 옵션 보관 처리 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class OptionArchiveServiceTest {
+
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2026, 9, 19, 0, 0);
+
+    @InjectMocks
+    private OptionArchiveService optionArchiveService;
+
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+
+    @Mock
+    private OptionDetailRepository optionDetailRepository;
+
+    @Mock
+    private ProductOptionArchiveRepository productOptionArchiveRepository;
+
+    @Mock
+    private OptionDetailArchiveRepository optionDetailArchiveRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProductOption oldSelect;
+    private ProductOption orderedInput;
+    private OptionDetail red;
+
+    private static <T> T withId(T entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+
+    @BeforeEach
+    void setUp() {
+        Product product = withId(Product.builder()
+                                        .name("테스트 상품")
+                                        .description("테스트 설명")
+                                        .price(BigDecimal.valueOf(10000))
+                                        .shippingFee(BigDecimal.valueOf(2000))
+                                        .build(), 1L);
+        oldSelect = withId(ProductOption.builder().product(product).optionName("색상").optionType(OptionType.SELECT).build(), 10L);
+        orderedInput = withId(ProductOption.builder().product(product).optionName("각인").optionType(OptionType.INPUT)
+                                           .optionPrice(BigDecimal.valueOf(5000)).build(), 11L);
+        red = withId(OptionDetail.builder().productOption(oldSelect).detailName("빨강").detailPrice(BigDecimal.valueOf(1000)).build(), 100L);
+        oldSelect.deactivate();
+        orderedInput.deactivate();
+    }
+
+    @Test
+    @DisplayName("보관 처리 - 주문된 옵션은 남기고 나머지를 상세 옵션과 함께 옮긴 뒤 삭제 이벤트 발행")
+    void archiveBatch() {
+        // Given
+        when(productOptionRepository.findInactiveIdsAfter(0L, BEFORE, Limit.of(2))).thenReturn(List.of(10L, 11L));
+        when(productOptionRepository.findInactiveForUpdate(List.of(10L, 11L), BEFORE)).thenReturn(List.of(oldSelect, orderedInput));
+        when(optionDetailRepository.findByProductOptionIdIn(List.of(10L, 11L))).thenReturn(List.of(red));
+        when(orderService.hasOptionOrders(10L)).thenReturn(false);
+        when(orderService.hasOptionOrders(11L)).thenReturn(true);
+        when(orderService.hasDetailOrders(100L)).thenReturn(false);
+
+        // When
+        OptionArchiveService.Batch batch = optionArchiveService.archiveBatch(0L, BEFORE, 2);
+
+        // Then
+        assertThat(batch).isEqualTo(new OptionArchiveService.Batch(11L, 2, 1));
+        verify(optionDetailArchiveRepository).copyFrom(List.of(10L));
+        verify(productOptionArchiveRepository).copyFrom(List.of(10L));
+        verify(optionDetailRepository).deleteByOptionIds(List.of(10L));
+        verify(productOptionRepository).deleteAllByIds(List.of(10L));
+        verify(eventPublisher).publishEvent(CatalogChangeEvent.detail(Action.DELETED, 1L, 10L, 100L));
+        verify(eventPublisher).publishEvent(CatalogChangeEvent.option(Action.DELETED, 1L, 10L));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("보관 처리 - 잠그는 사이 다시 활성화된 후보는 건너뜀")
+    void archiveBatch_ReactivatedSkipped() {
+        // Given
+        when(productOptionRepository.findInactiveIdsAfter(0L, BEFORE, Limit.of(2))).thenReturn(List.of(10L));
+        when(productOptionRepository.findInactiveForUpdate(List.of(10L), BEFORE)).thenReturn(List.of());
+
+        // When
+        OptionArchiveService.Batch batch = optionArchiveService.archiveBatch(0L, BEFORE, 2);
+
+        // Then
+        assertThat(batch).isEqualTo(new OptionArchiveService.Batch(10L, 1, 0));
+        verify(productOptionRepository, never()).deleteAllByIds(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+}
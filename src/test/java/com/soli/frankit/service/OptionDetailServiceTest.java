@@ -5,6 +5,7 @@ import com.soli.frankit.dto.OptionDetailRequest;
 import com.soli.frankit.dto.OptionDetailResponse;
 import com.soli.frankit.entity.OptionDetail;
 import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
 import com.soli.frankit.entity.ProductOption;
 import com.soli.frankit.exception.CustomException;
 import com.soli.frankit.exception.ErrorCode;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 
 import java.math.BigDecimal;
@@ -50,6 +52,9 @@ class OptionDetailServiceTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Long optionId;
     private Long detailId;
     private Long invalidId;
@@ -67,7 +72,15 @@ class OptionDetailServiceTest {
         detailId = 10L;
         invalidId = 999L;
 
+        Product product = Product.builder()
+                                 .name("테스트 상품")
+                                 .description("테스트 상품 설명")
+                                 .price(BigDecimal.valueOf(10000))
+                                 .shippingFee(BigDecimal.valueOf(3000))
+                                 .build();
+
         productOption = ProductOption.builder()
+                                    .product(product)
                                     .optionName("선택형 옵션")
                                     .optionType(OptionType.SELECT)
                                     .build();
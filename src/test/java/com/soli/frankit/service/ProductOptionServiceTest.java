@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 
 import java.math.BigDecimal;
@@ -50,6 +51,9 @@ class ProductOptionServiceTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Long productId;
     private Long optionId;
     private Long invalidId;
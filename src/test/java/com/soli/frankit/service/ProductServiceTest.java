@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -48,6 +49,9 @@ class ProductServiceTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Long validId;
     private Long invalidId;
 
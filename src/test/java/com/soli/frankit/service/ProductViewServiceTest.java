@@ -0,0 +1,138 @@
+package com.soli.frankit.service;
+
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.entity.ProductView;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.ProductViewRepository;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * packageName  : com.soli.frankit.service
+ * fileName     : ProductViewServiceTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : ProductViewService의 변경 반영과 구간 재생성 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductViewServiceTest {
+
+    @InjectMocks
+    private ProductViewService productViewService;
+
+    @Mock
+    private ProductViewRepository productViewRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+
+    @Mock
+    private OptionDetailRepository optionDetailRepository;
+
+    private Product product;
+    private ProductOption color;
+    private OptionDetail red;
+    private ProductView view;
+
+    private static <T> T withId(T entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdAt", LocalDateTime.of(2026, 10, 19, 12, 0));
+        ReflectionTestUtils.setField(entity, "updatedAt", LocalDateTime.of(2026, 10, 19, 12, 0));
+        return entity;
+    }
+
+    @BeforeEach
+    void setUp() {
+        product = withId(Product.builder()
+                                .name("테스트 상품")
+                                .description("테스트 설명")
+                                .price(BigDecimal.valueOf(10000))
+                                .shippingFee(BigDecimal.valueOf(2000))
+                                .build(), 1L);
+        color = withId(ProductOption.builder().product(product).optionName("색상").optionType(OptionType.SELECT).build(), 10L);
+        red = withId(OptionDetail.builder().productOption(color).detailName("빨강").detailPrice(BigDecimal.valueOf(1000)).build(), 100L);
+        view = new ProductView(product, List.of(ProductView.OptionNode.of(color, List.of(red))));
+    }
+
+    @Test
+    @DisplayName("옵션 비활성화 - 잠근 조회 모델에서 옵션 제거")
+    void applyOptionDeactivated() {
+        // Given
+        color.deactivate();
+        when(productViewRepository.findForUpdate(1L)).thenReturn(Optional.of(view));
+        when(productOptionRepository.findById(10L)).thenReturn(Optional.of(color));
+
+        // When
+        productViewService.apply(CatalogChangeEvent.option(Action.DEACTIVATED, 1L, 10L));
+
+        // Then
+        assertThat(view.getOptions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상세 옵션 수정 - 해당 옵션의 상세 옵션만 교체")
+    void applyDetailUpdated() {
+        // Given
+        red.update("진한 빨강", BigDecimal.valueOf(1500), false);
+        when(productViewRepository.findForUpdate(1L)).thenReturn(Optional.of(view));
+        when(optionDetailRepository.findById(100L)).thenReturn(Optional.of(red));
+
+        // When
+        productViewService.apply(CatalogChangeEvent.detail(Action.UPDATED, 1L, 10L, 100L));
+
+        // Then
+        assertThat(view.getOptions()).hasSize(1);
+        assertThat(view.getOptions().get(0).details())
+                .containsExactly(new ProductView.DetailNode(100L, "진한 빨강", BigDecimal.valueOf(1500)));
+    }
+
+    @Test
+    @DisplayName("구간 재생성 - 없는 상품은 추가, 삭제된 상품의 조회 모델은 제거")
+    void rebuild() {
+        // Given
+        ProductView deleted = withId(new ProductView(product, List.of()), 2L);
+        when(productViewRepository.findAllForUpdate(1L, 500L)).thenReturn(List.of(deleted));
+        when(productRepository.findByIdBetweenOrderByIdAsc(1L, 500L)).thenReturn(List.of(product));
+        when(productOptionRepository.findByProductIdInAndIsActiveTrueOrderByIdAsc(List.of(1L))).thenReturn(List.of(color));
+        when(optionDetailRepository.findByProductOptionIdInAndIsActiveTrueOrderByIdAsc(List.of(10L))).thenReturn(List.of(red));
+
+        // When
+        int rebuilt = productViewService.rebuild(1L, 500L);
+
+        // Then
+        assertThat(rebuilt).isEqualTo(1);
+        ArgumentCaptor<ProductView> saved = ArgumentCaptor.forClass(ProductView.class);
+        verify(productViewRepository).save(saved.capture());
+        assertThat(saved.getValue().getId()).isEqualTo(1L);
+        assertThat(saved.getValue().getOptions()).usingRecursiveFieldByFieldElementComparator()
+                                                 .containsExactly(ProductView.OptionNode.of(color, List.of(red)));
+        ArgumentCaptor<Iterable<ProductView>> removed = ArgumentCaptor.captor();
+        verify(productViewRepository).deleteAllInBatch(removed.capture());
+        assertThat(removed.getValue()).containsExactly(deleted);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.soli.frankit.service;
 import com.soli.frankit.config.TestEnvConfig;
 import com.soli.frankit.dto.UserRequest;
 import com.soli.frankit.dto.UserResponse;
+import com.soli.frankit.entity.Role;
 import com.soli.frankit.entity.User;
 import com.soli.frankit.exception.CustomException;
 import com.soli.frankit.exception.ErrorCode;
@@ -15,13 +16,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -45,6 +51,9 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private EmailMembershipFilter emailMembershipFilter;
+
     private UserRequest validRequest;
     private UserRequest duplicateRequest;
 
@@ -58,6 +67,7 @@ public class UserServiceTest {
     @DisplayName("회원가입 성공")
     void registerSuccess() {
         // Given
+        when(emailMembershipFilter.mightContain(validRequest.getEmail())).thenReturn(true);
         when(userRepository.existsByEmail(validRequest.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(validRequest.getPassword())).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
@@ -79,6 +89,7 @@ public class UserServiceTest {
     @DisplayName("회원가입 실패 - 이메일 중복")
     void registerFail_DuplicateEmail() {
         // Given
+        when(emailMembershipFilter.mightContain(duplicateRequest.getEmail())).thenReturn(true);
         when(userRepository.existsByEmail(duplicateRequest.getEmail())).thenReturn(true);
 
         // When & Then
@@ -87,4 +98,80 @@ public class UserServiceTest {
                 .hasMessageContaining(ErrorCode.EMAIL_ALREADY_EXISTS.getMessage());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("회원가입 성공 - 필터에 없는 이메일은 중복 조회 생략")
+    void registerSuccess_SkipExistsQueryOnFilterMiss() {
+        // Given
+        when(emailMembershipFilter.mightContain(validRequest.getEmail())).thenReturn(false);
+        when(passwordEncoder.encode(validRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        UserResponse response = userService.register(validRequest);
+
+        // Then
+        assertThat(response.getEmail()).isEqualTo(validRequest.getEmail());
+        verify(userRepository, never()).existsByEmail(validRequest.getEmail());
+        verify(emailMembershipFilter).put(validRequest.getEmail());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 동시 가입으로 유니크 제약 위반")
+    void registerFail_UniqueConstraintViolation() {
+        // Given
+        when(emailMembershipFilter.mightContain(duplicateRequest.getEmail())).thenReturn(false);
+        when(passwordEncoder.encode(duplicateRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.register(duplicateRequest))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.EMAIL_ALREADY_EXISTS.getMessage());
+        verify(emailMembershipFilter, never()).put(duplicateRequest.getEmail());
+    }
+
+    @Test
+    @DisplayName("초기 관리자 준비 - 계정이 없으면 ADMIN으로 생성")
+    void provisionAdmin_CreatesAdmin() {
+        // Given
+        when(userRepository.findByEmail("admin@test.com")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode("adminpassword")).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        userService.provisionAdmin("admin@test.com", "adminpassword");
+
+        // Then
+        verify(userRepository).save(argThat(user -> user.getRole() == Role.ADMIN && user.getPassword().equals("encodedPassword")));
+        verify(emailMembershipFilter).put("admin@test.com");
+    }
+
+    @Test
+    @DisplayName("초기 관리자 준비 - 이미 있는 계정은 비밀번호를 유지하고 ADMIN으로 변경")
+    void provisionAdmin_PromotesExistingUser() {
+        // Given
+        User user = new User("admin@test.com", "existingPassword");
+        when(userRepository.findByEmail("admin@test.com")).thenReturn(Optional.of(user));
+
+        // When
+        userService.provisionAdmin("admin@test.com", "adminpassword");
+
+        // Then
+        assertThat(user.getRole()).isEqualTo(Role.ADMIN);
+        assertThat(user.getPassword()).isEqualTo("existingPassword");
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("권한 변경 실패 - 없는 사용자")
+    void changeRoleFail_MemberNotFound() {
+        // Given
+        when(userRepository.findByEmail("none@test.com")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> userService.changeRole("none@test.com", Role.ADMIN))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.MEMBER_NOT_FOUND.getMessage());
+    }
+
+}
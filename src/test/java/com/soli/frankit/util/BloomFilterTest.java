@@ -0,0 +1,58 @@
+package com.soli.frankit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : BloomFilterTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : BloomFilter의 포함 여부 판단 테스트
+ */
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수도 있음으로 판단 (false negative 없음)")
+    void noFalseNegatives() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("user" + i + "@test.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain("user" + i + "@test.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정값 근처")
+    void falsePositiveRateNearConfigured() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("user" + i + "@test.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain("other" + i + "@test.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300); // 1% 설정, 여유 있게 3% 미만
+    }
+
+    @Test
+    @DisplayName("생성 실패 - 잘못된 오탐률")
+    void createFail_InvalidFalsePositiveRate() {
+        assertThatThrownBy(() -> new BloomFilter(1_000, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.ProductViewRepository;
+import com.soli.frankit.service.CatalogChangeEvent;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import com.soli.frankit.service.ProductViewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : BulkheadAspectTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : BulkheadAspect의 벌크헤드 적용 대상 테스트 (조회 모델 재생성은 요청 벌크헤드 밖에서 실행)
+ */
+class BulkheadAspectTest {
+
+    private Bulkhead writeBulkhead;
+    private ProductViewService productViewService;
+
+    @BeforeEach
+    void setUp() {
+        Bulkhead readBulkhead = new Bulkhead("read", 1, Duration.ofMillis(10));
+        writeBulkhead = new Bulkhead("write", 1, Duration.ofMillis(10));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ProductViewService(mock(ProductViewRepository.class),
+                mock(ProductRepository.class), mock(ProductOptionRepository.class), mock(OptionDetailRepository.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new BulkheadAspect(readBulkhead, writeBulkhead));
+        productViewService = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 쓰기 벌크헤드가 가득 차면 503")
+    void writeLimited() {
+        // Given
+        writeBulkhead.acquire(); // 다른 사용자 변경이 권한을 모두 사용 중
+
+        // When & Then
+        assertThatThrownBy(() -> productViewService.apply(CatalogChangeEvent.product(Action.DELETED, 1L)))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.SERVICE_BUSY.getMessage());
+    }
+
+    @Test
+    @DisplayName("조회 모델 구간 재생성은 쓰기 벌크헤드를 사용하지 않음")
+    void rebuildNotLimited() {
+        // Given
+        writeBulkhead.acquire();
+
+        // When
+        int rebuilt = productViewService.rebuild(1L, 500L);
+
+        // Then
+        assertThat(rebuilt).isZero();
+        assertThat(writeBulkhead.getRejectedCalls().sum()).isZero();
+    }
+
+}
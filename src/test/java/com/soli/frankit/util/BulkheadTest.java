@@ -0,0 +1,58 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : BulkheadTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : Bulkhead의 동시 실행 제한 테스트
+ */
+class BulkheadTest {
+
+    @Test
+    @DisplayName("권한 획득 성공 - 동시 실행 개수 이내")
+    void acquireWithinLimit() {
+        Bulkhead bulkhead = new Bulkhead("read", 2, Duration.ofMillis(10));
+
+        bulkhead.acquire();
+        bulkhead.acquire();
+
+        assertThat(bulkhead.getSemaphore().availablePermits()).isZero();
+        assertThat(bulkhead.getPermittedCalls().sum()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("권한 획득 실패 - 대기 시간 초과 시 503")
+    void acquireFail_Timeout() {
+        Bulkhead bulkhead = new Bulkhead("write", 1, Duration.ofMillis(10));
+        bulkhead.acquire();
+
+        assertThatThrownBy(bulkhead::acquire)
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.SERVICE_BUSY.getMessage());
+        assertThat(bulkhead.getRejectedCalls().sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("권한 반환 후 다시 획득 가능")
+    void acquireAfterRelease() {
+        Bulkhead bulkhead = new Bulkhead("write", 1, Duration.ofMillis(10));
+
+        bulkhead.acquire();
+        bulkhead.release();
+        bulkhead.acquire();
+
+        assertThat(bulkhead.getPermittedCalls().sum()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.soli.frankit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CalibratedBCryptPasswordEncoderTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : CalibratedBCryptPasswordEncoder의 cost 보정 및 재해시 판단 테스트
+ */
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("cost 보정 - 설정한 범위 안에서 선택")
+    void calibrateWithinRange() {
+        CalibratedBCryptPasswordEncoder encoder = CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMillis(50), 4, 6);
+
+        assertThat(encoder.getStrength()).isBetween(4, 6);
+        assertThat(encoder.matches("solitest1216", encoder.encode("solitest1216"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("cost 보정 - 목표 시간이 너무 짧으면 최소 cost 사용")
+    void calibrateFallsBackToMinStrength() {
+        CalibratedBCryptPasswordEncoder encoder = CalibratedBCryptPasswordEncoder.calibrate(Duration.ZERO, 5, 8);
+
+        assertThat(encoder.getStrength()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("cost 보정 실패 - 잘못된 범위")
+    void calibrateFail_InvalidRange() {
+        assertThatThrownBy(() -> CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMillis(50), 10, 8))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("재해시 판단 - cost가 낮거나 높으면 재해시 필요")
+    void upgradeEncodingWhenCostDiffers() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("solitest1216"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("solitest1216"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("solitest1216"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재해시 판단 - BCrypt 형식이 아니면 재해시하지 않음")
+    void noUpgradeForUnknownFormat() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+}
@@ -0,0 +1,238 @@
+package com.soli.frankit.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soli.frankit.entity.CatalogChange;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.repository.CatalogChangeRepository;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.service.CatalogChangeEvent;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import com.soli.frankit.util.CatalogChangeBroadcaster.StreamEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogChangeBroadcasterTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : CatalogChangeBroadcaster의 변경 전달, Last-Event-ID 이어 받기(버퍼/변경 로그), 큐 초과 시 resync 테스트
+ */
+class CatalogChangeBroadcasterTest {
+
+    private ProductRepository productRepository;
+    private CatalogChangeRepository catalogChangeRepository;
+    private CatalogChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(Product.builder()
+                                                                           .name("상품명")
+                                                                           .description("상품 설명")
+                                                                           .price(BigDecimal.valueOf(20000))
+                                                                           .shippingFee(BigDecimal.valueOf(3000))
+                                                                           .build()));
+        catalogChangeRepository = mock(CatalogChangeRepository.class);
+        broadcaster = new CatalogChangeBroadcaster(productRepository, mock(ProductOptionRepository.class),
+                mock(OptionDetailRepository.class), catalogChangeRepository, new ObjectMapper().findAndRegisterModules(),
+                3, 4, 100, Duration.ofMinutes(1));
+    }
+
+    /**
+     * 변경 로그에 기록된 변경 (순번 = change_seq)
+     */
+    private static CatalogChange change(long seq, Action action, long productId) {
+        CatalogChange change = new CatalogChange(CatalogChangeEvent.product(action, productId));
+        ReflectionTestUtils.setField(change, "id", seq);
+        return change;
+    }
+
+    /**
+     * 변경 로그 poller처럼 순번을 담은 변경 전달
+     */
+    private void deliver(long seq, Action action, long productId) {
+        broadcaster.onCatalogChange(change(seq, action, productId).toEvent());
+    }
+
+    /**
+     * 받은 이벤트를 기록하는 Sink (release 전까지 첫 전송에서 대기할 수 있음)
+     */
+    private static class RecordingSink implements CatalogChangeBroadcaster.Sink {
+
+        private final BlockingQueue<StreamEvent> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        private RecordingSink(boolean blockFirstSend) {
+            this.release = new CountDownLatch(blockFirstSend ? 1 : 0);
+        }
+
+        @Override
+        public void send(StreamEvent event) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        private StreamEvent next() throws InterruptedException {
+            return events.poll(5, TimeUnit.SECONDS);
+        }
+
+    }
+
+    @Test
+    @DisplayName("변경 후 상태를 담아 구독자에게 전달")
+    void broadcastWithState() throws Exception {
+        // Given
+        RecordingSink sink = new RecordingSink(false);
+        broadcaster.subscribe(null, sink);
+
+        // When
+        deliver(41, Action.UPDATED, 1L);
+        deliver(42, Action.DELETED, 2L);
+
+        // Then
+        StreamEvent updated = sink.next();
+        assertThat(updated.id()).isEqualTo("41");
+        assertThat(updated.name()).isEqualTo(CatalogChangeBroadcaster.CHANGE_EVENT);
+        assertThat(updated.data()).contains("\"action\":\"UPDATED\"", "\"name\":\"상품명\"");
+        StreamEvent deleted = sink.next();
+        assertThat(deleted.data()).contains("\"action\":\"DELETED\"", "\"state\":null");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 이후 이벤트를 버퍼에서 다시 보냄")
+    void resumeFromBuffer() throws Exception {
+        // Given
+        RecordingSink first = new RecordingSink(false);
+        broadcaster.subscribe(null, first);
+        for (long seq = 1; seq <= 3; seq++) {
+            deliver(seq, Action.DELETED, seq);
+        }
+        first.next();
+        String secondId = first.next().id();
+
+        // When
+        RecordingSink resumed = new RecordingSink(false);
+        broadcaster.subscribe(secondId, resumed);
+        deliver(4, Action.DELETED, 4L);
+
+        // Then
+        assertThat(resumed.next().id()).isEqualTo("3");
+        assertThat(resumed.next().id()).isEqualTo("4");
+        verify(catalogChangeRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드나 재시작 전에 받은 Last-Event-ID는 변경 로그에서 이어 받고, 이후 실시간으로 다시 온 변경은 건너뜀")
+    void resumeFromChangeLogAfterRestart() throws Exception {
+        // Given - 재시작해 버퍼가 빈 노드, 클라이언트는 이전 연결에서 순번 5까지 받음
+        when(catalogChangeRepository.existsById(5L)).thenReturn(true);
+        when(catalogChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(5L), any(Limit.class)))
+                .thenReturn(List.of(change(6, Action.DELETED, 6L), change(7, Action.UPDATED, 1L)));
+
+        // When
+        RecordingSink resumed = new RecordingSink(false);
+        broadcaster.subscribe("5", resumed);
+        deliver(7, Action.UPDATED, 1L); // 이 노드의 poller가 늦게 전달
+        deliver(8, Action.DELETED, 8L);
+
+        // Then
+        assertThat(resumed.next().id()).isEqualTo("6");
+        StreamEvent seventh = resumed.next();
+        assertThat(seventh.id()).isEqualTo("7");
+        assertThat(seventh.data()).contains("\"name\":\"상품명\"");
+        assertThat(resumed.next().id()).isEqualTo("8");
+        assertThat(resumed.events.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("버퍼보다 오래된 Last-Event-ID가 변경 로그에서도 삭제되었거나 다시 보낼 변경이 너무 많으면 resync")
+    void resyncWhenLogCannotResume() throws Exception {
+        // Given
+        for (long seq = 10; seq <= 12; seq++) {
+            deliver(seq, Action.DELETED, seq);
+        }
+        when(catalogChangeRepository.existsById(3L)).thenReturn(false); // 보관 기간이 지나 삭제됨
+        when(catalogChangeRepository.existsById(8L)).thenReturn(true);
+        when(catalogChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(8L), any(Limit.class)))
+                .thenReturn(List.of(change(9, Action.DELETED, 9L), change(10, Action.DELETED, 10L),
+                        change(11, Action.DELETED, 11L), change(12, Action.DELETED, 12L)));
+
+        // When
+        RecordingSink purged = new RecordingSink(false);
+        broadcaster.subscribe("3", purged);
+        RecordingSink tooFar = new RecordingSink(false);
+        broadcaster.subscribe("8", tooFar);
+        RecordingSink invalid = new RecordingSink(false);
+        broadcaster.subscribe("l9x2-17", invalid); // 이전 형식의 ID
+
+        // Then
+        assertThat(purged.next().name()).isEqualTo(CatalogChangeBroadcaster.RESYNC_EVENT);
+        assertThat(tooFar.next().name()).isEqualTo(CatalogChangeBroadcaster.RESYNC_EVENT);
+        assertThat(invalid.next().name()).isEqualTo(CatalogChangeBroadcaster.RESYNC_EVENT);
+    }
+
+    @Test
+    @DisplayName("전송 대기 큐가 가득 차면 쌓인 이벤트를 버리고 resync 후 연결 종료")
+    void dropToResyncOnOverflow() throws Exception {
+        // Given - 첫 전송에서 멈춘 느린 구독자 (큐 크기 4)
+        RecordingSink slow = new RecordingSink(true);
+        broadcaster.subscribe(null, slow);
+        deliver(1, Action.DELETED, 1L);
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        for (long seq = 2; seq <= 7; seq++) {
+            deliver(seq, Action.DELETED, seq);
+        }
+        slow.release.countDown();
+
+        // Then
+        assertThat(slow.next().data()).contains("\"productId\":1");
+        StreamEvent resync = slow.next();
+        assertThat(resync.name()).isEqualTo(CatalogChangeBroadcaster.RESYNC_EVENT);
+        assertThat(resync.data()).contains("overflow");
+        assertThat(slow.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        assertThat(List.copyOf(slow.events)).isEmpty();
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.entity.CatalogChange;
+import com.soli.frankit.repository.CatalogChangeRepository;
+import com.soli.frankit.service.CatalogChangeEvent;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogChangeLogPollerTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : CatalogChangeLogPoller의 변경 로그 반영 및 빈 순번 처리 테스트
+ */
+class CatalogChangeLogPollerTest {
+
+    private CatalogChangeRepository repository;
+    private RecordingSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CatalogChangeRepository.class);
+        subscriber = new RecordingSubscriber();
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenReturn(List.of());
+        when(repository.findAllById(any())).thenReturn(List.of());
+    }
+
+    private CatalogChangeLogPoller poller(Duration gapTimeout, int maxPendingGaps) {
+        return new CatalogChangeLogPoller(repository, List.of(subscriber), 100, gapTimeout, maxPendingGaps);
+    }
+
+    private static CatalogChange change(long id) {
+        CatalogChange change = new CatalogChange(CatalogChangeEvent.product(Action.UPDATED, id));
+        ReflectionTestUtils.setField(change, "id", id);
+        return change;
+    }
+
+    @Test
+    @DisplayName("기동 시 마지막 순번부터 읽고, 이후 변경을 순번 순으로 반영")
+    void applyChangesAfterStartup() {
+        // Given
+        when(repository.findMaxId()).thenReturn(10L);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class))).thenReturn(List.of(change(11), change(12)));
+        CatalogChangeLogPoller poller = poller(Duration.ofMinutes(1), 100);
+
+        // When
+        poller.poll(); // 마지막 순번 확인
+        poller.poll();
+
+        // Then
+        assertThat(subscriber.productIds).containsExactly(11L, 12L);
+        assertThat(subscriber.fullFlushes).isZero();
+    }
+
+    @Test
+    @DisplayName("건너뛴 순번이 나중에 커밋되면 다음 조회에서 반영")
+    void applyLateCommittedGap() {
+        // Given - 11번 트랜잭션이 12번보다 늦게 커밋
+        when(repository.findMaxId()).thenReturn(10L);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class))).thenReturn(List.of(change(12)));
+        CatalogChangeLogPoller poller = poller(Duration.ofMinutes(1), 100);
+        poller.poll();
+        poller.poll();
+
+        // When
+        when(repository.findAllById(any())).thenReturn(List.of(change(11)));
+        poller.poll();
+
+        // Then
+        assertThat(subscriber.productIds).containsExactly(12L, 11L);
+        assertThat(subscriber.fullFlushes).isZero();
+    }
+
+    @Test
+    @DisplayName("건너뛴 순번이 대기 시간 안에 채워지지 않으면 전체 무효화")
+    void fullFlushOnGapTimeout() {
+        // Given - 11번 트랜잭션이 롤백됨
+        when(repository.findMaxId()).thenReturn(10L);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class))).thenReturn(List.of(change(12)));
+        CatalogChangeLogPoller poller = poller(Duration.ZERO, 100);
+        poller.poll();
+
+        // When
+        poller.poll();
+        poller.poll();
+
+        // Then
+        assertThat(subscriber.productIds).containsExactly(12L);
+        assertThat(subscriber.fullFlushes).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("건너뛴 순번이 너무 많으면 즉시 전체 무효화")
+    void fullFlushOnLargeGap() {
+        // Given
+        when(repository.findMaxId()).thenReturn(10L);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class))).thenReturn(List.of(change(1_000)));
+        CatalogChangeLogPoller poller = poller(Duration.ofMinutes(1), 100);
+        poller.poll();
+
+        // When
+        poller.poll();
+
+        // Then
+        assertThat(subscriber.productIds).containsExactly(1_000L);
+        assertThat(subscriber.fullFlushes).isEqualTo(1);
+    }
+
+    private static class RecordingSubscriber implements CatalogChangeSubscriber {
+
+        private final List<Long> productIds = new ArrayList<>();
+        private int fullFlushes;
+
+        @Override
+        public void onCatalogChange(CatalogChangeEvent event) {
+            productIds.add(event.productId());
+        }
+
+        @Override
+        public void onFullFlush() {
+            fullFlushes++;
+        }
+
+    }
+
+}
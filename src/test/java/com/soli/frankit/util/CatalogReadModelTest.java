@@ -0,0 +1,247 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.repository.CatalogChangeRepository;
+import com.soli.frankit.repository.OptionDetailRepository;
+import com.soli.frankit.repository.ProductOptionRepository;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.service.CatalogChangeEvent;
+import com.soli.frankit.service.CatalogChangeEvent.Action;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogReadModelTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : CatalogReadModel의 적재/변경 반영/변경분 조회와 교체 후 응답 캐시 무효화, 이 노드의 변경 반영 대기 테스트
+ */
+class CatalogReadModelTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private ProductRepository productRepository;
+    private ProductOptionRepository productOptionRepository;
+    private OptionDetailRepository optionDetailRepository;
+    private ResponseBytesCache bytesCache;
+    private CatalogResponseCache responseCache;
+    private Product product;
+    private ProductOption option;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productOptionRepository = mock(ProductOptionRepository.class);
+        optionDetailRepository = mock(OptionDetailRepository.class);
+        bytesCache = new ResponseBytesCache(1024 * 1024, 64 * 1024, Duration.ofMinutes(5), Duration.ZERO);
+        responseCache = new CatalogResponseCache(bytesCache);
+
+        product = withId(Product.builder()
+                                .name("기존 상품명")
+                                .description("상품 설명")
+                                .price(new BigDecimal("10000.00"))
+                                .shippingFee(new BigDecimal("3000.00"))
+                                .build(), 1L);
+        option = withId(ProductOption.builder().product(product).optionName("색상").optionType(OptionType.SELECT).build(), 10L);
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenReturn(List.of(product));
+        when(productOptionRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenReturn(List.of(option));
+    }
+
+    private static <T> T withId(T entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdAt", BASE);
+        ReflectionTestUtils.setField(entity, "updatedAt", BASE);
+        return entity;
+    }
+
+    private CatalogReadModel readModel(Duration localWritePin) {
+        return new CatalogReadModel(productRepository, productOptionRepository, optionDetailRepository,
+                mock(CatalogChangeRepository.class), null, null, responseCache, 100, Duration.ZERO, Duration.ofHours(1), localWritePin);
+    }
+
+    private Product renamed(String name) {
+        Product changed = withId(Product.builder()
+                                        .name(name)
+                                        .description("상품 설명")
+                                        .price(new BigDecimal("10000.00"))
+                                        .shippingFee(new BigDecimal("3000.00"))
+                                        .build(), 1L);
+        ReflectionTestUtils.setField(changed, "updatedAt", BASE.plusMinutes(1));
+        return changed;
+    }
+
+    /**
+     * 응답 캐시 필터처럼 그룹 버전을 읽은 뒤 응답을 저장
+     */
+    private CatalogResponseCache.Key cacheResponse(String path, String body) {
+        CatalogResponseCache.Key key = responseCache.resolve(new MockHttpServletRequest("GET", path));
+        long version = bytesCache.version(key.group());
+        bytesCache.put(key.group(), key.variant(), version, body.getBytes(StandardCharsets.UTF_8));
+        return key;
+    }
+
+    @Test
+    @DisplayName("기동 시 전체 적재, 이후 전달받은 변경 ID만 DB에서 다시 읽어 새 스냅샷으로 교체")
+    void loadAndApplyChanges() {
+        // Given
+        CatalogReadModel readModel = readModel(Duration.ofSeconds(5));
+        readModel.refresh();
+        CatalogSnapshot loaded = readModel.current();
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(renamed("바뀐 상품명")));
+
+        // When
+        readModel.onCatalogChange(CatalogChangeEvent.product(Action.UPDATED, 1L));
+        readModel.refresh();
+
+        // Then
+        assertThat(loaded.findProduct(1L).getName()).isEqualTo("기존 상품명"); // 이전 스냅샷은 그대로
+        assertThat(readModel.current().findProduct(1L).getName()).isEqualTo("바뀐 상품명");
+        assertThat(readModel.current().getOptionsByProduct(1L, false)).hasSize(1);
+        verify(productRepository, times(1)).findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("poller의 무효화와 스냅샷 교체 사이에 이전 스냅샷으로 저장된 응답은 교체 후 무효화")
+    void invalidateResponsesAfterSwap() {
+        // Given - poller가 변경을 전달해 응답 캐시를 무효화했지만 스냅샷은 아직 교체 전
+        CatalogReadModel readModel = readModel(Duration.ofSeconds(5));
+        readModel.refresh();
+        CatalogChangeEvent productChanged = CatalogChangeEvent.product(Action.UPDATED, 1L);
+        CatalogChangeEvent optionChanged = CatalogChangeEvent.option(Action.UPDATED, 1L, 10L);
+        for (CatalogChangeEvent event : List.of(productChanged, optionChanged)) {
+            responseCache.onCatalogChange(event);
+            readModel.onCatalogChange(event);
+        }
+        CatalogResponseCache.Key productKey = cacheResponse("/api/products/1", "{\"name\":\"기존 상품명\"}");
+        CatalogResponseCache.Key optionsKey = cacheResponse("/api/product-options/products/1", "[{\"id\":10}]");
+        CatalogResponseCache.Key otherKey = cacheResponse("/api/products/2", "{\"id\":2}");
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(renamed("바뀐 상품명")));
+        when(productOptionRepository.findAllById(List.of(10L))).thenReturn(List.of(option));
+
+        // When
+        readModel.refresh();
+
+        // Then
+        assertThat(bytesCache.get(productKey.group(), productKey.variant())).isNull();
+        assertThat(bytesCache.get(optionsKey.group(), optionsKey.variant())).isNull();
+        assertThat(bytesCache.get(otherKey.group(), otherKey.variant())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("전체 적재로 교체하면 응답 캐시 전체 무효화")
+    void invalidateAllAfterReload() {
+        // Given
+        CatalogReadModel readModel = readModel(Duration.ofSeconds(5));
+        readModel.refresh();
+        CatalogResponseCache.Key key = cacheResponse("/api/products/1", "{\"name\":\"기존 상품명\"}");
+
+        // When
+        readModel.onFullFlush();
+        readModel.refresh();
+
+        // Then
+        assertThat(bytesCache.get(key.group(), key.variant())).isNull();
+        verify(productRepository, times(2)).findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("이 노드의 변경이 커밋되면 스냅샷에 반영될 때까지 DB로 조회")
+    void skipSnapshotUntilLocalWriteApplied() {
+        // Given
+        CatalogReadModel readModel = readModel(Duration.ofSeconds(5));
+        readModel.refresh();
+        CatalogChangeEvent created = CatalogChangeEvent.product(Action.CREATED, 2L);
+        when(productRepository.findAllById(List.of(2L))).thenReturn(List.of(withId(Product.builder()
+                                                                                         .name("새 상품")
+                                                                                         .description("상품 설명")
+                                                                                         .price(new BigDecimal("5000.00"))
+                                                                                         .shippingFee(new BigDecimal("0.00"))
+                                                                                         .build(), 2L)));
+
+        // When
+        readModel.onLocalWrite(created); // 서비스 이벤트 (트랜잭션 밖이면 바로 기록)
+        CatalogSnapshot beforeApplied = readModel.current();
+        readModel.onCatalogChange(created); // 변경 로그 poller
+        readModel.refresh();
+
+        // Then
+        assertThat(beforeApplied).isNull();
+        assertThat(readModel.current()).isNotNull();
+        assertThat(readModel.current().findProduct(2L).getName()).isEqualTo("새 상품");
+    }
+
+    @Test
+    @DisplayName("이 노드의 변경 반영이 늦어져도 최대 유지 시간이 지나면 스냅샷으로 조회")
+    void releaseLocalWritePinAfterTimeout() {
+        // Given
+        CatalogReadModel readModel = readModel(Duration.ZERO);
+        readModel.refresh();
+
+        // When
+        readModel.onLocalWrite(CatalogChangeEvent.product(Action.UPDATED, 1L));
+
+        // Then
+        assertThat(readModel.current()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("서비스를 거치지 않은 변경은 변경분 조회로 찾아 다음 갱신에서 반영")
+    void reconcileChangesOutsideService() {
+        // Given
+        CatalogReadModel readModel = readModel(Duration.ofSeconds(5));
+        readModel.refresh();
+        Product changed = renamed("직접 수정한 상품명");
+        when(productRepository.findChangedAfter(any(), anyLong(), any(), any(Limit.class)))
+                .thenReturn(List.of(changed))
+                .thenReturn(List.of());
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(changed));
+
+        // When
+        readModel.reconcile();
+        readModel.refresh();
+
+        // Then
+        assertThat(readModel.current().findProduct(1L).getName()).isEqualTo("직접 수정한 상품명");
+    }
+
+    @Test
+    @DisplayName("변경 반영에 실패하면 꺼낸 변경 ID를 잃었으므로 다음 갱신에서 전체 재적재")
+    void reloadAfterFailedRefresh() {
+        // Given
+        CatalogReadModel readModel = readModel(Duration.ofSeconds(5));
+        readModel.refresh();
+        when(productRepository.findAllById(List.of(1L))).thenThrow(new IllegalStateException("DB 연결 실패"));
+        readModel.onCatalogChange(CatalogChangeEvent.product(Action.UPDATED, 1L));
+
+        // When
+        readModel.refresh(); // 실패
+        readModel.refresh(); // 전체 재적재
+
+        // Then
+        assertThat(readModel.current().findProduct(1L).getName()).isEqualTo("기존 상품명");
+        verify(productRepository, times(2)).findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class));
+    }
+
+}
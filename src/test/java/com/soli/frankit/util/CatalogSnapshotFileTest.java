@@ -0,0 +1,114 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.dto.OptionDetailResponse;
+import com.soli.frankit.dto.ProductOptionResponse;
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogSnapshotFileTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : CatalogSnapshotFile의 저장/읽기와 손상된 파일 처리 테스트
+ */
+class CatalogSnapshotFileTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 19, 12, 0, 0, 123_456_000);
+
+    @TempDir
+    private Path directory;
+
+    private static <T> T withId(T entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdAt", BASE);
+        ReflectionTestUtils.setField(entity, "updatedAt", BASE);
+        return entity;
+    }
+
+    private static CatalogSnapshot snapshot() {
+        Product product = withId(Product.builder()
+                                        .name("상품명")
+                                        .description(null)
+                                        .price(new BigDecimal("19900.50"))
+                                        .shippingFee(new BigDecimal("3000.00"))
+                                        .build(), 1L);
+        ProductOption color = withId(ProductOption.builder().product(product).optionName("색상").optionType(OptionType.SELECT).build(), 10L);
+        ProductOption engraving = withId(ProductOption.builder().product(product).optionName("각인").optionType(OptionType.INPUT)
+                                                      .optionPrice(new BigDecimal("5000.00")).build(), 11L);
+        engraving.deactivate();
+        OptionDetail red = withId(OptionDetail.builder().productOption(color).detailName("빨강").detailPrice(new BigDecimal("1000.00")).build(), 100L);
+        OptionDetail blue = withId(OptionDetail.builder().productOption(color).detailName("파랑").detailPrice(new BigDecimal("0.00")).build(), 101L);
+
+        return new CatalogSnapshot.Builder()
+                .addProducts(List.of(product))
+                .addOptions(List.of(color, engraving))
+                .addDetails(List.of(red, blue))
+                .build();
+    }
+
+    @Test
+    @DisplayName("저장한 스냅샷을 읽으면 같은 조회 결과와 기준 시각을 반환")
+    void writeAndRead() throws IOException {
+        // Given
+        CatalogSnapshot original = snapshot();
+        CatalogSnapshotFile file = new CatalogSnapshotFile(directory.resolve("catalog.snapshot"));
+
+        // When
+        file.write(original, BASE);
+        CatalogSnapshotFile.Loaded loaded = file.read();
+
+        // Then
+        assertThat(loaded.watermark()).isEqualTo(BASE);
+        CatalogSnapshot read = loaded.snapshot();
+        ProductResponse product = read.getProduct(1L);
+        assertThat(product).usingRecursiveComparison().isEqualTo(original.getProduct(1L));
+        assertThat(product.getDescription()).isNull();
+        assertThat(product.getPrice()).isEqualByComparingTo("19900.50");
+
+        List<ProductOptionResponse> options = read.getOptionsByProduct(1L, false);
+        assertThat(options).usingRecursiveFieldByFieldElementComparator().isEqualTo(original.getOptionsByProduct(1L, false));
+        assertThat(read.getOptionsByProduct(1L, true)).hasSize(1);
+
+        List<OptionDetailResponse> details = read.getDetailsByOption(10L, true);
+        assertThat(details).extracting(OptionDetailResponse::getDetailName).containsExactly("빨강", "파랑");
+        assertThat(read.getDetailCount()).isEqualTo(2);
+        assertThat(Files.list(directory)).containsExactly(file.getPath()); // 임시 파일은 남지 않음
+    }
+
+    @Test
+    @DisplayName("손상된 파일은 읽기 실패, 파일이 없으면 null")
+    void readCorruptedOrMissing() throws IOException {
+        // Given
+        CatalogSnapshotFile file = new CatalogSnapshotFile(directory.resolve("catalog.snapshot"));
+        assertThat(file.read()).isNull();
+
+        file.write(snapshot(), BASE);
+        byte[] bytes = Files.readAllBytes(file.getPath());
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(file.getPath(), bytes);
+
+        // When & Then
+        assertThatThrownBy(file::read)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("체크섬");
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.dto.OptionDetailResponse;
+import com.soli.frankit.dto.ProductOptionResponse;
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.entity.OptionDetail;
+import com.soli.frankit.entity.OptionType;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.entity.ProductOption;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : CatalogSnapshotTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : CatalogSnapshot의 조회 결과와 변경 병합(copy-on-write) 테스트
+ */
+class CatalogSnapshotTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 19, 12, 0, 0, 123_456_000);
+
+    private Product first;
+    private Product second;
+    private ProductOption color;
+    private ProductOption engraving;
+    private OptionDetail red;
+    private CatalogSnapshot snapshot;
+
+    private static <T> T withId(T entity, long id, LocalDateTime createdAt) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdAt", createdAt);
+        ReflectionTestUtils.setField(entity, "updatedAt", createdAt);
+        return entity;
+    }
+
+    private static Product product(long id, String name, LocalDateTime createdAt) {
+        return withId(Product.builder()
+                             .name(name)
+                             .description("상품 설명")
+                             .price(new BigDecimal("19900.50"))
+                             .shippingFee(new BigDecimal("3000.00"))
+                             .build(), id, createdAt);
+    }
+
+    @BeforeEach
+    void setUp() {
+        first = product(1L, "먼저 등록한 상품", BASE);
+        second = product(2L, "나중에 등록한 상품", BASE.plusMinutes(1));
+        color = withId(ProductOption.builder().product(first).optionName("색상").optionType(OptionType.SELECT).build(), 10L, BASE);
+        engraving = withId(ProductOption.builder().product(first).optionName("각인").optionType(OptionType.INPUT)
+                                        .optionPrice(new BigDecimal("5000.00")).build(), 11L, BASE);
+        engraving.deactivate();
+        red = withId(OptionDetail.builder().productOption(color).detailName("빨강").detailPrice(new BigDecimal("1000.00")).build(), 100L, BASE);
+
+        snapshot = new CatalogSnapshot.Builder()
+                .addProducts(List.of(first, second))
+                .addOptions(List.of(color, engraving))
+                .addDetails(List.of(red))
+                .build();
+    }
+
+    @Test
+    @DisplayName("상품 목록은 등록일 내림차순, 금액과 일시는 원래 값 그대로 조회")
+    void getProducts() {
+        // When
+        Page<ProductResponse> page = snapshot.getProducts(0, 10);
+        ProductResponse product = snapshot.getProduct(1L);
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(ProductResponse::getId).containsExactly(2L, 1L);
+        assertThat(product.getPrice()).isEqualTo(new BigDecimal("19900.50"));
+        assertThat(product.getCreatedAt()).isEqualTo(BASE);
+        assertThat(snapshot.getProducts(1, 1).getContent()).extracting(ProductResponse::getId).containsExactly(1L);
+        assertThatThrownBy(() -> snapshot.getProduct(99L))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.PRODUCT_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("상품의 옵션과 옵션의 상세 옵션 조회 (활성화 여부 필터)")
+    void getOptionsAndDetails() {
+        // When
+        List<ProductOptionResponse> all = snapshot.getOptionsByProduct(1L, false);
+        List<ProductOptionResponse> active = snapshot.getOptionsByProduct(1L, true);
+        List<OptionDetailResponse> details = snapshot.getDetailsByOption(10L, false);
+
+        // Then
+        assertThat(all).extracting(ProductOptionResponse::getId).containsExactly(10L, 11L);
+        assertThat(all.get(0).getOptionPrice()).isNull();
+        assertThat(all.get(1).getOptionPrice()).isEqualTo(new BigDecimal("5000.00"));
+        assertThat(active).extracting(ProductOptionResponse::getId).containsExactly(10L);
+        assertThat(snapshot.getOptionsByProduct(2L, false)).isEmpty();
+        assertThat(details).extracting(OptionDetailResponse::getDetailName).containsExactly("빨강");
+        assertThatThrownBy(() -> snapshot.getDetailsByOption(99L, false))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.OPTION_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("변경 반영 시 새 스냅샷을 만들고, 삭제된 상품의 옵션과 상세 옵션도 제거")
+    void applyChanges() {
+        // Given
+        Product renamed = product(2L, "수정된 상품", BASE.plusMinutes(1));
+        Product added = product(3L, "새 상품", BASE.plusMinutes(2));
+
+        // When - 1번 상품 삭제, 2번 수정, 3번 등록
+        CatalogSnapshot next = snapshot.apply(List.of(1L, 2L, 3L), List.of(renamed, added),
+                List.of(), List.of(), List.of(), List.of());
+
+        // Then
+        assertThat(next.getProducts(0, 10).getContent()).extracting(ProductResponse::getName)
+                                                        .containsExactly("새 상품", "수정된 상품");
+        assertThat(next.getOptionsByProduct(1L, false)).isEmpty();
+        assertThat(next.getDetailCount()).isZero();
+        assertThat(snapshot.getProducts(0, 10).getTotalElements()).isEqualTo(2); // 기존 스냅샷은 그대로
+        assertThat(snapshot.getDetailCount()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.soli.frankit.util;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ContinuousFlightRecordingTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상시 JFR 기록 및 최근 기록 덤프 테스트
+ */
+class ContinuousFlightRecordingTest {
+
+    @TempDir
+    private Path dumpDirectory;
+
+    private ContinuousFlightRecording continuousFlightRecording;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        continuousFlightRecording = new ContinuousFlightRecording(new ClassPathResource("jfr/frankit.jfc"),
+                Duration.ofMinutes(5), 50L * 1024 * 1024, dumpDirectory, 2);
+        continuousFlightRecording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        continuousFlightRecording.destroy();
+    }
+
+    @Test
+    @DisplayName("최근 기록 덤프 - 커스텀 이벤트 포함")
+    void dumpContainsCustomEvents() throws Exception {
+        // Given
+        FlightRecorderEvents.PasswordHash event = new FlightRecorderEvents.PasswordHash();
+        event.operation = "matches";
+        event.begin();
+        event.commit();
+
+        // When
+        Path dump = continuousFlightRecording.dump(Duration.ofMinutes(1));
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events).anySatisfy(recorded -> {
+            assertThat(recorded.getEventType().getName()).isEqualTo("frankit.PasswordHash");
+            assertThat(recorded.getString("operation")).isEqualTo("matches");
+        });
+    }
+
+    @Test
+    @DisplayName("덤프 파일은 설정한 개수만 보관")
+    void pruneOldDumps() throws Exception {
+        // When
+        for (int i = 0; i < 3; i++) {
+            continuousFlightRecording.dump(Duration.ofMinutes(1));
+            Thread.sleep(1100); // 파일명이 초 단위
+        }
+
+        // Then
+        try (var files = Files.list(dumpDirectory)) {
+            assertThat(files.count()).isEqualTo(2);
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.soli.frankit.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : HibernateSessionMetricsTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : Hibernate 세션 단위 메트릭 테스트
+ */
+class HibernateSessionMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        new HibernateSessionMetrics().bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("세션 종료 시 실행한 SQL 수와 flush 엔티티 수를 한 번 기록")
+    void recordOnSessionEnd() {
+        // Given
+        HibernateSessionMetrics.Listener listener = new HibernateSessionMetrics.Listener();
+
+        // When
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteBatchStart();
+        listener.flushEnd(2, 0);
+        listener.end();
+
+        // Then
+        DistributionSummary statements = registry.get("hibernate.session.statements").summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(3);
+        assertThat(registry.get("hibernate.session.flushed.entities").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("SQL을 실행하지 않은 세션은 기록하지 않음")
+    void skipSessionWithoutStatements() {
+        // Given
+        HibernateSessionMetrics.Listener listener = new HibernateSessionMetrics.Listener();
+
+        // When
+        listener.end();
+
+        // Then
+        assertThat(registry.get("hibernate.session.statements").summary().count()).isZero();
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.soli.frankit.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soli.frankit.dto.ProductRequest;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : JsonMergePatchTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : JsonMergePatch의 RFC 7396 적용과 검증 테스트
+ */
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonMergePatch jsonMergePatch =
+            new JsonMergePatch(objectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+
+    private final ProductRequest current =
+            new ProductRequest("상품명", "아주 긴 상품 설명", BigDecimal.valueOf(20000), BigDecimal.valueOf(3000));
+
+    @Test
+    @DisplayName("보낸 필드만 바뀌고 나머지는 현재 값 유지")
+    void appliesOnlySuppliedFields() throws Exception {
+        // When
+        ProductRequest patched = jsonMergePatch.apply(current, objectMapper.readTree("{\"price\": 15000}"), ProductRequest.class);
+
+        // Then
+        assertThat(patched.getPrice()).isEqualByComparingTo("15000");
+        assertThat(patched.getName()).isEqualTo("상품명");
+        assertThat(patched.getDescription()).isEqualTo("아주 긴 상품 설명");
+        assertThat(patched.getShippingFee()).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    @DisplayName("null은 필드 제거 - 필수 필드면 등록/수정 요청과 같은 검증 실패")
+    void nullRemovesFieldAndFailsValidation() throws Exception {
+        assertThatThrownBy(() -> jsonMergePatch.apply(current, objectMapper.readTree("{\"description\": null}"), ProductRequest.class))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("상품 설명은 필수 입력값입니다.");
+
+        assertThatThrownBy(() -> jsonMergePatch.apply(current, objectMapper.readTree("{\"shippingFee\": -1}"), ProductRequest.class))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("배송비는 0원 이상이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("객체가 아닌 patch나 타입이 맞지 않는 값은 잘못된 요청")
+    void rejectsNonObjectOrMistypedPatch() throws Exception {
+        assertThatThrownBy(() -> jsonMergePatch.apply(current, objectMapper.readTree("[1, 2]"), ProductRequest.class))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+
+        assertThatThrownBy(() -> jsonMergePatch.apply(current, objectMapper.readTree("{\"price\": \"abc\"}"), ProductRequest.class))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+    @Test
+    @DisplayName("중첩 객체는 재귀적으로 병합 (RFC 7396 예시)")
+    void mergesNestedObjects() throws Exception {
+        // Given
+        String target = "{\"a\":\"b\",\"c\":{\"d\":\"e\",\"f\":\"g\"}}";
+        String patch = "{\"a\":\"z\",\"c\":{\"f\":null}}";
+
+        // When & Then
+        assertThat(JsonMergePatch.merge(objectMapper.readTree(target), objectMapper.readTree(patch)))
+                .isEqualTo(objectMapper.readTree("{\"a\":\"z\",\"c\":{\"d\":\"e\"}}"));
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.entity.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : JwtTokenProviderTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : JwtTokenProvider의 권한 클레임 처리 테스트
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "c29saS1mcmFua2l0LXRlc3Qtc2VjcmV0LWtleS0yMDI1LWZvci1obWFjLXNoYTI1Ng==";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000L);
+    }
+
+    @Test
+    @DisplayName("토큰 생성 - 이메일과 권한 클레임 포함")
+    void createTokenWithRole() {
+        String token = jwtTokenProvider.createToken("soli@test.com", Role.ADMIN);
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+
+        assertThat(claims.getSubject()).isEqualTo("soli@test.com");
+        assertThat(jwtTokenProvider.extractRole(claims)).isEqualTo(Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("권한 추출 - 권한 클레임이 없는 기존 토큰은 USER")
+    void extractRole_LegacyTokenIsUser() {
+        String legacyToken = Jwts.builder()
+                                 .subject("soli@test.com")
+                                 .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                                 .compact();
+
+        Claims claims = jwtTokenProvider.parseClaims(legacyToken);
+
+        assertThat(jwtTokenProvider.extractRole(claims)).isEqualTo(Role.USER);
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.dto.MultiGetResponse;
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : MultiGetTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : MultiGet의 ID 목록 조회 순서, 캐시 적중, IN 절 분할 테스트
+ */
+class MultiGetTest {
+
+    @Test
+    @DisplayName("요청한 ID 순서로 응답하고 없는 ID는 found=false")
+    void keepsRequestOrderAndMarksNotFound() {
+        // Given
+        List<Long> ids = List.of(3L, 1L, 99L, 3L);
+
+        // When
+        MultiGetResponse<String> response = MultiGet.load(ids, null,
+                misses -> misses.stream().filter(id -> id != 99L).collect(Collectors.toMap(Function.identity(), id -> "item" + id)));
+
+        // Then
+        assertThat(response.getItems()).extracting(MultiGetResponse.Item::id).containsExactly(3L, 1L, 99L, 3L);
+        assertThat(response.getItems()).extracting(MultiGetResponse.Item::data).containsExactly("item3", "item1", null, "item3");
+        assertThat(response.getItems().get(2).found()).isFalse();
+        assertThat(response.getNotFoundCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 ID는 DB 조회에서 제외하고, 중복 ID는 한 번만 조회")
+    void loadsOnlyCacheMisses() {
+        // Given
+        List<List<Long>> loaded = new ArrayList<>();
+
+        // When
+        MultiGetResponse<String> response = MultiGet.load(List.of(1L, 2L, 3L, 2L),
+                id -> id == 2L ? "cached" + id : null,
+                misses -> {
+                    loaded.add(misses);
+                    return misses.stream().collect(Collectors.toMap(Function.identity(), id -> "db" + id));
+                });
+
+        // Then
+        assertThat(loaded).containsExactly(List.of(1L, 3L));
+        assertThat(response.getItems()).extracting(MultiGetResponse.Item::data).containsExactly("db1", "cached2", "db3", "cached2");
+    }
+
+    @Test
+    @DisplayName("IN 조회는 CHUNK_SIZE개씩 나눠 실행")
+    void queriesInChunks() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, MultiGet.CHUNK_SIZE * 2L + 1).boxed().toList();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        // When
+        List<Long> result = MultiGet.inChunks(ids, chunk -> {
+            chunkSizes.add(chunk.size());
+            return chunk;
+        });
+
+        // Then
+        assertThat(chunkSizes).containsExactly(MultiGet.CHUNK_SIZE, MultiGet.CHUNK_SIZE, 1);
+        assertThat(result).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("ID가 없거나 최대 개수를 넘으면 잘못된 요청")
+    void rejectsEmptyOrTooManyIds() {
+        assertThatThrownBy(() -> MultiGet.load(List.of(), null, misses -> Map.of()))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+
+        assertThatThrownBy(() -> MultiGet.load(Collections.nCopies(MultiGet.MAX_IDS + 1, 1L), null, misses -> Map.of()))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+}
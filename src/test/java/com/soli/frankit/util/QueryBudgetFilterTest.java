@@ -0,0 +1,66 @@
+package com.soli.frankit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : QueryBudgetFilterTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 요청별 쿼리 예산 필터 테스트
+ */
+class QueryBudgetFilterTest {
+
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+    private final QueryBudgetFilter queryBudgetFilter = new QueryBudgetFilter(sqlStatementCounter, 2);
+
+    @Test
+    @DisplayName("본문을 쓰기 전까지 실행한 SQL 수를 응답 헤더로 전달")
+    void writeQueryCountHeader() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        queryBudgetFilter.doFilter(request, response, (req, res) -> {
+            sqlStatementCounter.inspect("select 1");
+            sqlStatementCounter.inspect("select 2");
+            sqlStatementCounter.inspect("select 3");
+            res.getWriter().write("[]");
+        });
+
+        // Then
+        assertThat(response.getHeader(QueryBudgetFilter.QUERY_COUNT_HEADER)).isEqualTo("3");
+        assertThat(sqlStatementCounter.count()).isZero(); // 요청이 끝나면 세기 종료
+    }
+
+    @Test
+    @DisplayName("본문 없는 응답도 SQL 수 헤더 전달")
+    void writeQueryCountHeaderWithoutBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/products/1/deactivate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        queryBudgetFilter.doFilter(request, response, (req, res) -> sqlStatementCounter.inspect("update products"));
+
+        // Then
+        assertThat(response.getHeader(QueryBudgetFilter.QUERY_COUNT_HEADER)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("세기 시작 전 SQL은 세지 않음")
+    void ignoreStatementsOutsideRequest() {
+        // When
+        sqlStatementCounter.inspect("select 1");
+
+        // Then
+        assertThat(sqlStatementCounter.count()).isZero();
+    }
+
+}
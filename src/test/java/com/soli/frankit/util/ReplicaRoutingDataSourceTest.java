@@ -0,0 +1,146 @@
+package com.soli.frankit.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ReplicaRoutingDataSourceTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 두 개의 H2 인메모리 DB(주/복제)로 읽기/쓰기 라우팅, 지연 대체, read-your-writes 테스트
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicReference<Duration> replicaLag = new AtomicReference<>(Duration.ZERO);
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWrites readYourWrites;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        lagMonitor = new ReplicaLagMonitor(List.of(replica), ignored -> replicaLag.get(), Duration.ofSeconds(1));
+        lagMonitor.checkNow();
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), lagMonitor::maxUsableLag);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, List.of(replica), lagMonitor, readYourWrites));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 자기 이름을 저장한 H2 인메모리 DB 생성 (조회 결과로 어느 DB에서 읽었는지 확인)
+     */
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table db_role (name varchar(20))");
+        template.update("insert into db_role values (?)", name);
+        return dataSource;
+    }
+
+    private String readRole() {
+        return readTransaction.execute(status -> jdbcTemplate.queryForObject("select name from db_role", String.class));
+    }
+
+    private void write() {
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("update db_role set name = name"));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB, 쓰기 트랜잭션은 주 DB")
+    void routeByReadOnly() {
+        // When
+        String readRole = readRole();
+        String writeRole = writeTransaction.execute(status -> jdbcTemplate.queryForObject("select name from db_role", String.class));
+
+        // Then
+        assertThat(readRole).isEqualTo("replica");
+        assertThat(writeRole).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 주 DB로 대체")
+    void fallbackWhenLagging() {
+        // Given
+        replicaLag.set(Duration.ofSeconds(10));
+        lagMonitor.checkNow();
+
+        // When & Then
+        assertThat(readRole()).isEqualTo("primary");
+
+        // 지연 해소 후 다시 복제 DB
+        replicaLag.set(Duration.ZERO);
+        lagMonitor.checkNow();
+        assertThat(readRole()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 같은 사용자의 읽기는 유지 시간 동안 주 DB")
+    void readYourWrites() {
+        // Given - 같은 요청 안에서 쓰기 후 읽기
+        readYourWrites.begin("writer@test.com");
+        write();
+        String sameRequest = readRole();
+        readYourWrites.end();
+
+        // When - 같은 사용자의 다음 요청, 다른 사용자의 요청
+        readYourWrites.begin("writer@test.com");
+        String nextRequest = readRole();
+        readYourWrites.end();
+
+        readYourWrites.begin("reader@test.com");
+        String otherUser = readRole();
+        readYourWrites.end();
+
+        // Then
+        assertThat(sameRequest).isEqualTo("primary");
+        assertThat(nextRequest).isEqualTo("primary");
+        assertThat(otherUser).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 read-your-writes 대상이 아님")
+    void rollbackDoesNotPin() {
+        // Given
+        readYourWrites.begin("writer@test.com");
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("update db_role set name = name");
+            status.setRollbackOnly();
+        });
+
+        // When
+        String role = readRole();
+        readYourWrites.end();
+
+        // Then
+        assertThat(role).isEqualTo("replica");
+    }
+
+}
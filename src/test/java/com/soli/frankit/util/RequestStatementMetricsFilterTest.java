@@ -0,0 +1,80 @@
+package com.soli.frankit.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : RequestStatementMetricsFilterTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 요청당 SQL 수 메트릭 필터 테스트
+ */
+class RequestStatementMetricsFilterTest {
+
+    private SqlStatementCounter sqlStatementCounter;
+    private SimpleMeterRegistry registry;
+    private RequestStatementMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        sqlStatementCounter = new SqlStatementCounter();
+        registry = new SimpleMeterRegistry();
+        filter = new RequestStatementMetricsFilter(sqlStatementCounter, registry);
+    }
+
+    @Test
+    @DisplayName("요청 안에서 여러 트랜잭션(세션)이 실행한 SQL을 합쳐 요청 1건으로 기록")
+    void recordStatementsPerRequest() throws Exception {
+        // When - 트랜잭션 밖 조회 1번 + 트랜잭션 2개
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), new MockHttpServletResponse(), (req, res) -> {
+            sqlStatementCounter.inspect("select u from users");
+            sqlStatementCounter.inspect("update users");
+            sqlStatementCounter.inspect("insert into catalog_changes");
+        });
+
+        // Then
+        DistributionSummary statements = registry.get("hibernate.request.statements").summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(3);
+        assertThat(sqlStatementCounter.count()).isZero(); // 요청이 끝나면 세기 종료
+    }
+
+    @Test
+    @DisplayName("SQL을 실행하지 않은 요청은 기록하지 않음")
+    void skipRequestWithoutStatements() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products/1"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // Then
+        assertThat(registry.get("hibernate.request.statements").summary().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("쿼리 예산 필터와 함께 쓰면 같은 수를 공유 (안쪽 필터가 세기를 초기화하지 않음)")
+    void shareCountWithQueryBudgetFilter() throws Exception {
+        // Given
+        QueryBudgetFilter queryBudgetFilter = new QueryBudgetFilter(sqlStatementCounter, 10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products"), response, (req, res) -> {
+            sqlStatementCounter.inspect("select 1");
+            queryBudgetFilter.doFilter(req, res, (innerReq, innerRes) -> sqlStatementCounter.inspect("select 2"));
+        });
+
+        // Then
+        assertThat(response.getHeader(QueryBudgetFilter.QUERY_COUNT_HEADER)).isEqualTo("2");
+        assertThat(registry.get("hibernate.request.statements").summary().totalAmount()).isEqualTo(2);
+        assertThat(sqlStatementCounter.count()).isZero();
+    }
+
+}
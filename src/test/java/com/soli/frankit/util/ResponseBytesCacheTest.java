@@ -0,0 +1,92 @@
+package com.soli.frankit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ResponseBytesCacheTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : ResponseBytesCache의 저장/무효화/크기 제한 테스트
+ */
+class ResponseBytesCacheTest {
+
+    private static final byte[] BODY = "{\"id\":1}".getBytes();
+
+    private ResponseBytesCache cache(long maxBytes, Duration quarantine) {
+        return new ResponseBytesCache(maxBytes, 1024, Duration.ofMinutes(5), quarantine);
+    }
+
+    @Test
+    @DisplayName("저장한 응답 조회 - 무효화 후에는 미스")
+    void putGetInvalidate() {
+        // Given
+        ResponseBytesCache cache = cache(1024, Duration.ZERO);
+        cache.put("product:1", "/api/products/1", cache.version("product:1"), BODY);
+
+        // When
+        byte[] hit = cache.get("product:1", "/api/products/1");
+        cache.invalidate("product:1");
+        byte[] miss = cache.get("product:1", "/api/products/1");
+
+        // Then
+        assertThat(hit).isEqualTo(BODY);
+        assertThat(miss).isNull();
+        assertThat(cache.sizeInBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답을 만드는 사이 무효화되면 저장하지 않음")
+    void skipPutWhenInvalidatedDuringLoad() {
+        // Given
+        ResponseBytesCache cache = cache(1024, Duration.ZERO);
+        long version = cache.version("product:1"); // 조회 시작
+
+        // When
+        cache.invalidate("product:1");             // 다른 요청이 상품 수정
+        cache.put("product:1", "/api/products/1", version, BODY);
+
+        // Then
+        assertThat(cache.get("product:1", "/api/products/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화 후 격리 시간 동안은 저장하지 않음")
+    void quarantineAfterInvalidate() {
+        // Given
+        ResponseBytesCache cache = cache(1024, Duration.ofMinutes(1));
+        cache.invalidate("product:1");
+
+        // When
+        cache.put("product:1", "/api/products/1", cache.version("product:1"), BODY);
+
+        // Then
+        assertThat(cache.get("product:1", "/api/products/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("크기 제한 초과 시 가장 오래 안 쓴 응답부터 제거")
+    void evictLeastRecentlyUsed() throws InterruptedException {
+        // Given - 응답 2개만 들어가는 크기
+        ResponseBytesCache cache = cache(BODY.length * 2L, Duration.ZERO);
+        cache.put("product:1", "a", 0, BODY);
+        cache.put("product:2", "b", 0, BODY);
+        Thread.sleep(1);
+        cache.get("product:1", "a"); // 1번을 최근에 사용
+
+        // When
+        cache.put("product:3", "c", 0, BODY);
+
+        // Then
+        assertThat(cache.get("product:1", "a")).isNotNull();
+        assertThat(cache.get("product:2", "b")).isNull();
+        assertThat(cache.get("product:3", "c")).isNotNull();
+        assertThat(cache.sizeInBytes()).isEqualTo(BODY.length * 2L);
+    }
+
+}
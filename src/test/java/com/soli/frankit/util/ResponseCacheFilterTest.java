@@ -0,0 +1,122 @@
+package com.soli.frankit.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : ResponseCacheFilterTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : 상품 조회 응답 캐시 필터 테스트
+ */
+class ResponseCacheFilterTest {
+
+    private ResponseBytesCache cache;
+    private ReadYourWrites readYourWrites;
+    private ResponseCacheFilter filter;
+    private AtomicInteger controllerCalls;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResponseBytesCache(1024 * 1024, 64 * 1024, Duration.ofMinutes(5), Duration.ZERO);
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), () -> Duration.ZERO);
+        filter = new ResponseCacheFilter(cache, new CatalogResponseCache(cache), readYourWrites);
+        controllerCalls = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        readYourWrites.end();
+    }
+
+    /**
+     * 필터를 거쳐 컨트롤러(응답 본문 작성)까지 요청 1건 실행
+     */
+    private MockHttpServletResponse perform(String path, int status, String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, (req, res) -> {
+            controllerCalls.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) res;
+            httpResponse.setStatus(status);
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        });
+        return response;
+    }
+
+    @Test
+    @DisplayName("첫 요청은 컨트롤러 응답을 저장하고, 다음 요청은 컨트롤러를 거치지 않고 캐시된 바이트로 응답")
+    void serveHitWithoutController() throws Exception {
+        // When
+        MockHttpServletResponse miss = perform("/api/products/1", 200, "{\"id\":1}");
+        MockHttpServletResponse hit = perform("/api/products/1", 200, "{\"id\":1,\"changed\":true}");
+
+        // Then
+        assertThat(miss.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(hit.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(hit.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(hit.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(controllerCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("200이 아닌 응답은 저장하지 않음")
+    void skipNonOkResponse() throws Exception {
+        // When
+        MockHttpServletResponse notFound = perform("/api/products/99", 404, "{\"error\":\"상품을 찾을 수 없습니다.\"}");
+        MockHttpServletResponse again = perform("/api/products/99", 404, "{\"error\":\"상품을 찾을 수 없습니다.\"}");
+
+        // Then
+        assertThat(notFound.getStatus()).isEqualTo(404);
+        assertThat(notFound.getContentAsString()).contains("error"); // 본문은 그대로 전달
+        assertThat(again.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(controllerCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("read-your-writes로 주 DB에 고정된 요청은 캐시를 읽지도 저장하지도 않음")
+    void bypassWhenPinned() throws Exception {
+        // Given
+        perform("/api/products/1", 200, "{\"name\":\"이전 상품명\"}");
+        readYourWrites.begin("admin@example.com");
+        readYourWrites.recordWrite();
+
+        // When
+        MockHttpServletResponse pinned = perform("/api/products/1", 200, "{\"name\":\"바뀐 상품명\"}");
+
+        // Then
+        assertThat(pinned.getHeader(ResponseCacheFilter.CACHE_HEADER)).isNull();
+        assertThat(pinned.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"바뀐 상품명\"}");
+        assertThat(controllerCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 ID는 캐시하지 않고 컨트롤러로 전달 (500 대신 컨트롤러의 400)")
+    void passOverflowingIdToController() throws Exception {
+        // When
+        MockHttpServletResponse response = perform("/api/products/99999999999999999999", 400, "{\"error\":\"잘못된 요청\"}");
+        MockHttpServletResponse options = perform("/api/product-options/products/99999999999999999999", 400, "{}");
+        MockHttpServletResponse details = perform("/api/option-details/options/99999999999999999999/active", 400, "{}");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getHeader(ResponseCacheFilter.CACHE_HEADER)).isNull();
+        assertThat(options.getStatus()).isEqualTo(400);
+        assertThat(details.getStatus()).isEqualTo(400);
+        assertThat(controllerCalls).hasValue(3);
+    }
+
+}
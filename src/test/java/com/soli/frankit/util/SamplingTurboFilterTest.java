@@ -0,0 +1,111 @@
+package com.soli.frankit.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : SamplingTurboFilterTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : SamplingTurboFilter의 샘플링/유량 제한 테스트
+ */
+class SamplingTurboFilterTest {
+
+    private Logger serviceLogger;
+    private Logger otherLogger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext(); // 실제 로그 설정과 분리된 컨텍스트
+        serviceLogger = context.getLogger("com.soli.frankit.service.ProductService");
+        otherLogger = context.getLogger("com.soli.frankit.controller.ProductController");
+        serviceLogger.setLevel(Level.DEBUG);
+        otherLogger.setLevel(Level.DEBUG);
+    }
+
+    private SamplingTurboFilter filter(double sampleRate, int maxPerSecond) {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setLoggerPrefix("com.soli.frankit.service");
+        filter.setSampleRate(sampleRate);
+        filter.setMaxPerSecond(maxPerSecond);
+        filter.start();
+        return filter;
+    }
+
+    private FilterReply decide(SamplingTurboFilter filter, Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{1}, null);
+    }
+
+    @Test
+    @DisplayName("초당 유량 제한 - 한도를 넘는 로그는 버림")
+    void rateLimit() {
+        // Given
+        SamplingTurboFilter filter = filter(1.0, 3);
+
+        // When
+        int passed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (decide(filter, serviceLogger, Level.INFO) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        // Then
+        assertThat(passed).isEqualTo(3);
+        assertThat(filter.getDroppedCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0 - 대상 로거의 로그는 모두 버림")
+    void sampleRateZero() {
+        // Given
+        SamplingTurboFilter filter = filter(0.0, 0);
+
+        // When & Then
+        assertThat(decide(filter, serviceLogger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(filter, serviceLogger, Level.WARN)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    @DisplayName("항상 통과 - ERROR, MUTATION 마커, 대상이 아닌 로거")
+    void bypass() {
+        // Given
+        SamplingTurboFilter filter = filter(0.0, 0);
+
+        // When & Then
+        assertThat(decide(filter, serviceLogger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(LogMarkers.MUTATION, serviceLogger, Level.INFO, "상품 등록 완료", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, otherLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("출력되지 않는 레벨과 레벨 확인 호출은 할당량을 쓰지 않음")
+    void disabledLevelDoesNotConsumeQuota() {
+        // Given
+        SamplingTurboFilter filter = filter(1.0, 1);
+        serviceLogger.setLevel(Level.INFO);
+
+        // When
+        FilterReply debugReply = decide(filter, serviceLogger, Level.DEBUG);
+        FilterReply enabledCheck = filter.decide(null, serviceLogger, Level.INFO, null, null, null);
+        FilterReply first = decide(filter, serviceLogger, Level.INFO);
+        FilterReply second = decide(filter, serviceLogger, Level.INFO);
+
+        // Then
+        assertThat(debugReply).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(enabledCheck).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(first).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(second).isEqualTo(FilterReply.DENY);
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.dto.ProductResponse;
+import com.soli.frankit.dto.SparseFieldset;
+import com.soli.frankit.entity.Product;
+import com.soli.frankit.repository.ProductRepository;
+import com.soli.frankit.repository.ProjectionRepository;
+import com.soli.frankit.service.OrderService;
+import com.soli.frankit.service.ProductService;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : SingleFlightAspectTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : SingleFlightAspect의 같은 인자 조회 합치기 테스트 (요청마다 새로 만든 인자도 equals가 같으면 합침)
+ */
+class SingleFlightAspectTest {
+
+    private ProjectionRepository projectionRepository;
+    private SingleFlight singleFlight;
+    private ProductService productService;
+    private CountDownLatch release;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        projectionRepository = mock(ProjectionRepository.class);
+        release = new CountDownLatch(1);
+        when(projectionRepository.findAll(eq(Product.class), anyList(), any(Specification.class), any(Sort.class)))
+                .thenAnswer(invocation -> {
+                    release.await(); // leader가 조회 중인 동안 다른 요청이 도착
+                    return List.of(mock(Tuple.class));
+                });
+        singleFlight = new SingleFlight("catalog", Duration.ofSeconds(5));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ProductService(mock(ProductRepository.class),
+                projectionRepository, mock(OrderService.class), mock(ApplicationEventPublisher.class), mock(JsonMergePatch.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(singleFlight, null));
+        productService = factory.getProxy();
+    }
+
+    /**
+     * 요청마다 fields 파라미터를 새로 해석해 동시에 조회
+     */
+    private List<Future<Map<String, Object>>> runConcurrently(String firstFields, String secondFields) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Future<Map<String, Object>>> futures = List.of(
+                executor.submit(() -> productService.getProductFields(1L, SparseFieldset.parse(firstFields, ProductResponse.FIELDS))),
+                executor.submit(() -> productService.getProductFields(1L, SparseFieldset.parse(secondFields, ProductResponse.FIELDS))));
+
+        while (singleFlight.getLeaderCalls().sum() + singleFlight.getCoalescedCalls().sum() < 2) {
+            Thread.sleep(1); // 두 요청 모두 조회를 시작하거나 진행 중인 조회를 기다릴 때까지
+        }
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        return futures;
+    }
+
+    @Test
+    @DisplayName("같은 필드를 고른 동시 조회는 진행 중인 조회 1번을 공유")
+    void coalesceEqualFieldsets() throws Exception {
+        // When
+        List<Future<Map<String, Object>>> futures = runConcurrently("name,price", "price,name");
+
+        // Then
+        assertThat(futures.get(0).get()).isSameAs(futures.get(1).get());
+        assertThat(singleFlight.getLeaderCalls().sum()).isEqualTo(1);
+        verify(projectionRepository, times(1)).findAll(eq(Product.class), anyList(), any(Specification.class), any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("다른 필드를 고른 조회는 합치지 않음")
+    void keepDifferentFieldsetsApart() throws Exception {
+        // When
+        List<Future<Map<String, Object>>> futures = runConcurrently("name", "price");
+
+        // Then
+        assertThat(futures.get(0).get()).containsOnlyKeys("id", "name");
+        assertThat(futures.get(1).get()).containsOnlyKeys("id", "price");
+        assertThat(singleFlight.getLeaderCalls().sum()).isEqualTo(2);
+    }
+
+}
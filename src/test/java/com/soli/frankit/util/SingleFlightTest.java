@@ -0,0 +1,139 @@
+package com.soli.frankit.util;
+
+import com.soli.frankit.exception.CustomException;
+import com.soli.frankit.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.soli.frankit.util
+ * fileName     : SingleFlightTest
+ * author       : eumsoli
+ * date         : 2026-10-19
+ * description  : SingleFlight의 동시 조회 합치기 테스트
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    /**
+     * leader가 조회를 시작한 뒤 follower가 모두 대기에 들어갈 때까지 조회를 끝내지 않고,
+     * CALLERS개의 요청을 동시에 실행
+     */
+    private List<Future<Object>> runConcurrently(SingleFlight singleFlight, SingleFlight.Loader<Object> loader,
+                                                 CountDownLatch release) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    return singleFlight.execute("product:1", loader);
+                } catch (Throwable e) {
+                    return e;
+                }
+            }));
+        }
+
+        while (singleFlight.getCoalescedCalls().sum() < CALLERS - 1) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        return futures;
+    }
+
+    @Test
+    @DisplayName("동시 조회 합치기 - 조회는 1번, 모든 요청이 같은 결과")
+    void coalesceConcurrentCalls() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight("catalog", Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Object result = new Object();
+
+        // When
+        List<Future<Object>> futures = runConcurrently(singleFlight, () -> {
+            loads.incrementAndGet();
+            release.await();
+            return result;
+        }, release);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        for (Future<Object> future : futures) {
+            assertThat(future.get()).isSameAs(result);
+        }
+        assertThat(singleFlight.getLeaderCalls().sum()).isEqualTo(1);
+        assertThat(singleFlight.getCoalescedCalls().sum()).isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.getInFlight()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 모든 요청에 같은 예외 전달")
+    void propagateFailureToAllCallers() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight("catalog", Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        CustomException failure = new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+
+        // When
+        List<Future<Object>> futures = runConcurrently(singleFlight, () -> {
+            release.await();
+            throw failure;
+        }, release);
+
+        // Then
+        for (Future<Object> future : futures) {
+            assertThat(future.get()).isSameAs(failure);
+        }
+        assertThat(singleFlight.getInFlight()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 - follower는 503, 조회가 끝나면 다시 조회 가능")
+    void followerTimeout() throws Throwable {
+        // Given
+        SingleFlight singleFlight = new SingleFlight("catalog", Duration.ofMillis(10));
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Object> leader = executor.submit(() -> {
+            try {
+                return singleFlight.execute("product:1", () -> {
+                    release.await();
+                    return "leader";
+                });
+            } catch (Throwable e) {
+                return e;
+            }
+        });
+        while (singleFlight.getInFlight().isEmpty()) {
+            Thread.sleep(1);
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> singleFlight.execute("product:1", () -> "follower"))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.SERVICE_BUSY.getMessage());
+        assertThat(singleFlight.getTimedOutCalls().sum()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        assertThat((Object) singleFlight.execute("product:1", () -> "next")).isEqualTo("next");
+        executor.shutdown();
+    }
+
+}